@@ -0,0 +1,34 @@
+package com.ppxb.latea.starter.cache.jetcache.autoconfigure;
+
+import com.alicp.jetcache.anno.support.ConfigProvider;
+import com.alicp.jetcache.template.CacheMonitorInstaller;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 缓存监听器安装后置处理器
+ *
+ * <p>把容器中的 {@link CacheMonitorInstaller} 追加到 JetCache 的缓存模板中，之后创建的缓存都会安装对应监听器。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+class CacheMonitorInstallerPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<CacheMonitorInstaller> installers;
+
+    CacheMonitorInstallerPostProcessor(ObjectProvider<CacheMonitorInstaller> installers) {
+        this.installers = installers;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConfigProvider configProvider) {
+            installers.orderedStream()
+                .forEach(installer -> configProvider.getCacheBuilderTemplate()
+                    .getCacheMonitorInstallers()
+                    .add(installer));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ppxb.latea.starter.cache.jetcache.autoconfigure;
+
+import com.alicp.jetcache.CacheManager;
+import com.alicp.jetcache.RefreshPolicy;
+import com.alicp.jetcache.autoconfigure.JetCacheAutoConfiguration;
+import com.alicp.jetcache.template.CacheMonitorInstaller;
+import com.ppxb.latea.starter.cache.jetcache.core.CacheMeterBinder;
+import com.ppxb.latea.starter.cache.jetcache.core.CacheMetricsRegistry;
+import com.ppxb.latea.starter.cache.jetcache.core.TwoLevelCacheFactory;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.util.GeneralPropertySourceFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 两级缓存自动配置
+ *
+ * <p>默认配置见 {@code default-cache-jetcache.yml}：本地缓存使用 Caffeine，远程缓存使用 Redisson，
+ * 键使用 Jackson 转换。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   cache:
+ *     sync-local: true
+ *     local:
+ *       limit: 1000
+ *       expire: 1m
+ *     refresh:
+ *       interval: 5m
+ *       stop-after-last-access: 30m
+ * </pre></blockquote>
+ *
+ * <p>使用 {@code @Cached} 等注解时需在启动类上添加 {@code @EnableMethodCache(basePackages = "...")}。
+ * 测试环境可配置 {@code jetcache.remote.default.type: mock}，使用进程内的远程缓存替代 Redis。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(before = JetCacheAutoConfiguration.class)
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.CACHE, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+@PropertySource(value = "classpath:default-cache-jetcache.yml", factory = GeneralPropertySourceFactory.class)
+public class TwoLevelCacheAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheAutoConfiguration.class);
+
+    /**
+     * 缓存指标注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheMetricsRegistry cacheMetricsRegistry() {
+        return new CacheMetricsRegistry();
+    }
+
+    /**
+     * 缓存监听器安装后置处理器
+     */
+    @Bean
+    public static CacheMonitorInstallerPostProcessor cacheMonitorInstallerPostProcessor(ObjectProvider<CacheMonitorInstaller> installers) {
+        return new CacheMonitorInstallerPostProcessor(installers);
+    }
+
+    /**
+     * 两级缓存工厂
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TwoLevelCacheFactory twoLevelCacheFactory(CacheManager cacheManager, TwoLevelCacheProperties properties) {
+        TwoLevelCacheProperties.Refresh refresh = properties.getRefresh();
+        RefreshPolicy refreshPolicy = null == refresh.getInterval()
+            ? null
+            : RefreshPolicy.newPolicy(refresh.getInterval().toMillis(), TimeUnit.MILLISECONDS)
+                .stopRefreshAfterLastAccess(refresh.getStopAfterLastAccess().toMillis(), TimeUnit.MILLISECONDS)
+                .refreshLockTimeout(refresh.getLockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        TwoLevelCacheProperties.Local local = properties.getLocal();
+        return new TwoLevelCacheFactory(cacheManager, local.getLimit(), local.getExpire(), properties
+            .isSyncLocal(), refreshPolicy);
+    }
+
+    /**
+     * 缓存指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class CacheMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CacheMeterBinder cacheMeterBinder(CacheMetricsRegistry cacheMetricsRegistry) {
+            return new CacheMeterBinder(cacheMetricsRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Cache-JetCache' completed initialization.");
+    }
+}
@@ -0,0 +1,145 @@
+package com.ppxb.latea.starter.cache.jetcache.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 两级缓存配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.CACHE)
+public class TwoLevelCacheProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否同步失效其他节点的本地缓存
+     */
+    private boolean syncLocal = true;
+
+    /**
+     * 本地缓存配置
+     */
+    private Local local = new Local();
+
+    /**
+     * 刷新配置
+     */
+    private Refresh refresh = new Refresh();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isSyncLocal() {
+        return syncLocal;
+    }
+
+    public void setSyncLocal(boolean syncLocal) {
+        this.syncLocal = syncLocal;
+    }
+
+    public Local getLocal() {
+        return local;
+    }
+
+    public void setLocal(Local local) {
+        this.local = local;
+    }
+
+    public Refresh getRefresh() {
+        return refresh;
+    }
+
+    public void setRefresh(Refresh refresh) {
+        this.refresh = refresh;
+    }
+
+    /**
+     * 本地缓存配置
+     */
+    public static class Local {
+
+        /**
+         * 最大数量（每个缓存）
+         */
+        private int limit = 1000;
+
+        /**
+         * 过期时间（超过缓存过期时间时以缓存过期时间为准）
+         */
+        private Duration expire = Duration.ofMinutes(1);
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public Duration getExpire() {
+            return expire;
+        }
+
+        public void setExpire(Duration expire) {
+            this.expire = expire;
+        }
+    }
+
+    /**
+     * 刷新配置（仅对带加载器的缓存生效）
+     */
+    public static class Refresh {
+
+        /**
+         * 刷新间隔（为空时不刷新）
+         */
+        private Duration interval;
+
+        /**
+         * 键最后一次访问后超过该时间不再刷新
+         */
+        private Duration stopAfterLastAccess = Duration.ofMinutes(30);
+
+        /**
+         * 多节点刷新锁超时时间
+         */
+        private Duration lockTimeout = Duration.ofSeconds(60);
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getStopAfterLastAccess() {
+            return stopAfterLastAccess;
+        }
+
+        public void setStopAfterLastAccess(Duration stopAfterLastAccess) {
+            this.stopAfterLastAccess = stopAfterLastAccess;
+        }
+
+        public Duration getLockTimeout() {
+            return lockTimeout;
+        }
+
+        public void setLockTimeout(Duration lockTimeout) {
+            this.lockTimeout = lockTimeout;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ppxb.latea.starter.cache.jetcache.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 缓存指标绑定器（Micrometer）
+ *
+ * <p>指标带 {@code cache}（缓存名称）、{@code level}（{@code all}/{@code local}/{@code remote}）标签。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CacheMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.cache";
+
+    private final CacheMetricsRegistry metricsRegistry;
+
+    public CacheMeterBinder(CacheMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        metricsRegistry.addListener(metrics -> register(meterRegistry, metrics));
+    }
+
+    private static void register(MeterRegistry meterRegistry, CacheMetrics metrics) {
+        Tags tags = Tags.of("cache", metrics.getName(), "level", metrics.getLevel());
+        FunctionCounter.builder(PREFIX + ".gets", metrics, CacheMetrics::getHitCount)
+            .tags(tags)
+            .tag("result", "hit")
+            .description("缓存读取次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".gets", metrics, CacheMetrics::getMissCount)
+            .tags(tags)
+            .tag("result", "miss")
+            .description("缓存读取次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".gets", metrics, CacheMetrics::getFailCount)
+            .tags(tags)
+            .tag("result", "fail")
+            .description("缓存读取次数")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".hit-ratio", metrics, CacheMetrics::getHitRatio)
+            .tags(tags)
+            .description("缓存命中率")
+            .register(meterRegistry);
+        if (!CacheMetrics.LEVEL_ALL.equals(metrics.getLevel())) {
+            return;
+        }
+        // 加载器作用于缓存整体，分层指标中不存在加载
+        FunctionCounter.builder(PREFIX + ".loads", metrics, CacheMetrics::getLoadCount)
+            .tags(tags)
+            .tag("result", "success")
+            .description("缓存加载次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".loads", metrics, CacheMetrics::getLoadFailCount)
+            .tags(tags)
+            .tag("result", "failure")
+            .description("缓存加载次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".load.time", metrics, CacheMetrics::getLoadTimeMillis)
+            .tags(tags)
+            .description("缓存加载总耗时")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ppxb.latea.starter.cache.jetcache.core;
+
+import com.alicp.jetcache.CacheResultCode;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存指标
+ *
+ * <p>按缓存名称与层级统计：{@link #LEVEL_ALL} 为缓存整体（两级缓存任意一级命中即为命中），
+ * {@link #LEVEL_LOCAL}、{@link #LEVEL_REMOTE} 分别为两级缓存的本地、远程层。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CacheMetrics {
+
+    /**
+     * 缓存整体
+     */
+    public static final String LEVEL_ALL = "all";
+
+    /**
+     * 本地缓存层
+     */
+    public static final String LEVEL_LOCAL = "local";
+
+    /**
+     * 远程缓存层
+     */
+    public static final String LEVEL_REMOTE = "remote";
+
+    private final String name;
+
+    private final String level;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder failCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder loadFailCount = new LongAdder();
+
+    private final LongAdder loadMillis = new LongAdder();
+
+    public CacheMetrics(String name, String level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    void recordGet(CacheResultCode resultCode) {
+        if (CacheResultCode.SUCCESS == resultCode) {
+            hitCount.increment();
+        } else if (CacheResultCode.NOT_EXISTS == resultCode || CacheResultCode.EXPIRED == resultCode) {
+            missCount.increment();
+        } else {
+            failCount.increment();
+        }
+    }
+
+    void recordLoad(long millis, boolean success) {
+        if (success) {
+            loadCount.increment();
+        } else {
+            loadFailCount.increment();
+        }
+        loadMillis.add(millis);
+    }
+
+    /**
+     * 缓存名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 缓存层级
+     */
+    public String getLevel() {
+        return level;
+    }
+
+    /**
+     * 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 未命中次数（含已过期）
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 读取失败次数
+     */
+    public long getFailCount() {
+        return failCount.sum();
+    }
+
+    /**
+     * 命中率
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum() + failCount.sum();
+        return 0 == total ? 1 : (double)hits / total;
+    }
+
+    /**
+     * 加载成功次数
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * 加载失败次数
+     */
+    public long getLoadFailCount() {
+        return loadFailCount.sum();
+    }
+
+    /**
+     * 加载总耗时（毫秒）
+     */
+    public long getLoadTimeMillis() {
+        return loadMillis.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ppxb.latea.starter.cache.jetcache.core;
+
+import com.alicp.jetcache.CacheGetResult;
+import com.alicp.jetcache.CacheMonitor;
+import com.alicp.jetcache.CacheResultCode;
+import com.alicp.jetcache.MultiGetResult;
+import com.alicp.jetcache.event.*;
+
+/**
+ * 缓存指标监听器
+ *
+ * <p>只做计数累加，不像 JetCache 默认监听器那样按周期加锁汇总统计信息。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+class CacheMetricsMonitor implements CacheMonitor {
+
+    private final CacheMetrics metrics;
+
+    CacheMetricsMonitor(CacheMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void afterOperation(CacheEvent event) {
+        if (event instanceof CacheGetEvent getEvent) {
+            metrics.recordGet(getEvent.getResult().getResultCode());
+        } else if (event instanceof CacheGetAllEvent getAllEvent) {
+            MultiGetResult<?, ?> result = getAllEvent.getResult();
+            if (!result.isSuccess() || null == result.getValues()) {
+                metrics.recordGet(CacheResultCode.FAIL);
+                return;
+            }
+            for (CacheGetResult<?> value : result.getValues().values()) {
+                metrics.recordGet(value.getResultCode());
+            }
+        } else if (event instanceof CacheLoadEvent loadEvent) {
+            metrics.recordLoad(loadEvent.getMillis(), loadEvent.isSuccess());
+        } else if (event instanceof CacheLoadAllEvent loadAllEvent) {
+            metrics.recordLoad(loadAllEvent.getMillis(), loadAllEvent.isSuccess());
+        }
+    }
+}
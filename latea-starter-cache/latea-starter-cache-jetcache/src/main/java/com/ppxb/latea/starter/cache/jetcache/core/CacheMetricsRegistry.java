@@ -0,0 +1,74 @@
+package com.ppxb.latea.starter.cache.jetcache.core;
+
+import com.alicp.jetcache.*;
+import com.alicp.jetcache.template.CacheMonitorInstaller;
+import com.alicp.jetcache.template.QuickConfig;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 缓存指标注册表
+ *
+ * <p>作为 {@link CacheMonitorInstaller} 在缓存创建时安装指标监听器，两级缓存额外按本地、远程层分别统计。
+ * 缓存按需（首次使用时）创建，因此通过 {@link #addListener(Consumer)} 接收之后创建的指标。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CacheMetricsRegistry implements CacheMonitorInstaller {
+
+    private final Map<String, CacheMetrics> metrics = new ConcurrentHashMap<>();
+
+    private final List<Consumer<CacheMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * JetCache 的接口声明为原始类型 {@link Cache}，覆写时无法使用通配符类型，进入方法后立即转为 {@code Cache<?, ?>}
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void addMonitors(CacheManager cacheManager, Cache rawCache, QuickConfig quickConfig) {
+        Cache<?, ?> cache = rawCache;
+        String name = quickConfig.getName();
+        AbstractCache<?, ?> abstractCache = CacheUtil.getAbstractCache(cache);
+        if (abstractCache instanceof MultiLevelCache<?, ?> multiLevelCache && 2 == multiLevelCache.caches().length) {
+            this.install(multiLevelCache.caches()[0], name, CacheMetrics.LEVEL_LOCAL);
+            this.install(multiLevelCache.caches()[1], name, CacheMetrics.LEVEL_REMOTE);
+        }
+        this.install(cache, name, CacheMetrics.LEVEL_ALL);
+    }
+
+    /**
+     * 添加指标监听（立即回调已有指标，之后每创建一个指标回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addListener(Consumer<CacheMetrics> listener) {
+        listeners.add(listener);
+        metrics.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部指标
+     *
+     * @return 指标
+     */
+    public Collection<CacheMetrics> getMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    private void install(Cache<?, ?> cache, String name, String level) {
+        CacheMetrics created = new CacheMetrics(name, level);
+        CacheMetrics existing = metrics.putIfAbsent(name + '\u0000' + level, created);
+        CacheMetrics target = null == existing ? created : existing;
+        cache.config().getMonitors().add(new CacheMetricsMonitor(target));
+        if (null == existing) {
+            listeners.forEach(listener -> listener.accept(created));
+        }
+    }
+}
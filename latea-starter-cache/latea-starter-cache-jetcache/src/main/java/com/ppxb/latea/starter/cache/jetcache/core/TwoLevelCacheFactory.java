@@ -0,0 +1,93 @@
+package com.ppxb.latea.starter.cache.jetcache.core;
+
+import com.alicp.jetcache.Cache;
+import com.alicp.jetcache.CacheLoader;
+import com.alicp.jetcache.CacheManager;
+import com.alicp.jetcache.RefreshPolicy;
+import com.alicp.jetcache.anno.CacheType;
+import com.alicp.jetcache.template.QuickConfig;
+
+import java.time.Duration;
+
+/**
+ * 两级缓存工厂
+ *
+ * <p>创建本地（Caffeine，按容量、过期时间限制）+ 远程（Redis）的两级缓存：
+ * <ul>
+ * <li>读取时先查本地缓存，未命中再查 Redis，并回填本地缓存</li>
+ * <li>开启本地缓存同步时，写入、删除通过 Redis 频道通知其他节点失效本地缓存</li>
+ * <li>同一 JVM 内同一键并发加载时只有一个线程执行加载，其余线程等待结果</li>
+ * <li>配置刷新策略时，由后台线程在过期前刷新已访问的键，多节点间通过 Redis 锁保证同一键只有一个节点刷新</li>
+ * </ul>
+ * </p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TwoLevelCacheFactory {
+
+    private final CacheManager cacheManager;
+
+    private final int localLimit;
+
+    private final Duration localExpire;
+
+    private final boolean syncLocal;
+
+    private final RefreshPolicy refreshPolicy;
+
+    /**
+     * @param cacheManager  JetCache 缓存管理器
+     * @param localLimit    本地缓存最大数量
+     * @param localExpire   本地缓存过期时间（不超过缓存过期时间）
+     * @param syncLocal     是否同步失效其他节点的本地缓存
+     * @param refreshPolicy 刷新策略（为 {@code null} 时不刷新）
+     */
+    public TwoLevelCacheFactory(CacheManager cacheManager,
+                                int localLimit,
+                                Duration localExpire,
+                                boolean syncLocal,
+                                RefreshPolicy refreshPolicy) {
+        this.cacheManager = cacheManager;
+        this.localLimit = localLimit;
+        this.localExpire = localExpire;
+        this.syncLocal = syncLocal;
+        this.refreshPolicy = refreshPolicy;
+    }
+
+    /**
+     * 获取或创建两级缓存
+     *
+     * @param name   缓存名称（同名缓存只创建一次）
+     * @param expire 过期时间
+     * @return 缓存
+     */
+    public <K, V> Cache<K, V> create(String name, Duration expire) {
+        return this.create(name, expire, null);
+    }
+
+    /**
+     * 获取或创建带加载器的两级缓存（未命中时调用加载器并写入缓存）
+     *
+     * @param name   缓存名称（同名缓存只创建一次）
+     * @param expire 过期时间
+     * @param loader 加载器
+     * @return 缓存
+     */
+    public <K, V> Cache<K, V> create(String name, Duration expire, CacheLoader<K, V> loader) {
+        QuickConfig.Builder builder = QuickConfig.newBuilder(name)
+            .cacheType(CacheType.BOTH)
+            .expire(expire)
+            .localExpire(localExpire.compareTo(expire) < 0 ? localExpire : expire)
+            .localLimit(localLimit)
+            .syncLocal(syncLocal)
+            .penetrationProtect(true);
+        if (null != loader) {
+            builder.loader(loader);
+            if (null != refreshPolicy) {
+                builder.refreshPolicy(refreshPolicy.clone());
+            }
+        }
+        return cacheManager.getOrCreateCache(builder.build());
+    }
+}
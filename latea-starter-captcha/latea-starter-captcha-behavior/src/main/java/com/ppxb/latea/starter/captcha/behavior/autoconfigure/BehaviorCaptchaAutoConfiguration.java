@@ -0,0 +1,101 @@
+package com.ppxb.latea.starter.captcha.behavior.autoconfigure;
+
+import com.anji.captcha.service.CaptchaCacheService;
+import com.ppxb.latea.starter.captcha.behavior.core.*;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 行为验证码自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   captcha:
+ *     behavior:
+ *       type: BLOCKPUZZLE
+ *       water-mark: Latea
+ *       slip-offset: 5
+ *       interference-options: 1
+ *       jigsaw-background: classpath*:captcha/jigsaw/*.png
+ * </pre></blockquote>
+ *
+ * <p>背景图、拼图模板和字体在启动时加载一次；默认使用内存缓存，可通过自定义 {@link CaptchaCacheService} 替换为分布式缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(BehaviorCaptchaProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.CAPTCHA_BEHAVIOR, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class BehaviorCaptchaAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(BehaviorCaptchaAutoConfiguration.class);
+
+    /**
+     * 验证码缓存（默认内存缓存）
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CaptchaCacheService captchaCacheService(BehaviorCaptchaProperties properties) {
+        return new InMemoryCaptchaCacheService(properties.getCacheMaxSize());
+    }
+
+    /**
+     * 行为验证码资源
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BehaviorCaptchaResources behaviorCaptchaResources(BehaviorCaptchaProperties properties) {
+        return new BehaviorCaptchaResources(properties.getJigsawBackground(), properties
+            .getJigsawTemplate(), properties.getClickBackground(), properties.getFontName(), properties.getFontSize());
+    }
+
+    /**
+     * 行为验证码服务
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BehaviorCaptchaService behaviorCaptchaService(BehaviorCaptchaResources resources,
+                                                         CaptchaCacheService captchaCacheService,
+                                                         BehaviorCaptchaProperties properties) {
+        BlockPuzzleCaptchaService blockPuzzle = new BlockPuzzleCaptchaService(resources, captchaCacheService, properties
+            .getExpiration(), properties.getVerificationExpiration(), properties.isAesEnabled(), properties
+                .getWaterMark(), properties.getSlipOffset(), properties.getInterferenceOptions());
+        ClickWordCaptchaService clickWord = new ClickWordCaptchaService(resources, captchaCacheService, properties
+            .getExpiration(), properties.getVerificationExpiration(), properties.isAesEnabled(), properties
+                .getWaterMark(), properties.getClickWordCount());
+        return new BehaviorCaptchaService(List.of(blockPuzzle, clickWord), properties.getType().getCodeValue());
+    }
+
+    /**
+     * 行为验证码指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class BehaviorCaptchaMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public BehaviorCaptchaMeterBinder behaviorCaptchaMeterBinder(BehaviorCaptchaService behaviorCaptchaService) {
+            return new BehaviorCaptchaMeterBinder(behaviorCaptchaService.getServices());
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Captcha-Behavior' completed initialization.");
+    }
+}
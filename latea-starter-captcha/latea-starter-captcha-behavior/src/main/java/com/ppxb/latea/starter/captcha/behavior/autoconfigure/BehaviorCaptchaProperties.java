@@ -0,0 +1,212 @@
+package com.ppxb.latea.starter.captcha.behavior.autoconfigure;
+
+import com.anji.captcha.model.common.CaptchaTypeEnum;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 行为验证码配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.CAPTCHA_BEHAVIOR)
+public class BehaviorCaptchaProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 默认类型（请求未指定类型时使用）
+     */
+    private CaptchaTypeEnum type = CaptchaTypeEnum.BLOCKPUZZLE;
+
+    /**
+     * 滑动拼图背景图路径（支持通配符）
+     */
+    private String jigsawBackground = "classpath*:defaultImages/jigsaw/original/*.png";
+
+    /**
+     * 滑动拼图模板路径（支持通配符）
+     */
+    private String jigsawTemplate = "classpath*:defaultImages/jigsaw/slidingBlock/*.png";
+
+    /**
+     * 文字点选背景图路径（支持通配符）
+     */
+    private String clickBackground = "classpath*:defaultImages/pic-click/*.png";
+
+    /**
+     * 字体（优先加载类路径 fonts 目录下的字体文件，否则作为系统字体名称）
+     */
+    private String fontName = "WenQuanZhengHei.ttf";
+
+    /**
+     * 字体大小
+     */
+    private int fontSize = 25;
+
+    /**
+     * 水印（为空时不绘制）
+     */
+    private String waterMark;
+
+    /**
+     * 是否加密坐标
+     */
+    private boolean aesEnabled = true;
+
+    /**
+     * 滑动拼图允许的误差（像素）
+     */
+    private int slipOffset = 5;
+
+    /**
+     * 滑动拼图干扰缺口数量（0 ~ 2）
+     */
+    private int interferenceOptions = 0;
+
+    /**
+     * 文字点选绘制的文字数量（需点击其中 N - 1 个）
+     */
+    private int clickWordCount = 4;
+
+    /**
+     * 验证码有效期
+     */
+    private Duration expiration = Duration.ofMinutes(2);
+
+    /**
+     * 二次校验凭证有效期
+     */
+    private Duration verificationExpiration = Duration.ofMinutes(3);
+
+    /**
+     * 内存缓存最大条目数
+     */
+    private int cacheMaxSize = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public CaptchaTypeEnum getType() {
+        return type;
+    }
+
+    public void setType(CaptchaTypeEnum type) {
+        this.type = type;
+    }
+
+    public String getJigsawBackground() {
+        return jigsawBackground;
+    }
+
+    public void setJigsawBackground(String jigsawBackground) {
+        this.jigsawBackground = jigsawBackground;
+    }
+
+    public String getJigsawTemplate() {
+        return jigsawTemplate;
+    }
+
+    public void setJigsawTemplate(String jigsawTemplate) {
+        this.jigsawTemplate = jigsawTemplate;
+    }
+
+    public String getClickBackground() {
+        return clickBackground;
+    }
+
+    public void setClickBackground(String clickBackground) {
+        this.clickBackground = clickBackground;
+    }
+
+    public String getFontName() {
+        return fontName;
+    }
+
+    public void setFontName(String fontName) {
+        this.fontName = fontName;
+    }
+
+    public int getFontSize() {
+        return fontSize;
+    }
+
+    public void setFontSize(int fontSize) {
+        this.fontSize = fontSize;
+    }
+
+    public String getWaterMark() {
+        return waterMark;
+    }
+
+    public void setWaterMark(String waterMark) {
+        this.waterMark = waterMark;
+    }
+
+    public boolean isAesEnabled() {
+        return aesEnabled;
+    }
+
+    public void setAesEnabled(boolean aesEnabled) {
+        this.aesEnabled = aesEnabled;
+    }
+
+    public int getSlipOffset() {
+        return slipOffset;
+    }
+
+    public void setSlipOffset(int slipOffset) {
+        this.slipOffset = slipOffset;
+    }
+
+    public int getInterferenceOptions() {
+        return interferenceOptions;
+    }
+
+    public void setInterferenceOptions(int interferenceOptions) {
+        this.interferenceOptions = interferenceOptions;
+    }
+
+    public int getClickWordCount() {
+        return clickWordCount;
+    }
+
+    public void setClickWordCount(int clickWordCount) {
+        this.clickWordCount = clickWordCount;
+    }
+
+    public Duration getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(Duration expiration) {
+        this.expiration = expiration;
+    }
+
+    public Duration getVerificationExpiration() {
+        return verificationExpiration;
+    }
+
+    public void setVerificationExpiration(Duration verificationExpiration) {
+        this.verificationExpiration = verificationExpiration;
+    }
+
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public void setCacheMaxSize(int cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+}
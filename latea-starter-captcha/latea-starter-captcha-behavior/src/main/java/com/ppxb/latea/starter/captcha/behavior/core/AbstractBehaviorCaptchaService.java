@@ -0,0 +1,256 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.model.common.RepCodeEnum;
+import com.anji.captcha.model.common.ResponseModel;
+import com.anji.captcha.model.vo.CaptchaVO;
+import com.anji.captcha.service.CaptchaCacheService;
+import com.anji.captcha.service.CaptchaService;
+import com.anji.captcha.util.AESUtil;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 行为验证码服务基类
+ *
+ * <p>请求、响应模型及缓存键与 AJ-Captcha 保持一致，可直接对接 AJ-Captcha 前端组件及已有的 {@link CaptchaCacheService} 实现。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public abstract class AbstractBehaviorCaptchaService implements CaptchaService {
+
+    private static final String CAPTCHA_KEY = "RUNNING:CAPTCHA:%s";
+
+    private static final String VERIFICATION_KEY = "RUNNING:CAPTCHA:second-%s";
+
+    private static final String VERIFICATION_SEPARATOR = "---";
+
+    private static final int WATER_MARK_MARGIN = 5;
+
+    protected final BehaviorCaptchaResources resources;
+
+    private final CaptchaCacheService cacheService;
+
+    private final long expiresInSeconds;
+
+    private final long verificationExpiresInSeconds;
+
+    private final boolean aesEnabled;
+
+    private final String waterMark;
+
+    private final Font waterMarkFont;
+
+    private final BehaviorCaptchaMetrics metrics = new BehaviorCaptchaMetrics();
+
+    /**
+     * @param resources              验证码资源
+     * @param cacheService           验证码缓存
+     * @param expiration             验证码有效期
+     * @param verificationExpiration 二次校验凭证有效期
+     * @param aesEnabled             是否加密坐标
+     * @param waterMark              水印（为空时不绘制）
+     */
+    protected AbstractBehaviorCaptchaService(BehaviorCaptchaResources resources,
+                                             CaptchaCacheService cacheService,
+                                             Duration expiration,
+                                             Duration verificationExpiration,
+                                             boolean aesEnabled,
+                                             String waterMark) {
+        this.resources = resources;
+        this.cacheService = cacheService;
+        this.expiresInSeconds = expiration.toSeconds();
+        this.verificationExpiresInSeconds = verificationExpiration.toSeconds();
+        this.aesEnabled = aesEnabled;
+        this.waterMark = null == waterMark || waterMark.isBlank() ? null : waterMark;
+        this.waterMarkFont = resources.getFont().deriveFont(resources.getFont().getSize2D() / 2);
+    }
+
+    @Override
+    public void init(Properties config) {
+        // 由构造参数完成配置
+    }
+
+    @Override
+    public void destroy(Properties config) {
+        // 无需释放资源
+    }
+
+    @Override
+    public ResponseModel get(CaptchaVO captchaVO) {
+        long start = System.nanoTime();
+        try {
+            String secretKey = aesEnabled ? AESUtil.getKey() : null;
+            CaptchaVO captcha = new CaptchaVO();
+            String answer = this.generate(captcha, secretKey);
+            captcha.setToken(UUID.randomUUID().toString().replace("-", ""));
+            captcha.setSecretKey(secretKey);
+            cacheService.set(CAPTCHA_KEY.formatted(captcha.getToken()), answer, expiresInSeconds);
+            return ResponseModel.successData(captcha);
+        } finally {
+            metrics.recordGenerate(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public ResponseModel check(CaptchaVO captchaVO) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            if (null == captchaVO || isBlank(captchaVO.getToken())) {
+                return RepCodeEnum.NULL_ERROR.parseError("token");
+            }
+            if (isBlank(captchaVO.getPointJson())) {
+                return RepCodeEnum.NULL_ERROR.parseError("pointJson");
+            }
+            String key = CAPTCHA_KEY.formatted(captchaVO.getToken());
+            // 无论校验结果如何，验证码只能使用一次
+            String answer = this.take(key);
+            if (null == answer) {
+                return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_INVALID);
+            }
+            String secretKey = this.secretKey(answer);
+            String pointJson;
+            try {
+                pointJson = isBlank(secretKey)
+                    ? captchaVO.getPointJson()
+                    : AESUtil.aesDecrypt(captchaVO.getPointJson(), secretKey);
+                success = this.matches(answer, pointJson);
+            } catch (Exception e) {
+                return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_COORDINATE_ERROR);
+            }
+            if (!success) {
+                return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_COORDINATE_ERROR);
+            }
+            String verification = captchaVO.getToken() + VERIFICATION_SEPARATOR + pointJson;
+            try {
+                captchaVO.setCaptchaVerification(isBlank(secretKey)
+                    ? verification
+                    : AESUtil.aesEncrypt(verification, secretKey));
+            } catch (Exception e) {
+                throw new BaseException("Failed to encrypt captcha verification.", e);
+            }
+            cacheService.set(VERIFICATION_KEY.formatted(captchaVO.getCaptchaVerification()), captchaVO
+                .getToken(), verificationExpiresInSeconds);
+            captchaVO.setResult(true);
+            captchaVO.resetClientFlag();
+            return ResponseModel.successData(captchaVO);
+        } finally {
+            metrics.recordCheck(System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public ResponseModel verification(CaptchaVO captchaVO) {
+        if (null == captchaVO || isBlank(captchaVO.getCaptchaVerification())) {
+            return RepCodeEnum.NULL_ERROR.parseError("captchaVerification");
+        }
+        if (null == this.take(VERIFICATION_KEY.formatted(captchaVO.getCaptchaVerification()))) {
+            return ResponseModel.errorMsg(RepCodeEnum.API_CAPTCHA_INVALID);
+        }
+        return ResponseModel.success();
+    }
+
+    /**
+     * 获取指标
+     *
+     * @return 指标
+     */
+    public BehaviorCaptchaMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 生成验证码图片
+     *
+     * @param captcha   验证码（写入图片等返回给前端的信息）
+     * @param secretKey 坐标加密密钥（未启用加密时为 {@code null}）
+     * @return 需要缓存的答案
+     */
+    protected abstract String generate(CaptchaVO captcha, String secretKey);
+
+    /**
+     * 从缓存的答案中获取坐标加密密钥
+     *
+     * @param answer 答案
+     * @return 密钥
+     */
+    protected abstract String secretKey(String answer);
+
+    /**
+     * 校验坐标
+     *
+     * @param answer    答案
+     * @param pointJson 前端提交的坐标（已解密）
+     * @return 是否匹配
+     */
+    protected abstract boolean matches(String answer, String pointJson);
+
+    /**
+     * 绘制水印
+     *
+     * @param image 图片
+     */
+    protected void drawWaterMark(BufferedImage image) {
+        if (null == waterMark) {
+            return;
+        }
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setFont(waterMarkFont);
+        graphics.setColor(Color.WHITE);
+        int textWidth = graphics.getFontMetrics().stringWidth(waterMark);
+        graphics.drawString(waterMark, image.getWidth() - textWidth - WATER_MARK_MARGIN, image
+            .getHeight() - WATER_MARK_MARGIN);
+        graphics.dispose();
+    }
+
+    /**
+     * 编码为 PNG Base64 字符串
+     *
+     * @param image 图片
+     * @return Base64 字符串
+     */
+    protected static String toBase64(BufferedImage image) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(image.getWidth() * image.getHeight());
+        // 显式使用内存缓存流，避免 ImageIO 为每张图片创建临时文件（不修改全局的 ImageIO.setUseCache）
+        try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            ImageIO.write(image, "png", imageOutputStream);
+        } catch (IOException e) {
+            throw new BaseException("Failed to encode captcha image.", e);
+        }
+        return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+    }
+
+    /**
+     * 取出并删除缓存值（缓存支持时原子执行）
+     *
+     * @param key 键
+     * @return 值（不存在时返回 {@code null}）
+     */
+    private String take(String key) {
+        if (cacheService instanceof AtomicCaptchaCacheService atomicCacheService) {
+            return atomicCacheService.getAndDelete(key);
+        }
+        String value = cacheService.get(key);
+        if (null != value) {
+            cacheService.delete(key);
+        }
+        return value;
+    }
+
+    private static boolean isBlank(String value) {
+        return null == value || value.isBlank();
+    }
+}
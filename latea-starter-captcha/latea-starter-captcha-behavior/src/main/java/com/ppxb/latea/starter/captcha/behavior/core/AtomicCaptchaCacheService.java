@@ -0,0 +1,24 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.service.CaptchaCacheService;
+
+/**
+ * 支持原子取出的验证码缓存
+ *
+ * <p>校验验证码及二次校验凭证时需要原子地读取并删除，避免并发请求重复使用同一个验证码。
+ * 自定义的 {@link CaptchaCacheService} 实现（例如基于 Redis 的 {@code GETDEL}）应实现本接口；
+ * 未实现时退化为先读取再删除。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface AtomicCaptchaCacheService extends CaptchaCacheService {
+
+    /**
+     * 读取并删除
+     *
+     * @param key 键
+     * @return 值（不存在或已过期时返回 {@code null}）
+     */
+    String getAndDelete(String key);
+}
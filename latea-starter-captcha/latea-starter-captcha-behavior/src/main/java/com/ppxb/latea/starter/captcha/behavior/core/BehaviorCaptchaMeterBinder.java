@@ -0,0 +1,48 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 行为验证码指标绑定器（Micrometer）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BehaviorCaptchaMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.captcha.behavior";
+
+    private static final String TYPE_TAG = "type";
+
+    private final Collection<AbstractBehaviorCaptchaService> services;
+
+    public BehaviorCaptchaMeterBinder(Collection<AbstractBehaviorCaptchaService> services) {
+        this.services = services;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AbstractBehaviorCaptchaService service : services) {
+            BehaviorCaptchaMetrics metrics = service.getMetrics();
+            String type = service.captchaType();
+            FunctionTimer.builder(PREFIX + ".generate", metrics, BehaviorCaptchaMetrics::getGenerateCount, BehaviorCaptchaMetrics::getGenerateNanos, TimeUnit.NANOSECONDS)
+                .description("验证码生成耗时")
+                .tag(TYPE_TAG, type)
+                .register(registry);
+            FunctionTimer.builder(PREFIX + ".check", metrics, BehaviorCaptchaMetrics::getCheckCount, BehaviorCaptchaMetrics::getCheckNanos, TimeUnit.NANOSECONDS)
+                .description("验证码校验耗时")
+                .tag(TYPE_TAG, type)
+                .register(registry);
+            FunctionCounter.builder(PREFIX + ".check.failed", metrics, BehaviorCaptchaMetrics::getCheckFailedCount)
+                .description("验证码校验失败次数")
+                .tag(TYPE_TAG, type)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 行为验证码指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BehaviorCaptchaMetrics {
+
+    private final LongAdder generateCount = new LongAdder();
+
+    private final LongAdder generateNanos = new LongAdder();
+
+    private final LongAdder checkCount = new LongAdder();
+
+    private final LongAdder checkNanos = new LongAdder();
+
+    private final LongAdder checkFailedCount = new LongAdder();
+
+    void recordGenerate(long nanos) {
+        generateCount.increment();
+        generateNanos.add(nanos);
+    }
+
+    void recordCheck(long nanos, boolean success) {
+        checkCount.increment();
+        checkNanos.add(nanos);
+        if (!success) {
+            checkFailedCount.increment();
+        }
+    }
+
+    /**
+     * 生成次数
+     */
+    public long getGenerateCount() {
+        return generateCount.sum();
+    }
+
+    /**
+     * 生成总耗时（纳秒）
+     */
+    public long getGenerateNanos() {
+        return generateNanos.sum();
+    }
+
+    /**
+     * 校验次数
+     */
+    public long getCheckCount() {
+        return checkCount.sum();
+    }
+
+    /**
+     * 校验总耗时（纳秒）
+     */
+    public long getCheckNanos() {
+        return checkNanos.sum();
+    }
+
+    /**
+     * 校验失败次数
+     */
+    public long getCheckFailedCount() {
+        return checkFailedCount.sum();
+    }
+}
@@ -0,0 +1,170 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.ppxb.latea.starter.captcha.behavior.model.BackgroundImage;
+import com.ppxb.latea.starter.captcha.behavior.model.JigsawTemplate;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 行为验证码资源
+ *
+ * <p>AJ-Captcha 以 Base64 字符串缓存底图，每生成一个验证码都要重新 Base64 解码并解析 PNG。
+ * 本类在创建时把背景图解码为 RGB 像素数组、把拼图模板解析为掩码，之后所有请求只读共享；
+ * 文字点选字体同样只加载一次。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BehaviorCaptchaResources {
+
+    private static final String CLASSPATH_FONT_PREFIX = "fonts/";
+
+    private final List<BackgroundImage> jigsawBackgrounds;
+
+    private final List<JigsawTemplate> jigsawTemplates;
+
+    private final List<BackgroundImage> clickBackgrounds;
+
+    private final Font font;
+
+    /**
+     * @param jigsawBackgroundLocation 滑动拼图背景图路径（支持通配符，例如 {@code classpath*:images/jigsaw/*.png}）
+     * @param jigsawTemplateLocation   滑动拼图模板路径
+     * @param clickBackgroundLocation  文字点选背景图路径
+     * @param fontName                 字体（优先从类路径 {@code fonts/} 目录加载字体文件，否则作为系统字体名称）
+     * @param fontSize                 字体大小
+     */
+    public BehaviorCaptchaResources(String jigsawBackgroundLocation,
+                                    String jigsawTemplateLocation,
+                                    String clickBackgroundLocation,
+                                    String fontName,
+                                    int fontSize) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        this.jigsawBackgrounds = load(resolver, jigsawBackgroundLocation).stream()
+            .map(BehaviorCaptchaResources::toBackground)
+            .toList();
+        this.jigsawTemplates = load(resolver, jigsawTemplateLocation).stream()
+            .map(BehaviorCaptchaResources::toTemplate)
+            .toList();
+        this.clickBackgrounds = load(resolver, clickBackgroundLocation).stream()
+            .map(BehaviorCaptchaResources::toBackground)
+            .toList();
+        this.font = loadFont(fontName, fontSize);
+    }
+
+    /**
+     * 随机获取滑动拼图背景图
+     */
+    public BackgroundImage randomJigsawBackground() {
+        return random(jigsawBackgrounds);
+    }
+
+    /**
+     * 随机获取滑动拼图模板
+     */
+    public JigsawTemplate randomJigsawTemplate() {
+        return random(jigsawTemplates);
+    }
+
+    /**
+     * 随机获取文字点选背景图
+     */
+    public BackgroundImage randomClickBackground() {
+        return random(clickBackgrounds);
+    }
+
+    /**
+     * 获取字体
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    private static <T> T random(List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+
+    private static List<BufferedImage> load(ResourcePatternResolver resolver, String location) {
+        List<BufferedImage> images = new ArrayList<>();
+        try {
+            Resource[] resources = resolver.getResources(location);
+            // 按文件名排序，保证多次启动加载顺序一致
+            Arrays.sort(resources, Comparator.comparing(r -> String.valueOf(r.getFilename())));
+            for (Resource resource : resources) {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    BufferedImage image = ImageIO.read(inputStream);
+                    if (null != image) {
+                        images.add(image);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new BaseException("Failed to load captcha images: " + location, e);
+        }
+        if (images.isEmpty()) {
+            throw new BaseException("No captcha images found: " + location);
+        }
+        return images;
+    }
+
+    private static BackgroundImage toBackground(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return new BackgroundImage(width, height, ((DataBufferInt)image.getRaster().getDataBuffer()).getData());
+    }
+
+    private static JigsawTemplate toTemplate(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int[] argb = source.getRGB(0, 0, width, height, null, 0, width);
+        byte[] mask = new byte[argb.length];
+        for (int i = 0; i < argb.length; i++) {
+            mask[i] = (argb[i] >>> 24) > 0x7F ? JigsawTemplate.INSIDE : JigsawTemplate.TRANSPARENT;
+        }
+        // 与透明像素相邻或位于图片边界的像素为拼图边缘
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                if (JigsawTemplate.TRANSPARENT == mask[i]) {
+                    continue;
+                }
+                boolean border = 0 == x || 0 == y || width - 1 == x || height - 1 == y;
+                if (border || JigsawTemplate.TRANSPARENT == mask[i - 1] || JigsawTemplate.TRANSPARENT == mask[i + 1]
+                    || JigsawTemplate.TRANSPARENT == mask[i - width] || JigsawTemplate.TRANSPARENT == mask[i + width]) {
+                    mask[i] = JigsawTemplate.EDGE;
+                }
+            }
+        }
+        return new JigsawTemplate(width, height, mask);
+    }
+
+    private static Font loadFont(String fontName, int fontSize) {
+        ClassLoader classLoader = BehaviorCaptchaResources.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(CLASSPATH_FONT_PREFIX + fontName)) {
+            if (null == inputStream) {
+                return new Font(fontName, Font.BOLD, fontSize);
+            }
+            return Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(Font.BOLD, (float)fontSize);
+        } catch (IOException | FontFormatException e) {
+            throw new BaseException("Failed to load captcha font: " + fontName, e);
+        }
+    }
+}
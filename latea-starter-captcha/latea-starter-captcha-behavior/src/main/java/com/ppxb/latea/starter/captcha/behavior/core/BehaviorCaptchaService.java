@@ -0,0 +1,87 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.model.common.CaptchaTypeEnum;
+import com.anji.captcha.model.common.RepCodeEnum;
+import com.anji.captcha.model.common.ResponseModel;
+import com.anji.captcha.model.vo.CaptchaVO;
+import com.anji.captcha.service.CaptchaService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 行为验证码服务
+ *
+ * <p>按请求中的 {@code captchaType} 分发到对应类型的验证码服务；二次校验凭证与类型无关，由任一服务处理。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BehaviorCaptchaService implements CaptchaService {
+
+    private final Map<String, AbstractBehaviorCaptchaService> services;
+
+    private final AbstractBehaviorCaptchaService defaultService;
+
+    /**
+     * @param services    各类型验证码服务
+     * @param defaultType 未指定类型时使用的类型
+     */
+    public BehaviorCaptchaService(List<AbstractBehaviorCaptchaService> services, String defaultType) {
+        this.services = services.stream()
+            .collect(Collectors.toUnmodifiableMap(AbstractBehaviorCaptchaService::captchaType, Function.identity()));
+        this.defaultService = this.services.getOrDefault(defaultType, services.getFirst());
+    }
+
+    @Override
+    public void init(Properties config) {
+        // 由构造参数完成配置
+    }
+
+    @Override
+    public ResponseModel get(CaptchaVO captchaVO) {
+        AbstractBehaviorCaptchaService service = this.resolve(captchaVO);
+        return null == service ? ResponseModel.errorMsg(RepCodeEnum.PARAM_TYPE_ERROR) : service.get(captchaVO);
+    }
+
+    @Override
+    public ResponseModel check(CaptchaVO captchaVO) {
+        AbstractBehaviorCaptchaService service = this.resolve(captchaVO);
+        return null == service ? ResponseModel.errorMsg(RepCodeEnum.PARAM_TYPE_ERROR) : service.check(captchaVO);
+    }
+
+    @Override
+    public ResponseModel verification(CaptchaVO captchaVO) {
+        return defaultService.verification(captchaVO);
+    }
+
+    @Override
+    public String captchaType() {
+        return CaptchaTypeEnum.DEFAULT.getCodeValue();
+    }
+
+    @Override
+    public void destroy(Properties config) {
+        // 无需释放资源
+    }
+
+    /**
+     * 获取各类型验证码服务
+     *
+     * @return 验证码服务
+     */
+    public Collection<AbstractBehaviorCaptchaService> getServices() {
+        return services.values();
+    }
+
+    private AbstractBehaviorCaptchaService resolve(CaptchaVO captchaVO) {
+        if (null == captchaVO || null == captchaVO.getCaptchaType() || captchaVO.getCaptchaType().isBlank()) {
+            return defaultService;
+        }
+        return services.get(captchaVO.getCaptchaType());
+    }
+}
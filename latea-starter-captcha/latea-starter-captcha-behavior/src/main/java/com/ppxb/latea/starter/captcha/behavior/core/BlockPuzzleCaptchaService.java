@@ -0,0 +1,150 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.model.common.CaptchaTypeEnum;
+import com.anji.captcha.model.vo.CaptchaVO;
+import com.anji.captcha.model.vo.PointVO;
+import com.anji.captcha.service.CaptchaCacheService;
+import com.anji.captcha.util.JsonUtil;
+import com.ppxb.latea.starter.captcha.behavior.model.BackgroundImage;
+import com.ppxb.latea.starter.captcha.behavior.model.JigsawTemplate;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 滑动拼图验证码服务
+ *
+ * <p>按模板掩码直接在像素数组上抠图：拼图块取背景原像素并描白边，背景缺口压暗，不再逐像素调用
+ * {@link BufferedImage#getRGB(int, int)}。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BlockPuzzleCaptchaService extends AbstractBehaviorCaptchaService {
+
+    private static final int EDGE_COLOR = 0xFFFFFFFF;
+
+    private static final int MARGIN = 5;
+
+    private final int slipOffset;
+
+    private final int interferenceOptions;
+
+    /**
+     * @param slipOffset          允许的滑动误差（像素）
+     * @param interferenceOptions 干扰缺口数量（0 ~ 2）
+     */
+    public BlockPuzzleCaptchaService(BehaviorCaptchaResources resources,
+                                     CaptchaCacheService cacheService,
+                                     Duration expiration,
+                                     Duration verificationExpiration,
+                                     boolean aesEnabled,
+                                     String waterMark,
+                                     int slipOffset,
+                                     int interferenceOptions) {
+        super(resources, cacheService, expiration, verificationExpiration, aesEnabled, waterMark);
+        this.slipOffset = slipOffset;
+        this.interferenceOptions = Math.max(0, Math.min(2, interferenceOptions));
+    }
+
+    @Override
+    public String captchaType() {
+        return CaptchaTypeEnum.BLOCKPUZZLE.getCodeValue();
+    }
+
+    @Override
+    protected String generate(CaptchaVO captcha, String secretKey) {
+        BackgroundImage background = resources.randomJigsawBackground();
+        JigsawTemplate template = resources.randomJigsawTemplate();
+        int width = background.width();
+        int height = background.height();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 缺口不与滑块起始位置重叠
+        int x = random.nextInt(template.width() + MARGIN, Math.max(template.width() + MARGIN + 1, width - template
+            .width() - MARGIN));
+        int y = random.nextInt(height - template.height() + 1);
+
+        BufferedImage original = background.copy();
+        int[] pixels = ((DataBufferInt)original.getRaster().getDataBuffer()).getData();
+        BufferedImage jigsaw = new BufferedImage(template.width(), template.height(), BufferedImage.TYPE_INT_ARGB);
+        int[] jigsawPixels = ((DataBufferInt)jigsaw.getRaster().getDataBuffer()).getData();
+        cut(template, pixels, width, x, y, jigsawPixels);
+        for (int i = 0; i < interferenceOptions; i++) {
+            JigsawTemplate interference = resources.randomJigsawTemplate();
+            int interferenceX = this.interferenceX(x, template.width(), interference.width(), width);
+            if (interferenceX >= 0) {
+                cut(interference, pixels, width, interferenceX, random
+                    .nextInt(height - interference.height() + 1), null);
+            }
+        }
+        this.drawWaterMark(original);
+
+        captcha.setOriginalImageBase64(toBase64(original));
+        captcha.setJigsawImageBase64(toBase64(jigsaw));
+        return JsonUtil.toJSONString(new PointVO(x, y, secretKey));
+    }
+
+    @Override
+    protected String secretKey(String answer) {
+        return JsonUtil.parseObject(answer, PointVO.class).getSecretKey();
+    }
+
+    @Override
+    protected boolean matches(String answer, String pointJson) {
+        PointVO expected = JsonUtil.parseObject(answer, PointVO.class);
+        PointVO actual = JsonUtil.parseObject(pointJson, PointVO.class);
+        // 滑块只能水平移动，前端提交的纵坐标为固定值，只校验横坐标
+        return Math.abs(expected.getX() - actual.getX()) <= slipOffset;
+    }
+
+    /**
+     * 按模板抠图
+     *
+     * @param template 模板
+     * @param pixels   背景像素
+     * @param width    背景宽度
+     * @param x        缺口横坐标
+     * @param y        缺口纵坐标
+     * @param jigsaw   拼图块像素（为 {@code null} 时只绘制缺口）
+     */
+    private static void cut(JigsawTemplate template, int[] pixels, int width, int x, int y, int[] jigsaw) {
+        byte[] mask = template.mask();
+        int templateWidth = template.width();
+        for (int row = 0; row < template.height(); row++) {
+            int offset = (y + row) * width + x;
+            int templateOffset = row * templateWidth;
+            for (int column = 0; column < templateWidth; column++) {
+                byte type = mask[templateOffset + column];
+                if (JigsawTemplate.TRANSPARENT == type) {
+                    continue;
+                }
+                int pixel = pixels[offset + column];
+                if (null != jigsaw) {
+                    jigsaw[templateOffset + column] = JigsawTemplate.EDGE == type ? EDGE_COLOR : 0xFF000000 | pixel;
+                }
+                // 压暗至一半亮度
+                pixels[offset + column] = (pixel >>> 1) & 0x7F7F7F;
+            }
+        }
+    }
+
+    /**
+     * 计算干扰缺口横坐标（与真实缺口不重叠）
+     *
+     * @return 横坐标；空间不足时返回 -1
+     */
+    private int interferenceX(int x, int templateWidth, int interferenceWidth, int width) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int left = x - interferenceWidth - MARGIN;
+        int rightStart = x + templateWidth + MARGIN;
+        int right = width - interferenceWidth - MARGIN;
+        boolean hasLeft = left > MARGIN;
+        boolean hasRight = right > rightStart;
+        if (hasLeft && (!hasRight || random.nextBoolean())) {
+            return random.nextInt(MARGIN, left);
+        }
+        return hasRight ? random.nextInt(rightStart, right) : -1;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.model.common.CaptchaTypeEnum;
+import com.anji.captcha.model.vo.CaptchaVO;
+import com.anji.captcha.model.vo.PointVO;
+import com.anji.captcha.service.CaptchaCacheService;
+import com.anji.captcha.util.JsonUtil;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 文字点选验证码服务
+ *
+ * <p>在背景图上绘制 {@code wordCount} 个随机汉字，要求按顺序点击其中 {@code wordCount - 1} 个。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ClickWordCaptchaService extends AbstractBehaviorCaptchaService {
+
+    private static final String WORDS = "的一是在不了有和人这中大为上个国我以要他时来用们生到作地于出就分对成会可主发年动同工也能下过子说产种面而方后多定行学法所民得经十三之进着等部度家电力里如水化高自二理起小物现实加量都两体制机当使点从业本去把性好应开它合还因由其些然前外天政四日那社义事平形相全表间样与关各重新线内数正心反你明看原又么利比或但质气第向道命此变条只没结解问意建月公无系军很情者最立代想已通并提直题党程展五果料象员革位入常文总次品式活设及管特件长求老头基资边流路级少图山统接知较将组见计别她手角期根论运农指几九区强放决西被干做必战先回则任取据处队南给色光门即保治北造百规热领七海口东导器压志世金增争济阶油思术极交受联什认六共权收证改清己美再采转更单风切打白教速花带安场身车例真务具万每目至达走积示议声报斗完类八离华名确才科张信马节话米整空元况今集温传土许步群广石记需段研界拉林律叫且究观越织装影算低持音众书布复容儿须际商非验连断深难近矿千周委素技备半办青省列习响约支般史感劳便团往酸历市克何除消构府称太准精值号率族维划选标写存候毛亲快效斯院查江型眼王按格养易置派层片始却专状育厂京识适属圆包火住调满县局照参红细引听该铁价严龙飞";
+
+    private final int wordCount;
+
+    private final int tolerance;
+
+    /**
+     * @param wordCount 绘制的文字数量（需点击其中 {@code wordCount - 1} 个）
+     */
+    public ClickWordCaptchaService(BehaviorCaptchaResources resources,
+                                   CaptchaCacheService cacheService,
+                                   Duration expiration,
+                                   Duration verificationExpiration,
+                                   boolean aesEnabled,
+                                   String waterMark,
+                                   int wordCount) {
+        super(resources, cacheService, expiration, verificationExpiration, aesEnabled, waterMark);
+        this.wordCount = Math.max(2, wordCount);
+        this.tolerance = resources.getFont().getSize();
+    }
+
+    @Override
+    public String captchaType() {
+        return CaptchaTypeEnum.CLICKWORD.getCodeValue();
+    }
+
+    @Override
+    protected String generate(CaptchaVO captcha, String secretKey) {
+        BufferedImage image = resources.randomClickBackground().copy();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int size = resources.getFont().getSize();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setFont(resources.getFont());
+
+        // 每个文字占一列，避免相互重叠；跳过的文字随机选取
+        int skipped = random.nextInt(wordCount);
+        int columnWidth = width / wordCount;
+        List<String> words = new ArrayList<>(wordCount - 1);
+        List<PointVO> points = new ArrayList<>(wordCount - 1);
+        for (int i = 0; i < wordCount; i++) {
+            String word = String.valueOf(WORDS.charAt(random.nextInt(WORDS.length())));
+            while (words.contains(word)) {
+                word = String.valueOf(WORDS.charAt(random.nextInt(WORDS.length())));
+            }
+            int centerX = i * columnWidth + columnWidth / 2 + random.nextInt(-Math.max(1, (columnWidth - size) / 2), Math
+                .max(1, (columnWidth - size) / 2) + 1);
+            int centerY = random.nextInt(size, Math.max(size + 1, height - size));
+            graphics.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+            Graphics2D rotated = (Graphics2D)graphics.create();
+            rotated.rotate(Math.toRadians(random.nextInt(-45, 46)), centerX, centerY);
+            rotated.drawString(word, centerX - size / 2, centerY + size / 2 - size / 8);
+            rotated.dispose();
+            if (i != skipped) {
+                words.add(word);
+                points.add(new PointVO(centerX, centerY, secretKey));
+            }
+        }
+        graphics.dispose();
+        this.drawWaterMark(image);
+
+        // 打乱需要点击的顺序
+        for (int i = words.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            words.set(i, words.set(j, words.get(i)));
+            points.set(i, points.set(j, points.get(i)));
+        }
+        captcha.setOriginalImageBase64(toBase64(image));
+        captcha.setWordList(words);
+        return JsonUtil.toJSONString(points);
+    }
+
+    @Override
+    protected String secretKey(String answer) {
+        return JsonUtil.parseArray(answer, PointVO.class).getFirst().getSecretKey();
+    }
+
+    @Override
+    protected boolean matches(String answer, String pointJson) {
+        List<PointVO> expected = JsonUtil.parseArray(answer, PointVO.class);
+        List<PointVO> actual = JsonUtil.parseArray(pointJson, PointVO.class);
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (Math.abs(expected.get(i).getX() - actual.get(i).getX()) > tolerance || Math.abs(expected.get(i)
+                .getY() - actual.get(i).getY()) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
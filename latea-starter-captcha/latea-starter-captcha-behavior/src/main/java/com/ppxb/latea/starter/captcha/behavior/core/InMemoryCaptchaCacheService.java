@@ -0,0 +1,89 @@
+package com.ppxb.latea.starter.captcha.behavior.core;
+
+import com.anji.captcha.service.CaptchaCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 内存验证码缓存
+ *
+ * <p>实现 AJ-Captcha 的 {@link CaptchaCacheService}，已有的 Redis 等实现可直接替换。
+ * 与图形验证码的内存存储一致，基于 Caffeine 实现：每个条目按各自的有效期过期，条目数达到上限时以均摊常数时间淘汰，保证内存有界。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InMemoryCaptchaCacheService implements AtomicCaptchaCacheService {
+
+    private final Cache<String, Entry> entries;
+
+    public InMemoryCaptchaCacheService(int maxSize) {
+        this.entries = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new EntryExpiry()).build();
+    }
+
+    @Override
+    public void set(String key, String value, long expiresInSeconds) {
+        entries.put(key, new Entry(value, System.nanoTime() + expiresInSeconds * 1_000_000_000L));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return null != this.get(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.invalidate(key);
+    }
+
+    @Override
+    public String get(String key) {
+        return value(entries.getIfPresent(key));
+    }
+
+    @Override
+    public String getAndDelete(String key) {
+        return value(entries.asMap().remove(key));
+    }
+
+    @Override
+    public String type() {
+        return "local";
+    }
+
+    private static String value(Entry entry) {
+        if (null == entry || entry.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    private record Entry(String value, long expireAtNanos) {
+
+        private boolean isExpired(long now) {
+            return now - expireAtNanos > 0;
+        }
+    }
+
+    /**
+     * 按条目的过期时间计算剩余有效期
+     */
+    private static class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return value.expireAtNanos() - currentTime;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return value.expireAtNanos() - currentTime;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.captcha.behavior.model;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * 已解码的背景图
+ *
+ * <p>像素以 {@code int} RGB 数组保存，启动时解码一次后只读共享；生成验证码时通过 {@link #copy()} 复制一份再绘制。</p>
+ *
+ * @param width  宽度
+ * @param height 高度
+ * @param pixels 像素（只读）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record BackgroundImage(int width, int height, int[] pixels) {
+
+    /**
+     * 复制为可绘制的图片
+     *
+     * @return 图片（{@link BufferedImage#TYPE_INT_RGB}）
+     */
+    public BufferedImage copy() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] target = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(pixels, 0, target, 0, pixels.length);
+        return image;
+    }
+}
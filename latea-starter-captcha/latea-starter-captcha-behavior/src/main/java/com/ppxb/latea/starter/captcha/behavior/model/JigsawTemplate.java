@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.captcha.behavior.model;
+
+/**
+ * 已解析的拼图模板
+ *
+ * <p>模板图片在启动时解析为掩码，生成验证码时不再逐像素读取模板图片的透明度。</p>
+ *
+ * @param width  宽度
+ * @param height 高度
+ * @param mask   掩码（0：透明；1：拼图内部；2：拼图边缘）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record JigsawTemplate(int width, int height, byte[] mask) {
+
+    /**
+     * 透明
+     */
+    public static final byte TRANSPARENT = 0;
+
+    /**
+     * 拼图内部
+     */
+    public static final byte INSIDE = 1;
+
+    /**
+     * 拼图边缘
+     */
+    public static final byte EDGE = 2;
+}
@@ -0,0 +1,80 @@
+package com.ppxb.latea.starter.captcha.graphic.autoconfigure;
+
+import com.ppxb.latea.starter.captcha.graphic.core.*;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 图形验证码自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   captcha:
+ *     graphic:
+ *       type: ARITHMETIC
+ *       length: 2
+ *       expiration: 2m
+ *       pool:
+ *         min-size: 32
+ *         max-size: 1024
+ *         render-threads: 2
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(GraphicCaptchaProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.CAPTCHA_GRAPHIC, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class GraphicCaptchaAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphicCaptchaAutoConfiguration.class);
+
+    /**
+     * 验证码答案存储（默认内存存储）
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CaptchaStore captchaStore(GraphicCaptchaProperties properties) {
+        return new InMemoryCaptchaStore(properties.getStoreMaxSize());
+    }
+
+    /**
+     * 预渲染图形验证码池
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public GraphicCaptchaPool graphicCaptchaPool(GraphicCaptchaProperties properties) {
+        GraphicCaptchaRenderer renderer = new GraphicCaptchaRenderer(properties.getType(), properties
+            .getWidth(), properties.getHeight(), properties.getLength(), properties.getFontName(), properties
+                .getFontSize());
+        GraphicCaptchaProperties.Pool pool = properties.getPool();
+        return new GraphicCaptchaPool(renderer, pool.getMinSize(), pool.getMaxSize(), pool.getRefillHorizon(), pool
+            .getRenderThreads());
+    }
+
+    /**
+     * 图形验证码服务
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public GraphicCaptchaService graphicCaptchaService(GraphicCaptchaPool graphicCaptchaPool,
+                                                       CaptchaStore captchaStore,
+                                                       GraphicCaptchaProperties properties) {
+        return new GraphicCaptchaService(graphicCaptchaPool, captchaStore, properties.getExpiration(), properties
+            .getKeyPrefix());
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Captcha-Graphic' completed initialization.");
+    }
+}
@@ -0,0 +1,218 @@
+package com.ppxb.latea.starter.captcha.graphic.autoconfigure;
+
+import com.ppxb.latea.starter.captcha.graphic.enums.GraphicCaptchaType;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 图形验证码配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.CAPTCHA_GRAPHIC)
+public class GraphicCaptchaProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 类型
+     */
+    private GraphicCaptchaType type = GraphicCaptchaType.SPEC;
+
+    /**
+     * 字符数（算术验证码为参与运算的数字个数）
+     */
+    private int length = 4;
+
+    /**
+     * 宽度
+     */
+    private int width = 111;
+
+    /**
+     * 高度
+     */
+    private int height = 36;
+
+    /**
+     * 字体名称（为空时使用内置字体）
+     */
+    private String fontName;
+
+    /**
+     * 字体大小
+     */
+    private int fontSize = 25;
+
+    /**
+     * 有效期
+     */
+    private Duration expiration = Duration.ofMinutes(2);
+
+    /**
+     * 键前缀
+     */
+    private String keyPrefix = "CAPTCHA:GRAPHIC:";
+
+    /**
+     * 内存存储最大条目数
+     */
+    private int storeMaxSize = 100_000;
+
+    /**
+     * 预渲染池配置
+     */
+    private Pool pool = new Pool();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public GraphicCaptchaType getType() {
+        return type;
+    }
+
+    public void setType(GraphicCaptchaType type) {
+        this.type = type;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    public String getFontName() {
+        return fontName;
+    }
+
+    public void setFontName(String fontName) {
+        this.fontName = fontName;
+    }
+
+    public int getFontSize() {
+        return fontSize;
+    }
+
+    public void setFontSize(int fontSize) {
+        this.fontSize = fontSize;
+    }
+
+    public Duration getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(Duration expiration) {
+        this.expiration = expiration;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public int getStoreMaxSize() {
+        return storeMaxSize;
+    }
+
+    public void setStoreMaxSize(int storeMaxSize) {
+        this.storeMaxSize = storeMaxSize;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 预渲染池配置属性
+     */
+    public static class Pool {
+
+        /**
+         * 最小水位
+         */
+        private int minSize = 32;
+
+        /**
+         * 最大水位
+         */
+        private int maxSize = 1024;
+
+        /**
+         * 补充时长（按当前消耗速率预备多长时间的验证码）
+         */
+        private Duration refillHorizon = Duration.ofSeconds(3);
+
+        /**
+         * 渲染线程数
+         */
+        private int renderThreads = 1;
+
+        public int getMinSize() {
+            return minSize;
+        }
+
+        public void setMinSize(int minSize) {
+            this.minSize = minSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getRefillHorizon() {
+            return refillHorizon;
+        }
+
+        public void setRefillHorizon(Duration refillHorizon) {
+            this.refillHorizon = refillHorizon;
+        }
+
+        public int getRenderThreads() {
+            return renderThreads;
+        }
+
+        public void setRenderThreads(int renderThreads) {
+            this.renderThreads = renderThreads;
+        }
+    }
+}
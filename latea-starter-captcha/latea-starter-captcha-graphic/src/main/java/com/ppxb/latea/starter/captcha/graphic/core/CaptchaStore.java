@@ -0,0 +1,31 @@
+package com.ppxb.latea.starter.captcha.graphic.core;
+
+import java.time.Duration;
+
+/**
+ * 验证码答案存储
+ *
+ * <p>默认提供 {@link InMemoryCaptchaStore}；多实例部署时可基于 Redis 等实现并注册为 Bean。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface CaptchaStore {
+
+    /**
+     * 保存答案
+     *
+     * @param key    键
+     * @param answer 答案
+     * @param ttl    有效期
+     */
+    void put(String key, String answer, Duration ttl);
+
+    /**
+     * 取出并删除答案（每个验证码只能校验一次）
+     *
+     * @param key 键
+     * @return 答案（不存在或已过期时返回 {@code null}）
+     */
+    String take(String key);
+}
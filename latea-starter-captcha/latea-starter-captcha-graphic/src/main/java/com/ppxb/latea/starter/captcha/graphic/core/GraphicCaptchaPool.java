@@ -0,0 +1,196 @@
+package com.ppxb.latea.starter.captcha.graphic.core;
+
+import com.ppxb.latea.starter.captcha.graphic.model.RenderedCaptcha;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 预渲染图形验证码池
+ *
+ * <p>验证码在后台渲染线程中预先生成，请求线程通过 {@link #take()} 以 O(1) 的无锁出队取得；
+ * 池为空时在请求线程上同步渲染一个（计为未命中），同时立即触发补充。</p>
+ *
+ * <p>池的目标水位按消耗速率自适应：每秒以指数加权移动平均估算消耗速率，
+ * 目标水位 = 速率 × 补充时长，并限制在 {@code [minSize, maxSize]} 之间。低于目标水位时由最多 {@code renderThreads}
+ * 个渲染任务补充，登录高峰时池会自动变深，空闲时不再继续渲染。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class GraphicCaptchaPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphicCaptchaPool.class);
+
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private final GraphicCaptchaRenderer renderer;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final double horizonSeconds;
+
+    private final int renderThreads;
+
+    private final ConcurrentLinkedQueue<RenderedCaptcha> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicInteger activeRefills = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private volatile double rate;
+
+    private volatile int targetSize;
+
+    private long lastTakenCount;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param renderer      渲染器
+     * @param minSize       最小水位
+     * @param maxSize       最大水位
+     * @param refillHorizon 补充时长（按当前消耗速率需要预备多长时间的验证码）
+     * @param renderThreads 渲染线程数
+     */
+    public GraphicCaptchaPool(GraphicCaptchaRenderer renderer,
+                              int minSize,
+                              int maxSize,
+                              Duration refillHorizon,
+                              int renderThreads) {
+        this.renderer = renderer;
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.horizonSeconds = refillHorizon.toMillis() / 1000.0;
+        this.renderThreads = Math.max(1, renderThreads);
+        this.targetSize = minSize;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(this.renderThreads, runnable -> Thread.ofPlatform()
+            .name("latea-captcha-render-" + threadIndex.incrementAndGet())
+            .daemon()
+            .unstarted(runnable));
+        executor.scheduleAtFixedRate(this::adjust, 1, 1, TimeUnit.SECONDS);
+        this.triggerRefill();
+    }
+
+    /**
+     * 取出验证码
+     *
+     * @return 验证码
+     */
+    public RenderedCaptcha take() {
+        RenderedCaptcha captcha = queue.poll();
+        if (null != captcha) {
+            size.decrementAndGet();
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            captcha = renderer.render();
+        }
+        if (size.get() < targetSize) {
+            this.triggerRefill();
+        }
+        return captcha;
+    }
+
+    /**
+     * 当前池中验证码数量
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * 当前目标水位
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * 估算的消耗速率（个/秒）
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * 命中次数（直接从池中取得）
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 未命中次数（池为空，在请求线程上渲染）
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdownNow();
+        queue.clear();
+        size.set(0);
+    }
+
+    /**
+     * 更新消耗速率与目标水位（每秒执行）
+     */
+    private void adjust() {
+        long taken = hitCount.sum() + missCount.sum();
+        long consumed = taken - lastTakenCount;
+        lastTakenCount = taken;
+        double current = rate;
+        current = 0 == current ? consumed : RATE_SMOOTHING * consumed + (1 - RATE_SMOOTHING) * current;
+        rate = current;
+        targetSize = (int)Math.min(maxSize, Math.max(minSize, Math.ceil(current * horizonSeconds)));
+        if (size.get() < targetSize) {
+            this.triggerRefill();
+        }
+    }
+
+    private void triggerRefill() {
+        for (;;) {
+            int active = activeRefills.get();
+            if (!running || active >= renderThreads) {
+                return;
+            }
+            if (activeRefills.compareAndSet(active, active + 1)) {
+                try {
+                    executor.execute(this::refill);
+                } catch (RejectedExecutionException e) {
+                    activeRefills.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    private void refill() {
+        try {
+            while (running && size.get() < targetSize) {
+                queue.offer(renderer.render());
+                size.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Latea Starter] - Failed to render graphic captcha.", e);
+        } finally {
+            activeRefills.decrementAndGet();
+        }
+    }
+}
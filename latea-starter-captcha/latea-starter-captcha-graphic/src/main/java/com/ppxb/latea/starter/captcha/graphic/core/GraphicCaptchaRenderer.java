@@ -0,0 +1,83 @@
+package com.ppxb.latea.starter.captcha.graphic.core;
+
+import com.ppxb.latea.starter.captcha.graphic.enums.GraphicCaptchaType;
+import com.ppxb.latea.starter.captcha.graphic.model.RenderedCaptcha;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.wf.captcha.SpecCaptcha;
+import com.wf.captcha.base.Captcha;
+
+import java.awt.*;
+import java.io.IOException;
+
+/**
+ * 图形验证码渲染器
+ *
+ * <p>easy-captcha 未指定字体时，每个验证码实例都会从 jar 中重新读取并解析 TTF 字体。
+ * 本渲染器在创建时加载一次字体，所有实例共享（{@link Font} 不可变，可安全共享）。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class GraphicCaptchaRenderer {
+
+    private final GraphicCaptchaType type;
+
+    private final int width;
+
+    private final int height;
+
+    private final int length;
+
+    private final Font font;
+
+    /**
+     * @param type     验证码类型
+     * @param width    宽度
+     * @param height   高度
+     * @param length   字符数
+     * @param fontName 字体名称（为空时使用内置字体，中文验证码使用默认中文字体）
+     * @param fontSize 字体大小
+     */
+    public GraphicCaptchaRenderer(GraphicCaptchaType type,
+                                  int width,
+                                  int height,
+                                  int length,
+                                  String fontName,
+                                  int fontSize) {
+        this.type = type;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.font = resolveFont(type, fontName, fontSize);
+    }
+
+    /**
+     * 渲染验证码
+     *
+     * @return 验证码
+     */
+    public RenderedCaptcha render() {
+        Captcha captcha = type.create(width, height, length);
+        if (null != font) {
+            captcha.setFont(font);
+        }
+        String answer = captcha.text();
+        return new RenderedCaptcha(answer, captcha.toBase64());
+    }
+
+    private static Font resolveFont(GraphicCaptchaType type, String fontName, int fontSize) {
+        if (null != fontName && !fontName.isBlank()) {
+            return new Font(fontName, Font.PLAIN, fontSize);
+        }
+        if (type.isChinese()) {
+            return null;
+        }
+        try {
+            Captcha loader = new SpecCaptcha();
+            loader.setFont(Captcha.FONT_1, fontSize);
+            return loader.getFont();
+        } catch (IOException | FontFormatException e) {
+            throw new BaseException("Failed to load captcha font.", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.captcha.graphic.core;
+
+import com.ppxb.latea.starter.captcha.graphic.model.GraphicCaptcha;
+import com.ppxb.latea.starter.captcha.graphic.model.RenderedCaptcha;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 图形验证码服务
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class GraphicCaptchaService {
+
+    private final GraphicCaptchaPool pool;
+
+    private final CaptchaStore store;
+
+    private final Duration expiration;
+
+    private final String keyPrefix;
+
+    public GraphicCaptchaService(GraphicCaptchaPool pool, CaptchaStore store, Duration expiration, String keyPrefix) {
+        this.pool = pool;
+        this.store = store;
+        this.expiration = expiration;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 生成验证码
+     *
+     * @return 验证码
+     */
+    public GraphicCaptcha generate() {
+        RenderedCaptcha captcha = pool.take();
+        String uuid = UUID.randomUUID().toString();
+        store.put(keyPrefix + uuid, captcha.answer(), expiration);
+        return new GraphicCaptcha(uuid, captcha.image(), System.currentTimeMillis() + expiration.toMillis());
+    }
+
+    /**
+     * 校验验证码（无论成功与否，验证码均失效）
+     *
+     * @param uuid 验证码标识
+     * @param code 用户输入
+     * @return 是否正确
+     */
+    public boolean verify(String uuid, String code) {
+        if (null == uuid || null == code || code.isBlank()) {
+            return false;
+        }
+        String answer = store.take(keyPrefix + uuid);
+        return null != answer && answer.equalsIgnoreCase(code.trim());
+    }
+}
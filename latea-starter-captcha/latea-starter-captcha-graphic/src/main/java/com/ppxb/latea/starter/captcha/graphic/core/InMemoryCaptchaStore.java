@@ -0,0 +1,75 @@
+package com.ppxb.latea.starter.captcha.graphic.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * 内存验证码答案存储
+ *
+ * <p>基于 Caffeine 实现，每个答案按各自的有效期过期；条目数达到上限（例如被恶意刷取）时由 Caffeine 以均摊常数时间淘汰，保证内存有界。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InMemoryCaptchaStore implements CaptchaStore {
+
+    private final Cache<String, Entry> entries;
+
+    public InMemoryCaptchaStore(int maxSize) {
+        this.entries = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new EntryExpiry()).build();
+    }
+
+    @Override
+    public void put(String key, String answer, Duration ttl) {
+        entries.put(key, new Entry(answer, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public String take(String key) {
+        Entry entry = entries.asMap().remove(key);
+        if (null == entry || entry.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return entry.answer();
+    }
+
+    /**
+     * 当前条目数（估算值）
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return (int)entries.estimatedSize();
+    }
+
+    private record Entry(String answer, long expireAtNanos) {
+
+        private boolean isExpired(long now) {
+            return now - expireAtNanos > 0;
+        }
+    }
+
+    /**
+     * 按条目的过期时间计算剩余有效期
+     */
+    private static class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return value.expireAtNanos() - currentTime;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return value.expireAtNanos() - currentTime;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ppxb.latea.starter.captcha.graphic.enums;
+
+import com.wf.captcha.*;
+import com.wf.captcha.base.Captcha;
+
+/**
+ * 图形验证码类型
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum GraphicCaptchaType {
+
+    /**
+     * PNG 字符
+     */
+    SPEC,
+
+    /**
+     * GIF 字符
+     */
+    GIF,
+
+    /**
+     * PNG 中文
+     */
+    CHINESE,
+
+    /**
+     * GIF 中文
+     */
+    CHINESE_GIF,
+
+    /**
+     * 算术
+     */
+    ARITHMETIC;
+
+    /**
+     * 创建验证码
+     *
+     * @param width  宽度
+     * @param height 高度
+     * @param length 字符数（算术验证码为参与运算的数字个数）
+     * @return 验证码
+     */
+    public Captcha create(int width, int height, int length) {
+        return switch (this) {
+            case SPEC -> new SpecCaptcha(width, height, length);
+            case GIF -> new GifCaptcha(width, height, length);
+            case CHINESE -> new ChineseCaptcha(width, height, length);
+            case CHINESE_GIF -> new ChineseGifCaptcha(width, height, length);
+            case ARITHMETIC -> new ArithmeticCaptcha(width, height, length);
+        };
+    }
+
+    /**
+     * 是否为中文验证码（使用系统中文字体，不加载内置字体）
+     *
+     * @return 是否为中文验证码
+     */
+    public boolean isChinese() {
+        return CHINESE == this || CHINESE_GIF == this;
+    }
+}
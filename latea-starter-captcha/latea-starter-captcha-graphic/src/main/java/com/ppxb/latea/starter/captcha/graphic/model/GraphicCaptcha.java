@@ -0,0 +1,13 @@
+package com.ppxb.latea.starter.captcha.graphic.model;
+
+/**
+ * 图形验证码
+ *
+ * @param uuid       验证码标识
+ * @param image      图片（Base64 Data URI）
+ * @param expireTime 过期时间（毫秒时间戳）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record GraphicCaptcha(String uuid, String image, long expireTime) {
+}
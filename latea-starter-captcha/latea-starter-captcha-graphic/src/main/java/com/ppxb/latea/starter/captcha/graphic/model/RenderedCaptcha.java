@@ -0,0 +1,12 @@
+package com.ppxb.latea.starter.captcha.graphic.model;
+
+/**
+ * 预渲染的验证码
+ *
+ * @param answer 答案
+ * @param image  图片（Base64 Data URI）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record RenderedCaptcha(String answer, String image) {
+}
@@ -0,0 +1,110 @@
+package com.ppxb.latea.starter.core.autoconfigure.threadpool;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.*;
+
+/**
+ * 支持 {@link TaskDecorator} 的定时任务线程池
+ *
+ * <p>Spring Framework 6.2 起 {@link ThreadPoolTaskScheduler} 自带 {@code setTaskDecorator}，当前依赖的 6.1 尚未提供。
+ * 这里与 6.2 的实现方式一致：在 {@link ScheduledThreadPoolExecutor#decorateTask} 中包装调度任务，
+ * 每一次执行（包括周期任务的每一轮）都会重新经过装饰器。升级到 6.2 后可直接改用原生方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DecoratingThreadPoolTaskScheduler extends ThreadPoolTaskScheduler {
+
+    private TaskDecorator taskDecorator;
+
+    /**
+     * 设置任务装饰器（需在初始化前设置）
+     *
+     * @param taskDecorator 任务装饰器
+     */
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    protected ScheduledExecutorService createExecutor(int poolSize,
+                                                      ThreadFactory threadFactory,
+                                                      RejectedExecutionHandler rejectedExecutionHandler) {
+        if (null == taskDecorator) {
+            return super.createExecutor(poolSize, threadFactory, rejectedExecutionHandler);
+        }
+        return new ScheduledThreadPoolExecutor(poolSize, threadFactory, rejectedExecutionHandler) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                DecoratingThreadPoolTaskScheduler.this.beforeExecute(thread, task);
+            }
+
+            @Override
+            protected void afterExecute(Runnable task, Throwable ex) {
+                DecoratingThreadPoolTaskScheduler.this.afterExecute(task, ex);
+            }
+
+            @Override
+            protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+                return new DecoratedScheduledFuture<>(task, taskDecorator);
+            }
+
+            @Override
+            protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable,
+                                                                  RunnableScheduledFuture<V> task) {
+                return new DecoratedScheduledFuture<>(task, taskDecorator);
+            }
+        };
+    }
+
+    private record DecoratedScheduledFuture<V>(RunnableScheduledFuture<V> future,
+                                               TaskDecorator taskDecorator) implements RunnableScheduledFuture<V> {
+
+        @Override
+        public void run() {
+            taskDecorator.decorate(future).run();
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return future.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return future.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return future.compareTo(other);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return future.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return future.get(timeout, unit);
+        }
+    }
+}
@@ -3,16 +3,27 @@ package com.ppxb.latea.starter.core.autoconfigure.threadpool;
 import com.ppxb.latea.starter.core.constant.PropertiesConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
 import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * 线程池自动配置类，提供异步任务和定时任务的线程池配置。
@@ -48,7 +59,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * @since 1.0.0
  */
 @Lazy
-@AutoConfiguration
+@AutoConfiguration(before = TaskSchedulingAutoConfiguration.class)
 @EnableConfigurationProperties(ThreadPoolExtensionProperties.class)
 public class ThreadPoolAutoConfiguration {
 
@@ -62,26 +73,42 @@ public class ThreadPoolAutoConfiguration {
 
     /**
      * 异步任务线程池配置
+     *
+     * <p>容器中的所有 {@link TaskDecorator}（例如链路、租户上下文传递）会按顺序组合后设置到线程池上。</p>
      */
     @Bean
     @ConditionalOnProperty(prefix = "string.task.execution.extension", name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
-    public ThreadPoolTaskExecutorCustomizer threadPoolTaskExecutorCustomizer(ThreadPoolExtensionProperties properties) {
+    public ThreadPoolTaskExecutorCustomizer threadPoolTaskExecutorCustomizer(ThreadPoolExtensionProperties properties,
+                                                                             ObjectProvider<TaskDecorator> taskDecorators) {
         return executor -> {
             executor.setCorePoolSize(corePoolSize);
             executor.setMaxPoolSize(maxPoolSize);
             executor.setRejectedExecutionHandler(properties.getExecution()
                 .getRejectedPolicy()
                 .getRejectedExecutionHandler());
+            TaskDecorator taskDecorator = composeTaskDecorators(taskDecorators);
+            if (null != taskDecorator) {
+                executor.setTaskDecorator(taskDecorator);
+            }
             log.debug("[Latea Starter] - Auto Configuration 'TaskExecutor' completed initialization.");
         };
     }
 
+    private static TaskDecorator composeTaskDecorators(ObjectProvider<TaskDecorator> taskDecorators) {
+        List<TaskDecorator> decorators = taskDecorators.orderedStream().toList();
+        if (decorators.isEmpty()) {
+            return null;
+        }
+        return decorators.size() == 1 ? decorators.get(0) : new CompositeTaskDecorator(decorators);
+    }
+
     /**
      * 定时任务线程池配置类，用于自定义 Spring 的 TaskScheduler 配置。
      *
      * <p>该配置类主要提供以下功能：
      * <ul>
      * <li>配置定时任务线程池的拒绝策略</li>
+     * <li>为定时任务应用容器中的 {@link TaskDecorator}</li>
      * <li>自定义定时任务线程池的行为</li>
      * </ul>
      *
@@ -108,6 +135,21 @@ public class ThreadPoolAutoConfiguration {
     @ConditionalOnProperty(prefix = "spring.task.scheduling.extension", name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
     public static class TaskSchedulerConfiguration {
 
+        /**
+         * 定时任务线程池
+         *
+         * <p>与异步任务线程池一样，容器中的所有 {@link TaskDecorator} 会组合后应用到每一次定时任务执行上。
+         * 线程池大小、线程名前缀等仍由 {@code spring.task.scheduling.*} 通过 {@link ThreadPoolTaskSchedulerBuilder} 配置。</p>
+         */
+        @Bean(name = "taskScheduler")
+        @ConditionalOnMissingBean({TaskScheduler.class, ScheduledExecutorService.class})
+        public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+                                                     ObjectProvider<TaskDecorator> taskDecorators) {
+            DecoratingThreadPoolTaskScheduler scheduler = builder.configure(new DecoratingThreadPoolTaskScheduler());
+            scheduler.setTaskDecorator(composeTaskDecorators(taskDecorators));
+            return scheduler;
+        }
+
         @Bean
         public ThreadPoolTaskSchedulerCustomizer threadPoolTaskSchedulerCustomizer(ThreadPoolExtensionProperties properties) {
             return executor -> {
@@ -75,6 +75,11 @@ public class PropertiesConstants {
      */
     public static final String STORAGE_LOCAL = STORAGE + StringConstants.DOT + "local";
 
+    /**
+     * 对象存储配置
+     */
+    public static final String STORAGE_OSS = STORAGE + StringConstants.DOT + "oss";
+
     /**
      * 验证码配置
      */
@@ -100,6 +105,11 @@ public class PropertiesConstants {
      */
     public static final String MESSAGING_WEBSOCKET = MESSAGING + StringConstants.DOT + "websocket";
 
+    /**
+     * 短信配置
+     */
+    public static final String MESSAGING_SMS = MESSAGING + StringConstants.DOT + "sms";
+
     /**
      * CRUD 配置
      */
@@ -115,6 +125,46 @@ public class PropertiesConstants {
      */
     public static final String TENANT = LATEA_STARTER + StringConstants.DOT + "tenant";
 
+    /**
+     * 数据填充配置
+     */
+    public static final String DATA_FILL = LATEA_STARTER + StringConstants.DOT + "data-fill";
+
+    /**
+     * 缓存配置
+     */
+    public static final String CACHE = LATEA_STARTER + StringConstants.DOT + "cache";
+
+    /**
+     * ID 生成配置
+     */
+    public static final String ID = LATEA_STARTER + StringConstants.DOT + "id";
+
+    /**
+     * Excel 配置
+     */
+    public static final String EXCEL = LATEA_STARTER + StringConstants.DOT + "excel";
+
+    /**
+     * HTTP 客户端配置
+     */
+    public static final String HTTP_CLIENT = LATEA_STARTER + StringConstants.DOT + "http-client";
+
+    /**
+     * 分布式锁配置
+     */
+    public static final String LOCK = LATEA_STARTER + StringConstants.DOT + "lock";
+
+    /**
+     * 任务调度与重试配置
+     */
+    public static final String JOB = LATEA_STARTER + StringConstants.DOT + "job";
+
+    /**
+     * SQL 监控配置
+     */
+    public static final String SQL_MONITOR = LATEA_STARTER + StringConstants.DOT + "sql-monitor";
+
     private PropertiesConstants() {
     }
 }
@@ -1,5 +1,7 @@
 package com.ppxb.latea.starter.core.exception;
 
+import cn.hutool.http.HttpStatus;
+
 import java.io.Serial;
 
 /**
@@ -24,4 +26,9 @@ public class BadRequestException extends BaseException {
     public BadRequestException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    @Override
+    public int getStatus() {
+        return HttpStatus.HTTP_BAD_REQUEST;
+    }
 }
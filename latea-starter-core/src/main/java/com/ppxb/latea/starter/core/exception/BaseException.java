@@ -1,9 +1,13 @@
 package com.ppxb.latea.starter.core.exception;
 
+import cn.hutool.http.HttpStatus;
+
 import java.io.Serial;
 
 /**
  * 自定义异常基类
+ *
+ * <p>{@link #getStatus()} 为 Web 层响应使用的 HTTP 状态码，默认 500；属于客户端原因或可预期的拒绝（限流、繁忙等）的子类应覆盖。</p>
  */
 public class BaseException extends RuntimeException {
 
@@ -24,4 +28,13 @@ public class BaseException extends RuntimeException {
     public BaseException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * 获取 HTTP 状态码
+     *
+     * @return HTTP 状态码
+     */
+    public int getStatus() {
+        return HttpStatus.HTTP_INTERNAL_ERROR;
+    }
 }
@@ -1,5 +1,7 @@
 package com.ppxb.latea.starter.core.exception;
 
+import cn.hutool.http.HttpStatus;
+
 import java.io.Serial;
 
 public class BusinessException extends BaseException {
@@ -21,4 +23,9 @@ public class BusinessException extends BaseException {
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    @Override
+    public int getStatus() {
+        return HttpStatus.HTTP_UNPROCESSABLE_ENTITY;
+    }
 }
@@ -0,0 +1,100 @@
+package com.ppxb.latea.starter.crud.core.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ppxb.latea.starter.crud.core.model.KeysetQuery;
+import com.ppxb.latea.starter.crud.core.model.KeysetResp;
+import com.ppxb.latea.starter.crud.core.model.PageQuery;
+import com.ppxb.latea.starter.crud.core.model.PageResp;
+import com.ppxb.latea.starter.crud.core.service.CrudService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * CRUD 控制器基类
+ *
+ * <p>子类只需声明 {@code @RestController}、{@code @RequestMapping} 并指定泛型即可获得以下接口：</p>
+ * <ul>
+ * <li>{@code GET /page}：分页查询</li>
+ * <li>{@code GET /keyset}：游标分页查询</li>
+ * <li>{@code GET /{id}}：查询详情</li>
+ * <li>{@code POST}：新增</li>
+ * <li>{@code PUT}：修改</li>
+ * <li>{@code DELETE /{ids}}：删除</li>
+ * <li>{@code GET /export}：流式导出（JSON 数组，边查询边输出）</li>
+ * </ul>
+ *
+ * @param <S>  业务类型
+ * @param <T>  实体类型
+ * @param <ID> 主键类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public abstract class AbstractCrudController<S extends CrudService<T, ID>, T, ID extends Serializable> {
+
+    @Autowired
+    protected S baseService;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @GetMapping("/page")
+    public PageResp<T> page(PageQuery query) {
+        return baseService.page(query);
+    }
+
+    @GetMapping("/keyset")
+    public KeysetResp<T> keyset(KeysetQuery query) {
+        return baseService.keyset(query);
+    }
+
+    @GetMapping("/{id}")
+    public T get(@PathVariable("id") ID id) {
+        return baseService.get(id);
+    }
+
+    @PostMapping
+    public void create(@RequestBody T entity) {
+        baseService.create(entity);
+    }
+
+    @PutMapping
+    public void update(@RequestBody T entity) {
+        baseService.update(entity);
+    }
+
+    @DeleteMapping("/{ids}")
+    public void delete(@PathVariable("ids") List<ID> ids) {
+        baseService.delete(ids);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        // 逐行写入时不刷新，由生成器缓冲区满时批量写出
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                baseService.export(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
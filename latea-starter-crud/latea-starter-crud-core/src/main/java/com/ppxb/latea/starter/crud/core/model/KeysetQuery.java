@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.crud.core.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 游标（Keyset）分页查询条件
+ *
+ * <p>以上一页最后一条记录的主键作为游标，按 {@code WHERE id > ? ORDER BY id LIMIT ?} 查询，
+ * 任意深度的翻页耗时都与第一页相同。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class KeysetQuery implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 游标（上一页返回的 {@code nextCursor}，首页为空）
+     */
+    private String cursor;
+
+    /**
+     * 每页条数
+     */
+    private long size = 10;
+
+    /**
+     * 是否按主键降序
+     */
+    private boolean desc;
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public boolean isDesc() {
+        return desc;
+    }
+
+    public void setDesc(boolean desc) {
+        this.desc = desc;
+    }
+}
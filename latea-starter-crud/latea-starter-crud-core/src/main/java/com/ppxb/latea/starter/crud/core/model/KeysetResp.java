@@ -0,0 +1,59 @@
+package com.ppxb.latea.starter.crud.core.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 游标（Keyset）分页信息
+ *
+ * @param <T> 列表数据类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class KeysetResp<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 列表数据
+     */
+    private List<T> list;
+
+    /**
+     * 下一页游标（没有下一页时为 {@code null}）
+     */
+    private String nextCursor;
+
+    public KeysetResp() {
+    }
+
+    public KeysetResp(List<T> list, String nextCursor) {
+        this.list = list;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getList() {
+        return list;
+    }
+
+    public void setList(List<T> list) {
+        this.list = list;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 是否有下一页
+     */
+    public boolean isHasNext() {
+        return null != nextCursor;
+    }
+}
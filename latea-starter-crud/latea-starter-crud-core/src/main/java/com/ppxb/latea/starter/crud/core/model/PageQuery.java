@@ -0,0 +1,57 @@
+package com.ppxb.latea.starter.crud.core.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 分页查询条件
+ *
+ * <p>适用于页码较小的场景；深度翻页（例如滚动加载、导出）请使用 {@link KeysetQuery}，避免数据库扫描并丢弃大量 OFFSET 行。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class PageQuery implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 页码（从 1 开始）
+     */
+    private long page = 1;
+
+    /**
+     * 每页条数
+     */
+    private long size = 10;
+
+    /**
+     * 是否查询总数（不查询时通过多取一条判断是否有下一页）
+     */
+    private boolean searchCount = true;
+
+    public long getPage() {
+        return page;
+    }
+
+    public void setPage(long page) {
+        this.page = page;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public boolean isSearchCount() {
+        return searchCount;
+    }
+
+    public void setSearchCount(boolean searchCount) {
+        this.searchCount = searchCount;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ppxb.latea.starter.crud.core.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 分页信息
+ *
+ * @param <T> 列表数据类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class PageResp<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 列表数据
+     */
+    private List<T> list;
+
+    /**
+     * 总记录数（未查询总数时为 {@code null}）
+     */
+    private Long total;
+
+    /**
+     * 是否有下一页
+     */
+    private boolean hasNext;
+
+    public PageResp() {
+    }
+
+    public PageResp(List<T> list, Long total, boolean hasNext) {
+        this.list = list;
+        this.total = total;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getList() {
+        return list;
+    }
+
+    public void setList(List<T> list) {
+        this.list = list;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ppxb.latea.starter.crud.core.service;
+
+import com.ppxb.latea.starter.crud.core.model.KeysetQuery;
+import com.ppxb.latea.starter.crud.core.model.KeysetResp;
+import com.ppxb.latea.starter.crud.core.model.PageQuery;
+import com.ppxb.latea.starter.crud.core.model.PageResp;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * CRUD 业务接口
+ *
+ * @param <T>  实体类型
+ * @param <ID> 主键类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface CrudService<T, ID extends Serializable> {
+
+    /**
+     * 分页查询
+     *
+     * @param query 分页查询条件
+     * @return 分页信息
+     */
+    PageResp<T> page(PageQuery query);
+
+    /**
+     * 游标分页查询
+     *
+     * @param query 游标分页查询条件
+     * @return 分页信息
+     */
+    KeysetResp<T> keyset(KeysetQuery query);
+
+    /**
+     * 查询详情
+     *
+     * @param id 主键
+     * @return 实体（不存在时为 {@code null}）
+     */
+    T get(ID id);
+
+    /**
+     * 新增
+     *
+     * @param entity 实体
+     */
+    void create(T entity);
+
+    /**
+     * 修改
+     *
+     * @param entity 实体
+     */
+    void update(T entity);
+
+    /**
+     * 删除
+     *
+     * @param ids 主键列表
+     */
+    void delete(Collection<ID> ids);
+
+    /**
+     * 批量新增（JDBC 批处理）
+     *
+     * @param entities 实体列表
+     */
+    void createBatch(Collection<T> entities);
+
+    /**
+     * 批量修改（JDBC 批处理）
+     *
+     * @param entities 实体列表
+     */
+    void updateBatch(Collection<T> entities);
+
+    /**
+     * 流式导出全部数据（逐行回调，不在内存中缓存结果集）
+     *
+     * @param consumer 行处理器
+     */
+    void export(Consumer<T> consumer);
+}
@@ -0,0 +1,68 @@
+package com.ppxb.latea.starter.crud.mp.autoconfigure;
+
+import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.crud.mp.interceptor.StreamingQueryInterceptor;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * CRUD 自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   crud:
+ *     batch-size: 1000
+ *     max-page-size: 1000
+ *     export-fetch-size: 1000
+ * </pre></blockquote>
+ *
+ * <p>容器中的 {@link InnerInterceptor} 按顺序注册到 {@link MybatisPlusInterceptor}，分页拦截器始终最后执行。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(before = MybatisPlusAutoConfiguration.class)
+@EnableConfigurationProperties(CrudProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.CRUD, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class CrudAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(CrudAutoConfiguration.class);
+
+    /**
+     * MyBatis Plus 插件
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MybatisPlusInterceptor mybatisPlusInterceptor(ObjectProvider<InnerInterceptor> innerInterceptors) {
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        innerInterceptors.orderedStream().forEach(interceptor::addInnerInterceptor);
+        interceptor.addInnerInterceptor(new PaginationInnerInterceptor());
+        return interceptor;
+    }
+
+    /**
+     * 流式查询拦截器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StreamingQueryInterceptor streamingQueryInterceptor(CrudProperties properties) {
+        return new StreamingQueryInterceptor(properties.getExportFetchSize());
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'CRUD' completed initialization.");
+    }
+}
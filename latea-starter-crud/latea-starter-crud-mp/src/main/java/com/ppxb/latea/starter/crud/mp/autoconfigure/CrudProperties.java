@@ -0,0 +1,66 @@
+package com.ppxb.latea.starter.crud.mp.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * CRUD 配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.CRUD)
+public class CrudProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 批量写入时每批提交的记录数
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 分页查询的最大每页条数
+     */
+    private long maxPageSize = 1000;
+
+    /**
+     * 导出（流式查询）时驱动每次拉取的记录数
+     */
+    private int exportFetchSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(long maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int getExportFetchSize() {
+        return exportFetchSize;
+    }
+
+    public void setExportFetchSize(int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ppxb.latea.starter.crud.mp.interceptor;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 流式查询拦截器
+ *
+ * <p>带 {@link ResultHandler} 的查询（例如 {@code BaseMapper#selectList(Wrapper, ResultHandler)}）逐行回调结果，
+ * 但 JDBC 驱动默认仍会一次性把结果集读入内存。本拦截器为这类查询替换为只进、带 fetchSize 的语句副本
+ * （副本按语句 ID 缓存），驱动按批拉取数据。</p>
+ *
+ * <p>MySQL 需在连接 URL 中配置 {@code useCursorFetch=true}，或将 fetchSize 配置为 {@link Integer#MIN_VALUE}；
+ * PostgreSQL 需在事务中执行。</p>
+ *
+ * <p>同时拦截 4 参数与 6 参数（带 {@link CacheKey}、{@link BoundSql}）两个 {@code query} 方法，
+ * 其他插件（例如分页插件）直接调用 6 参数方法时同样生效。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Intercepts({@Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class,
+    RowBounds.class, ResultHandler.class}), @Signature(type = Executor.class, method = "query", args = {
+        MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})})
+public class StreamingQueryInterceptor implements Interceptor {
+
+    private final int fetchSize;
+
+    private final Map<String, MappedStatement> streamingStatements = new ConcurrentHashMap<>();
+
+    public StreamingQueryInterceptor(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement)args[0];
+        if (null != args[3] && SqlCommandType.SELECT == ms.getSqlCommandType() && null == ms.getFetchSize()) {
+            args[0] = streamingStatements.computeIfAbsent(ms.getId(), id -> this.copy(ms));
+        }
+        return invocation.proceed();
+    }
+
+    private MappedStatement copy(MappedStatement ms) {
+        MappedStatement.Builder builder = new MappedStatement.Builder(ms.getConfiguration(), ms.getId(), ms
+            .getSqlSource(), ms.getSqlCommandType()).resource(ms.getResource())
+                .fetchSize(fetchSize)
+                .timeout(ms.getTimeout())
+                .statementType(ms.getStatementType())
+                .resultSetType(ResultSetType.FORWARD_ONLY)
+                .parameterMap(ms.getParameterMap())
+                .resultMaps(ms.getResultMaps())
+                .resultOrdered(ms.isResultOrdered())
+                .cache(ms.getCache())
+                .flushCacheRequired(ms.isFlushCacheRequired())
+                .useCache(false)
+                .keyGenerator(ms.getKeyGenerator())
+                .databaseId(ms.getDatabaseId())
+                .lang(ms.getLang());
+        if (null != ms.getKeyProperties()) {
+            builder.keyProperty(String.join(",", ms.getKeyProperties()));
+        }
+        if (null != ms.getKeyColumns()) {
+            builder.keyColumn(String.join(",", ms.getKeyColumns()));
+        }
+        if (null != ms.getResultSets()) {
+            builder.resultSets(String.join(",", ms.getResultSets()));
+        }
+        return builder.build();
+    }
+}
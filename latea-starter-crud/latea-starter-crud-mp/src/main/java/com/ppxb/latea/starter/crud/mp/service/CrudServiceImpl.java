@@ -0,0 +1,177 @@
+package com.ppxb.latea.starter.crud.mp.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.crud.core.model.KeysetQuery;
+import com.ppxb.latea.starter.crud.core.model.KeysetResp;
+import com.ppxb.latea.starter.crud.core.model.PageQuery;
+import com.ppxb.latea.starter.crud.core.model.PageResp;
+import com.ppxb.latea.starter.crud.core.service.CrudService;
+import com.ppxb.latea.starter.crud.mp.autoconfigure.CrudProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CRUD 业务实现基类（MyBatis Plus）
+ *
+ * <p>子类可重写 {@link #buildQueryWrapper()} 追加查询条件（分页、游标分页、导出共用）；游标分页始终只按主键排序，忽略其中的排序条件。</p>
+ *
+ * @param <M>  Mapper 类型
+ * @param <T>  实体类型
+ * @param <ID> 主键类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public abstract class CrudServiceImpl<M extends BaseMapper<T>, T, ID extends Serializable> implements CrudService<T, ID> {
+
+    @Autowired
+    protected M baseMapper;
+
+    @Autowired
+    private CrudProperties crudProperties;
+
+    private final Class<T> entityClass;
+
+    private volatile TableInfo tableInfo;
+
+    @SuppressWarnings("unchecked")
+    protected CrudServiceImpl() {
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(ClassUtils
+            .getUserClass(this.getClass()), CrudServiceImpl.class);
+        this.entityClass = null == typeArguments ? null : (Class<T>)typeArguments[1];
+    }
+
+    @Override
+    public PageResp<T> page(PageQuery query) {
+        long size = this.clampSize(query.getSize());
+        long current = Math.max(1, query.getPage());
+        if (query.isSearchCount()) {
+            Page<T> page = baseMapper.selectPage(new Page<>(current, size), this.buildQueryWrapper());
+            return new PageResp<>(page.getRecords(), page.getTotal(), current < page.getPages());
+        }
+        LookaheadPage<T> page = baseMapper.selectPage(new LookaheadPage<>(current, size), this.buildQueryWrapper());
+        List<T> records = page.getRecords();
+        boolean hasNext = records.size() > size;
+        return new PageResp<>(hasNext ? records.subList(0, (int)size) : records, null, hasNext);
+    }
+
+    @Override
+    public KeysetResp<T> keyset(KeysetQuery query) {
+        TableInfo table = this.getTableInfo();
+        String keyColumn = table.getKeyColumn();
+        if (null == keyColumn) {
+            throw new BaseException("Keyset pagination requires a @TableId on " + entityClass.getName() + ".");
+        }
+        long size = this.clampSize(query.getSize());
+        QueryWrapper<T> wrapper = this.buildQueryWrapper();
+        if (null != query.getCursor() && !query.getCursor().isBlank()) {
+            Object cursor = DefaultConversionService.getSharedInstance().convert(query.getCursor(), table.getKeyType());
+            if (query.isDesc()) {
+                wrapper.lt(keyColumn, cursor);
+            } else {
+                wrapper.gt(keyColumn, cursor);
+            }
+        }
+        // 游标条件只对主键成立，子类追加的排序会使排序与游标条件不一致（跳过或重复记录），因此只按主键排序
+        wrapper.getExpression().getOrderBy().clear();
+        wrapper.orderBy(true, !query.isDesc(), keyColumn);
+        List<T> records = baseMapper.selectList(new Page<>(1, size + 1, false), wrapper);
+        if (records.size() <= size) {
+            return new KeysetResp<>(records, null);
+        }
+        List<T> list = new ArrayList<>(records.subList(0, (int)size));
+        Object lastKey = table.getPropertyValue(list.getLast(), table.getKeyProperty());
+        return new KeysetResp<>(list, String.valueOf(lastKey));
+    }
+
+    @Override
+    public T get(ID id) {
+        return baseMapper.selectById(id);
+    }
+
+    @Override
+    public void create(T entity) {
+        baseMapper.insert(entity);
+    }
+
+    @Override
+    public void update(T entity) {
+        baseMapper.updateById(entity);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(Collection<ID> ids) {
+        baseMapper.deleteByIds(ids);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void createBatch(Collection<T> entities) {
+        if (!entities.isEmpty()) {
+            baseMapper.insert(entities, crudProperties.getBatchSize());
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void updateBatch(Collection<T> entities) {
+        if (!entities.isEmpty()) {
+            baseMapper.updateById(entities, crudProperties.getBatchSize());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Consumer<T> consumer) {
+        // 带 ResultHandler 的查询由 StreamingQueryInterceptor 设置 fetchSize，驱动按批拉取
+        baseMapper.selectList(this.buildQueryWrapper(), context -> consumer.accept(context.getResultObject()));
+    }
+
+    /**
+     * 构建查询条件
+     *
+     * @return 查询条件
+     */
+    protected QueryWrapper<T> buildQueryWrapper() {
+        return new QueryWrapper<>();
+    }
+
+    /**
+     * 获取实体类型
+     *
+     * @return 实体类型
+     */
+    protected Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    private TableInfo getTableInfo() {
+        TableInfo table = tableInfo;
+        if (null == table) {
+            table = TableInfoHelper.getTableInfo(entityClass);
+            if (null == table) {
+                throw new BaseException("No table info found for " + entityClass.getName() + ".");
+            }
+            tableInfo = table;
+        }
+        return table;
+    }
+
+    private long clampSize(long size) {
+        return Math.max(1, Math.min(size, crudProperties.getMaxPageSize()));
+    }
+}
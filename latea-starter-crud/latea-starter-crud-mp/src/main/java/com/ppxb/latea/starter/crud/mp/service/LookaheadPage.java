@@ -0,0 +1,37 @@
+package com.ppxb.latea.starter.crud.mp.service;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+
+import java.io.Serial;
+
+/**
+ * 不查询总数的分页
+ *
+ * <p>按 {@code size + 1} 查询、按 {@code size} 计算偏移量，通过是否多出一条判断是否有下一页，省去 COUNT 查询。</p>
+ *
+ * @param <T> 数据类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+class LookaheadPage<T> extends Page<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long pageSize;
+
+    LookaheadPage(long current, long size) {
+        super(current, size + 1, false);
+        this.pageSize = size;
+    }
+
+    @Override
+    public long offset() {
+        long current = this.getCurrent();
+        return current <= 1 ? 0 : (current - 1) * pageSize;
+    }
+
+    long getPageSize() {
+        return pageSize;
+    }
+}
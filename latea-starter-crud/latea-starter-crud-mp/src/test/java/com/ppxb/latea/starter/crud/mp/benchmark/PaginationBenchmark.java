@@ -0,0 +1,173 @@
+package com.ppxb.latea.starter.crud.mp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 嵌入式数据库（H2）上的分页与批量写入对比
+ *
+ * <ul>
+ * <li>深分页：{@code LIMIT ? OFFSET ?} 与游标分页 {@code WHERE id > ? ORDER BY id LIMIT ?}（与 {@code CrudServiceImpl#keyset} 生成的语句形态一致）</li>
+ * <li>跳过 COUNT：{@code COUNT(*)} + 分页查询与多取一条判断是否有下一页</li>
+ * <li>批量写入：逐条执行 {@code INSERT} 与 JDBC 批量执行</li>
+ * </ul>
+ *
+ * <p>运行方式：{@code mvn -pl latea-starter-crud/latea-starter-crud-mp -am test-compile}，然后以测试类路径执行本类的 {@code main} 方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private static final int ROWS = 200_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int BATCH_ROWS = 1000;
+
+    /**
+     * 翻页深度（跳过的记录数）
+     */
+    @Param({"1000", "150000"})
+    private int depth;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        // 关闭 H2 对相同查询结果的复用，否则重复执行的同一条语句不会真正扫描数据
+        connection = DriverManager.getConnection("jdbc:h2:mem:crud;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_item");
+            statement.execute("CREATE TABLE t_item (id BIGINT PRIMARY KEY, name VARCHAR(64), amount INT)");
+            statement.execute("DROP TABLE IF EXISTS t_item_write");
+            statement.execute("CREATE TABLE t_item_write (id BIGINT PRIMARY KEY, name VARCHAR(64), amount INT)");
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t_item VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                statement.setLong(1, i);
+                statement.setString(2, "item-" + i);
+                statement.setInt(3, i % 1000);
+                statement.addBatch();
+                if (0 == i % 1000) {
+                    statement.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT id, name, amount FROM t_item ORDER BY id LIMIT ? OFFSET ?")) {
+            statement.setInt(1, PAGE_SIZE);
+            statement.setInt(2, depth);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void keysetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT id, name, amount FROM t_item WHERE id > ? ORDER BY id LIMIT ?")) {
+            statement.setLong(1, depth);
+            statement.setInt(2, PAGE_SIZE + 1);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void countThenPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT COUNT(*) FROM t_item WHERE amount < ?")) {
+            statement.setInt(1, 500);
+            consume(statement, blackhole);
+        }
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT id, name, amount FROM t_item WHERE amount < ? ORDER BY id LIMIT ?")) {
+            statement.setInt(1, 500);
+            statement.setInt(2, PAGE_SIZE);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void lookaheadPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT id, name, amount FROM t_item WHERE amount < ? ORDER BY id LIMIT ?")) {
+            statement.setInt(1, 500);
+            statement.setInt(2, PAGE_SIZE + 1);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public void rowByRowInsert() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t_item_write VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= BATCH_ROWS; i++) {
+                bind(statement, i);
+                statement.executeUpdate();
+            }
+        }
+        this.resetWriteTable();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROWS)
+    public void batchInsert() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t_item_write VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= BATCH_ROWS; i++) {
+                bind(statement, i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        this.resetWriteTable();
+    }
+
+    private void resetWriteTable() throws SQLException {
+        connection.commit();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE t_item_write");
+        }
+        connection.commit();
+    }
+
+    private static void bind(PreparedStatement statement, int i) throws SQLException {
+        statement.setLong(1, i);
+        statement.setString(2, "item-" + i);
+        statement.setInt(3, i);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PaginationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ppxb.latea.starter.excel.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.excel.core.ExcelTemplate;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Excel 自动配置
+ *
+ * <p>导入批次在 Spring 异步任务线程池中处理（线程池上的 TaskDecorator 会传递租户等上下文），
+ * 线程池不存在时使用虚拟线程。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   excel:
+ *     batch-size: 2000
+ *     parallelism: 4
+ *     max-rows-per-sheet: 1000000
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = TaskExecutionAutoConfiguration.class)
+@EnableConfigurationProperties(ExcelProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.EXCEL, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class ExcelAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelAutoConfiguration.class);
+
+    /**
+     * Excel 模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExcelTemplate excelTemplate(ExcelProperties properties,
+                                       @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> taskExecutor) {
+        Executor executor = taskExecutor.getIfAvailable(() -> {
+            ThreadFactory threadFactory = Thread.ofVirtual().name("latea-excel-", 0).factory();
+            return task -> threadFactory.newThread(task).start();
+        });
+        return new ExcelTemplate(properties.getBatchSize(), properties.getParallelism(), properties
+            .getMaxRowsPerSheet(), executor);
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Excel' completed initialization.");
+    }
+}
@@ -0,0 +1,66 @@
+package com.ppxb.latea.starter.excel.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Excel 配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.EXCEL)
+public class ExcelProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 批大小（导出每批拉取行数、导入每批处理行数）
+     */
+    private int batchSize = 2000;
+
+    /**
+     * 导入并行度（同时处理中的批次数）
+     */
+    private int parallelism = 4;
+
+    /**
+     * 每个工作表的最大行数（xlsx 上限为 1048576 行，含表头）
+     */
+    private long maxRowsPerSheet = 1_000_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getMaxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+
+    public void setMaxRowsPerSheet(long maxRowsPerSheet) {
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ppxb.latea.starter.excel.converter;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.converters.ReadConverterContext;
+import com.alibaba.excel.converters.WriteConverterContext;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.metadata.data.WriteCellData;
+import com.ppxb.latea.starter.core.enums.BaseEnum;
+import com.ppxb.latea.starter.excel.exception.ExcelException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Excel 枚举转换器
+ *
+ * <p>导出时输出枚举描述；导入时按描述（或枚举值）查找枚举，每个枚举类型的查找表只构建一次，逐行转换不做反射。
+ * 通过 {@code ExcelTemplate} 读写时会为表头类中的 {@link BaseEnum} 字段自动注册，也可在字段上显式指定：
+ * <blockquote><pre>
+ * &#64;ExcelProperty(value = "性别", converter = ExcelBaseEnumConverter.class)
+ * private GenderEnum gender;
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ExcelBaseEnumConverter implements Converter<BaseEnum<?>> {
+
+    private static final ClassValue<Map<String, BaseEnum<?>>> LOOKUP = new ClassValue<>() {
+        @Override
+        protected Map<String, BaseEnum<?>> computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if (null == constants) {
+                return Map.of();
+            }
+            Map<String, BaseEnum<?>> lookup = new HashMap<>(constants.length * 4);
+            for (Object constant : constants) {
+                BaseEnum<?> baseEnum = (BaseEnum<?>)constant;
+                lookup.putIfAbsent(baseEnum.getDescription(), baseEnum);
+                lookup.putIfAbsent(String.valueOf(baseEnum.getValue()), baseEnum);
+            }
+            return Map.copyOf(lookup);
+        }
+    };
+
+    private final Class<?> enumType;
+
+    /**
+     * 按字段类型转换（用于 {@code @ExcelProperty(converter = ...)}）
+     */
+    public ExcelBaseEnumConverter() {
+        this(null);
+    }
+
+    /**
+     * @param enumType 枚举类型（全局注册时按类型匹配）
+     */
+    public ExcelBaseEnumConverter(Class<?> enumType) {
+        this.enumType = enumType;
+    }
+
+    @Override
+    public Class<?> supportJavaTypeKey() {
+        return null == enumType ? BaseEnum.class : enumType;
+    }
+
+    @Override
+    public CellDataTypeEnum supportExcelTypeKey() {
+        return CellDataTypeEnum.STRING;
+    }
+
+    @Override
+    public BaseEnum<?> convertToJavaData(ReadConverterContext<?> context) {
+        String text = context.getReadCellData().getStringValue();
+        if (CharSequenceUtil.isBlank(text)) {
+            return null;
+        }
+        Class<?> type = null == enumType ? context.getContentProperty().getField().getType() : enumType;
+        BaseEnum<?> baseEnum = LOOKUP.get(type).get(text.trim());
+        if (null == baseEnum) {
+            throw new ExcelException("Unknown value '" + text + "' for " + type.getSimpleName() + ".");
+        }
+        return baseEnum;
+    }
+
+    @Override
+    public WriteCellData<?> convertToExcelData(WriteConverterContext<BaseEnum<?>> context) {
+        return new WriteCellData<>(context.getValue().getDescription());
+    }
+}
@@ -0,0 +1,123 @@
+package com.ppxb.latea.starter.excel.core;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.ppxb.latea.starter.excel.exception.ExcelException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 分批读取监听器
+ *
+ * <p>读满一批后交给线程池处理，同时处理中的批次数不超过并行度；消费跟不上时读取线程阻塞等待，
+ * 内存中最多保留（并行度 + 1）批数据。任一批次处理失败后停止读取。</p>
+ *
+ * @param <T> 行类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+class BatchReadListener<T> implements ReadListener<T> {
+
+    private final int batchSize;
+
+    private final int parallelism;
+
+    private final Executor executor;
+
+    private final Consumer<List<T>> consumer;
+
+    private final Semaphore permits;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private List<T> buffer;
+
+    private long rows;
+
+    BatchReadListener(int batchSize, int parallelism, Executor executor, Consumer<List<T>> consumer) {
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.consumer = consumer;
+        this.permits = new Semaphore(parallelism);
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        buffer.add(data);
+        if (buffer.size() >= batchSize) {
+            this.dispatch();
+        }
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        this.dispatch();
+    }
+
+    /**
+     * 等待全部批次处理完成
+     *
+     * @return 行数
+     * @throws ExcelException 存在处理失败的批次时
+     */
+    long await() {
+        permits.acquireUninterruptibly(parallelism);
+        permits.release(parallelism);
+        Throwable cause = failure.get();
+        if (null != cause) {
+            throw cause instanceof ExcelException excelException
+                ? excelException
+                : new ExcelException("Failed to consume excel rows.", cause);
+        }
+        return rows;
+    }
+
+    private void dispatch() {
+        this.checkFailure();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<T> batch = buffer;
+        buffer = new ArrayList<>(batchSize);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelException("Interrupted while waiting for excel consumers.", e);
+        }
+        // 等待期间其他批次可能已失败
+        if (null != failure.get()) {
+            permits.release();
+            this.checkFailure();
+        }
+        rows += batch.size();
+        try {
+            executor.execute(() -> {
+                try {
+                    consumer.accept(batch);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new ExcelException("Excel consumer executor rejected the batch.", e);
+        }
+    }
+
+    private void checkFailure() {
+        if (null != failure.get()) {
+            throw new ExcelException("Excel import stopped because a batch failed.", failure.get());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ppxb.latea.starter.excel.core;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Excel 导出数据源
+ *
+ * <p>按游标分批拉取数据，导出时同一时刻只持有一批数据。配合 CRUD 模块的游标分页：
+ * <blockquote><pre>
+ * (cursor, size) -&gt; {
+ *     KeysetQuery query = new KeysetQuery();
+ *     query.setCursor(cursor);
+ *     query.setSize(size);
+ *     KeysetResp&lt;User&gt; resp = userService.keyset(query);
+ *     return new ExcelDataSource.Batch&lt;&gt;(resp.getList(), resp.getNextCursor());
+ * }
+ * </pre></blockquote>
+ *
+ * @param <T> 行类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ExcelDataSource<T> {
+
+    /**
+     * 拉取一批数据
+     *
+     * @param cursor 游标（首批为 {@code null}，之后为上一批返回的游标）
+     * @param size   批大小
+     * @return 数据
+     */
+    Batch<T> fetch(String cursor, int size);
+
+    /**
+     * 按页码分页的数据源（返回条数小于页大小时结束）
+     *
+     * @param pageFetcher 分页查询（页码从 1 开始、页大小）
+     * @return 数据源
+     */
+    static <T> ExcelDataSource<T> paging(BiFunction<Integer, Integer, List<T>> pageFetcher) {
+        return (cursor, size) -> {
+            int page = null == cursor ? 1 : Integer.parseInt(cursor);
+            List<T> rows = pageFetcher.apply(page, size);
+            return new Batch<>(rows, rows.size() < size ? null : String.valueOf(page + 1));
+        };
+    }
+
+    /**
+     * 一批数据
+     *
+     * @param rows       数据
+     * @param nextCursor 下一批游标（没有下一批时为 {@code null}）
+     * @param <T>        行类型
+     */
+    record Batch<T>(List<T> rows, String nextCursor) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ppxb.latea.starter.excel.core;
+
+/**
+ * Excel 读写结果
+ *
+ * @param rows          行数
+ * @param elapsedMillis 耗时（毫秒）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record ExcelResult(long rows, long elapsedMillis) {
+
+    /**
+     * 每秒行数
+     */
+    public double rowsPerSecond() {
+        return 0 == elapsedMillis ? rows * 1000D : rows * 1000D / elapsedMillis;
+    }
+}
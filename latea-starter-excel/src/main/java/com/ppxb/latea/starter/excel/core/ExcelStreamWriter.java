@@ -0,0 +1,141 @@
+package com.ppxb.latea.starter.excel.core;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.metadata.WriteSheet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Excel 流式写入器
+ *
+ * <p>行数据先放入缓冲区，满一批后写入工作表并清空；工作表行数达到上限时自动切换到新工作表。
+ * 适合配合逐行回调的数据源（例如 {@code CrudService#export}）使用：
+ * <blockquote><pre>
+ * try (ExcelStreamWriter&lt;User&gt; writer = excelTemplate.openWriter(outputStream, User.class)) {
+ *     userService.export(writer::write);
+ * }
+ * </pre></blockquote>
+ *
+ * @param <T> 行类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ExcelStreamWriter<T> implements AutoCloseable {
+
+    private final ExcelWriter excelWriter;
+
+    private final String sheetName;
+
+    private final int batchSize;
+
+    private final long maxRowsPerSheet;
+
+    private final List<T> buffer;
+
+    private final long startNanos = System.nanoTime();
+
+    private WriteSheet sheet;
+
+    private int sheetCount;
+
+    private long sheetRows;
+
+    private long rows;
+
+    private ExcelResult result;
+
+    ExcelStreamWriter(ExcelWriter excelWriter, String sheetName, int batchSize, long maxRowsPerSheet) {
+        this.excelWriter = excelWriter;
+        this.sheetName = sheetName;
+        this.batchSize = batchSize;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * 写入一行
+     *
+     * @param row 行数据
+     */
+    public void write(T row) {
+        buffer.add(row);
+        if (buffer.size() >= batchSize) {
+            this.flush();
+        }
+    }
+
+    /**
+     * 写入多行
+     *
+     * @param rows 行数据
+     */
+    public void write(Collection<? extends T> rows) {
+        buffer.addAll(rows);
+        if (buffer.size() >= batchSize) {
+            this.flush();
+        }
+    }
+
+    /**
+     * 把缓冲区中的数据写入工作表
+     */
+    public void flush() {
+        int from = 0;
+        while (from < buffer.size()) {
+            if (null == sheet || sheetRows >= maxRowsPerSheet) {
+                this.nextSheet();
+            }
+            int to = (int)Math.min(buffer.size(), from + maxRowsPerSheet - sheetRows);
+            excelWriter.write(buffer.subList(from, to), sheet);
+            sheetRows += to - from;
+            rows += to - from;
+            from = to;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 已写入行数（不含缓冲区中的数据）
+     *
+     * @return 行数
+     */
+    public long getRowCount() {
+        return rows;
+    }
+
+    /**
+     * 完成写入
+     *
+     * @return 写入结果
+     */
+    public ExcelResult finish() {
+        if (null == result) {
+            this.flush();
+            if (null == sheet) {
+                // 没有数据时仍输出表头
+                this.nextSheet();
+                excelWriter.write(Collections.emptyList(), sheet);
+            }
+            excelWriter.finish();
+            result = new ExcelResult(rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        this.finish();
+    }
+
+    private void nextSheet() {
+        sheet = EasyExcel.writerSheet(sheetCount, 0 == sheetCount ? sheetName : sheetName + (sheetCount + 1))
+            .build();
+        sheetCount++;
+        sheetRows = 0;
+    }
+}
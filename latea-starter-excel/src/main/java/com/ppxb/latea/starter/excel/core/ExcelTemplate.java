@@ -0,0 +1,155 @@
+package com.ppxb.latea.starter.excel.core;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.read.builder.ExcelReaderBuilder;
+import com.alibaba.excel.write.builder.ExcelWriterBuilder;
+import com.ppxb.latea.starter.core.enums.BaseEnum;
+import com.ppxb.latea.starter.excel.converter.ExcelBaseEnumConverter;
+import com.ppxb.latea.starter.excel.exception.ExcelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Excel 模板
+ *
+ * <p>导出时按批拉取、按批写入，不在内存中持有全部数据（EasyExcel 写 xlsx 时已写出的行会落到临时文件）；
+ * 导入时按批交给线程池并行处理，消费跟不上时暂停读取。表头类中的 {@link BaseEnum} 字段自动注册枚举转换器。</p>
+ *
+ * <p>导出到响应：
+ * <blockquote><pre>
+ * excelTemplate.export(ExcelUtils.prepareResponse(response, "用户"), UserExcel.class, dataSource);
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ExcelTemplate {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelTemplate.class);
+
+    private static final String DEFAULT_SHEET_NAME = "Sheet";
+
+    private static final ClassValue<List<Converter<?>>> ENUM_CONVERTERS = new ClassValue<>() {
+        @Override
+        protected List<Converter<?>> computeValue(Class<?> type) {
+            Set<Class<?>> enumTypes = new LinkedHashSet<>();
+            for (Class<?> current = type; null != current && Object.class != current; current = current
+                .getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.getType().isEnum() && BaseEnum.class.isAssignableFrom(field.getType())) {
+                        enumTypes.add(field.getType());
+                    }
+                }
+            }
+            List<Converter<?>> converters = new ArrayList<>(enumTypes.size());
+            enumTypes.forEach(enumType -> converters.add(new ExcelBaseEnumConverter(enumType)));
+            return List.copyOf(converters);
+        }
+    };
+
+    private final int batchSize;
+
+    private final int parallelism;
+
+    private final long maxRowsPerSheet;
+
+    private final Executor executor;
+
+    /**
+     * @param batchSize       批大小
+     * @param parallelism     导入并行度（同时处理中的批次数）
+     * @param maxRowsPerSheet 每个工作表的最大行数
+     * @param executor        导入批次处理线程池
+     */
+    public ExcelTemplate(int batchSize, int parallelism, long maxRowsPerSheet, Executor executor) {
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.executor = executor;
+    }
+
+    /**
+     * 打开流式写入器
+     *
+     * @param outputStream 输出流（完成写入时不会被关闭）
+     * @param head         表头类
+     * @return 写入器
+     */
+    public <T> ExcelStreamWriter<T> openWriter(OutputStream outputStream, Class<T> head) {
+        ExcelWriterBuilder builder = EasyExcel.write(outputStream, head).autoCloseStream(false);
+        ENUM_CONVERTERS.get(head).forEach(builder::registerConverter);
+        ExcelWriter excelWriter = builder.build();
+        return new ExcelStreamWriter<>(excelWriter, DEFAULT_SHEET_NAME, batchSize, maxRowsPerSheet);
+    }
+
+    /**
+     * 导出
+     *
+     * @param outputStream 输出流（完成写入时不会被关闭）
+     * @param head         表头类
+     * @param dataSource   数据源
+     * @return 导出结果
+     */
+    public <T> ExcelResult export(OutputStream outputStream, Class<T> head, ExcelDataSource<T> dataSource) {
+        ExcelResult result;
+        try (ExcelStreamWriter<T> writer = this.openWriter(outputStream, head)) {
+            String cursor = null;
+            do {
+                ExcelDataSource.Batch<T> batch = dataSource.fetch(cursor, batchSize);
+                if (null == batch || null == batch.rows() || batch.rows().isEmpty()) {
+                    break;
+                }
+                writer.write(batch.rows());
+                cursor = batch.nextCursor();
+            } while (null != cursor);
+            result = writer.finish();
+        }
+        log.info("Excel export [{}] completed: {} rows in {} ms ({} rows/s).", head.getSimpleName(), result
+            .rows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 导入（读取全部工作表）
+     *
+     * <p>批次在线程池中并行处理，不保证处理顺序；任一批次处理失败后停止读取并抛出异常。</p>
+     *
+     * @param inputStream 输入流（不会被关闭）
+     * @param head        表头类
+     * @param consumer    批次处理（例如批量入库）
+     * @return 导入结果
+     */
+    public <T> ExcelResult read(InputStream inputStream, Class<T> head, Consumer<List<T>> consumer) {
+        long startNanos = System.nanoTime();
+        BatchReadListener<T> listener = new BatchReadListener<>(batchSize, parallelism, executor, consumer);
+        ExcelReaderBuilder builder = EasyExcel.read(inputStream, head, listener).autoCloseStream(false);
+        ENUM_CONVERTERS.get(head).forEach(builder::registerConverter);
+        try {
+            builder.doReadAll();
+        } catch (RuntimeException e) {
+            // 优先抛出批次处理失败的原因
+            listener.await();
+            throw e instanceof ExcelException excelException
+                ? excelException
+                : new ExcelException("Failed to read excel.", e);
+        }
+        long rows = listener.await();
+        ExcelResult result = new ExcelResult(rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        log.info("Excel import [{}] completed: {} rows in {} ms ({} rows/s).", head.getSimpleName(), result
+            .rows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.excel.exception;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * Excel 异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ExcelException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ExcelException() {
+    }
+
+    public ExcelException(String message) {
+        super(message);
+    }
+
+    public ExcelException(Throwable cause) {
+        super(cause);
+    }
+
+    public ExcelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ppxb.latea.starter.excel.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Excel 工具类
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ExcelUtils {
+
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final String FILE_SUFFIX = ".xlsx";
+
+    private ExcelUtils() {
+    }
+
+    /**
+     * 设置下载响应头并返回响应输出流
+     *
+     * @param response 响应
+     * @param fileName 文件名（不含扩展名）
+     * @return 响应输出流
+     * @throws IOException 获取输出流失败
+     */
+    public static OutputStream prepareResponse(HttpServletResponse response, String fileName) throws IOException {
+        String encodedName = URLEncoder.encode(fileName + FILE_SUFFIX, StandardCharsets.UTF_8).replace("+", "%20");
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encodedName);
+        return response.getOutputStream();
+    }
+}
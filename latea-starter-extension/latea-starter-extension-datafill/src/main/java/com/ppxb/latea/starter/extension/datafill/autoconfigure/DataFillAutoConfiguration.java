@@ -0,0 +1,132 @@
+package com.ppxb.latea.starter.extension.datafill.autoconfigure;
+
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.extension.datafill.core.BaseEnumContainerProvider;
+import com.ppxb.latea.starter.extension.datafill.core.CaffeineCacheManager;
+import com.ppxb.latea.starter.extension.datafill.core.ContainerCacheProcessor;
+import com.ppxb.latea.starter.extension.datafill.core.RequestScopedContainerProcessor;
+import com.ppxb.latea.starter.extension.datafill.web.DataFillScopeFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 数据填充自动配置
+ *
+ * <p>基于 Crane4j：一次填充中同一容器的键会先在整个返回值（含嵌套对象）中收集，再合并为一次批量查询。
+ * 查询方法应按 ID 集合批量查询，例如：
+ * <blockquote><pre>
+ * &#64;ContainerMethod(namespace = "user", resultType = UserDO.class, resultKey = "id")
+ * List&lt;UserDO&gt; listByIds(Collection&lt;Long&gt; ids);
+ * </pre></blockquote>
+ *
+ * <p>在此之上提供：
+ * <ul>
+ * <li>按命名空间配置的过期缓存，缓存命中的键不再查询；</li>
+ * <li>请求级缓存，同一请求内多次填充不重复查询同一个键；</li>
+ * <li>{@link BaseEnumContainerProvider}，以枚举类名作为命名空间直接翻译 {@code BaseEnum} 描述。</li>
+ * </ul>
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   data-fill:
+ *     cache:
+ *       ttl:
+ *         user: 5m
+ *         dept: 30m
+ *       maximum-size: 10000
+ *     request-cache:
+ *       exclude-namespaces: online-user
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = Crane4jAutoConfiguration.class)
+@EnableConfigurationProperties(DataFillProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.DATA_FILL, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class DataFillAutoConfiguration implements BeanClassLoaderAware {
+
+    private static final Logger log = LoggerFactory.getLogger(DataFillAutoConfiguration.class);
+
+    private ClassLoader classLoader;
+
+    /**
+     * 容器缓存管理器
+     */
+    @Bean(CaffeineCacheManager.NAME)
+    @ConditionalOnMissingBean
+    public CaffeineCacheManager lateaCaffeineCacheManager(DataFillProperties properties) {
+        return new CaffeineCacheManager(properties.getCache().getMaximumSize());
+    }
+
+    /**
+     * 容器缓存处理器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ContainerCacheProcessor containerCacheProcessor(Crane4jGlobalConfiguration configuration,
+                                                           DataFillProperties properties) {
+        return new ContainerCacheProcessor(configuration, properties.getCache().getTtl());
+    }
+
+    /**
+     * 枚举容器提供者
+     */
+    @Bean(BaseEnumContainerProvider.NAME)
+    @ConditionalOnMissingBean
+    public BaseEnumContainerProvider baseEnumContainerProvider() {
+        return new BaseEnumContainerProvider(classLoader);
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 请求级缓存配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = PropertiesConstants.DATA_FILL + ".request-cache", name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+    public static class RequestCacheConfiguration {
+
+        /**
+         * 请求级缓存容器处理器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RequestScopedContainerProcessor requestScopedContainerProcessor(DataFillProperties properties) {
+            return new RequestScopedContainerProcessor(properties.getRequestCache().getExcludeNamespaces());
+        }
+
+        /**
+         * 数据填充范围过滤器
+         */
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public FilterRegistrationBean<DataFillScopeFilter> dataFillScopeFilter() {
+            FilterRegistrationBean<DataFillScopeFilter> registrationBean = new FilterRegistrationBean<>(new DataFillScopeFilter());
+            registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+            return registrationBean;
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Data Fill' completed initialization.");
+    }
+}
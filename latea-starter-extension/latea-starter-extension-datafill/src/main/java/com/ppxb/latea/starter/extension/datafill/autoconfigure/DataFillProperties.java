@@ -0,0 +1,123 @@
+package com.ppxb.latea.starter.extension.datafill.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 数据填充配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.DATA_FILL)
+public class DataFillProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 容器缓存配置
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 请求级缓存配置
+     */
+    private RequestCache requestCache = new RequestCache();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public RequestCache getRequestCache() {
+        return requestCache;
+    }
+
+    public void setRequestCache(RequestCache requestCache) {
+        this.requestCache = requestCache;
+    }
+
+    /**
+     * 容器缓存配置属性
+     */
+    public static class Cache {
+
+        /**
+         * 容器命名空间与缓存过期时间（未配置的容器不缓存）
+         */
+        private Map<String, Duration> ttl = new LinkedHashMap<>();
+
+        /**
+         * 每个容器缓存的最大条目数
+         */
+        private long maximumSize = 10000;
+
+        public Map<String, Duration> getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Map<String, Duration> ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    /**
+     * 请求级缓存配置属性
+     */
+    public static class RequestCache {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+
+        /**
+         * 不启用请求级缓存的容器命名空间
+         */
+        private Set<String> excludeNamespaces = new HashSet<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Set<String> getExcludeNamespaces() {
+            return excludeNamespaces;
+        }
+
+        public void setExcludeNamespaces(Set<String> excludeNamespaces) {
+            this.excludeNamespaces = excludeNamespaces;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.container.LimitedContainer;
+import com.ppxb.latea.starter.core.enums.BaseEnum;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 枚举容器
+ *
+ * <p>创建时通过 {@link BaseEnum} 接口读取一次枚举值与描述，之后每行只做一次哈希查找，不做反射。
+ * 枚举常量、枚举值及其字符串形式都可以作为键，值为枚举描述。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BaseEnumContainer implements LimitedContainer<Object> {
+
+    private final String namespace;
+
+    private final Map<Object, String> descriptions;
+
+    /**
+     * @param namespace 命名空间
+     * @param enumType  枚举类型
+     */
+    public BaseEnumContainer(String namespace, Class<? extends BaseEnum<?>> enumType) {
+        this.namespace = namespace;
+        BaseEnum<?>[] constants = enumType.getEnumConstants();
+        Map<Object, String> map = new HashMap<>(constants.length * 4);
+        for (BaseEnum<?> constant : constants) {
+            map.put(constant, constant.getDescription());
+            map.putIfAbsent(constant.getValue(), constant.getDescription());
+            map.putIfAbsent(String.valueOf(constant.getValue()), constant.getDescription());
+        }
+        this.descriptions = Map.copyOf(map);
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public Map<Object, ?> get(Collection<Object> keys) {
+        Map<Object, String> result = new HashMap<>(keys.size() * 2);
+        for (Object key : keys) {
+            String description = null == key ? null : descriptions.get(key);
+            if (null != description) {
+                result.put(key, description);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Object, ?> getAll() {
+        return descriptions;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerProvider;
+import com.ppxb.latea.starter.core.enums.BaseEnum;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 枚举容器提供者
+ *
+ * <p>以 {@link BaseEnum} 枚举的全限定类名作为命名空间，首次使用时创建 {@link BaseEnumContainer} 并缓存，无需预先注册：
+ * <blockquote><pre>
+ * &#64;Assemble(container = "com.example.enums.GenderEnum", containerProvider = BaseEnumContainerProvider.NAME, props = &#64;Mapping(ref = "genderName"))
+ * private Integer gender;
+ *
+ * private String genderName;
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BaseEnumContainerProvider implements ContainerProvider {
+
+    /**
+     * 容器提供者名称
+     */
+    public static final String NAME = "baseEnumContainerProvider";
+
+    private final Map<String, BaseEnumContainer> containers = new ConcurrentHashMap<>();
+
+    private final ClassLoader classLoader;
+
+    public BaseEnumContainerProvider(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K> Container<K> getContainer(String namespace) {
+        return (Container<K>)containers.computeIfAbsent(namespace, this::createContainer);
+    }
+
+    @Override
+    public boolean containsContainer(String namespace) {
+        return containers.containsKey(namespace) || null != this.resolveEnumType(namespace);
+    }
+
+    private BaseEnumContainer createContainer(String namespace) {
+        Class<? extends BaseEnum<?>> enumType = this.resolveEnumType(namespace);
+        if (null == enumType) {
+            throw new BaseException("Namespace [" + namespace + "] is not a BaseEnum enum type.");
+        }
+        return new BaseEnumContainer(namespace, enumType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends BaseEnum<?>> resolveEnumType(String namespace) {
+        if (!ClassUtils.isPresent(namespace, classLoader)) {
+            return null;
+        }
+        Class<?> type = ClassUtils.resolveClassName(namespace, classLoader);
+        return type.isEnum() && BaseEnum.class.isAssignableFrom(type) ? (Class<? extends BaseEnum<?>>)type : null;
+    }
+}
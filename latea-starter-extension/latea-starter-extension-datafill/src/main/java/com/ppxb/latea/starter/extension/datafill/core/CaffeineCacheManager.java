@@ -0,0 +1,101 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.cache.AbstractCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Caffeine 的容器缓存管理器
+ *
+ * <p>每个容器一个缓存实例，按写入时间过期并限制最大条目数。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CaffeineCacheManager extends AbstractCacheManager {
+
+    /**
+     * 缓存管理器名称
+     */
+    public static final String NAME = "LateaCaffeineCacheManager";
+
+    private final long maximumSize;
+
+    /**
+     * @param maximumSize 每个容器缓存的最大条目数
+     */
+    public CaffeineCacheManager(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    protected <K> CaffeineCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize);
+        if (null != expireTime && expireTime > 0) {
+            builder.expireAfterWrite(expireTime, null == timeUnit ? TimeUnit.MILLISECONDS : timeUnit);
+        }
+        return new CaffeineCacheObject<>(name, builder.build());
+    }
+
+    /**
+     * Caffeine 缓存对象
+     *
+     * @param <K> 键类型
+     */
+    protected static class CaffeineCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final Cache<K, Object> cache;
+
+        protected CaffeineCacheObject(String name, Cache<K, Object> cache) {
+            super(name);
+            this.cache = cache;
+        }
+
+        @Override
+        public Object get(K key) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public Map<K, Object> getAll(Iterable<K> keys) {
+            return cache.getAllPresent(keys);
+        }
+
+        @Override
+        public void put(K key, Object value) {
+            if (null != value) {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            if (null != value) {
+                cache.asMap().putIfAbsent(key, value);
+            }
+        }
+
+        @Override
+        public void remove(K key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            cache.invalidateAll(keys);
+        }
+
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.cache.CacheDefinition;
+import cn.crane4j.core.cache.CacheableContainerProcessor;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 容器缓存处理器
+ *
+ * <p>按命名空间为容器配置过期缓存（使用 {@link CaffeineCacheManager}），缓存命中的键不再查询，
+ * 只有未命中的键合并为一次批量查询。适合用户、部门、字典等变化不频繁的数据。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ContainerCacheProcessor extends CacheableContainerProcessor {
+
+    /**
+     * @param configuration 全局配置
+     * @param ttl           容器命名空间与缓存过期时间
+     */
+    public ContainerCacheProcessor(Crane4jGlobalConfiguration configuration, Map<String, Duration> ttl) {
+        super(configuration);
+        Map<String, Duration> definitions = Map.copyOf(ttl);
+        this.setCacheDefinitionRetriever((definition, container) -> {
+            Duration duration = definitions.get(container.getNamespace());
+            return null == duration
+                ? null
+                : new CacheDefinition.Impl(container.getNamespace(), CaffeineCacheManager.NAME, duration
+                    .toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * {@code @ContainerCache} 注解由 Crane4j 自带的处理器处理，这里只处理配置的命名空间，避免重复包装
+     */
+    @Override
+    protected CacheDefinition getCacheDefinitionFromContainer(Container<Object> container) {
+        return null;
+    }
+}
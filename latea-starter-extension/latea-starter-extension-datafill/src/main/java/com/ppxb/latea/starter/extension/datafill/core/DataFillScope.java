@@ -0,0 +1,83 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据填充范围
+ *
+ * <p>范围内 {@link RequestScopedContainer} 会记住已查询过的键，同一请求中多次填充（例如列表与详情、多个 {@code @AutoOperate} 方法）
+ * 不再重复查询。Web 请求由过滤器自动进入范围，其他场景（定时任务、消息消费等）可手动使用，嵌套时只有最外层生效：
+ * <blockquote><pre>
+ * try (DataFillScope.Handle ignored = DataFillScope.open()) {
+ *     // 数据填充逻辑
+ * }
+ * </pre></blockquote>
+ *
+ * <p>范围内的缓存只对当前线程可见，异步执行器的工作线程不会命中，直接查询容器。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class DataFillScope {
+
+    private static final ThreadLocal<Map<String, Map<Object, Object>>> CACHE = new ThreadLocal<>();
+
+    private static final Handle NOOP = new Handle(false);
+
+    private DataFillScope() {
+    }
+
+    /**
+     * 进入数据填充范围
+     *
+     * @return 范围句柄
+     */
+    public static Handle open() {
+        if (null != CACHE.get()) {
+            return NOOP;
+        }
+        CACHE.set(new HashMap<>());
+        return new Handle(true);
+    }
+
+    /**
+     * 是否在数据填充范围内
+     *
+     * @return 是否在范围内
+     */
+    public static boolean isActive() {
+        return null != CACHE.get();
+    }
+
+    /**
+     * 获取容器在当前范围内的缓存
+     *
+     * @param namespace 容器命名空间
+     * @return 缓存（不在范围内时为 {@code null}）
+     */
+    static Map<Object, Object> cache(String namespace) {
+        Map<String, Map<Object, Object>> caches = CACHE.get();
+        return null == caches ? null : caches.computeIfAbsent(namespace, key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 范围句柄
+     */
+    public static final class Handle implements AutoCloseable {
+
+        private final boolean owner;
+
+        private Handle(boolean owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void close() {
+            if (owner) {
+                CACHE.remove();
+            }
+        }
+    }
+}
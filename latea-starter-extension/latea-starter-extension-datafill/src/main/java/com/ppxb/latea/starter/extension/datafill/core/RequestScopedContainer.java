@@ -0,0 +1,73 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 请求级缓存容器
+ *
+ * <p>在 {@link DataFillScope} 内，已查询过的键直接从范围缓存返回，只有未命中的键合并为一次批量查询交给被装饰的容器；
+ * 查询后仍不存在的键也会记录下来，避免同一请求内反复查询无效 ID。不在范围内时直接委托。</p>
+ *
+ * @param <K> 键类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RequestScopedContainer<K> implements ContainerDelegate<K> {
+
+    private static final Object ABSENT = new Object();
+
+    private final Container<K> container;
+
+    public RequestScopedContainer(Container<K> container) {
+        this.container = container;
+    }
+
+    @Override
+    public Container<K> getContainer() {
+        return container;
+    }
+
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        Map<Object, Object> cache = DataFillScope.cache(container.getNamespace());
+        if (null == cache) {
+            return container.get(keys);
+        }
+        Map<K, Object> result = new HashMap<>(keys.size() * 2);
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            if (null == key) {
+                continue;
+            }
+            Object value = cache.get(key);
+            if (null == value) {
+                misses.add(key);
+            } else if (ABSENT != value) {
+                result.put(key, value);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+        Map<K, ?> loaded = container.get(misses);
+        if (null != loaded) {
+            loaded.forEach((key, value) -> {
+                if (null != key && null != value) {
+                    cache.put(key, value);
+                    result.put(key, value);
+                }
+            });
+        }
+        for (K key : misses) {
+            cache.putIfAbsent(key, ABSENT);
+        }
+        return result;
+    }
+}
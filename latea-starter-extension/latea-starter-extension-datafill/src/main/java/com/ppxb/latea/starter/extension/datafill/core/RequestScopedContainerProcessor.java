@@ -0,0 +1,37 @@
+package com.ppxb.latea.starter.extension.datafill.core;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.container.LimitedContainer;
+import cn.crane4j.core.container.lifecycle.ContainerLifecycleProcessor;
+
+import java.util.Set;
+
+/**
+ * 请求级缓存容器处理器
+ *
+ * <p>容器创建时包装为 {@link RequestScopedContainer}。枚举、常量等数据已在内存中的容器（{@link LimitedContainer}）不做包装。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RequestScopedContainerProcessor implements ContainerLifecycleProcessor {
+
+    private final Set<String> excludeNamespaces;
+
+    /**
+     * @param excludeNamespaces 不启用请求级缓存的容器命名空间
+     */
+    public RequestScopedContainerProcessor(Set<String> excludeNamespaces) {
+        this.excludeNamespaces = Set.copyOf(excludeNamespaces);
+    }
+
+    @Override
+    public Container<Object> whenCreated(ContainerDefinition definition, Container<Object> container) {
+        if (null == container || container instanceof LimitedContainer || container instanceof RequestScopedContainer || Container.EMPTY_CONTAINER_NAMESPACE
+            .equals(container.getNamespace()) || excludeNamespaces.contains(container.getNamespace())) {
+            return container;
+        }
+        return new RequestScopedContainer<>(container);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.extension.datafill.web;
+
+import com.ppxb.latea.starter.extension.datafill.core.DataFillScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 数据填充范围过滤器
+ *
+ * <p>每个请求进入一次 {@link DataFillScope}，请求结束后清除请求级缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataFillScopeFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (DataFillScope.Handle ignored = DataFillScope.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
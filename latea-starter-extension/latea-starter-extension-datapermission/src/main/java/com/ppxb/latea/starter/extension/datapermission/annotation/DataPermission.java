@@ -0,0 +1,38 @@
+package com.ppxb.latea.starter.extension.datapermission.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 数据权限注解
+ *
+ * <p>标注在 Mapper 接口（对其全部查询方法生效）或 Mapper 方法上，方法上的注解优先。</p>
+ *
+ * <p>使用示例：
+ * <blockquote><pre>
+ * &#64;DataPermission(tableAlias = "t")
+ * List&lt;UserResp&gt; selectUserList(&#64;Param("query") UserQuery query);
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataPermission {
+
+    /**
+     * 表别名（为空时不限定列所属的表）
+     */
+    String tableAlias() default "";
+
+    /**
+     * 部门 ID 列名
+     */
+    String deptId() default "dept_id";
+
+    /**
+     * 创建人 ID 列名
+     */
+    String userId() default "create_user";
+}
@@ -0,0 +1,83 @@
+package com.ppxb.latea.starter.extension.datapermission.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.crud.mp.autoconfigure.CrudAutoConfiguration;
+import com.ppxb.latea.starter.extension.datapermission.core.*;
+import com.ppxb.latea.starter.extension.datapermission.interceptor.DataPermissionInnerInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 数据权限自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   data-permission:
+ *     cache-size: 2048
+ *     dept-and-child-sql: SELECT id FROM sys_dept WHERE id = #{deptId} OR find_in_set(#{deptId}, ancestors) &gt; 0
+ *     custom-sql: SELECT dept_id FROM sys_role_dept WHERE role_id IN (#{roleIds})
+ * </pre></blockquote>
+ *
+ * <p>需要提供 {@link DataPermissionUserContextProvider} 实现；未提供时拦截器仍会注册，执行标注了数据权限的查询将直接失败，而不是返回未过滤的数据。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(before = CrudAutoConfiguration.class)
+@EnableConfigurationProperties(DataPermissionProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.DATA_PERMISSION, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class DataPermissionAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(DataPermissionAutoConfiguration.class);
+
+    /**
+     * 改写模板缓存
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlTemplateCache dataPermissionSqlTemplateCache(DataPermissionProperties properties) {
+        return new SqlTemplateCache(properties.getCacheSize());
+    }
+
+    /**
+     * 数据权限拦截器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DataPermissionInnerInterceptor dataPermissionInnerInterceptor(ObjectProvider<DataPermissionUserContextProvider> userContextProvider,
+                                                                         DataPermissionProperties properties,
+                                                                         SqlTemplateCache dataPermissionSqlTemplateCache) {
+        return new DataPermissionInnerInterceptor(userContextProvider.getIfAvailable(), new DataPermissionResolver(), new DataPermissionConditionBuilder(properties
+            .getDeptAndChildSql(), properties.getCustomSql()), new DataPermissionSqlRewriter(), dataPermissionSqlTemplateCache);
+    }
+
+    /**
+     * 数据权限指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class DataPermissionMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public DataPermissionMeterBinder dataPermissionMeterBinder(SqlTemplateCache dataPermissionSqlTemplateCache) {
+            return new DataPermissionMeterBinder(dataPermissionSqlTemplateCache);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Data Permission' completed initialization.");
+    }
+}
@@ -0,0 +1,66 @@
+package com.ppxb.latea.starter.extension.datapermission.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 数据权限配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.DATA_PERMISSION)
+public class DataPermissionProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 改写模板缓存的最大容量
+     */
+    private int cacheSize = 2048;
+
+    /**
+     * 本部门及以下子查询（查询部门 ID，支持变量 {@code #{deptId}}）
+     */
+    private String deptAndChildSql = "SELECT id FROM sys_dept WHERE id = #{deptId} OR find_in_set(#{deptId}, ancestors) > 0";
+
+    /**
+     * 自定义数据子查询（查询部门 ID，支持变量 {@code #{roleIds}}）
+     */
+    private String customSql = "SELECT dept_id FROM sys_role_dept WHERE role_id IN (#{roleIds})";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public String getDeptAndChildSql() {
+        return deptAndChildSql;
+    }
+
+    public void setDeptAndChildSql(String deptAndChildSql) {
+        this.deptAndChildSql = deptAndChildSql;
+    }
+
+    public String getCustomSql() {
+        return customSql;
+    }
+
+    public void setCustomSql(String customSql) {
+        this.customSql = customSql;
+    }
+}
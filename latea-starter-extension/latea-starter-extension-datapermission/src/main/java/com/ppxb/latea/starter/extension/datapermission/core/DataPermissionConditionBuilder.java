@@ -0,0 +1,145 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.datapermission.annotation.DataPermission;
+import com.ppxb.latea.starter.extension.datapermission.enums.DataScope;
+import com.ppxb.latea.starter.extension.datapermission.model.RoleContext;
+import com.ppxb.latea.starter.extension.datapermission.model.UserContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 数据权限条件构建器
+ *
+ * <p>{@link #buildSql} 生成带参数标记的条件（仅在改写模板缓存未命中时调用），{@link #buildValues} 按相同顺序生成参数值（每次执行调用）。
+ * 各范围之间为“或”关系。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionConditionBuilder {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("#\\{(deptId|roleIds)}");
+
+    private static final String DEPT_ID = "deptId";
+
+    /**
+     * 本部门及以下子查询（偶数下标为 SQL 片段，奇数下标为变量名）
+     */
+    private final List<String> deptAndChildSql;
+
+    /**
+     * 自定义数据子查询（偶数下标为 SQL 片段，奇数下标为变量名）
+     */
+    private final List<String> customSql;
+
+    /**
+     * @param deptAndChildSql 本部门及以下子查询（支持变量 {@code #{deptId}}）
+     * @param customSql       自定义数据子查询（支持变量 {@code #{roleIds}}）
+     */
+    public DataPermissionConditionBuilder(String deptAndChildSql, String customSql) {
+        this.deptAndChildSql = split(deptAndChildSql);
+        this.customSql = split(customSql);
+    }
+
+    /**
+     * 构建条件 SQL
+     *
+     * @param dataPermission 数据权限注解
+     * @param scope          权限范围
+     * @return 条件 SQL（参数位置为 {@link DataPermissionSqlRewriter#marker(int)}）
+     */
+    public String buildSql(DataPermission dataPermission, PermissionScope scope) {
+        String alias = dataPermission.tableAlias();
+        String qualifier = alias.isBlank() ? "" : alias + ".";
+        String deptColumn = qualifier + dataPermission.deptId();
+        List<String> conditions = new ArrayList<>(4);
+        int[] index = {0};
+        if (scope.contains(DataScope.DEPT_AND_CHILD)) {
+            conditions.add(deptColumn + " IN (" + this.render(deptAndChildSql, scope, index) + ")");
+        }
+        if (scope.contains(DataScope.DEPT)) {
+            conditions.add(deptColumn + " = " + DataPermissionSqlRewriter.marker(index[0]++));
+        }
+        if (scope.contains(DataScope.SELF)) {
+            conditions.add(qualifier + dataPermission.userId() + " = " + DataPermissionSqlRewriter.marker(index[0]++));
+        }
+        if (scope.contains(DataScope.CUSTOM)) {
+            conditions.add(deptColumn + " IN (" + this.render(customSql, scope, index) + ")");
+        }
+        // 没有任何角色时不返回数据
+        return conditions.isEmpty() ? "1 = 0" : String.join(" OR ", conditions);
+    }
+
+    /**
+     * 构建参数值
+     *
+     * @param scope       权限范围
+     * @param userContext 用户上下文
+     * @return 参数值（与 {@link #buildSql} 生成的参数标记一一对应）
+     */
+    public List<Object> buildValues(PermissionScope scope, UserContext userContext) {
+        List<Object> values = new ArrayList<>();
+        if (scope.contains(DataScope.DEPT_AND_CHILD)) {
+            this.collect(deptAndChildSql, userContext, values);
+        }
+        if (scope.contains(DataScope.DEPT)) {
+            values.add(userContext.deptId());
+        }
+        if (scope.contains(DataScope.SELF)) {
+            values.add(userContext.userId());
+        }
+        if (scope.contains(DataScope.CUSTOM)) {
+            this.collect(customSql, userContext, values);
+        }
+        return values;
+    }
+
+    private String render(List<String> parts, PermissionScope scope, int[] index) {
+        StringBuilder sql = new StringBuilder(parts.getFirst());
+        for (int i = 1; i < parts.size(); i += 2) {
+            int count = DEPT_ID.equals(parts.get(i)) ? 1 : scope.customRoleCount();
+            for (int j = 0; j < count; j++) {
+                if (j > 0) {
+                    sql.append(", ");
+                }
+                sql.append(DataPermissionSqlRewriter.marker(index[0]++));
+            }
+            sql.append(parts.get(i + 1));
+        }
+        return sql.toString();
+    }
+
+    private void collect(List<String> parts, UserContext userContext, List<Object> values) {
+        for (int i = 1; i < parts.size(); i += 2) {
+            if (DEPT_ID.equals(parts.get(i))) {
+                values.add(userContext.deptId());
+                continue;
+            }
+            for (RoleContext role : userContext.roles()) {
+                if (DataScope.CUSTOM == role.dataScope()) {
+                    values.add(role.roleId());
+                }
+            }
+        }
+    }
+
+    private static List<String> split(String template) {
+        if (null == template || template.isBlank()) {
+            throw new BaseException("Data permission subquery must not be blank.");
+        }
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = VARIABLE_PATTERN.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            parts.add(template.substring(start, matcher.start()));
+            parts.add(matcher.group(1));
+            start = matcher.end();
+        }
+        parts.add(template.substring(start));
+        return List.copyOf(parts);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 数据权限指标绑定器（Micrometer）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.data-permission";
+
+    private final SqlTemplateCache cache;
+
+    public DataPermissionMeterBinder(SqlTemplateCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        DataPermissionMetrics metrics = cache.getMetrics();
+        FunctionCounter.builder(PREFIX + ".cache.hits", metrics, DataPermissionMetrics::getHitCount)
+            .description("改写模板缓存命中次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".cache.misses", metrics, DataPermissionMetrics::getMissCount)
+            .description("改写模板缓存未命中次数")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".cache.hit-ratio", metrics, DataPermissionMetrics::getHitRatio)
+            .description("改写模板缓存命中率")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".cache.size", cache, SqlTemplateCache::size)
+            .description("改写模板缓存数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".rewrite.time", metrics, DataPermissionMetrics::getRewriteTimeMillis)
+            .description("解析、改写 SQL 的总耗时")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+}
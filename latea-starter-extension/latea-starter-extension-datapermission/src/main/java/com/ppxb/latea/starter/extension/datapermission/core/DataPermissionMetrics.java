@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 数据权限指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionMetrics {
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder rewriteNanos = new LongAdder();
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss(long nanos) {
+        missCount.increment();
+        rewriteNanos.add(nanos);
+    }
+
+    /**
+     * 改写模板缓存命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 改写模板缓存未命中次数（即解析、改写 SQL 的次数）
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 改写模板缓存命中率
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return 0 == total ? 1 : (double)hits / total;
+    }
+
+    /**
+     * 解析、改写 SQL 的总耗时（毫秒）
+     */
+    public double getRewriteTimeMillis() {
+        return rewriteNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import com.ppxb.latea.starter.extension.datapermission.annotation.DataPermission;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据权限注解解析器
+ *
+ * <p>按语句 ID（{@code Mapper 全类名.方法名}）查找注解，结果按语句 ID 缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionResolver {
+
+    private final Map<String, Optional<DataPermission>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 获取语句的数据权限注解
+     *
+     * @param statementId 语句 ID
+     * @return 数据权限注解（未标注时返回 {@code null}）
+     */
+    public DataPermission resolve(String statementId) {
+        return cache.computeIfAbsent(statementId, this::find).orElse(null);
+    }
+
+    private Optional<DataPermission> find(String statementId) {
+        int index = statementId.lastIndexOf('.');
+        if (index < 0) {
+            return Optional.empty();
+        }
+        Class<?> mapperClass;
+        try {
+            mapperClass = ClassUtils.forName(statementId.substring(0, index), ClassUtils.getDefaultClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            // 仅有 XML 的命名空间
+            return Optional.empty();
+        }
+        String methodName = statementId.substring(index + 1);
+        for (Method method : mapperClass.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                DataPermission dataPermission = AnnotatedElementUtils
+                    .findMergedAnnotation(method, DataPermission.class);
+                if (null != dataPermission) {
+                    return Optional.of(dataPermission);
+                }
+            }
+        }
+        return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(mapperClass, DataPermission.class));
+    }
+}
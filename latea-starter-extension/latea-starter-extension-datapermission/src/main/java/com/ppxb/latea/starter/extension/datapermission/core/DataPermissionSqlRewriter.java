@@ -0,0 +1,128 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.ParenthesedSelect;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SetOperationList;
+
+import java.util.Arrays;
+
+/**
+ * 数据权限 SQL 改写器
+ *
+ * <p>使用 JSqlParser 把条件追加到查询（含 UNION 各分支）最外层的 WHERE 中。条件中的数据权限参数以命名标记生成，
+ * 改写完成后统一替换为 {@code ?}，并按出现顺序记录每个占位符对应原参数还是数据权限参数，
+ * 因此无论条件插入在原参数之前还是之后（例如 JOIN 条件、ORDER BY、HAVING 中的参数），绑定顺序都正确。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionSqlRewriter {
+
+    private static final String MARKER_PREFIX = ":__latea_dp_";
+
+    /**
+     * 获取第 i 个数据权限参数的标记
+     *
+     * @param index 参数下标
+     * @return 参数标记
+     */
+    public static String marker(int index) {
+        return MARKER_PREFIX + index;
+    }
+
+    /**
+     * 改写 SQL
+     *
+     * @param sql            原 SQL
+     * @param condition      条件 SQL（参数位置为 {@link #marker(int)}）
+     * @param parameterCount 原 SQL 的参数个数
+     * @return SQL 模板
+     */
+    public SqlTemplate rewrite(String sql, String condition, int parameterCount) {
+        String rewritten;
+        try {
+            Statement statement = CCJSqlParserUtil.parse(sql);
+            if (!(statement instanceof Select select)) {
+                throw new BaseException("Data permission only supports SELECT statements.");
+            }
+            Expression expression = new ParenthesedExpressionList<>(CCJSqlParserUtil.parseCondExpression(condition));
+            this.apply(select, expression);
+            rewritten = select.toString();
+        } catch (JSQLParserException e) {
+            throw new BaseException("Failed to parse SQL for data permission: " + sql, e);
+        }
+        return compile(rewritten, parameterCount);
+    }
+
+    private void apply(Select select, Expression condition) {
+        switch (select) {
+            case PlainSelect plainSelect -> {
+                Expression where = plainSelect.getWhere();
+                plainSelect.setWhere(null == where
+                    ? condition
+                    : new AndExpression(new ParenthesedExpressionList<>(where), condition));
+            }
+            case SetOperationList setOperationList -> setOperationList.getSelects()
+                .forEach(s -> this.apply(s, condition));
+            case ParenthesedSelect parenthesedSelect -> this.apply(parenthesedSelect.getSelect(), condition);
+            default -> throw new BaseException("Unsupported statement for data permission: " + select);
+        }
+    }
+
+    /**
+     * 把参数标记替换为 {@code ?} 并记录每个占位符的来源
+     */
+    private static SqlTemplate compile(String sql, int parameterCount) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int[] slots = new int[16];
+        int slotCount = 0;
+        int originalIndex = 0;
+        char quote = 0;
+        int length = sql.length();
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (0 != quote) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                result.append(c);
+                continue;
+            }
+            int slot;
+            if ('\'' == c || '"' == c || '`' == c) {
+                quote = c;
+                result.append(c);
+                continue;
+            } else if ('?' == c) {
+                slot = originalIndex++;
+            } else if (sql.startsWith(MARKER_PREFIX, i)) {
+                int end = i + MARKER_PREFIX.length();
+                while (end < length && Character.isDigit(sql.charAt(end))) {
+                    end++;
+                }
+                slot = -Integer.parseInt(sql, i + MARKER_PREFIX.length(), end, 10) - 1;
+                i = end - 1;
+            } else {
+                result.append(c);
+                continue;
+            }
+            result.append('?');
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount << 1);
+            }
+            slots[slotCount++] = slot;
+        }
+        if (originalIndex != parameterCount) {
+            throw new BaseException("Parameter count mismatch after data permission rewrite, expected " + parameterCount + " but found " + originalIndex + ": " + sql);
+        }
+        return new SqlTemplate(result.toString(), Arrays.copyOf(slots, slotCount));
+    }
+}
@@ -0,0 +1,26 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import com.ppxb.latea.starter.extension.datapermission.model.UserContext;
+
+/**
+ * 数据权限用户上下文提供者
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface DataPermissionUserContextProvider {
+
+    /**
+     * 当前请求是否需要过滤数据（例如：超级管理员、未登录的内部调用可返回 {@code false}）
+     *
+     * @return 是否需要过滤
+     */
+    boolean isFilter();
+
+    /**
+     * 获取当前用户上下文
+     *
+     * @return 用户上下文
+     */
+    UserContext getUserContext();
+}
@@ -0,0 +1,64 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import com.ppxb.latea.starter.extension.datapermission.enums.DataScope;
+import com.ppxb.latea.starter.extension.datapermission.model.RoleContext;
+import com.ppxb.latea.starter.extension.datapermission.model.UserContext;
+
+/**
+ * 权限范围
+ *
+ * <p>决定改写后 SQL 的“形状”：包含哪些数据权限范围，以及自定义数据权限的角色个数（对应占位符个数）。
+ * 用户、部门、角色 ID 等具体值不参与其中，因此同一形状的所有用户共享同一个改写模板。</p>
+ *
+ * @param scopes          数据权限范围位图（按 {@link DataScope#ordinal()}）
+ * @param customRoleCount 自定义数据权限的角色个数
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record PermissionScope(int scopes, int customRoleCount) {
+
+    private static final PermissionScope ALL = new PermissionScope(1 << DataScope.ALL.ordinal(), 0);
+
+    /**
+     * 根据用户上下文计算权限范围
+     *
+     * @param userContext 用户上下文
+     * @return 权限范围
+     */
+    public static PermissionScope of(UserContext userContext) {
+        int scopes = 0;
+        int customRoleCount = 0;
+        if (null != userContext.roles()) {
+            for (RoleContext role : userContext.roles()) {
+                DataScope dataScope = role.dataScope();
+                if (DataScope.ALL == dataScope) {
+                    return ALL;
+                }
+                scopes |= 1 << dataScope.ordinal();
+                if (DataScope.CUSTOM == dataScope) {
+                    customRoleCount++;
+                }
+            }
+        }
+        return new PermissionScope(scopes, customRoleCount);
+    }
+
+    /**
+     * 是否包含全部数据（无需过滤）
+     *
+     * @return 是否包含全部数据
+     */
+    public boolean isAll() {
+        return this.contains(DataScope.ALL);
+    }
+
+    /**
+     * 是否包含指定数据权限范围
+     *
+     * @param dataScope 数据权限范围
+     * @return 是否包含
+     */
+    public boolean contains(DataScope dataScope) {
+        return 0 != (scopes & (1 << dataScope.ordinal()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import org.apache.ibatis.mapping.ParameterMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 改写后的 SQL 模板
+ *
+ * @param sql   改写后的 SQL
+ * @param slots 各占位符对应的参数（非负数为原参数映射下标，负数 {@code -(i + 1)} 为第 i 个数据权限参数）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record SqlTemplate(String sql, int[] slots) {
+
+    /**
+     * 按占位符顺序组装参数映射
+     *
+     * @param original   原参数映射
+     * @param permission 数据权限参数映射
+     * @return 参数映射
+     */
+    public List<ParameterMapping> bind(List<ParameterMapping> original, List<ParameterMapping> permission) {
+        List<ParameterMapping> mappings = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            mappings.add(slot >= 0 ? original.get(slot) : permission.get(-slot - 1));
+        }
+        return mappings;
+    }
+}
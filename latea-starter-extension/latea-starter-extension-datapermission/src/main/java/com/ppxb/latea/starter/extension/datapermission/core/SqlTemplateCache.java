@@ -0,0 +1,97 @@
+package com.ppxb.latea.starter.extension.datapermission.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SQL 模板缓存
+ *
+ * <p>以（语句 ID、权限范围、原 SQL）为键缓存改写结果。动态 SQL 的变体数量没有上限，因此按分代方式限制容量：
+ * 新一代写满一半容量后降为旧一代，旧一代中仍被访问的模板会被提升回新一代，长期未访问的模板随旧一代整体丢弃。
+ * 读取不加锁。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlTemplateCache {
+
+    private final int generationSize;
+
+    private final DataPermissionMetrics metrics = new DataPermissionMetrics();
+
+    private volatile Map<Key, SqlTemplate> current = new ConcurrentHashMap<>();
+
+    private volatile Map<Key, SqlTemplate> previous = Map.of();
+
+    /**
+     * @param maximumSize 最大容量
+     */
+    public SqlTemplateCache(int maximumSize) {
+        this.generationSize = Math.max(1, maximumSize / 2);
+    }
+
+    /**
+     * 获取模板，不存在时改写并缓存
+     *
+     * @param key    键
+     * @param loader 改写逻辑
+     * @return SQL 模板
+     */
+    public SqlTemplate get(Key key, Supplier<SqlTemplate> loader) {
+        SqlTemplate template = current.get(key);
+        if (null != template) {
+            metrics.recordHit();
+            return template;
+        }
+        template = previous.get(key);
+        if (null != template) {
+            metrics.recordHit();
+        } else {
+            long start = System.nanoTime();
+            template = loader.get();
+            metrics.recordMiss(System.nanoTime() - start);
+        }
+        this.put(key, template);
+        return template;
+    }
+
+    /**
+     * 当前缓存的模板数（近似值）
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * 获取指标
+     *
+     * @return 指标
+     */
+    public DataPermissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void put(Key key, SqlTemplate template) {
+        Map<Key, SqlTemplate> generation = current;
+        generation.put(key, template);
+        if (generation.size() >= generationSize) {
+            synchronized (this) {
+                if (generation == current) {
+                    previous = generation;
+                    current = new ConcurrentHashMap<>();
+                }
+            }
+        }
+    }
+
+    /**
+     * 缓存键
+     *
+     * @param statementId 语句 ID
+     * @param scope       权限范围
+     * @param sql         原 SQL
+     */
+    public record Key(String statementId, PermissionScope scope, String sql) {
+    }
+}
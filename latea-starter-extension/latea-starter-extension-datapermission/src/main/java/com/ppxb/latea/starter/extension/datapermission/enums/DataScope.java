@@ -0,0 +1,35 @@
+package com.ppxb.latea.starter.extension.datapermission.enums;
+
+/**
+ * 数据权限范围
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum DataScope {
+
+    /**
+     * 全部数据
+     */
+    ALL,
+
+    /**
+     * 本部门及以下数据
+     */
+    DEPT_AND_CHILD,
+
+    /**
+     * 本部门数据
+     */
+    DEPT,
+
+    /**
+     * 仅本人数据
+     */
+    SELF,
+
+    /**
+     * 自定义数据（角色关联的部门）
+     */
+    CUSTOM
+}
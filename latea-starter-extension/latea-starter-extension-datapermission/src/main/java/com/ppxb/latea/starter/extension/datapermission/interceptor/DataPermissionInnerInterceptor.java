@@ -0,0 +1,104 @@
+package com.ppxb.latea.starter.extension.datapermission.interceptor;
+
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.datapermission.annotation.DataPermission;
+import com.ppxb.latea.starter.extension.datapermission.core.*;
+import com.ppxb.latea.starter.extension.datapermission.model.UserContext;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 数据权限拦截器
+ *
+ * <p>对标注了 {@link DataPermission} 的查询追加数据权限条件。改写结果按（语句 ID、权限范围、原 SQL）缓存为模板，
+ * 命中时只需绑定用户、部门、角色 ID 等参数，不再解析 SQL；参数以 {@code ?} 绑定，不拼接到 SQL 中。</p>
+ *
+ * <p>未提供 {@link DataPermissionUserContextProvider} 时，标注了 {@link DataPermission} 的查询会被拒绝执行（失败关闭），避免返回未过滤的数据。</p>
+ *
+ * <p>需注册在分页拦截器之前，分页的 COUNT 查询会沿用改写后的 SQL 与参数。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DataPermissionInnerInterceptor implements InnerInterceptor {
+
+    private static final String PARAMETER_PREFIX = "__latea_dp_";
+
+    private final DataPermissionUserContextProvider userContextProvider;
+
+    private final DataPermissionResolver resolver;
+
+    private final DataPermissionConditionBuilder conditionBuilder;
+
+    private final DataPermissionSqlRewriter rewriter;
+
+    private final SqlTemplateCache cache;
+
+    /**
+     * @param userContextProvider 用户上下文提供者（为 {@code null} 时拒绝执行标注了数据权限的查询）
+     * @param resolver            注解解析器
+     * @param conditionBuilder    条件构建器
+     * @param rewriter            SQL 改写器
+     * @param cache               改写模板缓存
+     */
+    public DataPermissionInnerInterceptor(DataPermissionUserContextProvider userContextProvider,
+                                          DataPermissionResolver resolver,
+                                          DataPermissionConditionBuilder conditionBuilder,
+                                          DataPermissionSqlRewriter rewriter,
+                                          SqlTemplateCache cache) {
+        this.userContextProvider = userContextProvider;
+        this.resolver = resolver;
+        this.conditionBuilder = conditionBuilder;
+        this.rewriter = rewriter;
+        this.cache = cache;
+    }
+
+    @Override
+    public void beforeQuery(Executor executor,
+                            MappedStatement ms,
+                            Object parameter,
+                            RowBounds rowBounds,
+                            ResultHandler resultHandler,
+                            BoundSql boundSql) {
+        DataPermission dataPermission = resolver.resolve(ms.getId());
+        if (null == dataPermission) {
+            return;
+        }
+        if (null == userContextProvider) {
+            throw new BaseException("No DataPermissionUserContextProvider is defined, refusing to execute data permission statement '%s'."
+                .formatted(ms.getId()));
+        }
+        if (!userContextProvider.isFilter()) {
+            return;
+        }
+        UserContext userContext = userContextProvider.getUserContext();
+        PermissionScope scope = PermissionScope.of(userContext);
+        if (scope.isAll()) {
+            return;
+        }
+        PluginUtils.MPBoundSql mpBoundSql = PluginUtils.mpBoundSql(boundSql);
+        String sql = mpBoundSql.sql();
+        List<ParameterMapping> originalMappings = mpBoundSql.parameterMappings();
+        SqlTemplate template = cache.get(new SqlTemplateCache.Key(ms.getId(), scope, sql), () -> rewriter
+            .rewrite(sql, conditionBuilder.buildSql(dataPermission, scope), originalMappings.size()));
+
+        List<Object> values = conditionBuilder.buildValues(scope, userContext);
+        List<ParameterMapping> permissionMappings = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            String name = PARAMETER_PREFIX + i;
+            boundSql.setAdditionalParameter(name, values.get(i));
+            permissionMappings.add(new ParameterMapping.Builder(ms.getConfiguration(), name, Object.class).build());
+        }
+        mpBoundSql.sql(template.sql());
+        mpBoundSql.parameterMappings(template.bind(originalMappings, permissionMappings));
+    }
+}
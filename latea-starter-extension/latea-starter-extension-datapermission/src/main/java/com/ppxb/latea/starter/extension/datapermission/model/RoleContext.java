@@ -0,0 +1,14 @@
+package com.ppxb.latea.starter.extension.datapermission.model;
+
+import com.ppxb.latea.starter.extension.datapermission.enums.DataScope;
+
+/**
+ * 角色上下文
+ *
+ * @param roleId    角色 ID
+ * @param dataScope 数据权限范围
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record RoleContext(Object roleId, DataScope dataScope) {
+}
@@ -0,0 +1,15 @@
+package com.ppxb.latea.starter.extension.datapermission.model;
+
+import java.util.Collection;
+
+/**
+ * 用户上下文
+ *
+ * @param userId 用户 ID
+ * @param deptId 部门 ID
+ * @param roles  角色列表
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record UserContext(Object userId, Object deptId, Collection<RoleContext> roles) {
+}
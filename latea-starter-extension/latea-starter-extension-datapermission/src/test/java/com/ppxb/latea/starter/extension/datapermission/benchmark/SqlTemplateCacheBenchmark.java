@@ -0,0 +1,86 @@
+package com.ppxb.latea.starter.extension.datapermission.benchmark;
+
+import com.ppxb.latea.starter.extension.datapermission.annotation.DataPermission;
+import com.ppxb.latea.starter.extension.datapermission.autoconfigure.DataPermissionProperties;
+import com.ppxb.latea.starter.extension.datapermission.core.*;
+import com.ppxb.latea.starter.extension.datapermission.enums.DataScope;
+import com.ppxb.latea.starter.extension.datapermission.model.RoleContext;
+import com.ppxb.latea.starter.extension.datapermission.model.UserContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 命中 {@link SqlTemplateCache} 与每次调用 {@link DataPermissionSqlRewriter#rewrite(String, String, int)} 解析改写 SQL 的耗时对比（单位：微秒/次）
+ *
+ * <p>两者都按拦截器的方式构建缓存键或条件 SQL，权限范围为“本部门及以下 + 本人 + 两个自定义角色”。</p>
+ *
+ * <p>运行方式：{@code mvn -pl latea-starter-extension/latea-starter-extension-datapermission -am test-compile}，然后以测试类路径执行本类的 {@code main} 方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlTemplateCacheBenchmark {
+
+    private static final String STATEMENT_ID = "com.example.mapper.UserMapper.selectPage";
+
+    private static final String SQL = """
+        SELECT u.id, u.username, u.nickname, d.name AS dept_name
+        FROM sys_user u LEFT JOIN sys_dept d ON d.id = u.dept_id
+        WHERE u.status = ? AND u.username LIKE ?
+        ORDER BY u.create_time DESC""";
+
+    private static final int PARAMETER_COUNT = 2;
+
+    private DataPermission dataPermission;
+
+    private PermissionScope scope;
+
+    private DataPermissionConditionBuilder conditionBuilder;
+
+    private DataPermissionSqlRewriter rewriter;
+
+    private SqlTemplateCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        dataPermission = SqlTemplateCacheBenchmark.class.getDeclaredMethod("annotated")
+            .getAnnotation(DataPermission.class);
+        scope = PermissionScope.of(new UserContext(1L, 10L, List.of(new RoleContext(1L, DataScope.DEPT_AND_CHILD),
+            new RoleContext(2L, DataScope.SELF), new RoleContext(3L, DataScope.CUSTOM), new RoleContext(4L, DataScope.CUSTOM))));
+        DataPermissionProperties properties = new DataPermissionProperties();
+        conditionBuilder = new DataPermissionConditionBuilder(properties.getDeptAndChildSql(), properties.getCustomSql());
+        rewriter = new DataPermissionSqlRewriter();
+        cache = new SqlTemplateCache(properties.getCacheSize());
+        this.cacheHit();
+    }
+
+    @Benchmark
+    public SqlTemplate cacheHit() {
+        return cache.get(new SqlTemplateCache.Key(STATEMENT_ID, scope, SQL), this::rewrite);
+    }
+
+    @Benchmark
+    public SqlTemplate rewrite() {
+        return rewriter.rewrite(SQL, conditionBuilder.buildSql(dataPermission, scope), PARAMETER_COUNT);
+    }
+
+    @DataPermission(tableAlias = "u")
+    private void annotated() {
+        // 仅用于获取注解实例
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SqlTemplateCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
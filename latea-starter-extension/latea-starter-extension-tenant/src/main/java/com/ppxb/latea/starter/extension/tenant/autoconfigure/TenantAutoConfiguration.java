@@ -0,0 +1,155 @@
+package com.ppxb.latea.starter.extension.tenant.autoconfigure;
+
+import com.baomidou.dynamic.datasource.DynamicRoutingDataSource;
+import com.baomidou.dynamic.datasource.creator.DefaultDataSourceCreator;
+import com.baomidou.dynamic.datasource.creator.hikaricp.HikariCpConfig;
+import com.baomidou.mybatisplus.extension.plugins.inner.TenantLineInnerInterceptor;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.tenant.context.TenantScope;
+import com.ppxb.latea.starter.extension.tenant.context.TenantTaskDecorator;
+import com.ppxb.latea.starter.extension.tenant.core.TenantProvider;
+import com.ppxb.latea.starter.extension.tenant.core.TenantRoutingCache;
+import com.ppxb.latea.starter.extension.tenant.datasource.DynamicTenantDataSourceRouter;
+import com.ppxb.latea.starter.extension.tenant.datasource.TenantDataSourceRouter;
+import com.ppxb.latea.starter.extension.tenant.handler.DefaultTenantLineHandler;
+import com.ppxb.latea.starter.extension.tenant.web.TenantFilter;
+import com.ppxb.latea.starter.extension.tenant.web.TenantValidator;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.*;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+
+/**
+ * 多租户自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   tenant:
+ *     header-name: X-Tenant-Id
+ *     ignore-patterns: /auth/login
+ *     tenant-id-column: tenant_id
+ *     ignore-tables: sys_tenant
+ *     cache:
+ *       ttl: 10m
+ *       maximum-size: 10000
+ *     datasource:
+ *       max-pools: 50
+ *       idle-timeout: 10m
+ *       maximum-pool-size: 10
+ * </pre></blockquote>
+ *
+ * <p>需要提供 {@link TenantProvider} 实现；请求头中的租户 ID 需由 {@link TenantValidator} 校验当前用户是否可以访问。租户上下文通过 {@link TenantTaskDecorator} 传递到 Starter 的异步任务线程池。</p>
+ *
+ * <p>不在租户范围内执行行级隔离表的 SQL 会直接失败；确需跨租户访问时，需通过 MyBatis Plus 的
+ * {@code @InterceptorIgnore(tenantLine = "true")} 或 {@code InterceptorIgnoreHelper} 显式声明。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(afterName = "com.baomidou.dynamic.datasource.spring.boot.autoconfigure.DynamicDataSourceAutoConfiguration")
+@EnableConfigurationProperties(TenantProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.TENANT, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class TenantAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantAutoConfiguration.class);
+
+    /**
+     * 租户范围
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantScope tenantScope(ObjectProvider<TenantDataSourceRouter> dataSourceRouter) {
+        return new TenantScope(dataSourceRouter.getIfAvailable());
+    }
+
+    /**
+     * 租户任务装饰器（由线程池自动配置组合到异步任务线程池中）
+     */
+    @Bean
+    public TenantTaskDecorator tenantTaskDecorator(TenantScope tenantScope) {
+        return new TenantTaskDecorator(tenantScope);
+    }
+
+    /**
+     * 行级租户拦截器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantLineInnerInterceptor tenantLineInnerInterceptor(TenantProperties properties) {
+        return new TenantLineInnerInterceptor(new DefaultTenantLineHandler(properties
+            .getTenantIdColumn(), new HashSet<>(properties.getIgnoreTables())));
+    }
+
+    /**
+     * 租户路由缓存
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(TenantProvider.class)
+    public TenantRoutingCache tenantRoutingCache(TenantProvider tenantProvider, TenantProperties properties) {
+        TenantProperties.Cache cache = properties.getCache();
+        return new TenantRoutingCache(tenantProvider, cache.getTtl(), cache.getMaximumSize());
+    }
+
+    /**
+     * 租户过滤器
+     */
+    @Bean
+    @ConditionalOnBean(TenantRoutingCache.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<TenantFilter> tenantFilter(TenantProperties properties,
+                                                             TenantRoutingCache tenantRoutingCache,
+                                                             TenantScope tenantScope,
+                                                             ObjectProvider<TenantValidator> tenantValidator) {
+        FilterRegistrationBean<TenantFilter> registrationBean = new FilterRegistrationBean<>(new TenantFilter(properties
+            .getHeaderName(), tenantRoutingCache, tenantScope, properties.getDefaultTenantId(), properties
+                .getIgnorePatterns(), tenantValidator.getIfAvailable(), properties.isTrustHeader()));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registrationBean;
+    }
+
+    /**
+     * 租户数据源配置（数据源级隔离）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(DynamicRoutingDataSource.class)
+    @ConditionalOnBean(DefaultDataSourceCreator.class)
+    public static class TenantDataSourceConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TenantDataSourceRouter.class)
+        public DynamicTenantDataSourceRouter tenantDataSourceRouter(DataSource dataSource,
+                                                                    DefaultDataSourceCreator dataSourceCreator,
+                                                                    TenantProperties properties) {
+            if (!(dataSource instanceof DynamicRoutingDataSource routingDataSource)) {
+                throw new BaseException("Tenant datasource isolation requires DynamicRoutingDataSource, but found " + dataSource
+                    .getClass()
+                    .getName() + ".");
+            }
+            TenantProperties.DataSource config = properties.getDatasource();
+            return new DynamicTenantDataSourceRouter(routingDataSource, dataSourceCreator, property -> {
+                HikariCpConfig hikari = null == property.getHikari() ? new HikariCpConfig() : property.getHikari();
+                hikari.setMaximumPoolSize(config.getMaximumPoolSize());
+                hikari.setMinimumIdle(0);
+                property.setHikari(hikari);
+            }, config.getMaxPools(), config.getIdleTimeout(), config.getSweepInterval());
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Tenant' completed initialization.");
+    }
+}
@@ -0,0 +1,225 @@
+package com.ppxb.latea.starter.extension.tenant.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 多租户配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.TENANT)
+public class TenantProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 租户 ID 请求头名称
+     */
+    private String headerName = "X-Tenant-Id";
+
+    /**
+     * 未提供 TenantValidator 时是否信任请求头中的租户 ID（仅在网关等上游已校验租户时开启）
+     */
+    private boolean trustHeader = false;
+
+    /**
+     * 默认租户 ID（请求未携带租户 ID 时使用；为空时拒绝未携带租户 ID 的请求）
+     */
+    private String defaultTenantId;
+
+    /**
+     * 无需租户的请求路径（例如登录、租户列表，支持通配符；这些请求未携带租户 ID 时不进入租户范围）
+     */
+    private List<String> ignorePatterns = new ArrayList<>();
+
+    /**
+     * 租户 ID 列名（行级隔离）
+     */
+    private String tenantIdColumn = "tenant_id";
+
+    /**
+     * 忽略租户条件的表（行级隔离）
+     */
+    private List<String> ignoreTables = new ArrayList<>();
+
+    /**
+     * 路由缓存配置
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 租户数据源配置（数据源级隔离）
+     */
+    private DataSource datasource = new DataSource();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
+
+    public boolean isTrustHeader() {
+        return trustHeader;
+    }
+
+    public void setTrustHeader(boolean trustHeader) {
+        this.trustHeader = trustHeader;
+    }
+
+    public String getDefaultTenantId() {
+        return defaultTenantId;
+    }
+
+    public void setDefaultTenantId(String defaultTenantId) {
+        this.defaultTenantId = defaultTenantId;
+    }
+
+    public List<String> getIgnorePatterns() {
+        return ignorePatterns;
+    }
+
+    public void setIgnorePatterns(List<String> ignorePatterns) {
+        this.ignorePatterns = ignorePatterns;
+    }
+
+    public String getTenantIdColumn() {
+        return tenantIdColumn;
+    }
+
+    public void setTenantIdColumn(String tenantIdColumn) {
+        this.tenantIdColumn = tenantIdColumn;
+    }
+
+    public List<String> getIgnoreTables() {
+        return ignoreTables;
+    }
+
+    public void setIgnoreTables(List<String> ignoreTables) {
+        this.ignoreTables = ignoreTables;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public DataSource getDatasource() {
+        return datasource;
+    }
+
+    public void setDatasource(DataSource datasource) {
+        this.datasource = datasource;
+    }
+
+    /**
+     * 路由缓存配置
+     */
+    public static class Cache {
+
+        /**
+         * 过期时间
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * 最大租户数
+         */
+        private int maximumSize = 10000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    /**
+     * 租户数据源配置
+     */
+    public static class DataSource {
+
+        /**
+         * 同时打开的租户连接池上限
+         */
+        private int maxPools = 50;
+
+        /**
+         * 租户连接池空闲超时时间（超时后关闭连接池）
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * 空闲检查间隔
+         */
+        private Duration sweepInterval = Duration.ofMinutes(1);
+
+        /**
+         * 每个租户连接池的最大连接数
+         */
+        private int maximumPoolSize = 10;
+
+        public int getMaxPools() {
+            return maxPools;
+        }
+
+        public void setMaxPools(int maxPools) {
+            this.maxPools = maxPools;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(Duration sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ppxb.latea.starter.extension.tenant.context;
+
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+
+/**
+ * 租户上下文持有者
+ *
+ * <p>由 {@link TenantScope} 设置与恢复，业务代码通常只需读取。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class TenantContextHolder {
+
+    private static final ThreadLocal<TenantContext> CONTEXT = new ThreadLocal<>();
+
+    private TenantContextHolder() {
+    }
+
+    /**
+     * 获取当前租户上下文
+     *
+     * @return 租户上下文（不在租户范围内时为 {@code null}）
+     */
+    public static TenantContext getContext() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * 获取当前租户 ID
+     *
+     * @return 租户 ID（不在租户范围内时为 {@code null}）
+     */
+    public static String getTenantId() {
+        TenantContext context = CONTEXT.get();
+        return null == context ? null : context.tenantId();
+    }
+
+    static void set(TenantContext context) {
+        if (null == context) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(context);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ppxb.latea.starter.extension.tenant.context;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.tenant.datasource.TenantDataSourceRouter;
+import com.ppxb.latea.starter.extension.tenant.enums.TenantIsolationLevel;
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+
+/**
+ * 租户范围
+ *
+ * <p>进入范围时设置租户上下文，数据源级隔离的租户同时切换到租户数据源；关闭时恢复进入前的状态，可嵌套使用：
+ * <blockquote><pre>
+ * try (TenantScope.Handle ignored = tenantScope.open(context)) {
+ *     // 租户内的逻辑
+ * }
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TenantScope {
+
+    private final TenantDataSourceRouter dataSourceRouter;
+
+    /**
+     * @param dataSourceRouter 租户数据源路由器（未引入动态数据源时为 {@code null}）
+     */
+    public TenantScope(TenantDataSourceRouter dataSourceRouter) {
+        this.dataSourceRouter = dataSourceRouter;
+    }
+
+    /**
+     * 进入租户范围
+     *
+     * @param context 租户上下文（为 {@code null} 时表示在范围内清除租户上下文）
+     * @return 范围句柄
+     */
+    public Handle open(TenantContext context) {
+        TenantContext previous = TenantContextHolder.getContext();
+        boolean routed = null != context && TenantIsolationLevel.DATASOURCE == context.isolationLevel();
+        if (routed) {
+            if (null == dataSourceRouter) {
+                throw new BaseException("Tenant [" + context
+                    .tenantId() + "] requires datasource isolation, but dynamic-datasource is not available.");
+            }
+            dataSourceRouter.push(context);
+        }
+        TenantContextHolder.set(context);
+        return new Handle(previous, routed ? context : null);
+    }
+
+    /**
+     * 范围句柄
+     */
+    public final class Handle implements AutoCloseable {
+
+        private final TenantContext previous;
+
+        private final TenantContext routed;
+
+        private Handle(TenantContext previous, TenantContext routed) {
+            this.previous = previous;
+            this.routed = routed;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (null != routed) {
+                    dataSourceRouter.pop(routed);
+                }
+            } finally {
+                TenantContextHolder.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.extension.tenant.context;
+
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 租户任务装饰器
+ *
+ * <p>提交任务时捕获租户上下文，在执行线程中进入同一租户范围（含数据源切换），结束后恢复；
+ * 提交时不在租户范围内则执行时清除租户上下文，避免沿用线程上残留的租户。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TenantTaskDecorator implements TaskDecorator {
+
+    private final TenantScope tenantScope;
+
+    public TenantTaskDecorator(TenantScope tenantScope) {
+        this.tenantScope = tenantScope;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        TenantContext context = TenantContextHolder.getContext();
+        return () -> {
+            try (TenantScope.Handle ignored = tenantScope.open(context)) {
+                runnable.run();
+            }
+        };
+    }
+}
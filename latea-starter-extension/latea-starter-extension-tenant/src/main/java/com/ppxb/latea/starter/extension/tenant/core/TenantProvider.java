@@ -0,0 +1,22 @@
+package com.ppxb.latea.starter.extension.tenant.core;
+
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+
+/**
+ * 租户提供者
+ *
+ * <p>查询结果由 {@link TenantRoutingCache} 缓存，实现中可直接查询数据库。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface TenantProvider {
+
+    /**
+     * 根据租户 ID 获取租户上下文
+     *
+     * @param tenantId 租户 ID
+     * @return 租户上下文（租户不存在或已停用时返回 {@code null}）
+     */
+    TenantContext getByTenantId(String tenantId);
+}
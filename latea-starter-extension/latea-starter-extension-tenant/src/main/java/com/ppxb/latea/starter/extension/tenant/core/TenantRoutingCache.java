@@ -0,0 +1,152 @@
+package com.ppxb.latea.starter.extension.tenant.core;
+
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 租户路由缓存
+ *
+ * <p>缓存租户 ID 到租户上下文（隔离级别、数据源）的映射，避免每个请求都查询租户信息。条目写入后在过期时间内有效，
+ * 不存在的租户同样会被缓存，防止无效租户 ID 反复穿透到 {@link TenantProvider}。条目数超过上限时，
+ * 先清理过期条目，仍超出则淘汰最久未访问的条目。同一租户并发加载时只会查询一次。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TenantRoutingCache {
+
+    private final TenantProvider tenantProvider;
+
+    private final long ttlNanos;
+
+    private final int maximumSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenantProvider 租户提供者
+     * @param ttl            过期时间
+     * @param maximumSize    最大条目数
+     */
+    public TenantRoutingCache(TenantProvider tenantProvider, Duration ttl, int maximumSize) {
+        this.tenantProvider = tenantProvider;
+        this.ttlNanos = ttl.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 获取租户上下文
+     *
+     * @param tenantId 租户 ID
+     * @return 租户上下文（租户不存在时返回 {@code null}）
+     */
+    public TenantContext get(String tenantId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(tenantId);
+        if (null == entry || entry.isExpired(now)) {
+            entry = this.load(tenantId, now);
+        }
+        entry.lastAccessNanos = now;
+        return entry.context;
+    }
+
+    /**
+     * 加载租户
+     *
+     * <p>在 {@code compute} 之外调用 {@link TenantProvider}（通常会查询数据库），避免加载期间持有哈希桶锁阻塞其他租户；
+     * 同一租户的并发加载等待正在进行的那一次加载的结果。</p>
+     */
+    private Entry load(String tenantId, long now) {
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(tenantId, future);
+        if (null != inFlight) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Entry entry = entries.get(tenantId);
+            if (null == entry || entry.isExpired(now)) {
+                entry = new Entry(tenantProvider.getByTenantId(tenantId), now + ttlNanos);
+                entries.put(tenantId, entry);
+                if (entries.size() > maximumSize) {
+                    this.evict(now);
+                }
+            }
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(tenantId, future);
+        }
+    }
+
+    /**
+     * 移除租户（租户信息变更后调用）
+     *
+     * @param tenantId 租户 ID
+     */
+    public void invalidate(String tenantId) {
+        entries.remove(tenantId);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 当前缓存的租户数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        int excess = entries.size() - maximumSize;
+        if (excess <= 0) {
+            return;
+        }
+        // 先取访问时间快照再排序（访问时间会被并发更新）；多淘汰 1/10，避免每次新增租户都触发淘汰
+        entries.entrySet()
+            .stream()
+            .map(e -> Map.entry(e.getKey(), e.getValue().lastAccessNanos))
+            .toList()
+            .stream()
+            .sorted(Map.Entry.comparingByValue())
+            .limit(excess + maximumSize / 10)
+            .forEach(e -> entries.remove(e.getKey()));
+    }
+
+    private static final class Entry {
+
+        private final TenantContext context;
+
+        private final long expireAtNanos;
+
+        private volatile long lastAccessNanos;
+
+        private Entry(TenantContext context, long expireAtNanos) {
+            this.context = context;
+            this.expireAtNanos = expireAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ppxb.latea.starter.extension.tenant.datasource;
+
+import com.baomidou.dynamic.datasource.DynamicRoutingDataSource;
+import com.baomidou.dynamic.datasource.creator.DataSourceProperty;
+import com.baomidou.dynamic.datasource.creator.DefaultDataSourceCreator;
+import com.baomidou.dynamic.datasource.toolkit.DynamicDataSourceContextHolder;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+import com.ppxb.latea.starter.extension.tenant.model.TenantDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 基于 Dynamic Datasource 的租户数据源路由器
+ *
+ * <p>租户连接池在首次使用时才创建并注册到 {@link DynamicRoutingDataSource}，连接池的最小空闲连接数为 0。
+ * 后台任务定期关闭空闲超时的租户连接池；打开的连接池数超过上限时，立即关闭最久未使用的空闲连接池（连接池均在使用中时允许暂时超出上限）。
+ * 正在使用中的连接池（有未退出的租户范围）不会被关闭，因此同时打开的连接池数只与活跃租户数相关，而不是租户总数。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DynamicTenantDataSourceRouter implements TenantDataSourceRouter, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamicTenantDataSourceRouter.class);
+
+    private static final String KEY_PREFIX = "tenant_";
+
+    private final DynamicRoutingDataSource routingDataSource;
+
+    private final DefaultDataSourceCreator dataSourceCreator;
+
+    private final Consumer<DataSourceProperty> propertyCustomizer;
+
+    private final int maxPools;
+
+    private final long idleTimeoutNanos;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * @param routingDataSource  动态数据源
+     * @param dataSourceCreator  数据源创建器
+     * @param propertyCustomizer 数据源配置定制（例如连接池大小）
+     * @param maxPools           同时打开的租户连接池上限
+     * @param idleTimeout        租户连接池空闲超时时间
+     * @param sweepInterval      空闲检查间隔
+     */
+    public DynamicTenantDataSourceRouter(DynamicRoutingDataSource routingDataSource,
+                                         DefaultDataSourceCreator dataSourceCreator,
+                                         Consumer<DataSourceProperty> propertyCustomizer,
+                                         int maxPools,
+                                         Duration idleTimeout,
+                                         Duration sweepInterval) {
+        this.routingDataSource = routingDataSource;
+        this.dataSourceCreator = dataSourceCreator;
+        this.propertyCustomizer = propertyCustomizer;
+        this.maxPools = maxPools;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("latea-tenant-pool-sweeper")
+            .daemon()
+            .factory());
+        long interval = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void push(TenantContext context) {
+        String key = KEY_PREFIX + context.tenantId();
+        Pool pool = pools.get(key);
+        if (null == pool || !pool.acquire()) {
+            pool = pools.compute(key, (k, existing) -> {
+                Pool current = null == existing || existing.isClosed() ? this.create(k, context) : existing;
+                current.acquire();
+                return current;
+            });
+            if (pools.size() > maxPools) {
+                this.evict(Long.MIN_VALUE);
+            }
+        }
+        DynamicDataSourceContextHolder.push(key);
+    }
+
+    @Override
+    public void pop(TenantContext context) {
+        DynamicDataSourceContextHolder.poll();
+        Pool pool = pools.get(KEY_PREFIX + context.tenantId());
+        if (null != pool) {
+            pool.release();
+        }
+    }
+
+    /**
+     * 当前打开的租户连接池数
+     */
+    public int getPoolCount() {
+        return pools.size();
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private Pool create(String key, TenantContext context) {
+        TenantDataSource dataSource = context.dataSource();
+        if (null == dataSource) {
+            throw new BaseException("Tenant [" + context.tenantId() + "] has no datasource configured.");
+        }
+        DataSourceProperty property = new DataSourceProperty();
+        property.setPoolName(key);
+        property.setDriverClassName(dataSource.driverClassName());
+        property.setUrl(dataSource.url());
+        property.setUsername(dataSource.username());
+        property.setPassword(dataSource.password());
+        // 连接池在首次获取连接时才初始化
+        property.setLazy(true);
+        propertyCustomizer.accept(property);
+        routingDataSource.addDataSource(key, dataSourceCreator.createDataSource(property));
+        log.debug("Created datasource for tenant [{}].", context.tenantId());
+        return new Pool();
+    }
+
+    private void sweep() {
+        try {
+            this.evict(System.nanoTime() - idleTimeoutNanos);
+        } catch (RuntimeException e) {
+            log.warn("Failed to sweep idle tenant datasources.", e);
+        }
+    }
+
+    /**
+     * 关闭空闲连接池
+     *
+     * @param idleBefore 最后使用时间早于该值的空闲连接池会被关闭；为 {@link Long#MIN_VALUE} 时按最久未使用的顺序关闭到不超过上限
+     */
+    private synchronized void evict(long idleBefore) {
+        boolean overflow = Long.MIN_VALUE == idleBefore;
+        List<Map.Entry<String, Long>> candidates = pools.entrySet()
+            .stream()
+            .map(e -> Map.entry(e.getKey(), e.getValue().lastUsedNanos))
+            .filter(e -> overflow || e.getValue() - idleBefore < 0)
+            .sorted(Map.Entry.comparingByValue())
+            .toList();
+        for (Map.Entry<String, Long> candidate : candidates) {
+            if (overflow && pools.size() <= maxPools) {
+                return;
+            }
+            pools.computeIfPresent(candidate.getKey(), (key, pool) -> {
+                if (!pool.tryClose()) {
+                    return pool;
+                }
+                routingDataSource.removeDataSource(key);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 租户连接池状态
+     */
+    private static final class Pool {
+
+        /**
+         * 使用中的租户范围数（为 -1 时表示已关闭）
+         */
+        private final AtomicInteger inUse = new AtomicInteger();
+
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private boolean acquire() {
+            int count;
+            while ((count = inUse.get()) >= 0) {
+                if (inUse.compareAndSet(count, count + 1)) {
+                    lastUsedNanos = System.nanoTime();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void release() {
+            lastUsedNanos = System.nanoTime();
+            inUse.decrementAndGet();
+        }
+
+        private boolean tryClose() {
+            return inUse.compareAndSet(0, -1);
+        }
+
+        private boolean isClosed() {
+            return inUse.get() < 0;
+        }
+    }
+}
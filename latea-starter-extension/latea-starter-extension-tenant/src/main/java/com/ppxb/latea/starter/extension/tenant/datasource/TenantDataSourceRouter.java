@@ -0,0 +1,26 @@
+package com.ppxb.latea.starter.extension.tenant.datasource;
+
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+
+/**
+ * 租户数据源路由器
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface TenantDataSourceRouter {
+
+    /**
+     * 切换到租户数据源（不存在时创建）
+     *
+     * @param context 租户上下文
+     */
+    void push(TenantContext context);
+
+    /**
+     * 切换回之前的数据源
+     *
+     * @param context 租户上下文（与 {@link #push} 传入的相同）
+     */
+    void pop(TenantContext context);
+}
@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.extension.tenant.enums;
+
+/**
+ * 租户隔离级别
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum TenantIsolationLevel {
+
+    /**
+     * 行级隔离（共享数据源，按租户 ID 列过滤）
+     */
+    LINE,
+
+    /**
+     * 数据源级隔离（每个租户使用独立的数据源）
+     */
+    DATASOURCE
+}
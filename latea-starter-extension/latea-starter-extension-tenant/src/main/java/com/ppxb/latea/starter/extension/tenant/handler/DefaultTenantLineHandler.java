@@ -0,0 +1,74 @@
+package com.ppxb.latea.starter.extension.tenant.handler;
+
+import com.baomidou.mybatisplus.extension.plugins.handler.TenantLineHandler;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.extension.tenant.context.TenantContextHolder;
+import com.ppxb.latea.starter.extension.tenant.enums.TenantIsolationLevel;
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 行级租户处理器
+ *
+ * <p>仅对行级隔离的租户追加租户条件，数据源级隔离的租户忽略。不在租户范围内时拒绝执行（而不是查询全部租户的数据），
+ * 确需跨租户访问的语句应通过 {@code @InterceptorIgnore(tenantLine = "true")} 或 {@code InterceptorIgnoreHelper} 显式跳过。
+ * 纯数字的租户 ID 按数值比较，否则按字符串比较。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DefaultTenantLineHandler implements TenantLineHandler {
+
+    private final String tenantIdColumn;
+
+    private final Set<String> ignoreTables;
+
+    public DefaultTenantLineHandler(String tenantIdColumn, Set<String> ignoreTables) {
+        this.tenantIdColumn = tenantIdColumn;
+        this.ignoreTables = ignoreTables.stream()
+            .map(table -> table.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Expression getTenantId() {
+        String tenantId = TenantContextHolder.getTenantId();
+        if (null == tenantId) {
+            throw new BaseException("No tenant in scope for a tenant-scoped table, open a TenantScope or declare @InterceptorIgnore(tenantLine = \"true\") explicitly.");
+        }
+        return isNumeric(tenantId) ? new LongValue(tenantId) : new StringValue(tenantId);
+    }
+
+    @Override
+    public String getTenantIdColumn() {
+        return tenantIdColumn;
+    }
+
+    @Override
+    public boolean ignoreTable(String tableName) {
+        if (ignoreTables.contains(tableName.toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        // 不在租户范围内时不忽略，由 getTenantId() 拒绝执行
+        TenantContext context = TenantContextHolder.getContext();
+        return null != context && TenantIsolationLevel.LINE != context.isolationLevel();
+    }
+
+    private static boolean isNumeric(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ppxb.latea.starter.extension.tenant.model;
+
+import com.ppxb.latea.starter.extension.tenant.enums.TenantIsolationLevel;
+
+/**
+ * 租户上下文
+ *
+ * @param tenantId       租户 ID
+ * @param isolationLevel 隔离级别
+ * @param dataSource     数据源（仅数据源级隔离）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record TenantContext(String tenantId, TenantIsolationLevel isolationLevel, TenantDataSource dataSource) {
+
+    /**
+     * 创建行级隔离的租户上下文
+     *
+     * @param tenantId 租户 ID
+     * @return 租户上下文
+     */
+    public static TenantContext line(String tenantId) {
+        return new TenantContext(tenantId, TenantIsolationLevel.LINE, null);
+    }
+
+    /**
+     * 创建数据源级隔离的租户上下文
+     *
+     * @param tenantId   租户 ID
+     * @param dataSource 数据源
+     * @return 租户上下文
+     */
+    public static TenantContext datasource(String tenantId, TenantDataSource dataSource) {
+        return new TenantContext(tenantId, TenantIsolationLevel.DATASOURCE, dataSource);
+    }
+}
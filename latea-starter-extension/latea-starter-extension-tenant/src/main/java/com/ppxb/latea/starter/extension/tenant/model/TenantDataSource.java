@@ -0,0 +1,19 @@
+package com.ppxb.latea.starter.extension.tenant.model;
+
+/**
+ * 租户数据源
+ *
+ * @param driverClassName 驱动类名
+ * @param url             连接 URL
+ * @param username        用户名
+ * @param password        密码
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record TenantDataSource(String driverClassName, String url, String username, String password) {
+
+    @Override
+    public String toString() {
+        return "TenantDataSource[url=" + url + ", username=" + username + "]";
+    }
+}
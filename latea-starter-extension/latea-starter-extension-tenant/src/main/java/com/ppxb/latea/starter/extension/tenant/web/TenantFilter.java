@@ -0,0 +1,104 @@
+package com.ppxb.latea.starter.extension.tenant.web;
+
+import com.ppxb.latea.starter.extension.tenant.context.TenantScope;
+import com.ppxb.latea.starter.extension.tenant.core.TenantRoutingCache;
+import com.ppxb.latea.starter.extension.tenant.model.TenantContext;
+import com.ppxb.latea.starter.web.util.CompiledPathMatcher;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 租户过滤器
+ *
+ * <p>每个请求只解析一次租户：从请求头读取租户 ID，经 {@link TenantRoutingCache} 得到租户上下文后进入租户范围，
+ * 请求结束后退出。未携带租户 ID 时使用默认租户；未配置默认租户时，只有显式配置为无需租户的路径才会放行（不进入租户范围），
+ * 其余请求返回 400。租户不存在时同样返回 400。</p>
+ *
+ * <p>请求头中的租户 ID 需经 {@link TenantValidator} 校验，不通过时返回 403；未提供校验器时默认不信任请求头，
+ * 携带租户 ID 的请求同样返回 403，除非显式配置为信任请求头（例如网关已完成校验）。默认租户由服务端配置，无需校验。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final int MAX_TENANT_ID_LENGTH = 64;
+
+    private final String headerName;
+
+    private final TenantRoutingCache routingCache;
+
+    private final TenantScope tenantScope;
+
+    private final String defaultTenantId;
+
+    private final CompiledPathMatcher ignoreMatcher;
+
+    private final TenantValidator validator;
+
+    private final boolean trustHeader;
+
+    /**
+     * @param headerName      租户 ID 请求头名称
+     * @param routingCache    租户路由缓存
+     * @param tenantScope     租户范围
+     * @param defaultTenantId 默认租户 ID（可为 {@code null}）
+     * @param ignorePatterns  无需租户的请求路径
+     * @param validator       租户校验器（可为 {@code null}）
+     * @param trustHeader     未提供校验器时是否信任请求头中的租户 ID
+     */
+    public TenantFilter(String headerName,
+                        TenantRoutingCache routingCache,
+                        TenantScope tenantScope,
+                        String defaultTenantId,
+                        List<String> ignorePatterns,
+                        TenantValidator validator,
+                        boolean trustHeader) {
+        this.headerName = headerName;
+        this.routingCache = routingCache;
+        this.tenantScope = tenantScope;
+        this.defaultTenantId = null == defaultTenantId || defaultTenantId.isBlank() ? null : defaultTenantId.trim();
+        this.ignoreMatcher = new CompiledPathMatcher(ignorePatterns);
+        this.validator = validator;
+        this.trustHeader = trustHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String tenantId = request.getHeader(headerName);
+        boolean fromHeader = null != tenantId && !tenantId.isBlank();
+        if (!fromHeader) {
+            if (null == defaultTenantId) {
+                if (!ignoreMatcher.isEmpty() && ignoreMatcher.matches(request.getRequestURI()
+                    .substring(request.getContextPath().length()))) {
+                    filterChain.doFilter(request, response);
+                } else {
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Missing tenant");
+                }
+                return;
+            }
+            tenantId = defaultTenantId;
+        }
+        tenantId = tenantId.trim();
+        TenantContext context = tenantId.length() > MAX_TENANT_ID_LENGTH ? null : routingCache.get(tenantId);
+        if (null == context) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unknown tenant");
+            return;
+        }
+        if (fromHeader && (null == validator ? !trustHeader : !validator.isAccessible(request, tenantId))) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "Tenant not accessible");
+            return;
+        }
+        try (TenantScope.Handle ignored = tenantScope.open(context)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
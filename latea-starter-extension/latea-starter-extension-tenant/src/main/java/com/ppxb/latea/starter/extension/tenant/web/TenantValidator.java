@@ -0,0 +1,25 @@
+package com.ppxb.latea.starter.extension.tenant.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 租户校验器
+ *
+ * <p>请求头中的租户 ID 由客户端提供，不可直接信任。{@link TenantFilter} 在进入租户范围前调用本接口，
+ * 校验当前用户（例如从登录凭证中解析出的所属租户）是否可以访问该租户，不通过时返回 403。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TenantValidator {
+
+    /**
+     * 当前请求是否可以访问指定租户
+     *
+     * @param request  请求
+     * @param tenantId 请求头中的租户 ID（已确认租户存在）
+     * @return 是否可以访问
+     */
+    boolean isAccessible(HttpServletRequest request, String tenantId);
+}
@@ -0,0 +1,124 @@
+package com.ppxb.latea.starter.http.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.http.core.HttpClientMeterBinder;
+import com.ppxb.latea.starter.http.core.HttpClientMetrics;
+import com.ppxb.latea.starter.http.core.HttpClientTemplate;
+import com.ppxb.latea.starter.http.core.MetricsInterceptor;
+import com.ppxb.latea.starter.http.core.RetryInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 客户端自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   http-client:
+ *     connect-timeout: 5s
+ *     read-timeout: 30s
+ *     pool:
+ *       max-idle-connections: 32
+ *       keep-alive: 5m
+ *     retry:
+ *       max-attempts: 3
+ *       initial-backoff: 100ms
+ *       max-backoff: 2s
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(HttpClientProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.HTTP_CLIENT, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class HttpClientAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientAutoConfiguration.class);
+
+    /**
+     * HTTP 客户端指标
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public HttpClientMetrics httpClientMetrics(HttpClientProperties properties) {
+        return new HttpClientMetrics(properties.getMaxMetricHosts());
+    }
+
+    /**
+     * 共享的 OkHttp 客户端
+     *
+     * <p>需要不同超时等配置时，通过 {@code okHttpClient.newBuilder()} 派生，派生客户端共享连接池与调度线程。</p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OkHttpClient okHttpClient(HttpClientProperties properties, HttpClientMetrics httpClientMetrics) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        HttpClientProperties.Dispatcher dispatcherProperties = properties.getDispatcher();
+        HttpClientProperties.Retry retry = properties.getRetry();
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(dispatcherProperties.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(dispatcherProperties.getMaxRequestsPerHost());
+        return new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(pool.getMaxIdleConnections(), pool.getKeepAlive()
+                .toMillis(), TimeUnit.MILLISECONDS))
+            .dispatcher(dispatcher)
+            .protocols(properties.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+            .connectTimeout(properties.getConnectTimeout())
+            .readTimeout(properties.getReadTimeout())
+            .writeTimeout(properties.getWriteTimeout())
+            .callTimeout(properties.getCallTimeout())
+            // 先重试后统计，每次尝试单独计入指标
+            .addInterceptor(new RetryInterceptor(retry.getMaxAttempts(), retry.getInitialBackoff(), retry
+                .getMaxBackoff(), retry.getRetryableStatuses()))
+            .addInterceptor(new MetricsInterceptor(httpClientMetrics))
+            .build();
+    }
+
+    /**
+     * HTTP 客户端模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public HttpClientTemplate httpClientTemplate(OkHttpClient okHttpClient,
+                                                 HttpClientMetrics httpClientMetrics,
+                                                 HttpClientProperties properties) {
+        return new HttpClientTemplate(okHttpClient, httpClientMetrics, properties.isCoalesce());
+    }
+
+    /**
+     * HTTP 客户端指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class HttpClientMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public HttpClientMeterBinder httpClientMeterBinder(HttpClientMetrics httpClientMetrics) {
+            return new HttpClientMeterBinder(httpClientMetrics);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'HttpClient' completed initialization.");
+    }
+}
@@ -0,0 +1,290 @@
+package com.ppxb.latea.starter.http.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HTTP 客户端配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.HTTP_CLIENT)
+public class HttpClientProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 连接超时时间
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 读取超时时间
+     */
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 写入超时时间
+     */
+    private Duration writeTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 整个调用（含重定向与重试）的超时时间（0 表示不限制）
+     */
+    private Duration callTimeout = Duration.ZERO;
+
+    /**
+     * 是否启用 HTTP/2（h2 需 TLS ALPN 协商，协商失败时回退到 HTTP/1.1）
+     */
+    private boolean http2 = true;
+
+    /**
+     * 是否合并 URL 与请求头相同的并发 GET 请求
+     */
+    private boolean coalesce = true;
+
+    /**
+     * 指标中的最大主机数（超出后计入 other）
+     */
+    private int maxMetricHosts = 100;
+
+    /**
+     * 连接池配置
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * 异步调度配置
+     */
+    private Dispatcher dispatcher = new Dispatcher();
+
+    /**
+     * 重试配置
+     */
+    private Retry retry = new Retry();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public void setWriteTimeout(Duration writeTimeout) {
+        this.writeTimeout = writeTimeout;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    public void setCallTimeout(Duration callTimeout) {
+        this.callTimeout = callTimeout;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    public int getMaxMetricHosts() {
+        return maxMetricHosts;
+    }
+
+    public void setMaxMetricHosts(int maxMetricHosts) {
+        this.maxMetricHosts = maxMetricHosts;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public void setDispatcher(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    /**
+     * 连接池配置
+     *
+     * <p>连接按目标地址（协议、主机、端口、代理、TLS 配置）复用，每个地址相当于一个独立的连接池。</p>
+     */
+    public static class Pool {
+
+        /**
+         * 每个目标地址保留的最大空闲连接数
+         */
+        private int maxIdleConnections = 32;
+
+        /**
+         * 空闲连接保活时间
+         */
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        public int getMaxIdleConnections() {
+            return maxIdleConnections;
+        }
+
+        public void setMaxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    /**
+     * 异步调度配置
+     *
+     * <p>仅对异步调用（{@code enqueue}）生效，同步调用不受限制。</p>
+     */
+    public static class Dispatcher {
+
+        /**
+         * 最大并发请求数
+         */
+        private int maxRequests = 256;
+
+        /**
+         * 每个主机的最大并发请求数
+         */
+        private int maxRequestsPerHost = 32;
+
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public void setMaxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+        }
+
+        public int getMaxRequestsPerHost() {
+            return maxRequestsPerHost;
+        }
+
+        public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+        }
+    }
+
+    /**
+     * 重试配置
+     *
+     * <p>仅重试幂等方法（GET、HEAD、PUT、DELETE、OPTIONS、TRACE）。</p>
+     */
+    public static class Retry {
+
+        /**
+         * 最大尝试次数（含首次请求，1 表示不重试）
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 初始退避时间
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        /**
+         * 最大退避时间
+         */
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        /**
+         * 可重试的响应状态码
+         */
+        private Set<Integer> retryableStatuses = new LinkedHashSet<>(List.of(429, 502, 503, 504));
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Set<Integer> getRetryableStatuses() {
+            return retryableStatuses;
+        }
+
+        public void setRetryableStatuses(Set<Integer> retryableStatuses) {
+            this.retryableStatuses = retryableStatuses;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ppxb.latea.starter.http.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * HTTP 客户端指标绑定器（Micrometer）
+ *
+ * <p>请求与错误指标带 {@code host}（目标主机）标签，错误指标另带 {@code type}（{@code io}/{@code 4xx}/{@code 5xx}）标签。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class HttpClientMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.http.client";
+
+    private final HttpClientMetrics metrics;
+
+    public HttpClientMeterBinder(HttpClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder(PREFIX + ".coalesced", metrics, HttpClientMetrics::getCoalescedCount)
+            .description("合并的并发 GET 请求次数")
+            .register(meterRegistry);
+        metrics.addListener(hostMetrics -> register(meterRegistry, hostMetrics));
+    }
+
+    private static void register(MeterRegistry meterRegistry, HttpHostMetrics metrics) {
+        FunctionTimer.builder(PREFIX + ".requests", metrics, HttpHostMetrics::getRequestCount, HttpHostMetrics::getTotalTimeMillis, TimeUnit.MILLISECONDS)
+            .tag("host", metrics.getHost())
+            .description("请求次数与耗时（每次尝试单独计）")
+            .register(meterRegistry);
+        registerErrors(meterRegistry, metrics, "io", HttpHostMetrics::getIoErrorCount);
+        registerErrors(meterRegistry, metrics, "4xx", HttpHostMetrics::getClientErrorCount);
+        registerErrors(meterRegistry, metrics, "5xx", HttpHostMetrics::getServerErrorCount);
+    }
+
+    private static void registerErrors(MeterRegistry meterRegistry,
+                                       HttpHostMetrics metrics,
+                                       String type,
+                                       ToDoubleFunction<HttpHostMetrics> count) {
+        FunctionCounter.builder(PREFIX + ".errors", metrics, count)
+            .tag("host", metrics.getHost())
+            .tag("type", type)
+            .description("请求错误次数")
+            .register(meterRegistry);
+    }
+}
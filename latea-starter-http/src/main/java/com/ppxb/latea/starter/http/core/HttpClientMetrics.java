@@ -0,0 +1,92 @@
+package com.ppxb.latea.starter.http.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * HTTP 客户端指标
+ *
+ * <p>主机数超过上限后，新主机统一计入 {@link #OTHER_HOST}，避免指标数量随调用目标无限增长。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class HttpClientMetrics {
+
+    /**
+     * 超出主机数上限时使用的主机名
+     */
+    public static final String OTHER_HOST = "other";
+
+    private final int maxHosts;
+
+    private final Map<String, HttpHostMetrics> hosts = new ConcurrentHashMap<>();
+
+    private final List<Consumer<HttpHostMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * @param maxHosts 最大主机数
+     */
+    public HttpClientMetrics(int maxHosts) {
+        this.maxHosts = maxHosts;
+    }
+
+    /**
+     * 获取主机指标
+     *
+     * @param host 主机
+     * @return 主机指标
+     */
+    public HttpHostMetrics host(String host) {
+        HttpHostMetrics metrics = hosts.get(host);
+        if (null != metrics) {
+            return metrics;
+        }
+        String key = hosts.size() >= maxHosts ? OTHER_HOST : host;
+        HttpHostMetrics created = new HttpHostMetrics(key);
+        HttpHostMetrics existing = hosts.putIfAbsent(key, created);
+        if (null != existing) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 添加指标监听（立即回调已有主机，之后每出现一个新主机回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addListener(Consumer<HttpHostMetrics> listener) {
+        listeners.add(listener);
+        hosts.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部主机指标
+     *
+     * @return 主机指标
+     */
+    public Collection<HttpHostMetrics> getHosts() {
+        return Collections.unmodifiableCollection(hosts.values());
+    }
+
+    void recordCoalesced() {
+        coalescedCount.increment();
+    }
+
+    /**
+     * 被合并（复用进行中请求结果）的 GET 请求次数
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+}
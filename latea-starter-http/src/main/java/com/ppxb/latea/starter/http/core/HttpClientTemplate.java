@@ -0,0 +1,146 @@
+package com.ppxb.latea.starter.http.core;
+
+import com.ppxb.latea.starter.http.exception.HttpClientException;
+import com.ppxb.latea.starter.http.model.HttpResult;
+import okhttp3.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP 客户端模板
+ *
+ * <p>所有请求共享同一个 {@link OkHttpClient}，按目标地址复用连接池中的连接（HTTP/2 下同一主机多路复用一条连接）。</p>
+ *
+ * <p>开启合并时，URL 与请求头完全相同的并发 GET 请求只发出一次，其余调用方等待并共享同一结果；请求完成后立即移除，不做缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class HttpClientTemplate {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final OkHttpClient client;
+
+    private final HttpClientMetrics metrics;
+
+    private final boolean coalesce;
+
+    private final Map<String, CompletableFuture<HttpResult>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param client   OkHttp 客户端
+     * @param metrics  指标
+     * @param coalesce 是否合并并发的相同 GET 请求
+     */
+    public HttpClientTemplate(OkHttpClient client, HttpClientMetrics metrics, boolean coalesce) {
+        this.client = client;
+        this.metrics = metrics;
+        this.coalesce = coalesce;
+    }
+
+    /**
+     * GET 请求
+     *
+     * @param url URL
+     * @return 响应结果
+     */
+    public HttpResult get(String url) {
+        return this.execute(new Request.Builder().url(url).build());
+    }
+
+    /**
+     * GET 请求
+     *
+     * @param url     URL
+     * @param headers 请求头
+     * @return 响应结果
+     */
+    public HttpResult get(String url, Map<String, String> headers) {
+        return this.execute(new Request.Builder().url(url).headers(Headers.of(headers)).build());
+    }
+
+    /**
+     * POST JSON 请求（非幂等，不会重试）
+     *
+     * @param url  URL
+     * @param json JSON 字符串
+     * @return 响应结果
+     */
+    public HttpResult postJson(String url, String json) {
+        return this.execute(new Request.Builder().url(url).post(RequestBody.create(json, JSON)).build());
+    }
+
+    /**
+     * 执行请求
+     *
+     * @param request 请求
+     * @return 响应结果
+     * @throws HttpClientException 网络异常时（重试耗尽后）
+     */
+    public HttpResult execute(Request request) {
+        if (coalesce && "GET".equals(request.method())) {
+            return this.executeCoalesced(request);
+        }
+        return this.doExecute(request);
+    }
+
+    /**
+     * 获取 OkHttp 客户端
+     *
+     * @return OkHttp 客户端
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    private HttpResult executeCoalesced(Request request) {
+        String key = coalesceKey(request);
+        CompletableFuture<HttpResult> created = new CompletableFuture<>();
+        CompletableFuture<HttpResult> existing = inFlight.putIfAbsent(key, created);
+        if (null != existing) {
+            metrics.recordCoalesced();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new HttpClientException(e.getCause());
+            }
+        }
+        try {
+            HttpResult result = this.doExecute(request);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private HttpResult doExecute(Request request) {
+        try (Response response = client.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            return new HttpResult(response.code(), response.headers(), null == body ? new byte[0] : body.bytes());
+        } catch (IOException e) {
+            throw new HttpClientException("Failed to execute " + request.method() + " " + request.url()
+                .redact(), e);
+        }
+    }
+
+    private static String coalesceKey(Request request) {
+        StringBuilder key = new StringBuilder(request.url().toString());
+        Map<String, List<String>> headers = new TreeMap<>(request.headers().toMultimap());
+        headers.forEach((name, values) -> key.append('\n').append(name).append(':').append(values));
+        return key.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ppxb.latea.starter.http.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按主机统计的 HTTP 请求指标
+ *
+ * <p>每次尝试（含重试）单独统计，耗时截止到收到响应头。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class HttpHostMetrics {
+
+    private final String host;
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAdder ioErrorCount = new LongAdder();
+
+    private final LongAdder clientErrorCount = new LongAdder();
+
+    private final LongAdder serverErrorCount = new LongAdder();
+
+    public HttpHostMetrics(String host) {
+        this.host = host;
+    }
+
+    void recordResponse(int status, long nanos) {
+        requestCount.increment();
+        totalNanos.add(nanos);
+        if (status >= 500) {
+            serverErrorCount.increment();
+        } else if (status >= 400) {
+            clientErrorCount.increment();
+        }
+    }
+
+    void recordIoError(long nanos) {
+        requestCount.increment();
+        totalNanos.add(nanos);
+        ioErrorCount.increment();
+    }
+
+    /**
+     * 主机
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 请求次数
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * 请求总耗时（毫秒）
+     */
+    public double getTotalTimeMillis() {
+        return totalNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 网络异常次数（连接失败、超时等）
+     */
+    public long getIoErrorCount() {
+        return ioErrorCount.sum();
+    }
+
+    /**
+     * 4xx 响应次数
+     */
+    public long getClientErrorCount() {
+        return clientErrorCount.sum();
+    }
+
+    /**
+     * 5xx 响应次数
+     */
+    public long getServerErrorCount() {
+        return serverErrorCount.sum();
+    }
+}
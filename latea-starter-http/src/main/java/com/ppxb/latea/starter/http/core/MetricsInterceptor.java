@@ -0,0 +1,39 @@
+package com.ppxb.latea.starter.http.core;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * 指标拦截器
+ *
+ * <p>注册在 {@link RetryInterceptor} 之后，每次尝试单独计入目标主机的请求次数、耗时与错误次数。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class MetricsInterceptor implements Interceptor {
+
+    private final HttpClientMetrics metrics;
+
+    public MetricsInterceptor(HttpClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        HttpHostMetrics hostMetrics = metrics.host(chain.request().url().host());
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(chain.request());
+            hostMetrics.recordResponse(response.code(), System.nanoTime() - start);
+            return response;
+        } catch (IOException e) {
+            hostMetrics.recordIoError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
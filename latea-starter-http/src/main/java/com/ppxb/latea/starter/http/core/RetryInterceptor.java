@@ -0,0 +1,94 @@
+package com.ppxb.latea.starter.http.core;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 重试拦截器
+ *
+ * <p>仅重试幂等方法，在网络异常或响应状态码可重试时按“全抖动”指数退避等待：
+ * 第 n 次重试等待 {@code random(0, min(maxBackoff, initialBackoff * 2^(n-1)))}，避免大量客户端在同一时刻重试造成二次冲击。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RetryInterceptor implements Interceptor {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE");
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final Set<Integer> retryableStatuses;
+
+    /**
+     * @param maxAttempts       最大尝试次数（含首次请求）
+     * @param initialBackoff    初始退避时间
+     * @param maxBackoff        最大退避时间
+     * @param retryableStatuses 可重试的响应状态码
+     */
+    public RetryInterceptor(int maxAttempts,
+                            Duration initialBackoff,
+                            Duration maxBackoff,
+                            Set<Integer> retryableStatuses) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoff.toMillis());
+        this.retryableStatuses = Set.copyOf(retryableStatuses);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        if (maxAttempts <= 1 || !IDEMPOTENT_METHODS.contains(request.method())) {
+            return chain.proceed(request);
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                Response response = chain.proceed(request);
+                if (attempt >= maxAttempts || !retryableStatuses.contains(response.code())) {
+                    return response;
+                }
+                response.close();
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || chain.call().isCanceled()) {
+                    throw e;
+                }
+            }
+            this.sleep(this.backoffMillis(attempt));
+        }
+    }
+
+    /**
+     * 计算退避时间
+     *
+     * @param attempt 已尝试次数
+     * @return 退避时间（毫秒）
+     */
+    long backoffMillis(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << shift);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+}
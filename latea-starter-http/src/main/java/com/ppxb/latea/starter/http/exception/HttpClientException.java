@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.http.exception;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * HTTP 客户端异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class HttpClientException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public HttpClientException() {
+    }
+
+    public HttpClientException(String message) {
+        super(message);
+    }
+
+    public HttpClientException(Throwable cause) {
+        super(cause);
+    }
+
+    public HttpClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
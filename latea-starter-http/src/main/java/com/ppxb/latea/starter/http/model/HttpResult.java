@@ -0,0 +1,33 @@
+package com.ppxb.latea.starter.http.model;
+
+import okhttp3.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP 响应结果
+ *
+ * <p>合并的并发 GET 请求共享同一个结果，不要修改 {@link #body()} 返回的数组。</p>
+ *
+ * @param status  状态码
+ * @param headers 响应头
+ * @param body    响应体
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record HttpResult(int status, Headers headers, byte[] body) {
+
+    /**
+     * 是否成功（状态码为 2xx）
+     */
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * 响应体字符串（UTF-8）
+     */
+    public String bodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
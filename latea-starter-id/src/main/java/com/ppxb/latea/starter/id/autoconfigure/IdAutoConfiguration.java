@@ -0,0 +1,77 @@
+package com.ppxb.latea.starter.id.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.util.GeneralPropertySourceFactory;
+import com.ppxb.latea.starter.id.core.IdGeneratorTemplate;
+import com.ppxb.latea.starter.id.core.SegmentDistributorResolver;
+import jakarta.annotation.PostConstruct;
+import me.ahoo.cosid.provider.IdGeneratorProvider;
+import me.ahoo.cosid.segment.IdSegmentDistributorFactory;
+import me.ahoo.cosid.spring.boot.starter.CosIdAutoConfiguration;
+import me.ahoo.cosid.spring.boot.starter.CosIdProperties;
+import me.ahoo.cosid.spring.boot.starter.machine.CosIdMachineAutoConfiguration;
+import me.ahoo.cosid.spring.boot.starter.machine.CosIdSpringRedisMachineIdDistributorAutoConfiguration;
+import me.ahoo.cosid.spring.boot.starter.segment.CosIdSegmentAutoConfiguration;
+import me.ahoo.cosid.spring.boot.starter.segment.CosIdSpringRedisSegmentAutoConfiguration;
+import me.ahoo.cosid.spring.boot.starter.segment.SegmentIdProperties;
+import me.ahoo.cosid.spring.boot.starter.snowflake.CosIdSnowflakeAutoConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * ID 生成自动配置
+ *
+ * <p>默认配置见 {@code default-id.yml}：通过 Redis 分配机器号、生成雪花 ID，号段 ID 使用号段链模式并由 Redis 分配号段。
+ * 号段 ID 配置示例：
+ * <blockquote><pre>
+ * cosid:
+ *   segment:
+ *     provider:
+ *       order:
+ *         step: 1000
+ * </pre></blockquote>
+ *
+ * <p>本地开发可配置 {@code cosid.machine.distributor.type: manual} 及 {@code cosid.machine.distributor.manual.machine-id} 指定机器号。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(before = {CosIdAutoConfiguration.class, CosIdMachineAutoConfiguration.class,
+    CosIdSpringRedisMachineIdDistributorAutoConfiguration.class, CosIdSnowflakeAutoConfiguration.class,
+    CosIdSegmentAutoConfiguration.class, CosIdSpringRedisSegmentAutoConfiguration.class})
+@EnableConfigurationProperties(IdProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.ID, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+@PropertySource(value = "classpath:default-id.yml", factory = GeneralPropertySourceFactory.class)
+public class IdAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(IdAutoConfiguration.class);
+
+    /**
+     * ID 生成模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGeneratorTemplate idGeneratorTemplate(IdGeneratorProvider idGeneratorProvider,
+                                                   ObjectProvider<IdSegmentDistributorFactory> distributorFactory,
+                                                   ObjectProvider<CosIdProperties> cosIdProperties,
+                                                   ObjectProvider<SegmentIdProperties> segmentIdProperties) {
+        IdSegmentDistributorFactory factory = distributorFactory.getIfAvailable();
+        SegmentIdProperties segment = segmentIdProperties.getIfAvailable();
+        SegmentDistributorResolver resolver = null == factory || null == segment
+            ? null
+            : new SegmentDistributorResolver(factory, cosIdProperties.getObject(), segment);
+        return new IdGeneratorTemplate(idGeneratorProvider, resolver);
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'ID' completed initialization.");
+    }
+}
@@ -0,0 +1,29 @@
+package com.ppxb.latea.starter.id.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ID 生成配置属性
+ *
+ * <p>ID 生成器本身的配置（机器号分配、号段步长、预取等）见 {@code cosid.*}。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.ID)
+public class IdProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ppxb.latea.starter.id.core;
+
+import me.ahoo.cosid.IdGenerator;
+import me.ahoo.cosid.provider.IdGeneratorProvider;
+import me.ahoo.cosid.segment.IdSegment;
+import me.ahoo.cosid.segment.IdSegmentDistributor;
+import me.ahoo.cosid.segment.SegmentId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ID 生成模板
+ *
+ * <p>共享 ID 生成器为雪花算法（机器号自动分配），号段 ID 按名称获取。批量获取号段 ID 且数量不小于号段步长时，
+ * 直接向分配器申请一个覆盖全部数量的号段：一次分配即可得到连续 ID，不会耗尽号段链、阻塞其他线程等待预取。</p>
+ *
+ * <p>使用示例：
+ * <blockquote><pre>
+ * long id = idGeneratorTemplate.nextId();
+ * long[] orderIds = idGeneratorTemplate.nextIds("order", 5000);
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class IdGeneratorTemplate {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final IdGeneratorProvider provider;
+
+    private final SegmentDistributorResolver distributorResolver;
+
+    private final Map<String, Optional<IdSegmentDistributor>> distributors = new ConcurrentHashMap<>();
+
+    /**
+     * @param provider            ID 生成器提供者
+     * @param distributorResolver 号段分配器解析器（为 {@code null} 时批量获取逐个生成）
+     */
+    public IdGeneratorTemplate(IdGeneratorProvider provider, SegmentDistributorResolver distributorResolver) {
+        this.provider = provider;
+        this.distributorResolver = distributorResolver;
+    }
+
+    /**
+     * 获取 ID（共享 ID 生成器）
+     *
+     * @return ID
+     */
+    public long nextId() {
+        return provider.getShare().generate();
+    }
+
+    /**
+     * 获取字符串 ID（共享 ID 生成器）
+     *
+     * @return ID
+     */
+    public String nextIdStr() {
+        return provider.getShare().generateAsString();
+    }
+
+    /**
+     * 获取 ID
+     *
+     * @param name ID 生成器名称
+     * @return ID
+     */
+    public long nextId(String name) {
+        return provider.getRequired(name).generate();
+    }
+
+    /**
+     * 获取字符串 ID
+     *
+     * @param name ID 生成器名称
+     * @return ID
+     */
+    public String nextIdStr(String name) {
+        return provider.getRequired(name).generateAsString();
+    }
+
+    /**
+     * 批量获取 ID（共享 ID 生成器）
+     *
+     * @param count 数量
+     * @return ID
+     */
+    public long[] nextIds(int count) {
+        return this.nextIds(IdGeneratorProvider.SHARE, count);
+    }
+
+    /**
+     * 批量获取 ID
+     *
+     * @param name  ID 生成器名称
+     * @param count 数量
+     * @return ID（号段 ID 按升序连续排列）
+     */
+    public long[] nextIds(String name, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative.");
+        }
+        if (0 == count) {
+            return EMPTY;
+        }
+        IdGenerator generator = IdGeneratorProvider.SHARE.equals(name)
+            ? provider.getShare()
+            : provider.getRequired(name);
+        if (generator instanceof SegmentId && null != distributorResolver) {
+            IdSegmentDistributor distributor = distributors
+                .computeIfAbsent(name, key -> Optional.ofNullable(distributorResolver.resolve(key)))
+                .orElse(null);
+            if (null != distributor && count >= distributor.getStep()) {
+                return allocate(distributor, count);
+            }
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generator.generate();
+        }
+        return ids;
+    }
+
+    /**
+     * 申请覆盖指定数量的号段（按步长向上取整，剩余 ID 舍弃）
+     */
+    private static long[] allocate(IdSegmentDistributor distributor, int count) {
+        long step = distributor.getStep();
+        int segments = (int)((count + step - 1) / step);
+        IdSegment segment = distributor.nextIdSegment(segments, IdSegment.TIME_TO_LIVE_FOREVER);
+        long offset = segment.getOffset();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = offset + i + 1;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ppxb.latea.starter.id.core;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import me.ahoo.cosid.provider.IdGeneratorProvider;
+import me.ahoo.cosid.segment.IdSegmentDistributor;
+import me.ahoo.cosid.segment.IdSegmentDistributorDefinition;
+import me.ahoo.cosid.segment.IdSegmentDistributorFactory;
+import me.ahoo.cosid.spring.boot.starter.CosIdProperties;
+import me.ahoo.cosid.spring.boot.starter.segment.SegmentIdProperties;
+
+/**
+ * 号段分配器解析器
+ *
+ * <p>按 {@code cosid.segment} 中的 ID 定义创建号段分配器，分配器与号段 ID 共用同一个号段计数，
+ * 用于批量获取 ID 时一次性分配足量号段。按时间分组的号段会随时间切换分组，不支持批量分配。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SegmentDistributorResolver {
+
+    private final IdSegmentDistributorFactory distributorFactory;
+
+    private final CosIdProperties cosIdProperties;
+
+    private final SegmentIdProperties segmentIdProperties;
+
+    public SegmentDistributorResolver(IdSegmentDistributorFactory distributorFactory,
+                                      CosIdProperties cosIdProperties,
+                                      SegmentIdProperties segmentIdProperties) {
+        this.distributorFactory = distributorFactory;
+        this.cosIdProperties = cosIdProperties;
+        this.segmentIdProperties = segmentIdProperties;
+    }
+
+    /**
+     * 解析号段分配器
+     *
+     * @param name ID 生成器名称
+     * @return 号段分配器（未定义或不支持批量分配时返回 {@code null}）
+     */
+    public IdSegmentDistributor resolve(String name) {
+        SegmentIdProperties.IdDefinition definition = IdGeneratorProvider.SHARE.equals(name)
+            ? (segmentIdProperties.getShare().isEnabled() ? segmentIdProperties.getShare() : null)
+            : segmentIdProperties.getProvider().get(name);
+        if (null == definition || (null != definition.getGroup() && SegmentIdProperties.IdDefinition.GroupBy.NEVER != definition
+            .getGroup()
+            .getBy())) {
+            return null;
+        }
+        String namespace = CharSequenceUtil.blankToDefault(definition.getNamespace(), cosIdProperties.getNamespace());
+        return distributorFactory.create(new IdSegmentDistributorDefinition(namespace, name, definition
+            .getOffset(), definition.getStep()));
+    }
+}
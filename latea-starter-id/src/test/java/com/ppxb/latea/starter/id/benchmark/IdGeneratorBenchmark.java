@@ -0,0 +1,82 @@
+package com.ppxb.latea.starter.id.benchmark;
+
+import com.ppxb.latea.starter.id.core.IdGeneratorTemplate;
+import com.ppxb.latea.starter.id.core.SegmentDistributorResolver;
+import me.ahoo.cosid.provider.DefaultIdGeneratorProvider;
+import me.ahoo.cosid.segment.IdSegmentDistributor;
+import me.ahoo.cosid.segment.SegmentChainId;
+import me.ahoo.cosid.spring.boot.starter.CosIdProperties;
+import me.ahoo.cosid.spring.boot.starter.segment.SegmentIdProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多线程竞争下逐个生成号段 ID 与 {@link IdGeneratorTemplate#nextIds(String, int)} 批量分配的吞吐量对比（单位：ID/秒）
+ *
+ * <p>号段分配器使用 CosId 自带的模拟实现，每次分配等待 0.5ms 以模拟一次 Redis 往返，号段 ID 与批量分配共用同一个分配器，
+ * 与 {@link SegmentDistributorResolver} 按相同定义创建分配器时的行为一致。</p>
+ *
+ * <p>运行方式：{@code mvn -pl latea-starter-id -am test-compile}，然后以测试类路径执行本类的 {@code main} 方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private static final String NAME = "order";
+
+    private static final long STEP = 1000;
+
+    private static final int BATCH_SIZE = 5000;
+
+    /**
+     * 模拟分配器每秒可完成的分配次数（2000 即每次分配耗时 0.5ms）
+     */
+    private static final int DISTRIBUTOR_TPS = 2000;
+
+    private IdGeneratorTemplate template;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        IdSegmentDistributor distributor = new IdSegmentDistributor.Mock(STEP, DISTRIBUTOR_TPS);
+        DefaultIdGeneratorProvider provider = new DefaultIdGeneratorProvider();
+        provider.set(NAME, new SegmentChainId(distributor));
+        SegmentIdProperties.IdDefinition definition = new SegmentIdProperties.IdDefinition();
+        definition.setStep(STEP);
+        SegmentIdProperties segmentIdProperties = new SegmentIdProperties();
+        segmentIdProperties.setProvider(Map.of(NAME, definition));
+        template = new IdGeneratorTemplate(provider, new SegmentDistributorResolver(d -> distributor, new CosIdProperties(),
+            segmentIdProperties));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void loopGenerate(Blackhole blackhole) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            blackhole.consume(template.nextId(NAME));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] batchAllocate() {
+        return template.nextIds(NAME, BATCH_SIZE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,164 @@
+package com.ppxb.latea.starter.job.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.job.core.*;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+/**
+ * 任务调度与重试自动配置
+ *
+ * <p>SnailJob 客户端沿用 {@code snail-job} 的配置。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   job:
+ *     retry:
+ *       max-attempts: 3
+ *       initial-backoff: 100ms
+ *       max-backoff: 2s
+ *     report:
+ *       batch-size: 100
+ *       flush-interval: 1s
+ *     executor:
+ *       core-size: 8
+ *       max-size: 16
+ *       queue-capacity: 256
+ * </pre></blockquote>
+ *
+ * <p>未引入 SnailJob 客户端 Starter 或 {@code local-server: true} 时使用 {@link LocalJobServer}，
+ * 重试任务上报到进程内，由测试代码调用 {@link LocalJobServer#dispatchRetries()} 与 {@link LocalJobServer#dispatch} 模拟服务端调度。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(JobProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.JOB, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class JobAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(JobAutoConfiguration.class);
+
+    /**
+     * 任务调度与重试指标注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JobMetrics jobMetrics() {
+        return new JobMetrics();
+    }
+
+    /**
+     * 本地任务服务端（未配置其他上报目标时使用）
+     */
+    @Bean
+    @ConditionalOnMissingBean(RetryTaskSink.class)
+    public LocalJobServer localJobServer(BeanFactory beanFactory, ObjectProvider<ShardedJobExecutor> jobExecutors) {
+        return new LocalJobServer(beanFactory::getBean, () -> jobExecutors.orderedStream().toList());
+    }
+
+    /**
+     * 批量重试上报器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchingRetryReporter batchingRetryReporter(RetryTaskSink retryTaskSink,
+                                                       JobMetrics jobMetrics,
+                                                       JobProperties properties) {
+        JobProperties.Report report = properties.getReport();
+        return new BatchingRetryReporter(retryTaskSink, jobMetrics, report.getQueueCapacity(), report
+            .getBatchSize(), report.getFlushInterval());
+    }
+
+    /**
+     * 可靠重试模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReliableRetryTemplate reliableRetryTemplate(BeanFactory beanFactory,
+                                                       BatchingRetryReporter batchingRetryReporter,
+                                                       JobMetrics jobMetrics,
+                                                       JobProperties properties) {
+        JobProperties.Retry retry = properties.getRetry();
+        return new ReliableRetryTemplate(beanFactory::getBean, batchingRetryReporter, jobMetrics, retry
+            .getMaxAttempts(), retry.getInitialBackoff(), retry.getMaxBackoff());
+    }
+
+    /**
+     * 任务分片执行器
+     *
+     * <p>执行池不注册为 Bean，避免影响 Spring Boot 默认异步任务线程池的装配；容器中的 {@link TaskDecorator} 同样会组合后设置到执行池上。</p>
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JobShardRunner jobShardRunner(JobMetrics jobMetrics,
+                                         JobProperties properties,
+                                         ObjectProvider<TaskDecorator> taskDecorators) {
+        JobProperties.Executor config = properties.getExecutor();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("latea-job-");
+        executor.setCorePoolSize(Math.max(1, config.getCoreSize()));
+        executor.setMaxPoolSize(Math.max(executor.getCorePoolSize(), config.getMaxSize()));
+        executor.setQueueCapacity(Math.max(0, config.getQueueCapacity()));
+        executor.setKeepAliveSeconds((int)config.getKeepAlive().toSeconds());
+        List<TaskDecorator> decorators = taskDecorators.orderedStream().toList();
+        if (!decorators.isEmpty()) {
+            executor.setTaskDecorator(decorators.size() == 1
+                ? decorators.get(0)
+                : new CompositeTaskDecorator(decorators));
+        }
+        executor.initialize();
+        return new JobShardRunner(executor, jobMetrics);
+    }
+
+    /**
+     * SnailJob 重试上报配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.aizuda.snailjob.client.starter.EnableSnailJob")
+    @ConditionalOnProperty(prefix = PropertiesConstants.JOB, name = "local-server", havingValue = "false", matchIfMissing = true)
+    public static class SnailJobConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(RetryTaskSink.class)
+        public SnailJobRetryTaskSink snailJobRetryTaskSink() {
+            return new SnailJobRetryTaskSink();
+        }
+    }
+
+    /**
+     * 任务调度与重试指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class JobMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JobMeterBinder jobMeterBinder(JobMetrics jobMetrics,
+                                             JobShardRunner jobShardRunner,
+                                             BatchingRetryReporter batchingRetryReporter) {
+            return new JobMeterBinder(jobMetrics, jobShardRunner, batchingRetryReporter);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Job' completed initialization.");
+    }
+}
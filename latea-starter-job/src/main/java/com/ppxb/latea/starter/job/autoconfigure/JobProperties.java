@@ -0,0 +1,229 @@
+package com.ppxb.latea.starter.job.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 任务调度与重试配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.JOB)
+public class JobProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否使用本地任务服务端（替身，不连接 SnailJob 服务端；未引入 SnailJob 客户端 Starter 时自动使用）
+     */
+    private boolean localServer = false;
+
+    /**
+     * 本地重试配置
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 重试上报配置
+     */
+    private Report report = new Report();
+
+    /**
+     * 分片执行池配置
+     */
+    private Executor executor = new Executor();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLocalServer() {
+        return localServer;
+    }
+
+    public void setLocalServer(boolean localServer) {
+        this.localServer = localServer;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public Report getReport() {
+        return report;
+    }
+
+    public void setReport(Report report) {
+        this.report = report;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 本地重试配置
+     */
+    public static class Retry {
+
+        /**
+         * 本地最大尝试次数（含首次执行，1 表示失败后直接上报）
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 初始退避时间
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        /**
+         * 最大退避时间
+         */
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+
+    /**
+     * 重试上报配置
+     */
+    public static class Report {
+
+        /**
+         * 上报队列容量（队列已满时丢弃）
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * 批次大小
+         */
+        private int batchSize = 100;
+
+        /**
+         * 刷新间隔（批次未满时最多等待的时间）
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    /**
+     * 分片执行池配置
+     */
+    public static class Executor {
+
+        /**
+         * 核心线程数
+         */
+        private int coreSize = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 最大线程数
+         */
+        private int maxSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 队列容量（执行池与队列都已满时拒绝分片）
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * 空闲线程存活时间
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+    }
+}
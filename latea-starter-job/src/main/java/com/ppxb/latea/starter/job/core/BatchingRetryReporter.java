@@ -0,0 +1,155 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.ppxb.latea.starter.job.model.RetryTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量重试上报器
+ *
+ * <p>重试任务先进入有界队列，由后台线程按批次（达到批次大小或等待刷新间隔后）交给 {@link RetryTaskSink}，
+ * 调用线程不等待远程上报。上报失败的批次重新排队，队列已满时丢弃并计数。关闭时同步上报剩余任务。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BatchingRetryReporter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingRetryReporter.class);
+
+    private final RetryTaskSink sink;
+
+    private final JobMetrics metrics;
+
+    private final BlockingQueue<RetryTask> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param sink          上报目标
+     * @param metrics       指标
+     * @param queueCapacity 队列容量
+     * @param batchSize     批次大小
+     * @param flushInterval 刷新间隔
+     */
+    public BatchingRetryReporter(RetryTaskSink sink,
+                                 JobMetrics metrics,
+                                 int queueCapacity,
+                                 int batchSize,
+                                 Duration flushInterval) {
+        this.sink = sink;
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = Math.max(1, flushInterval.toNanos());
+        this.worker = Thread.ofPlatform().name("latea-retry-reporter").daemon().start(this::run);
+    }
+
+    /**
+     * 提交重试任务
+     *
+     * @param task 重试任务
+     * @return 是否已进入上报队列（队列已满时为 {@code false}）
+     */
+    public boolean submit(RetryTask task) {
+        if (queue.offer(task)) {
+            return true;
+        }
+        metrics.scene(task.scene()).recordDropped();
+        log.warn("Retry report queue is full, dropped retry task of scene [{}].", task.scene());
+        return false;
+    }
+
+    /**
+     * 待上报的任务数
+     *
+     * @return 任务数
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<RetryTask> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!this.flush(batch)) {
+                log.warn("Failed to report {} retry tasks on shutdown.", batch.size() + queue.size());
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<RetryTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RetryTask first = queue.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !this.poll(batch, remaining)) {
+                        break;
+                    }
+                }
+                if (!this.flush(batch)) {
+                    // 重新排队后立即清空批次，等待期间被中断时不会重复入队；
+                    // 等待一个刷新间隔后再上报，避免上报目标不可用时空转
+                    batch.forEach(this::submit);
+                    batch.clear();
+                    TimeUnit.NANOSECONDS.sleep(flushIntervalNanos);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                batch.forEach(queue::offer);
+                return;
+            }
+        }
+    }
+
+    private boolean poll(List<RetryTask> batch, long timeoutNanos) throws InterruptedException {
+        RetryTask task = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        if (null == task) {
+            return false;
+        }
+        batch.add(task);
+        return true;
+    }
+
+    private boolean flush(List<RetryTask> batch) {
+        try {
+            sink.report(List.copyOf(batch));
+            batch.forEach(task -> metrics.scene(task.scene()).recordReported());
+            return true;
+        } catch (RuntimeException e) {
+            batch.forEach(task -> metrics.scene(task.scene()).recordReportFailure());
+            log.warn("Failed to report {} retry tasks, will retry later.", batch.size(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ppxb.latea.starter.job.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 任务分片执行指标（按任务名称统计，每个分片记录一次）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JobExecutionMetrics {
+
+    private final String jobName;
+
+    private final LongAdder successCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder executeNanos = new LongAdder();
+
+    private final LongAccumulator maxExecuteNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder queueNanos = new LongAdder();
+
+    public JobExecutionMetrics(String jobName) {
+        this.jobName = jobName;
+    }
+
+    void recordStarted(long queueNanos) {
+        this.queueNanos.add(queueNanos);
+    }
+
+    void recordCompleted(boolean success, long nanos) {
+        (success ? successCount : failureCount).increment();
+        executeNanos.add(nanos);
+        maxExecuteNanos.accumulate(nanos);
+    }
+
+    void recordRejected() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * 任务名称
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * 执行成功的分片数
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 执行失败的分片数（含异常）
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 执行池已满被拒绝的分片数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 已执行的分片数
+     */
+    public long getExecutedCount() {
+        return successCount.sum() + failureCount.sum();
+    }
+
+    /**
+     * 分片执行总耗时（毫秒）
+     */
+    public double getTotalExecuteMillis() {
+        return (double)executeNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 单个分片最长执行耗时（毫秒）
+     */
+    public double getMaxExecuteMillis() {
+        return (double)maxExecuteNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 分片在执行池中排队的总时间（毫秒）
+     */
+    public double getTotalQueueMillis() {
+        return (double)queueNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
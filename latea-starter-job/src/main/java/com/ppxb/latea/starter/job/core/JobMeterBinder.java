@@ -0,0 +1,119 @@
+package com.ppxb.latea.starter.job.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 任务调度与重试指标绑定器（Micrometer）
+ *
+ * <p>分片指标带 {@code job}（任务名称）标签，重试指标带 {@code scene}（重试场景）标签。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JobMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.job";
+
+    private final JobMetrics metrics;
+
+    private final JobShardRunner shardRunner;
+
+    private final BatchingRetryReporter reporter;
+
+    public JobMeterBinder(JobMetrics metrics, JobShardRunner shardRunner, BatchingRetryReporter reporter) {
+        this.metrics = metrics;
+        this.shardRunner = shardRunner;
+        this.reporter = reporter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(PREFIX + ".executor.active", shardRunner, JobShardRunner::getActiveCount)
+            .description("正在执行的分片数")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".executor.queued", shardRunner, JobShardRunner::getQueueSize)
+            .description("排队中的分片数")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".retry.pending", reporter, BatchingRetryReporter::getPendingCount)
+            .description("待上报的重试任务数")
+            .register(meterRegistry);
+        metrics.addJobListener(jobMetrics -> register(meterRegistry, jobMetrics));
+        metrics.addSceneListener(sceneMetrics -> register(meterRegistry, sceneMetrics));
+    }
+
+    private static void register(MeterRegistry meterRegistry, JobExecutionMetrics metrics) {
+        String job = metrics.getJobName();
+        FunctionTimer.builder(PREFIX + ".shards", metrics, JobExecutionMetrics::getExecutedCount, JobExecutionMetrics::getTotalExecuteMillis, TimeUnit.MILLISECONDS)
+            .tag("job", job)
+            .description("分片执行次数与耗时")
+            .register(meterRegistry);
+        FunctionTimer.builder(PREFIX + ".shards.queue", metrics, JobExecutionMetrics::getExecutedCount, JobExecutionMetrics::getTotalQueueMillis, TimeUnit.MILLISECONDS)
+            .tag("job", job)
+            .description("分片排队时间")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".shards.max", metrics, JobExecutionMetrics::getMaxExecuteMillis)
+            .tag("job", job)
+            .baseUnit("milliseconds")
+            .description("单个分片最长执行耗时")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".shards.result", metrics, JobExecutionMetrics::getSuccessCount)
+            .tag("job", job)
+            .tag("result", "success")
+            .description("分片执行结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".shards.result", metrics, JobExecutionMetrics::getFailureCount)
+            .tag("job", job)
+            .tag("result", "failure")
+            .description("分片执行结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".shards.result", metrics, JobExecutionMetrics::getRejectedCount)
+            .tag("job", job)
+            .tag("result", "rejected")
+            .description("分片执行结果")
+            .register(meterRegistry);
+    }
+
+    private static void register(MeterRegistry meterRegistry, RetrySceneMetrics metrics) {
+        String scene = metrics.getScene();
+        FunctionCounter.builder(PREFIX + ".retry.attempts", metrics, RetrySceneMetrics::getAttemptCount)
+            .tag("scene", scene)
+            .description("本地执行次数（含首次执行）")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.outcomes", metrics, RetrySceneMetrics::getSuccessCount)
+            .tag("scene", scene)
+            .tag("result", "success")
+            .description("本地执行结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.outcomes", metrics, RetrySceneMetrics::getRecoveredCount)
+            .tag("scene", scene)
+            .tag("result", "recovered")
+            .description("本地执行结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.outcomes", metrics, RetrySceneMetrics::getExhaustedCount)
+            .tag("scene", scene)
+            .tag("result", "exhausted")
+            .description("本地执行结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.reports", metrics, RetrySceneMetrics::getReportedCount)
+            .tag("scene", scene)
+            .tag("result", "reported")
+            .description("重试任务上报结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.reports", metrics, RetrySceneMetrics::getReportFailureCount)
+            .tag("scene", scene)
+            .tag("result", "failure")
+            .description("重试任务上报结果")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".retry.reports", metrics, RetrySceneMetrics::getDroppedCount)
+            .tag("scene", scene)
+            .tag("result", "dropped")
+            .description("重试任务上报结果")
+            .register(meterRegistry);
+    }
+}
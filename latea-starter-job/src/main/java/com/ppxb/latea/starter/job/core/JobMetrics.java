@@ -0,0 +1,102 @@
+package com.ppxb.latea.starter.job.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 任务调度与重试指标注册表
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JobMetrics {
+
+    private final Map<String, JobExecutionMetrics> jobs = new ConcurrentHashMap<>();
+
+    private final Map<String, RetrySceneMetrics> scenes = new ConcurrentHashMap<>();
+
+    private final List<Consumer<JobExecutionMetrics>> jobListeners = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<RetrySceneMetrics>> sceneListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 获取任务执行指标（不存在时创建）
+     *
+     * @param jobName 任务名称
+     * @return 任务执行指标
+     */
+    public JobExecutionMetrics job(String jobName) {
+        return get(jobs, jobListeners, jobName, JobExecutionMetrics::new);
+    }
+
+    /**
+     * 获取重试指标（不存在时创建）
+     *
+     * @param scene 重试场景
+     * @return 重试指标
+     */
+    public RetrySceneMetrics scene(String scene) {
+        return get(scenes, sceneListeners, scene, RetrySceneMetrics::new);
+    }
+
+    /**
+     * 添加任务执行指标监听（立即回调已有指标，之后每创建一个指标回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addJobListener(Consumer<JobExecutionMetrics> listener) {
+        jobListeners.add(listener);
+        jobs.values().forEach(listener);
+    }
+
+    /**
+     * 添加重试指标监听（立即回调已有指标，之后每创建一个指标回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addSceneListener(Consumer<RetrySceneMetrics> listener) {
+        sceneListeners.add(listener);
+        scenes.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部任务执行指标
+     *
+     * @return 任务执行指标
+     */
+    public Collection<JobExecutionMetrics> getJobs() {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+
+    /**
+     * 获取全部重试指标
+     *
+     * @return 重试指标
+     */
+    public Collection<RetrySceneMetrics> getScenes() {
+        return Collections.unmodifiableCollection(scenes.values());
+    }
+
+    private static <T> T get(Map<String, T> metrics,
+                             List<Consumer<T>> listeners,
+                             String name,
+                             Function<String, T> factory) {
+        T existing = metrics.get(name);
+        if (null != existing) {
+            return existing;
+        }
+        T created = factory.apply(name);
+        existing = metrics.putIfAbsent(name, created);
+        if (null != existing) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+}
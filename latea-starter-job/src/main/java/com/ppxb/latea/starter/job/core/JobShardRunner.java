@@ -0,0 +1,118 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.aizuda.snailjob.client.job.core.dto.JobArgs;
+import com.aizuda.snailjob.client.job.core.dto.ShardingJobArgs;
+import com.aizuda.snailjob.client.model.ExecuteResult;
+import com.aizuda.snailjob.common.core.enums.StatusEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 任务分片执行器
+ *
+ * <p>所有任务的分片都在同一个有界执行池（舱壁）中执行，与 Web 请求、异步任务的线程池相互隔离：
+ * 执行池和队列都已满时立即拒绝并返回失败结果，由服务端按任务配置重试，而不是无限堆积。
+ * 每个分片记录一次排队时间与执行时间；调用线程被中断（服务端停止任务）时会中断正在执行的分片。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JobShardRunner implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JobShardRunner.class);
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final JobMetrics metrics;
+
+    /**
+     * @param executor 分片执行池（由执行器负责关闭）
+     * @param metrics  指标
+     */
+    public JobShardRunner(ThreadPoolTaskExecutor executor, JobMetrics metrics) {
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 执行分片
+     *
+     * @param jobName 任务名称
+     * @param args    任务参数
+     * @param task    分片逻辑
+     * @return 执行结果
+     */
+    public ExecuteResult run(String jobName, JobArgs args, Function<JobArgs, ExecuteResult> task) {
+        JobExecutionMetrics jobMetrics = metrics.job(jobName);
+        long submitted = System.nanoTime();
+        FutureTask<ExecuteResult> future = new FutureTask<>(() -> {
+            long started = System.nanoTime();
+            jobMetrics.recordStarted(started - submitted);
+            boolean success = false;
+            try {
+                ExecuteResult result = task.apply(args);
+                success = null != result && StatusEnum.YES.getStatus() == result.getStatus();
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                jobMetrics.recordCompleted(success, elapsed);
+                if (log.isDebugEnabled()) {
+                    log.debug("Job [{}] shard {} finished in {} ms, success: {}.", jobName, shardOf(args), elapsed / 1_000_000, success);
+                }
+            }
+        });
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            jobMetrics.recordRejected();
+            log.warn("Job [{}] shard {} rejected, job executor is saturated.", jobName, shardOf(args));
+            return ExecuteResult.failure(null, "Job executor is saturated.");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return ExecuteResult.failure(null, "Job shard interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = null == e.getCause() ? e : e.getCause();
+            log.error("Job [{}] shard {} failed.", jobName, shardOf(args), cause);
+            return ExecuteResult.failure(null, String.valueOf(cause.getMessage()));
+        }
+    }
+
+    /**
+     * 正在执行的分片数
+     *
+     * @return 分片数
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 排队中的分片数
+     *
+     * @return 分片数
+     */
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static String shardOf(JobArgs args) {
+        return args instanceof ShardingJobArgs sharding
+            ? sharding.getShardingIndex() + "/" + sharding.getShardingTotal()
+            : "0/1";
+    }
+}
@@ -0,0 +1,133 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.aizuda.snailjob.client.core.strategy.ExecutorMethod;
+import com.aizuda.snailjob.client.job.core.dto.ShardingJobArgs;
+import com.aizuda.snailjob.client.model.ExecuteResult;
+import com.ppxb.latea.starter.job.exception.JobException;
+import com.ppxb.latea.starter.job.model.RetryTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 本地任务服务端（替身）
+ *
+ * <p>用于测试与本地开发，不连接 SnailJob 服务端：
+ * <ul>
+ * <li>作为 {@link RetryTaskSink} 接收上报的重试任务，由 {@link #dispatchRetries()} 模拟服务端回调执行方法；</li>
+ * <li>由 {@link #dispatch(String, Object, int)} 模拟服务端下发分片任务，每个分片并发调用 {@link ShardedJobExecutor#runShard}。</li>
+ * </ul>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LocalJobServer implements RetryTaskSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalJobServer.class);
+
+    private final Function<Class<? extends ExecutorMethod>, ? extends ExecutorMethod> executorMethodResolver;
+
+    private final Supplier<Collection<ShardedJobExecutor>> jobExecutors;
+
+    private final ConcurrentLinkedQueue<RetryTask> pendingRetries = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong taskBatchId = new AtomicLong();
+
+    /**
+     * @param executorMethodResolver 执行方法解析器
+     * @param jobExecutors           任务执行器
+     */
+    public LocalJobServer(Function<Class<? extends ExecutorMethod>, ? extends ExecutorMethod> executorMethodResolver,
+                          Supplier<Collection<ShardedJobExecutor>> jobExecutors) {
+        this.executorMethodResolver = executorMethodResolver;
+        this.jobExecutors = jobExecutors;
+    }
+
+    @Override
+    public void report(List<RetryTask> tasks) {
+        pendingRetries.addAll(tasks);
+    }
+
+    /**
+     * 获取待重试的任务
+     *
+     * @return 重试任务
+     */
+    public List<RetryTask> getPendingRetries() {
+        return List.copyOf(pendingRetries);
+    }
+
+    /**
+     * 执行一轮重试（每个待重试任务回调一次执行方法，失败的任务继续等待下一轮）
+     *
+     * @return 本轮执行成功的任务数
+     */
+    public int dispatchRetries() {
+        List<RetryTask> failed = new ArrayList<>();
+        int succeeded = 0;
+        RetryTask task;
+        while (null != (task = pendingRetries.poll())) {
+            try {
+                executorMethodResolver.apply(task.executorMethod()).doExecute(task.params());
+                succeeded++;
+            } catch (RuntimeException e) {
+                log.debug("Local retry of scene [{}] failed.", task.scene(), e);
+                failed.add(task);
+            }
+        }
+        pendingRetries.addAll(failed);
+        return succeeded;
+    }
+
+    /**
+     * 下发任务
+     *
+     * @param jobName       任务名称
+     * @param jobParams     任务参数
+     * @param shardingTotal 分片总数
+     * @return 各分片的执行结果（按分片序号排列）
+     */
+    public List<ExecuteResult> dispatch(String jobName, Object jobParams, int shardingTotal) {
+        ShardedJobExecutor jobExecutor = jobExecutors.get()
+            .stream()
+            .filter(executor -> jobName.equals(executor.getJobName()))
+            .findFirst()
+            .orElseThrow(() -> new JobException("Job [" + jobName + "] not found."));
+        long batchId = taskBatchId.incrementAndGet();
+        int total = Math.max(1, shardingTotal);
+        List<Future<ExecuteResult>> futures = new ArrayList<>(total);
+        try (ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                ShardingJobArgs args = new ShardingJobArgs();
+                args.setTaskBatchId(batchId);
+                args.setJobParams(jobParams);
+                args.setShardingTotal(total);
+                args.setShardingIndex(i);
+                futures.add(dispatcher.submit(() -> jobExecutor.runShard(args)));
+            }
+        }
+        List<ExecuteResult> results = new ArrayList<>(total);
+        for (Future<ExecuteResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JobException("Interrupted while dispatching job [" + jobName + "].", e);
+            } catch (ExecutionException e) {
+                results.add(ExecuteResult.failure(null, String.valueOf(e.getCause())));
+            }
+        }
+        return results;
+    }
+}
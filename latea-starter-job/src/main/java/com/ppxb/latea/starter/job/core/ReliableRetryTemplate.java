@@ -0,0 +1,138 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.aizuda.snailjob.client.core.annotation.ExecutorMethodRegister;
+import com.aizuda.snailjob.client.core.strategy.ExecutorMethod;
+import com.ppxb.latea.starter.job.exception.JobException;
+import com.ppxb.latea.starter.job.model.RetryOutcome;
+import com.ppxb.latea.starter.job.model.RetryTask;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 可靠重试模板
+ *
+ * <p>先在本地执行并按“全抖动”指数退避重试：第 n 次重试等待 {@code random(0, min(maxBackoff, initialBackoff * 2^(n-1)))}，
+ * 多数瞬时故障在本地即可恢复，不产生远程调用；本地重试耗尽后提交给 {@link BatchingRetryReporter} 批量上报，由服务端接管后续重试。
+ * 执行方法即 SnailJob 的 {@code @ExecutorMethodRegister} 执行方法，本地重试与服务端重试走同一段逻辑：
+ * <blockquote><pre>
+ * &#64;Component
+ * &#64;ExecutorMethodRegister(scene = "order-sync")
+ * public class OrderSyncExecutor implements ExecutorMethod {
+ *     public Object doExecute(Object params) { ... }
+ * }
+ *
+ * RetryOutcome outcome = retryTemplate.execute(OrderSyncExecutor.class, orderId);
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ReliableRetryTemplate {
+
+    private static final ClassValue<String> SCENES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            ExecutorMethodRegister register = AnnotationUtils.findAnnotation(type, ExecutorMethodRegister.class);
+            if (null == register) {
+                throw new JobException("Executor method [" + type
+                    .getName() + "] is not annotated with @ExecutorMethodRegister.");
+            }
+            return register.scene();
+        }
+    };
+
+    private final Function<Class<? extends ExecutorMethod>, ? extends ExecutorMethod> executorMethodResolver;
+
+    private final BatchingRetryReporter reporter;
+
+    private final JobMetrics metrics;
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    /**
+     * @param executorMethodResolver 执行方法解析器（通常从容器中获取 Bean）
+     * @param reporter               重试上报器
+     * @param metrics                指标
+     * @param maxAttempts            本地最大尝试次数（含首次执行）
+     * @param initialBackoff         初始退避时间
+     * @param maxBackoff             最大退避时间
+     */
+    public ReliableRetryTemplate(Function<Class<? extends ExecutorMethod>, ? extends ExecutorMethod> executorMethodResolver,
+                                 BatchingRetryReporter reporter,
+                                 JobMetrics metrics,
+                                 int maxAttempts,
+                                 Duration initialBackoff,
+                                 Duration maxBackoff) {
+        this.executorMethodResolver = executorMethodResolver;
+        this.reporter = reporter;
+        this.metrics = metrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoff.toMillis());
+    }
+
+    /**
+     * 执行（本地重试耗尽后上报）
+     *
+     * @param executorMethod 执行方法类型
+     * @param params         执行参数（上报时会被序列化）
+     * @return 重试结果
+     */
+    public RetryOutcome execute(Class<? extends ExecutorMethod> executorMethod, Object params) {
+        String scene = SCENES.get(executorMethod);
+        ExecutorMethod method = executorMethodResolver.apply(executorMethod);
+        RetrySceneMetrics sceneMetrics = metrics.scene(scene);
+        RuntimeException last = null;
+        int attempt = 0;
+        while (attempt < maxAttempts) {
+            attempt++;
+            sceneMetrics.recordAttempt();
+            try {
+                Object result = method.doExecute(params);
+                sceneMetrics.recordSuccess(attempt);
+                return RetryOutcome.success(result, attempt);
+            } catch (RuntimeException e) {
+                last = e;
+            }
+            if (attempt < maxAttempts && !this.sleep(this.backoffMillis(attempt))) {
+                break;
+            }
+        }
+        sceneMetrics.recordExhausted();
+        boolean reported = reporter.submit(new RetryTask(scene, executorMethod, params, String
+            .valueOf(last), System.currentTimeMillis()));
+        return RetryOutcome.deferred(attempt, reported, last);
+    }
+
+    /**
+     * 计算退避时间
+     *
+     * @param attempt 已尝试次数
+     * @return 退避时间（毫秒）
+     */
+    long backoffMillis(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << shift);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 等待下一次重试，被中断时直接上报，并保留中断状态
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
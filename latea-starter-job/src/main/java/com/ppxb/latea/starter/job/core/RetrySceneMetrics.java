@@ -0,0 +1,115 @@
+package com.ppxb.latea.starter.job.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 重试指标（按重试场景统计）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RetrySceneMetrics {
+
+    private final String scene;
+
+    private final LongAdder attemptCount = new LongAdder();
+
+    private final LongAdder successCount = new LongAdder();
+
+    private final LongAdder recoveredCount = new LongAdder();
+
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    private final LongAdder reportedCount = new LongAdder();
+
+    private final LongAdder reportFailureCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    public RetrySceneMetrics(String scene) {
+        this.scene = scene;
+    }
+
+    void recordAttempt() {
+        attemptCount.increment();
+    }
+
+    void recordSuccess(int attempts) {
+        successCount.increment();
+        if (attempts > 1) {
+            recoveredCount.increment();
+        }
+    }
+
+    void recordExhausted() {
+        exhaustedCount.increment();
+    }
+
+    void recordReported() {
+        reportedCount.increment();
+    }
+
+    void recordReportFailure() {
+        reportFailureCount.increment();
+    }
+
+    void recordDropped() {
+        droppedCount.increment();
+    }
+
+    /**
+     * 重试场景
+     */
+    public String getScene() {
+        return scene;
+    }
+
+    /**
+     * 本地执行次数（含首次执行）
+     */
+    public long getAttemptCount() {
+        return attemptCount.sum();
+    }
+
+    /**
+     * 本地执行成功的次数
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 经本地重试后成功的次数
+     */
+    public long getRecoveredCount() {
+        return recoveredCount.sum();
+    }
+
+    /**
+     * 本地重试耗尽的次数
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    /**
+     * 上报成功的任务数
+     */
+    public long getReportedCount() {
+        return reportedCount.sum();
+    }
+
+    /**
+     * 上报失败的任务数（会重新排队）
+     */
+    public long getReportFailureCount() {
+        return reportFailureCount.sum();
+    }
+
+    /**
+     * 上报队列已满被丢弃的任务数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
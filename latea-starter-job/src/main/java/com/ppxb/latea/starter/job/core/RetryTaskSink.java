@@ -0,0 +1,24 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.ppxb.latea.starter.job.model.RetryTask;
+
+import java.util.List;
+
+/**
+ * 重试任务上报目标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ * @see SnailJobRetryTaskSink
+ * @see LocalJobServer
+ */
+public interface RetryTaskSink {
+
+    /**
+     * 批量上报重试任务
+     *
+     * @param tasks 重试任务
+     * @throws RuntimeException 上报失败时（整批任务会重新排队）
+     */
+    void report(List<RetryTask> tasks);
+}
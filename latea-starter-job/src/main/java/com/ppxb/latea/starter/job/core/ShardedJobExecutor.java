@@ -0,0 +1,72 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.aizuda.snailjob.client.job.core.annotation.JobExecutor;
+import com.aizuda.snailjob.client.job.core.dto.JobArgs;
+import com.aizuda.snailjob.client.job.core.executor.AbstractJobExecutor;
+import com.aizuda.snailjob.client.model.ExecuteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 分片任务执行器基类
+ *
+ * <p>SnailJob 下发的任务（含分片任务的每个分片）交给 {@link JobShardRunner} 在有界执行池中执行并记录指标：
+ * <blockquote><pre>
+ * &#64;Component
+ * &#64;JobExecutor(name = "syncOrderJob")
+ * public class SyncOrderJob extends ShardedJobExecutor {
+ *     protected ExecuteResult execute(JobArgs args) {
+ *         ShardingJobArgs sharding = (ShardingJobArgs)args;
+ *         ...
+ *         return ExecuteResult.success();
+ *     }
+ * }
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public abstract class ShardedJobExecutor extends AbstractJobExecutor {
+
+    private JobShardRunner shardRunner;
+
+    @Autowired
+    public void setShardRunner(JobShardRunner shardRunner) {
+        this.shardRunner = shardRunner;
+    }
+
+    @Override
+    protected final ExecuteResult doJobExecute(JobArgs args) {
+        return this.runShard(args);
+    }
+
+    /**
+     * 执行分片（SnailJob 回调或 {@link LocalJobServer} 调度）
+     *
+     * @param args 任务参数
+     * @return 执行结果
+     */
+    public ExecuteResult runShard(JobArgs args) {
+        return null == shardRunner ? this.execute(args) : shardRunner.run(this.getJobName(), args, this::execute);
+    }
+
+    /**
+     * 任务名称（{@code @JobExecutor} 的名称，未标注时为类名）
+     *
+     * @return 任务名称
+     */
+    public String getJobName() {
+        Class<?> type = ClassUtils.getUserClass(this);
+        JobExecutor jobExecutor = AnnotationUtils.findAnnotation(type, JobExecutor.class);
+        return null == jobExecutor ? type.getName() : jobExecutor.name();
+    }
+
+    /**
+     * 执行分片逻辑
+     *
+     * @param args 任务参数（分片任务为 {@code ShardingJobArgs}）
+     * @return 执行结果
+     */
+    protected abstract ExecuteResult execute(JobArgs args);
+}
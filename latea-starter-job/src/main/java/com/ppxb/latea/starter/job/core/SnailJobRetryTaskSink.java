@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.job.core;
+
+import com.aizuda.snailjob.client.core.retryer.RetryTaskTemplateBuilder;
+import com.ppxb.latea.starter.job.model.RetryTask;
+
+import java.util.List;
+
+/**
+ * SnailJob 重试任务上报目标
+ *
+ * <p>通过 SnailJob 的手动重试上报任务，由服务端按场景配置调度，回调 {@code @ExecutorMethodRegister} 注册的执行方法。
+ * 执行方法声明为异步（默认）时，SnailJob 客户端还会在滑动窗口内合并上报请求。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SnailJobRetryTaskSink implements RetryTaskSink {
+
+    @Override
+    public void report(List<RetryTask> tasks) {
+        for (RetryTask task : tasks) {
+            RetryTaskTemplateBuilder.newBuilder()
+                .withScene(task.scene())
+                .withExecutorMethod(task.executorMethod())
+                .withParam(task.params())
+                .build()
+                .executeRetry();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.job.exception;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 任务调度与重试异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JobException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public JobException() {
+    }
+
+    public JobException(String message) {
+        super(message);
+    }
+
+    public JobException(Throwable cause) {
+        super(cause);
+    }
+
+    public JobException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ppxb.latea.starter.job.model;
+
+/**
+ * 重试结果
+ *
+ * @param success  是否在本地执行成功
+ * @param result   执行结果（本地执行成功时）
+ * @param attempts 本地尝试次数
+ * @param reported 本地重试耗尽后是否已提交上报
+ * @param error    最后一次失败的异常（本地执行成功时为 {@code null}）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record RetryOutcome(boolean success, Object result, int attempts, boolean reported, Throwable error) {
+
+    public static RetryOutcome success(Object result, int attempts) {
+        return new RetryOutcome(true, result, attempts, false, null);
+    }
+
+    public static RetryOutcome deferred(int attempts, boolean reported, Throwable error) {
+        return new RetryOutcome(false, null, attempts, reported, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ppxb.latea.starter.job.model;
+
+import com.aizuda.snailjob.client.core.strategy.ExecutorMethod;
+
+/**
+ * 重试任务（本地重试耗尽后上报）
+ *
+ * @param scene          重试场景
+ * @param executorMethod 重试执行方法
+ * @param params         执行参数
+ * @param cause          最后一次失败原因
+ * @param createTime     创建时间（毫秒时间戳）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record RetryTask(String scene, Class<? extends ExecutorMethod> executorMethod, Object params, String cause,
+                        long createTime) {
+}
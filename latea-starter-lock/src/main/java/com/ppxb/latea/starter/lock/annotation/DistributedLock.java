@@ -0,0 +1,52 @@
+package com.ppxb.latea.starter.lock.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分布式锁注解
+ *
+ * <p>使用示例：
+ * <blockquote><pre>
+ * &#64;DistributedLock(name = "order", key = "#orderId", waitTime = 3, unit = TimeUnit.SECONDS)
+ * public void pay(Long orderId) {}
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedLock {
+
+    /**
+     * 名称（为空时使用类名与方法名）
+     */
+    String name() default "";
+
+    /**
+     * 键（支持 SpEL 表达式，例如：{@code #user.id}；为空时同一名称共用一把锁）
+     */
+    String key() default "";
+
+    /**
+     * 最长等待时间
+     */
+    long waitTime() default 0;
+
+    /**
+     * 租约时间（小于等于 0 时由看门狗自动续期，直到方法返回）
+     */
+    long leaseTime() default -1;
+
+    /**
+     * 时间单位
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 提示信息
+     */
+    String message() default "操作正在处理中，请稍后再试";
+}
@@ -0,0 +1,102 @@
+package com.ppxb.latea.starter.lock.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.lock.core.*;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 分布式锁自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   lock:
+ *     key-prefix: Lock
+ *     max-handoffs: 16
+ * </pre></blockquote>
+ *
+ * <p>测试环境可声明 {@link InMemoryLockClient} 类型的 {@link LockClient} Bean，使用进程内的锁替代 Redis。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(afterName = "org.redisson.spring.starter.RedissonAutoConfigurationV2")
+@EnableConfigurationProperties(LockProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.LOCK, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class LockAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(LockAutoConfiguration.class);
+
+    /**
+     * 分布式锁客户端
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(RedissonClient.class)
+    public LockClient lockClient(RedissonClient redissonClient) {
+        return new RedissonLockClient(redissonClient);
+    }
+
+    /**
+     * 锁指标注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LockMetricsRegistry lockMetricsRegistry() {
+        return new LockMetricsRegistry();
+    }
+
+    /**
+     * 分布式锁模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(LockClient.class)
+    public LockTemplate lockTemplate(LockClient lockClient,
+                                     LockMetricsRegistry lockMetricsRegistry,
+                                     LockProperties properties) {
+        return new LockTemplate(lockClient, lockMetricsRegistry, properties.getKeyPrefix(), properties
+            .getMaxHandoffs());
+    }
+
+    /**
+     * 分布式锁切面
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(LockTemplate.class)
+    public DistributedLockAspect distributedLockAspect(LockTemplate lockTemplate) {
+        return new DistributedLockAspect(lockTemplate);
+    }
+
+    /**
+     * 锁指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class LockMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public LockMeterBinder lockMeterBinder(LockMetricsRegistry lockMetricsRegistry) {
+            return new LockMeterBinder(lockMetricsRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Lock' completed initialization.");
+    }
+}
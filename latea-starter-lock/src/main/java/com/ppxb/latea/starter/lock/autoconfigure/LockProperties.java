@@ -0,0 +1,53 @@
+package com.ppxb.latea.starter.lock.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 分布式锁配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.LOCK)
+public class LockProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 键前缀
+     */
+    private String keyPrefix = "Lock";
+
+    /**
+     * 远程锁在本地连续移交的最大次数（0 表示不移交；仅对看门狗续期的锁生效，达到上限后释放远程锁，让其他节点有机会加锁）
+     */
+    private int maxHandoffs = 16;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public int getMaxHandoffs() {
+        return maxHandoffs;
+    }
+
+    public void setMaxHandoffs(int maxHandoffs) {
+        this.maxHandoffs = maxHandoffs;
+    }
+}
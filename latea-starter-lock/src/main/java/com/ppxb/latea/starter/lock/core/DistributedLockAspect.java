@@ -0,0 +1,100 @@
+package com.ppxb.latea.starter.lock.core;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import com.ppxb.latea.starter.lock.annotation.DistributedLock;
+import com.ppxb.latea.starter.lock.exception.LockException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 分布式锁切面
+ *
+ * <p>方法上的分布式锁注解在首次调用时解析（SpEL 表达式同时预编译），之后的调用只需求值键并调用 {@link LockTemplate}。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Aspect
+public class DistributedLockAspect {
+
+    private final ConcurrentHashMap<Method, CompiledLock> compiledCache = new ConcurrentHashMap<>();
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final LockTemplate lockTemplate;
+
+    public DistributedLockAspect(LockTemplate lockTemplate) {
+        this.lockTemplate = lockTemplate;
+    }
+
+    @Around("@annotation(com.ppxb.latea.starter.lock.annotation.DistributedLock)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+        CompiledLock lock = compiledCache.get(method);
+        if (null == lock) {
+            lock = compiledCache.computeIfAbsent(method, this::compile);
+        }
+        String key = StringConstants.EMPTY;
+        if (null != lock.keyExpression()) {
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, joinPoint
+                .getArgs(), parameterNameDiscoverer);
+            key = lock.keyExpression().getValue(context, String.class);
+        }
+        LockHandle handle = lockTemplate.tryLock(lock.name(), key, lock.waitTime(), lock.leaseTime());
+        if (null == handle) {
+            throw new LockException(lock.message(), HttpStatus.HTTP_CONFLICT);
+        }
+        try (handle) {
+            return joinPoint.proceed();
+        }
+    }
+
+    /**
+     * 解析方法上的分布式锁注解
+     *
+     * @param method 方法
+     * @return 解析结果
+     */
+    private CompiledLock compile(Method method) {
+        DistributedLock annotation = AnnotatedElementUtils.findMergedAnnotation(method, DistributedLock.class);
+        String name = CharSequenceUtil.isNotBlank(annotation.name())
+            ? annotation.name()
+            : method.getDeclaringClass().getName() + StringConstants.DOT + method.getName();
+        Expression expression = CharSequenceUtil.isNotBlank(annotation.key())
+            ? parser.parseExpression(annotation.key())
+            : null;
+        Duration waitTime = Duration.of(Math.max(0, annotation.waitTime()), annotation.unit().toChronoUnit());
+        Duration leaseTime = annotation.leaseTime() > 0
+            ? Duration.of(annotation.leaseTime(), annotation.unit().toChronoUnit())
+            : null;
+        return new CompiledLock(name, expression, waitTime, leaseTime, annotation.message());
+    }
+
+    /**
+     * 解析后的分布式锁注解
+     *
+     * @param name          锁名称
+     * @param keyExpression 键表达式
+     * @param waitTime      最长等待时间
+     * @param leaseTime     租约时间
+     * @param message       提示信息
+     */
+    private record CompiledLock(String name, Expression keyExpression, Duration waitTime, Duration leaseTime, String message) {
+    }
+}
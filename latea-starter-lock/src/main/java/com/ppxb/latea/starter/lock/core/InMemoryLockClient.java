@@ -0,0 +1,111 @@
+package com.ppxb.latea.starter.lock.core;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 进程内分布式锁客户端
+ *
+ * <p>用于测试环境代替 Redis：多个 {@link LockTemplate} 共享同一个实例即可模拟多节点竞争同一把锁，
+ * 并可通过 {@link #getRequestCount()} 断言实际的“远程”调用次数。锁的租约到期后视为已释放；信号量不处理租约。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InMemoryLockClient implements LockClient {
+
+    private final Map<String, Holder> locks = new HashMap<>();
+
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+
+    @Override
+    public boolean tryLock(String key,
+                           long ownerId,
+                           Duration waitTime,
+                           Duration leaseTime) throws InterruptedException {
+        requestCount.increment();
+        long deadline = System.currentTimeMillis() + waitTime.toMillis();
+        synchronized (locks) {
+            while (true) {
+                long now = System.currentTimeMillis();
+                Holder holder = locks.get(key);
+                if (null == holder || holder.expireAt() <= now || holder.ownerId() == ownerId) {
+                    int count = null != holder && holder.ownerId() == ownerId && holder.expireAt() > now
+                        ? holder.count() + 1
+                        : 1;
+                    long expireAt = null == leaseTime ? Long.MAX_VALUE : now + leaseTime.toMillis();
+                    locks.put(key, new Holder(ownerId, count, expireAt));
+                    return true;
+                }
+                long remaining = Math.min(deadline, holder.expireAt()) - now;
+                if (deadline <= now) {
+                    return false;
+                }
+                locks.wait(Math.max(1, remaining));
+            }
+        }
+    }
+
+    @Override
+    public void unlock(String key, long ownerId) {
+        requestCount.increment();
+        synchronized (locks) {
+            Holder holder = locks.get(key);
+            if (null == holder || holder.ownerId() != ownerId) {
+                throw new IllegalMonitorStateException("Lock is not held by owner " + ownerId + ": " + key);
+            }
+            if (holder.count() > 1) {
+                locks.put(key, new Holder(ownerId, holder.count() - 1, holder.expireAt()));
+                return;
+            }
+            locks.remove(key);
+            locks.notifyAll();
+        }
+    }
+
+    @Override
+    public String tryAcquirePermit(String key,
+                                   int permits,
+                                   Duration waitTime,
+                                   Duration leaseTime) throws InterruptedException {
+        requestCount.increment();
+        Semaphore semaphore = semaphores.computeIfAbsent(key, k -> new Semaphore(permits));
+        return semaphore.tryAcquire(waitTime.toMillis(), TimeUnit.MILLISECONDS) ? UUID.randomUUID().toString() : null;
+    }
+
+    @Override
+    public void releasePermit(String key, String permitId) {
+        requestCount.increment();
+        Semaphore semaphore = semaphores.get(key);
+        if (null != semaphore) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 获取请求次数（相当于 Redis 往返次数）
+     *
+     * @return 请求次数
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * 锁持有者
+     *
+     * @param ownerId  持有者标识
+     * @param count    重入次数
+     * @param expireAt 到期时间
+     */
+    private record Holder(long ownerId, int count, long expireAt) {
+    }
+}
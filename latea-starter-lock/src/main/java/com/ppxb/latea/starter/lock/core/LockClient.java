@@ -0,0 +1,60 @@
+package com.ppxb.latea.starter.lock.core;
+
+import java.time.Duration;
+
+/**
+ * 分布式锁客户端
+ *
+ * <p>抽象出远程锁与信号量的操作，生产环境使用 {@link RedissonLockClient}，
+ * 测试环境可以使用进程内的 {@link InMemoryLockClient} 代替 Redis。</p>
+ *
+ * <p>锁的持有者由调用方传入的 {@code ownerId} 标识而不是当前线程，因此可以由同一节点的不同线程加锁与解锁。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface LockClient {
+
+    /**
+     * 尝试加锁
+     *
+     * @param key       锁键
+     * @param ownerId   持有者标识
+     * @param waitTime  最长等待时间
+     * @param leaseTime 租约时间（为 {@code null} 时由看门狗自动续期，直到解锁）
+     * @return 是否加锁成功
+     * @throws InterruptedException 等待时被中断
+     */
+    boolean tryLock(String key, long ownerId, Duration waitTime, Duration leaseTime) throws InterruptedException;
+
+    /**
+     * 解锁
+     *
+     * @param key     锁键
+     * @param ownerId 持有者标识
+     */
+    void unlock(String key, long ownerId);
+
+    /**
+     * 尝试获取信号量许可
+     *
+     * @param key       信号量键
+     * @param permits   许可总数（首次使用时初始化）
+     * @param waitTime  最长等待时间
+     * @param leaseTime 租约时间（持有者异常退出时，许可在到期后自动归还）
+     * @return 许可标识；获取失败时返回 {@code null}
+     * @throws InterruptedException 等待时被中断
+     */
+    String tryAcquirePermit(String key,
+                            int permits,
+                            Duration waitTime,
+                            Duration leaseTime) throws InterruptedException;
+
+    /**
+     * 归还信号量许可
+     *
+     * @param key      信号量键
+     * @param permitId 许可标识
+     */
+    void releasePermit(String key, String permitId);
+}
@@ -0,0 +1,57 @@
+package com.ppxb.latea.starter.lock.core;
+
+/**
+ * 锁句柄
+ *
+ * <p>必须由加锁的线程关闭，建议配合 try-with-resources 使用：
+ * <blockquote><pre>
+ * try (LockHandle ignored = lockTemplate.tryLock("order", orderId, Duration.ofSeconds(3))) {
+ *     ...
+ * }
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class LockHandle implements AutoCloseable {
+
+    private final LockTemplate template;
+
+    private final LockTemplate.KeyState state;
+
+    private final LockMetrics metrics;
+
+    private final long acquiredAt;
+
+    private boolean released;
+
+    LockHandle(LockTemplate template, LockTemplate.KeyState state, LockMetrics metrics) {
+        this.template = template;
+        this.state = state;
+        this.metrics = metrics;
+        this.acquiredAt = System.nanoTime();
+    }
+
+    /**
+     * 锁键
+     */
+    public String getKey() {
+        return state.key;
+    }
+
+    /**
+     * 解锁（重复调用无效）
+     */
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        try {
+            template.release(state);
+        } finally {
+            metrics.recordReleased(System.nanoTime() - acquiredAt);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ppxb.latea.starter.lock.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁指标绑定器（Micrometer）
+ *
+ * <p>指标带 {@code name}（锁名称）标签，加锁次数另带 {@code result}（{@code remote}/{@code local}/{@code failure}）标签。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LockMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.lock";
+
+    private final LockMetricsRegistry metricsRegistry;
+
+    public LockMeterBinder(LockMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        metricsRegistry.addListener(metrics -> register(meterRegistry, metrics));
+    }
+
+    private static void register(MeterRegistry meterRegistry, LockMetrics metrics) {
+        String name = metrics.getName();
+        FunctionCounter.builder(PREFIX + ".acquires", metrics, LockMetrics::getRemoteAcquireCount)
+            .tag("name", name)
+            .tag("result", "remote")
+            .description("加锁次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".acquires", metrics, LockMetrics::getLocalAcquireCount)
+            .tag("name", name)
+            .tag("result", "local")
+            .description("加锁次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".acquires", metrics, LockMetrics::getFailureCount)
+            .tag("name", name)
+            .tag("result", "failure")
+            .description("加锁次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".contended", metrics, LockMetrics::getContendedCount)
+            .tag("name", name)
+            .description("加锁时发生竞争的次数")
+            .register(meterRegistry);
+        FunctionTimer.builder(PREFIX + ".wait", metrics, LockMetrics::getAttemptCount, LockMetrics::getTotalWaitMillis, TimeUnit.MILLISECONDS)
+            .tag("name", name)
+            .description("加锁等待时间")
+            .register(meterRegistry);
+        FunctionTimer.builder(PREFIX + ".hold", metrics, LockMetrics::getReleaseCount, LockMetrics::getTotalHoldMillis, TimeUnit.MILLISECONDS)
+            .tag("name", name)
+            .description("持有锁时间")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".waiting", metrics, LockMetrics::getWaiting)
+            .tag("name", name)
+            .description("本节点正在等待加锁的线程数")
+            .register(meterRegistry);
+    }
+}
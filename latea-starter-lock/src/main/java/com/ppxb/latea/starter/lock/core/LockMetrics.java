@@ -0,0 +1,131 @@
+package com.ppxb.latea.starter.lock.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 锁指标（按锁名称统计）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LockMetrics {
+
+    private final String name;
+
+    private final LongAdder remoteAcquireCount = new LongAdder();
+
+    private final LongAdder localAcquireCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final LongAdder contendedCount = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final LongAdder releaseCount = new LongAdder();
+
+    private final LongAdder holdNanos = new LongAdder();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public LockMetrics(String name) {
+        this.name = name;
+    }
+
+    void recordWaitStart() {
+        waiting.incrementAndGet();
+    }
+
+    void recordAcquired(boolean remote, boolean contended, long nanos) {
+        waiting.decrementAndGet();
+        (remote ? remoteAcquireCount : localAcquireCount).increment();
+        if (contended) {
+            contendedCount.increment();
+        }
+        waitNanos.add(nanos);
+    }
+
+    void recordFailure(long nanos) {
+        waiting.decrementAndGet();
+        failureCount.increment();
+        contendedCount.increment();
+        waitNanos.add(nanos);
+    }
+
+    void recordReleased(long nanos) {
+        releaseCount.increment();
+        holdNanos.add(nanos);
+    }
+
+    /**
+     * 锁名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 访问远程锁加锁成功的次数
+     */
+    public long getRemoteAcquireCount() {
+        return remoteAcquireCount.sum();
+    }
+
+    /**
+     * 未访问远程锁即加锁成功的次数（本地移交或重入）
+     */
+    public long getLocalAcquireCount() {
+        return localAcquireCount.sum();
+    }
+
+    /**
+     * 加锁失败（等待超时）次数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 加锁时发生竞争（本节点其他线程持有锁或加锁失败）的次数
+     */
+    public long getContendedCount() {
+        return contendedCount.sum();
+    }
+
+    /**
+     * 加锁次数（成功与失败）
+     */
+    public long getAttemptCount() {
+        return remoteAcquireCount.sum() + localAcquireCount.sum() + failureCount.sum();
+    }
+
+    /**
+     * 加锁等待总时间（毫秒）
+     */
+    public double getTotalWaitMillis() {
+        return waitNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 解锁次数
+     */
+    public long getReleaseCount() {
+        return releaseCount.sum();
+    }
+
+    /**
+     * 持有锁总时间（毫秒）
+     */
+    public double getTotalHoldMillis() {
+        return holdNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 当前本节点正在等待加锁的线程数
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
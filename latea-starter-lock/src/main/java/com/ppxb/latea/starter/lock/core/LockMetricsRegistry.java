@@ -0,0 +1,63 @@
+package com.ppxb.latea.starter.lock.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 锁指标注册表
+ *
+ * <p>指标按锁名称（而不是锁键）统计，锁名称通常是有限的业务场景，锁键则包含订单号等动态值。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LockMetricsRegistry {
+
+    private final Map<String, LockMetrics> metrics = new ConcurrentHashMap<>();
+
+    private final List<Consumer<LockMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 获取锁指标（不存在时创建）
+     *
+     * @param name 锁名称
+     * @return 锁指标
+     */
+    public LockMetrics get(String name) {
+        LockMetrics existing = metrics.get(name);
+        if (null != existing) {
+            return existing;
+        }
+        LockMetrics created = new LockMetrics(name);
+        existing = metrics.putIfAbsent(name, created);
+        if (null != existing) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 添加指标监听（立即回调已有指标，之后每创建一个指标回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addListener(Consumer<LockMetrics> listener) {
+        listeners.add(listener);
+        metrics.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部锁指标
+     *
+     * @return 锁指标
+     */
+    public Collection<LockMetrics> getAll() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+}
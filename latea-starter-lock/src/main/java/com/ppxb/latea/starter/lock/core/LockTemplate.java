@@ -0,0 +1,279 @@
+package com.ppxb.latea.starter.lock.core;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import com.ppxb.latea.starter.lock.exception.LockException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 分布式锁模板
+ *
+ * <p>每个锁键在本节点对应一把公平的 {@link ReentrantLock}：线程先竞争本地锁，只有本地持有者才访问远程锁，
+ * 同一节点上竞争同一把锁的 N 个线程不会各自轮询 Redis。远程锁以键级别的持有者标识加锁，而不是线程，
+ * 因此开启移交时，看门狗续期的远程锁在本地仍有等待者时直接移交给下一个本地线程，省去解锁与再次加锁的两次往返；
+ * 连续移交达到上限后释放远程锁，避免其他节点饥饿。</p>
+ *
+ * <p>锁可重入，重入时不访问远程锁。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LockTemplate {
+
+    /**
+     * 远程锁持有者标识序列（取负数，不与线程 ID 重叠）
+     */
+    private static final AtomicLong OWNER_SEQUENCE = new AtomicLong();
+
+    private final LockClient client;
+
+    private final LockMetricsRegistry metricsRegistry;
+
+    private final String keyPrefix;
+
+    private final int maxHandoffs;
+
+    private final Map<String, KeyState> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param client          分布式锁客户端
+     * @param metricsRegistry 锁指标注册表
+     * @param keyPrefix       键前缀
+     * @param maxHandoffs     远程锁在本地连续移交的最大次数（0 表示不移交，每次解锁都释放远程锁）
+     */
+    public LockTemplate(LockClient client, LockMetricsRegistry metricsRegistry, String keyPrefix, int maxHandoffs) {
+        this.client = client;
+        this.metricsRegistry = metricsRegistry;
+        this.keyPrefix = keyPrefix;
+        this.maxHandoffs = maxHandoffs;
+    }
+
+    /**
+     * 尝试加锁（由看门狗自动续期，直到解锁）
+     *
+     * @param name     锁名称
+     * @param key      锁键
+     * @param waitTime 最长等待时间
+     * @return 锁句柄；等待超时返回 {@code null}
+     */
+    public LockHandle tryLock(String name, String key, Duration waitTime) {
+        return this.tryLock(name, key, waitTime, null);
+    }
+
+    /**
+     * 尝试加锁
+     *
+     * @param name      锁名称
+     * @param key       锁键
+     * @param waitTime  最长等待时间
+     * @param leaseTime 租约时间（为 {@code null} 时由看门狗自动续期，直到解锁）
+     * @return 锁句柄；等待超时返回 {@code null}
+     */
+    public LockHandle tryLock(String name, String key, Duration waitTime, Duration leaseTime) {
+        String fullKey = this.buildKey(name, key);
+        LockMetrics metrics = metricsRegistry.get(name);
+        KeyState state = states.compute(fullKey, (k, s) -> {
+            KeyState current = null == s ? new KeyState(k) : s;
+            current.refs++;
+            return current;
+        });
+        long start = System.nanoTime();
+        long waitNanos = waitTime.toNanos();
+        metrics.recordWaitStart();
+        boolean acquired = false;
+        try {
+            boolean contended = state.local.isLocked() && !state.local.isHeldByCurrentThread();
+            if (!state.local.tryLock(waitNanos, TimeUnit.NANOSECONDS)) {
+                metrics.recordFailure(System.nanoTime() - start);
+                this.releaseOrphan(state);
+                return null;
+            }
+            try {
+                if (state.local.getHoldCount() > 1 || state.remoteHeld) {
+                    acquired = true;
+                    metrics.recordAcquired(false, contended, System.nanoTime() - start);
+                    return new LockHandle(this, state, metrics);
+                }
+                long remaining = Math.max(0, waitNanos - (System.nanoTime() - start));
+                if (!client.tryLock(fullKey, state.ownerId, Duration.ofNanos(remaining), leaseTime)) {
+                    metrics.recordFailure(System.nanoTime() - start);
+                    return null;
+                }
+                state.remoteHeld = true;
+                state.watchdog = null == leaseTime;
+                state.handoffs = 0;
+                acquired = true;
+                metrics.recordAcquired(true, contended, System.nanoTime() - start);
+                return new LockHandle(this, state, metrics);
+            } finally {
+                if (!acquired) {
+                    state.local.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.recordFailure(System.nanoTime() - start);
+            throw new LockException("Interrupted while acquiring lock: " + fullKey, e);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        } finally {
+            if (!acquired) {
+                this.releaseRef(state);
+            }
+        }
+    }
+
+    /**
+     * 加锁后执行
+     *
+     * @param name     锁名称
+     * @param key      锁键
+     * @param waitTime 最长等待时间
+     * @param action   操作
+     * @param <T>      返回值类型
+     * @return 操作返回值
+     * @throws LockException 等待超时
+     */
+    public <T> T execute(String name, String key, Duration waitTime, Supplier<T> action) {
+        LockHandle handle = this.tryLock(name, key, waitTime);
+        if (null == handle) {
+            throw new LockException("Failed to acquire lock: " + this.buildKey(name, key), HttpStatus.HTTP_CONFLICT);
+        }
+        try (handle) {
+            return action.get();
+        }
+    }
+
+    /**
+     * 尝试获取信号量许可
+     *
+     * @param name      信号量名称
+     * @param permits   许可总数（首次使用时初始化）
+     * @param waitTime  最长等待时间
+     * @param leaseTime 租约时间（持有者异常退出时，许可在到期后自动归还）
+     * @return 许可句柄；等待超时返回 {@code null}
+     */
+    public PermitHandle tryAcquire(String name, int permits, Duration waitTime, Duration leaseTime) {
+        String fullKey = keyPrefix + StringConstants.COLON + name;
+        LockMetrics metrics = metricsRegistry.get(name);
+        long start = System.nanoTime();
+        metrics.recordWaitStart();
+        try {
+            String permitId = client.tryAcquirePermit(fullKey, permits, waitTime, leaseTime);
+            long elapsed = System.nanoTime() - start;
+            if (null == permitId) {
+                metrics.recordFailure(elapsed);
+                return null;
+            }
+            metrics.recordAcquired(true, false, elapsed);
+            return new PermitHandle(client, fullKey, permitId, metrics);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.recordFailure(System.nanoTime() - start);
+            throw new LockException("Interrupted while acquiring permit: " + fullKey, e);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * 解锁
+     *
+     * @param state 锁键状态
+     */
+    void release(KeyState state) {
+        ReentrantLock local = state.local;
+        if (!local.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("Lock must be released by the thread that acquired it: " + state.key);
+        }
+        boolean handedOff = false;
+        try {
+            if (1 == local.getHoldCount()) {
+                if (state.watchdog && state.handoffs < maxHandoffs && local.hasQueuedThreads()) {
+                    // 本地仍有等待者，保留远程锁，直接移交
+                    state.handoffs++;
+                    handedOff = true;
+                } else {
+                    state.remoteHeld = false;
+                    client.unlock(state.key, state.ownerId);
+                }
+            }
+        } finally {
+            local.unlock();
+            try {
+                if (handedOff) {
+                    // 等待者可能在本线程释放本地锁前超时退出（其 releaseOrphan 因本地锁被占用而放弃），解锁后再检查一次
+                    this.releaseOrphan(state);
+                }
+            } finally {
+                this.releaseRef(state);
+            }
+        }
+    }
+
+    /**
+     * 释放无人持有的远程锁
+     *
+     * <p>解锁时若本地仍有等待者会保留远程锁，而等待者可能恰好在此时超时退出。超时的线程与移交的线程在释放本地锁后都会调用本方法，
+     * 两者中最后一个能拿到本地锁且不再有等待者的线程负责释放远程锁。</p>
+     */
+    private void releaseOrphan(KeyState state) {
+        if (!state.local.tryLock()) {
+            return;
+        }
+        try {
+            if (state.remoteHeld && !state.local.hasQueuedThreads()) {
+                state.remoteHeld = false;
+                client.unlock(state.key, state.ownerId);
+            }
+        } finally {
+            state.local.unlock();
+        }
+    }
+
+    private void releaseRef(KeyState state) {
+        states.computeIfPresent(state.key, (k, s) -> s == state && --s.refs == 0 ? null : s);
+    }
+
+    private String buildKey(String name, String key) {
+        if (null == key || key.isEmpty()) {
+            return keyPrefix + StringConstants.COLON + name;
+        }
+        return keyPrefix + StringConstants.COLON + name + StringConstants.COLON + key;
+    }
+
+    /**
+     * 锁键在本节点的状态
+     *
+     * <p>{@code refs} 由 {@link #states} 的原子操作保护，其余可变字段由 {@code local} 保护。</p>
+     */
+    static final class KeyState {
+
+        final String key;
+
+        final ReentrantLock local = new ReentrantLock(true);
+
+        final long ownerId = OWNER_SEQUENCE.decrementAndGet();
+
+        int refs;
+
+        boolean remoteHeld;
+
+        boolean watchdog;
+
+        int handoffs;
+
+        KeyState(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ppxb.latea.starter.lock.core;
+
+/**
+ * 信号量许可句柄
+ *
+ * <p>可以由任意线程关闭，建议配合 try-with-resources 使用。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class PermitHandle implements AutoCloseable {
+
+    private final LockClient client;
+
+    private final String key;
+
+    private final String permitId;
+
+    private final LockMetrics metrics;
+
+    private final long acquiredAt;
+
+    private boolean released;
+
+    PermitHandle(LockClient client, String key, String permitId, LockMetrics metrics) {
+        this.client = client;
+        this.key = key;
+        this.permitId = permitId;
+        this.metrics = metrics;
+        this.acquiredAt = System.nanoTime();
+    }
+
+    /**
+     * 信号量键
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 归还许可（重复调用无效）
+     */
+    @Override
+    public synchronized void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        try {
+            client.releasePermit(key, permitId);
+        } finally {
+            metrics.recordReleased(System.nanoTime() - acquiredAt);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ppxb.latea.starter.lock.core;
+
+import com.ppxb.latea.starter.lock.exception.LockException;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RPermitExpirableSemaphore;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redisson 的分布式锁客户端
+ *
+ * <p>锁使用 {@code RLock} 的指定持有者接口（{@code tryLockAsync/unlockAsync(threadId)}），租约为空时由 Redisson 看门狗续期；
+ * 信号量使用 {@link RPermitExpirableSemaphore}，许可数每个键只在本节点首次使用时初始化一次。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RedissonLockClient implements LockClient {
+
+    private static final long WATCHDOG_LEASE = -1;
+
+    private final RedissonClient redissonClient;
+
+    private final Set<String> initializedSemaphores = ConcurrentHashMap.newKeySet();
+
+    public RedissonLockClient(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public boolean tryLock(String key,
+                           long ownerId,
+                           Duration waitTime,
+                           Duration leaseTime) throws InterruptedException {
+        long lease = null == leaseTime ? WATCHDOG_LEASE : leaseTime.toMillis();
+        RLock lock = redissonClient.getLock(key);
+        RFuture<Boolean> future = lock.tryLockAsync(waitTime.toMillis(), lease, TimeUnit.MILLISECONDS, ownerId);
+        try {
+            return await(future);
+        } catch (InterruptedException e) {
+            // 放弃等待：取消尚未完成的加锁（之后才拿到的锁由 Redisson 自行释放）；取消前已加锁成功时立即释放，避免远程锁无人持有
+            CompletableFuture<Boolean> completable = future.toCompletableFuture();
+            if (!completable.cancel(false) && !completable.isCompletedExceptionally() && Boolean.TRUE
+                .equals(completable.getNow(false))) {
+                lock.unlockAsync(ownerId);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void unlock(String key, long ownerId) {
+        try {
+            await(redissonClient.getLock(key).unlockAsync(ownerId));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockException("Interrupted while unlocking: " + key, e);
+        }
+    }
+
+    @Override
+    public String tryAcquirePermit(String key,
+                                   int permits,
+                                   Duration waitTime,
+                                   Duration leaseTime) throws InterruptedException {
+        RPermitExpirableSemaphore semaphore = redissonClient.getPermitExpirableSemaphore(key);
+        if (initializedSemaphores.add(key)) {
+            semaphore.trySetPermits(permits);
+        }
+        return semaphore.tryAcquire(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void releasePermit(String key, String permitId) {
+        redissonClient.getPermitExpirableSemaphore(key).tryRelease(permitId);
+    }
+
+    private static <T> T await(RFuture<T> future) throws InterruptedException {
+        try {
+            return future.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            throw new LockException(e.getCause());
+        }
+    }
+}
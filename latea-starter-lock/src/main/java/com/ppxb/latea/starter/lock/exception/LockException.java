@@ -0,0 +1,53 @@
+package com.ppxb.latea.starter.lock.exception;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 分布式锁异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LockException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public LockException() {
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public LockException(String message) {
+        super(message);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public LockException(Throwable cause) {
+        super(cause);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public LockException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    /**
+     * @param message 提示信息
+     * @param status  HTTP 状态码
+     */
+    public LockException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.log.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 操作日志注解
+ *
+ * <p>标注在控制器类或方法上，为日志记录补充操作描述与所属模块；方法上的注解优先于类上的注解。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Log {
+
+    /**
+     * 操作描述
+     */
+    String value() default "";
+
+    /**
+     * 所属模块
+     */
+    String module() default "";
+
+    /**
+     * 是否忽略日志记录
+     */
+    boolean ignore() default false;
+}
@@ -0,0 +1,135 @@
+package com.ppxb.latea.starter.log.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import com.ppxb.latea.starter.log.core.LogDispatcher;
+import com.ppxb.latea.starter.log.core.LogMeterBinder;
+import com.ppxb.latea.starter.log.core.LogSink;
+import com.ppxb.latea.starter.log.filter.LogFilter;
+import com.ppxb.latea.starter.log.sink.FileLogSink;
+import com.ppxb.latea.starter.log.sink.JdbcLogSink;
+import com.ppxb.latea.starter.log.sink.Slf4jLogSink;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * 日志自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   log:
+ *     buffer-size: 8192
+ *     batch-size: 256
+ *     flush-interval: 1s
+ *     include-request-body: true
+ *     max-body-length: 2048
+ *     file:
+ *       enabled: true
+ *       directory: ./logs/access
+ * </pre></blockquote>
+ *
+ * <p>未启用文件、数据库输出且未自定义 {@link LogSink} 时，日志输出到 SLF4J。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration", after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(LogProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.LOG, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class LogAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(LogAutoConfiguration.class);
+
+    /**
+     * 文件日志输出
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = PropertiesConstants.LOG + StringConstants.DOT + "file", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public FileLogSink fileLogSink(LogProperties properties, ObjectMapper objectMapper) {
+        return new FileLogSink(Path.of(properties.getFile().getDirectory()), objectMapper);
+    }
+
+    /**
+     * SLF4J 日志输出（未配置其他输出时）
+     */
+    @Bean
+    @ConditionalOnMissingBean(LogSink.class)
+    public Slf4jLogSink slf4jLogSink() {
+        return new Slf4jLogSink();
+    }
+
+    /**
+     * 日志分发器
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public LogDispatcher logDispatcher(LogProperties properties, ObjectProvider<LogSink> sinks) {
+        return new LogDispatcher(sinks.orderedStream().toList(), properties.getBufferSize(), properties
+            .getBatchSize(), properties.getFlushInterval(), properties.getSamplingThreshold(), properties
+                .getSampleRate());
+    }
+
+    /**
+     * 日志过滤器
+     */
+    @Bean
+    public FilterRegistrationBean<LogFilter> logFilter(LogDispatcher logDispatcher, LogProperties properties) {
+        FilterRegistrationBean<LogFilter> registrationBean = new FilterRegistrationBean<>(new LogFilter(logDispatcher, properties));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+        return registrationBean;
+    }
+
+    /**
+     * 数据库日志输出配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnProperty(prefix = PropertiesConstants.LOG + StringConstants.DOT + "jdbc", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public static class JdbcLogSinkConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JdbcLogSink jdbcLogSink(JdbcTemplate jdbcTemplate, LogProperties properties) {
+            return new JdbcLogSink(jdbcTemplate, properties.getJdbc().getTableName());
+        }
+    }
+
+    /**
+     * 日志指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class LogMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public LogMeterBinder logMeterBinder(LogDispatcher logDispatcher) {
+            return new LogMeterBinder(logDispatcher.getMetrics());
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Log' completed initialization.");
+    }
+}
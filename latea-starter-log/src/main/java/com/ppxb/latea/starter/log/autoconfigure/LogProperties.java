@@ -0,0 +1,265 @@
+package com.ppxb.latea.starter.log.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 日志配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.LOG)
+public class LogProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否记录所有请求（为 false 时仅记录标注了 @Log 的接口）
+     */
+    private boolean recordAll = true;
+
+    /**
+     * 缓冲区容量（向上取整为 2 的幂）
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 批次大小
+     */
+    private int batchSize = 256;
+
+    /**
+     * 刷新间隔（缓冲区不足一个批次时的最长等待时间）
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 采样阈值（缓冲区占用比例超过该值后，非错误日志开始采样）
+     */
+    private double samplingThreshold = 0.75;
+
+    /**
+     * 采样率（采样时每 N 条保留 1 条）
+     */
+    private int sampleRate = 10;
+
+    /**
+     * 是否记录请求体
+     */
+    private boolean includeRequestBody = false;
+
+    /**
+     * 是否记录响应体
+     */
+    private boolean includeResponseBody = false;
+
+    /**
+     * 请求体/响应体最大记录长度（字节，超出部分截断）
+     */
+    private int maxBodyLength = 2048;
+
+    /**
+     * 链路 ID 在 MDC 中的键名
+     */
+    private String traceMdcKey = "traceId";
+
+    /**
+     * 不记录日志的路径（支持 {@code /api/**} 形式的模式）
+     */
+    private List<String> excludePatterns = new ArrayList<>(List
+        .of("/favicon.ico", "/actuator/**", "/v3/api-docs", "/v3/api-docs/**", "/swagger-ui/**", "/doc.html", "/webjars/**"));
+
+    /**
+     * 文件输出配置
+     */
+    private File file = new File();
+
+    /**
+     * 数据库输出配置
+     */
+    private Jdbc jdbc = new Jdbc();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isRecordAll() {
+        return recordAll;
+    }
+
+    public void setRecordAll(boolean recordAll) {
+        this.recordAll = recordAll;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public double getSamplingThreshold() {
+        return samplingThreshold;
+    }
+
+    public void setSamplingThreshold(double samplingThreshold) {
+        this.samplingThreshold = samplingThreshold;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean isIncludeRequestBody() {
+        return includeRequestBody;
+    }
+
+    public void setIncludeRequestBody(boolean includeRequestBody) {
+        this.includeRequestBody = includeRequestBody;
+    }
+
+    public boolean isIncludeResponseBody() {
+        return includeResponseBody;
+    }
+
+    public void setIncludeResponseBody(boolean includeResponseBody) {
+        this.includeResponseBody = includeResponseBody;
+    }
+
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    public void setMaxBodyLength(int maxBodyLength) {
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    public String getTraceMdcKey() {
+        return traceMdcKey;
+    }
+
+    public void setTraceMdcKey(String traceMdcKey) {
+        this.traceMdcKey = traceMdcKey;
+    }
+
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public void setExcludePatterns(List<String> excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public void setFile(File file) {
+        this.file = file;
+    }
+
+    public Jdbc getJdbc() {
+        return jdbc;
+    }
+
+    public void setJdbc(Jdbc jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 文件输出配置属性
+     */
+    public static class File {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 日志目录
+         */
+        private String directory = "./logs/access";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+
+    /**
+     * 数据库输出配置属性
+     */
+    public static class Jdbc {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 表名
+         */
+        private String tableName = "sys_log";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+}
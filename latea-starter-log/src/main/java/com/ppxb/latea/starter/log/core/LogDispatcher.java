@@ -0,0 +1,168 @@
+package com.ppxb.latea.starter.log.core;
+
+import com.ppxb.latea.starter.log.model.LogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 日志分发器
+ *
+ * <p>请求线程调用 {@link #submit(LogRecord)} 只做一次无锁入队；后台线程按批次取出日志并依次交给各个 {@link LogSink}。
+ * 缓冲区占用超过采样阈值时，非错误日志按采样率保留；缓冲区已满时直接丢弃。采样与丢弃均计入 {@link LogMetrics}。</p>
+ *
+ * <p>后台线程在缓冲区不足一个批次时休眠一个刷新间隔，积压达到一个批次时由生产者唤醒；关闭时输出剩余日志后退出。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LogDispatcher.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final LogRingBuffer<LogRecord> buffer;
+
+    private final List<LogSink> sinks;
+
+    private final LogMetrics metrics;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final int samplingThreshold;
+
+    private final int sampleRate;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private volatile boolean parked;
+
+    /**
+     * @param sinks             日志输出
+     * @param bufferSize        缓冲区容量
+     * @param batchSize         批次大小
+     * @param flushInterval     刷新间隔
+     * @param samplingThreshold 采样阈值（缓冲区占用比例）
+     * @param sampleRate        采样率（每 N 条保留 1 条）
+     */
+    public LogDispatcher(List<LogSink> sinks,
+                         int bufferSize,
+                         int batchSize,
+                         Duration flushInterval,
+                         double samplingThreshold,
+                         int sampleRate) {
+        this.buffer = new LogRingBuffer<>(bufferSize);
+        this.sinks = List.copyOf(sinks);
+        this.metrics = new LogMetrics(buffer);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.samplingThreshold = (int)(buffer.capacity() * samplingThreshold);
+        this.sampleRate = Math.max(1, sampleRate);
+        this.worker = Thread.ofPlatform().name("latea-log-dispatcher").daemon().unstarted(this::run);
+    }
+
+    /**
+     * 启动后台线程
+     */
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 提交日志
+     *
+     * @param record 日志记录
+     * @return 是否进入缓冲区
+     */
+    public boolean submit(LogRecord record) {
+        int pending = buffer.size();
+        if (pending >= samplingThreshold && !record.isError() && 0 != ThreadLocalRandom.current()
+            .nextInt(sampleRate)) {
+            metrics.recordSampledOut();
+            return false;
+        }
+        if (!buffer.offer(record)) {
+            metrics.recordDropped();
+            return false;
+        }
+        metrics.recordAccepted();
+        if (parked && pending + 1 >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+        return true;
+    }
+
+    /**
+     * 获取指标
+     *
+     * @return 指标
+     */
+    public LogMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("[Latea Starter] - Log dispatcher did not finish within {}ms, {} records discarded.", SHUTDOWN_TIMEOUT_MILLIS, buffer
+                .size());
+        }
+    }
+
+    private void run() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        for (;;) {
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained > 0) {
+                flush(batch);
+                batch.clear();
+                if (drained == batchSize) {
+                    continue;
+                }
+            }
+            if (!running) {
+                if (buffer.size() > 0) {
+                    continue;
+                }
+                return;
+            }
+            parked = true;
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            parked = false;
+        }
+    }
+
+    private void flush(List<LogRecord> batch) {
+        int size = batch.size();
+        for (LogSink sink : sinks) {
+            try {
+                sink.write(batch);
+                metrics.recordBatch(size, 0);
+            } catch (Exception e) {
+                metrics.recordBatch(0, size);
+                log.warn("[Latea Starter] - Log sink '{}' failed to write {} records.", sink.getClass()
+                    .getSimpleName(), size, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ppxb.latea.starter.log.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 日志指标绑定器（Micrometer）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.log";
+
+    private final LogMetrics metrics;
+
+    public LogMeterBinder(LogMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".buffer.pending", metrics, LogMetrics::getPendingCount)
+            .description("缓冲区中待输出的日志数")
+            .register(registry);
+        Gauge.builder(PREFIX + ".buffer.capacity", metrics, LogMetrics::getCapacity)
+            .description("缓冲区容量")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".accepted", metrics, LogMetrics::getAcceptedCount)
+            .description("写入缓冲区的日志数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".sampled.out", metrics, LogMetrics::getSampledOutCount)
+            .description("缓冲区压力较大时被采样丢弃的日志数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".dropped", metrics, LogMetrics::getDroppedCount)
+            .description("缓冲区已满被丢弃的日志数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".written", metrics, LogMetrics::getWrittenCount)
+            .description("已输出的日志数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".failed", metrics, LogMetrics::getFailedCount)
+            .description("输出失败的日志数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".batches", metrics, LogMetrics::getBatchCount)
+            .description("已输出的批次数")
+            .register(registry);
+    }
+}
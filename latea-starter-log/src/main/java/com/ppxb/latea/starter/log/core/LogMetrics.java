@@ -0,0 +1,104 @@
+package com.ppxb.latea.starter.log.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 日志指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogMetrics {
+
+    private final LogRingBuffer<?> buffer;
+
+    private final LongAdder acceptedCount = new LongAdder();
+
+    private final LongAdder sampledOutCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder writtenCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder batchCount = new LongAdder();
+
+    LogMetrics(LogRingBuffer<?> buffer) {
+        this.buffer = buffer;
+    }
+
+    void recordAccepted() {
+        acceptedCount.increment();
+    }
+
+    void recordSampledOut() {
+        sampledOutCount.increment();
+    }
+
+    void recordDropped() {
+        droppedCount.increment();
+    }
+
+    void recordBatch(int written, int failed) {
+        batchCount.increment();
+        writtenCount.add(written);
+        failedCount.add(failed);
+    }
+
+    /**
+     * 缓冲区中待输出的日志数
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 缓冲区容量
+     */
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * 写入缓冲区的日志数
+     */
+    public long getAcceptedCount() {
+        return acceptedCount.sum();
+    }
+
+    /**
+     * 缓冲区压力较大时被采样丢弃的日志数
+     */
+    public long getSampledOutCount() {
+        return sampledOutCount.sum();
+    }
+
+    /**
+     * 缓冲区已满被丢弃的日志数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 已输出的日志数（按输出计，多个输出各自计数）
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * 输出失败的日志数（按输出计）
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 已输出的批次数
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ppxb.latea.starter.log.core;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界无锁环形缓冲区（多生产者、单消费者）
+ *
+ * <p>每个槽位带有序号：生产者通过 CAS 抢占写入位置，写入元素后发布序号；消费者按序号判断槽位是否可读，
+ * 读取后将序号推进一圈以释放槽位。缓冲区已满时 {@link #offer(Object)} 立即返回 {@code false}，请求线程不会阻塞。</p>
+ *
+ * @param <E> 元素类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogRingBuffer<E> {
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> elements;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 读取位置（仅由消费者线程写入）
+     */
+    private volatile long head;
+
+    /**
+     * @param capacity 容量（向上取整为 2 的幂）
+     */
+    public LogRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2.");
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.elements = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 写入元素（可由任意线程调用）
+     *
+     * @param element 元素
+     * @return 是否写入成功（缓冲区已满时返回 {@code false}）
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int)(position & mask);
+            long diff = sequences.get(index) - position;
+            if (0 == diff) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 批量取出元素（仅允许单个消费者线程调用）
+     *
+     * @param target      目标集合
+     * @param maxElements 最大取出数量
+     * @return 取出数量
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        long position = head;
+        int count = 0;
+        while (count < maxElements) {
+            int index = (int)(position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(elements.get(index));
+            elements.set(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * 当前元素数量（近似值）
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int)Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * 容量
+     *
+     * @return 容量
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
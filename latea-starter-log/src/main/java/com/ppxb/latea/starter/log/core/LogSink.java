@@ -0,0 +1,24 @@
+package com.ppxb.latea.starter.log.core;
+
+import com.ppxb.latea.starter.log.model.LogRecord;
+
+import java.util.List;
+
+/**
+ * 日志输出
+ *
+ * <p>仅由日志分发线程调用，实现类无需考虑并发；传入的批次列表会被复用，实现类不应持有其引用。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface LogSink {
+
+    /**
+     * 批量输出日志
+     *
+     * @param records 日志记录
+     * @throws Exception 输出失败
+     */
+    void write(List<LogRecord> records) throws Exception;
+}
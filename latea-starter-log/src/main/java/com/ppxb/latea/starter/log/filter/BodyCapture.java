@@ -0,0 +1,74 @@
+package com.ppxb.latea.starter.log.filter;
+
+import java.util.Arrays;
+
+/**
+ * 截断的请求体/响应体副本
+ *
+ * <p>只保留前 {@code limit} 个字节，超出部分仅标记为已截断；缓冲区在首次写入时按需分配并逐步扩容。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+class BodyCapture {
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final int limit;
+
+    private byte[] buffer;
+
+    private int length;
+
+    private boolean truncated;
+
+    BodyCapture(int limit) {
+        this.limit = limit;
+    }
+
+    void write(int b) {
+        if (length >= limit) {
+            truncated = true;
+            return;
+        }
+        ensureCapacity(length + 1);
+        buffer[length++] = (byte)b;
+    }
+
+    void write(byte[] b, int off, int len) {
+        int copy = Math.min(len, limit - length);
+        if (copy < len) {
+            truncated = true;
+        }
+        if (copy <= 0) {
+            return;
+        }
+        ensureCapacity(length + copy);
+        System.arraycopy(b, off, buffer, length, copy);
+        length += copy;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    boolean isEmpty() {
+        return 0 == length;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    byte[] toByteArray() {
+        return null == buffer ? new byte[0] : Arrays.copyOf(buffer, length);
+    }
+
+    private void ensureCapacity(int required) {
+        if (null == buffer) {
+            buffer = new byte[Math.min(limit, Math.max(INITIAL_SIZE, required))];
+        } else if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(buffer.length << 1, required)));
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.ppxb.latea.starter.log.filter;
+
+import cn.hutool.extra.servlet.JakartaServletUtil;
+import com.ppxb.latea.starter.log.annotation.Log;
+import com.ppxb.latea.starter.log.autoconfigure.LogProperties;
+import com.ppxb.latea.starter.log.core.LogDispatcher;
+import com.ppxb.latea.starter.log.model.LogRecord;
+import com.ppxb.latea.starter.web.util.CompiledPathMatcher;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日志过滤器
+ *
+ * <p>请求线程只采集元数据并把日志记录交给 {@link LogDispatcher}，输出由后台线程批量完成。开启请求体/响应体记录时，
+ * 仅对文本类内容（JSON、XML、文本、表单）在读写过程中旁路复制前 {@code maxBodyLength} 个字节，不缓存完整报文。</p>
+ *
+ * <p>处理器方法上的 {@link Log} 注解解析结果按方法缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogFilter extends OncePerRequestFilter {
+
+    private final LogDispatcher dispatcher;
+
+    private final LogProperties properties;
+
+    private final CompiledPathMatcher excludeMatcher;
+
+    private final Map<Method, Optional<Log>> annotationCache = new ConcurrentHashMap<>();
+
+    public LogFilter(LogDispatcher dispatcher, LogProperties properties) {
+        this.dispatcher = dispatcher;
+        this.properties = properties;
+        this.excludeMatcher = new CompiledPathMatcher(properties.getExcludePatterns());
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (excludeMatcher.matches(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long timestamp = System.currentTimeMillis();
+        String traceId = MDC.get(properties.getTraceMdcKey());
+        TeeRequestWrapper requestWrapper = properties.isIncludeRequestBody() && isTextual(request.getContentType())
+            ? new TeeRequestWrapper(request, properties.getMaxBodyLength())
+            : null;
+        TeeResponseWrapper responseWrapper = properties.isIncludeResponseBody()
+            ? new TeeResponseWrapper(response, properties.getMaxBodyLength())
+            : null;
+        HttpServletRequest requestToUse = null != requestWrapper ? requestWrapper : request;
+        HttpServletResponse responseToUse = null != responseWrapper ? responseWrapper : response;
+        Throwable error = null;
+        try {
+            filterChain.doFilter(requestToUse, responseToUse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            if (null != responseWrapper) {
+                responseWrapper.flushWriter();
+            }
+            if (null == error && requestToUse.isAsyncStarted()) {
+                requestToUse.getAsyncContext()
+                    .addListener(new CompletionListener(request, response, requestWrapper, responseWrapper, startNanos, timestamp, traceId));
+            } else {
+                this.record(request, response, requestWrapper, responseWrapper, startNanos, timestamp, traceId, error);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request,
+                        HttpServletResponse response,
+                        TeeRequestWrapper requestWrapper,
+                        TeeResponseWrapper responseWrapper,
+                        long startNanos,
+                        long timestamp,
+                        String traceId,
+                        Throwable error) {
+        Log annotation = this.resolveAnnotation(request);
+        if (null != annotation && annotation.ignore()) {
+            return;
+        }
+        if (null == annotation && !properties.isRecordAll()) {
+            return;
+        }
+        LogRecord record = new LogRecord();
+        record.setTimestamp(timestamp);
+        record.setDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        record.setTraceId(traceId);
+        if (null != annotation) {
+            record.setDescription(annotation.value());
+            record.setModule(annotation.module());
+        }
+        record.setMethod(request.getMethod());
+        record.setUri(request.getRequestURI());
+        record.setQuery(request.getQueryString());
+        record.setStatus(null != error && response.getStatus() < 400
+            ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+            : response.getStatus());
+        record.setClientIp(JakartaServletUtil.getClientIP(request));
+        record.setUserAgent(request.getHeader(HttpHeaders.USER_AGENT));
+        if (null != error) {
+            record.setErrorMessage(error.getMessage());
+        }
+        if (null != requestWrapper && !requestWrapper.getCapture().isEmpty()) {
+            BodyCapture capture = requestWrapper.getCapture();
+            record.setRequestBody(capture.toByteArray(), requestWrapper.getCharset(), capture.isTruncated());
+        }
+        if (null != responseWrapper && !responseWrapper.getCapture().isEmpty() && isTextual(response
+            .getContentType())) {
+            BodyCapture capture = responseWrapper.getCapture();
+            record.setResponseBody(capture.toByteArray(), responseWrapper.getCharset(), capture.isTruncated());
+        }
+        dispatcher.submit(record);
+    }
+
+    /**
+     * 解析处理器方法上的日志注解
+     *
+     * @param request 请求
+     * @return 日志注解（不存在时返回 {@code null}）
+     */
+    private Log resolveAnnotation(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        return annotationCache.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            Log annotation = AnnotatedElementUtils.findMergedAnnotation(method, Log.class);
+            if (null == annotation) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Log.class);
+            }
+            return Optional.ofNullable(annotation);
+        }).orElse(null);
+    }
+
+    /**
+     * 是否为文本类内容
+     *
+     * @param contentType 内容类型
+     * @return 是否为文本类内容
+     */
+    private static boolean isTextual(String contentType) {
+        if (null == contentType) {
+            return false;
+        }
+        return contentType.startsWith("text/") || contentType.contains("json") || contentType
+            .contains("xml") || contentType.startsWith("application/x-www-form-urlencoded");
+    }
+
+    /**
+     * 异步请求完成监听器
+     */
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+
+        private final HttpServletResponse response;
+
+        private final TeeRequestWrapper requestWrapper;
+
+        private final TeeResponseWrapper responseWrapper;
+
+        private final long startNanos;
+
+        private final long timestamp;
+
+        private final String traceId;
+
+        private Throwable error;
+
+        private CompletionListener(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   TeeRequestWrapper requestWrapper,
+                                   TeeResponseWrapper responseWrapper,
+                                   long startNanos,
+                                   long timestamp,
+                                   String traceId) {
+            this.request = request;
+            this.response = response;
+            this.requestWrapper = requestWrapper;
+            this.responseWrapper = responseWrapper;
+            this.startNanos = startNanos;
+            this.timestamp = timestamp;
+            this.traceId = traceId;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (null != responseWrapper) {
+                responseWrapper.flushWriter();
+            }
+            record(request, response, requestWrapper, responseWrapper, startNanos, timestamp, traceId, error);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            error = event.getThrowable();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            error = event.getThrowable();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
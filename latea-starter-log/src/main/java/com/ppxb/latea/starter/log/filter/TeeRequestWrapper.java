@@ -0,0 +1,180 @@
+package com.ppxb.latea.starter.log.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Map;
+
+/**
+ * 请求体旁路复制包装器
+ *
+ * <p>应用读取请求体时，将读到的前若干字节复制到 {@link BodyCapture}，请求体本身不做完整缓存，也不会被提前读取。</p>
+ *
+ * <p>{@code application/x-www-form-urlencoded} 的 POST 请求体由容器在解析参数时直接读取，不经过包装后的输入流，
+ * 因此在首次读取参数时按参数重新编码写入副本（与 Spring 的 {@code ContentCachingRequestWrapper} 一致，会包含查询串中的同名参数）。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+class TeeRequestWrapper extends HttpServletRequestWrapper {
+
+    private final BodyCapture capture;
+
+    private ServletInputStream inputStream;
+
+    private BufferedReader reader;
+
+    private boolean parametersCaptured;
+
+    TeeRequestWrapper(HttpServletRequest request, int limit) {
+        super(request);
+        this.capture = new BodyCapture(limit);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (null == inputStream) {
+            inputStream = new TeeInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (null == reader) {
+            reader = new BufferedReader(new InputStreamReader(this.getInputStream(), this.getCharset()));
+        }
+        return reader;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        this.captureFormParameters();
+        return super.getParameter(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        this.captureFormParameters();
+        return super.getParameterMap();
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        this.captureFormParameters();
+        return super.getParameterNames();
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        this.captureFormParameters();
+        return super.getParameterValues(name);
+    }
+
+    BodyCapture getCapture() {
+        return capture;
+    }
+
+    /**
+     * 请求体字符集（未指定或客户端传入了无法识别的字符集时使用 UTF-8）
+     */
+    Charset getCharset() {
+        String encoding = super.getCharacterEncoding();
+        if (null == encoding) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * 将表单参数重新编码写入副本（只在首次读取参数、且应用未直接读取请求体时执行一次）
+     */
+    private void captureFormParameters() {
+        if (parametersCaptured || null != inputStream || !this.isFormPost()) {
+            return;
+        }
+        parametersCaptured = true;
+        Charset charset = this.getCharset();
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String[]> entry : super.getParameterMap().entrySet()) {
+            String name = URLEncoder.encode(entry.getKey(), charset);
+            for (String value : entry.getValue()) {
+                if (!builder.isEmpty()) {
+                    builder.append('&');
+                }
+                builder.append(name).append('=').append(URLEncoder.encode(value, charset));
+            }
+            if (builder.length() > capture.getLimit()) {
+                break;
+            }
+        }
+        byte[] bytes = builder.toString().getBytes(charset);
+        capture.write(bytes, 0, bytes.length);
+    }
+
+    private boolean isFormPost() {
+        String contentType = super.getContentType();
+        return null != contentType && contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE) && HttpMethod.POST
+            .matches(super.getMethod());
+    }
+
+    private static class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private final BodyCapture capture;
+
+        private TeeInputStream(ServletInputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                capture.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ppxb.latea.starter.log.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 响应体旁路复制包装器
+ *
+ * <p>响应体直接写入原始输出流，同时将前若干字节复制到 {@link BodyCapture}；
+ * 与 {@code ContentCachingResponseWrapper} 不同，不会在内存中缓存完整响应体再整体复制输出。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCapture capture;
+
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    TeeResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.capture = new BodyCapture(limit);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (null == outputStream) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (null == writer) {
+            writer = new PrintWriter(new OutputStreamWriter(this.getOutputStream(), this.getCharset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        this.flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * 刷新包装的字符输出（请求结束时调用，避免字符缓冲中的内容丢失）
+     */
+    void flushWriter() {
+        if (null != writer) {
+            writer.flush();
+        }
+    }
+
+    BodyCapture getCapture() {
+        return capture;
+    }
+
+    Charset getCharset() {
+        String encoding = super.getCharacterEncoding();
+        if (null == encoding) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private final BodyCapture capture;
+
+        private TeeOutputStream(ServletOutputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
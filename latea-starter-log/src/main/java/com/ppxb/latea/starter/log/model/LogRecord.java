@@ -0,0 +1,257 @@
+package com.ppxb.latea.starter.log.model;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 日志记录
+ *
+ * <p>请求线程只保存截断后的原始字节，请求体、响应体的解码推迟到后台线程输出时进行。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LogRecord {
+
+    /**
+     * 请求时间（毫秒时间戳）
+     */
+    private long timestamp;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private long duration;
+
+    /**
+     * 链路 ID
+     */
+    private String traceId;
+
+    /**
+     * 操作描述
+     */
+    private String description;
+
+    /**
+     * 所属模块
+     */
+    private String module;
+
+    /**
+     * 请求方式
+     */
+    private String method;
+
+    /**
+     * 请求路径
+     */
+    private String uri;
+
+    /**
+     * 查询参数
+     */
+    private String query;
+
+    /**
+     * 响应状态码
+     */
+    private int status;
+
+    /**
+     * 客户端 IP
+     */
+    private String clientIp;
+
+    /**
+     * 浏览器标识
+     */
+    private String userAgent;
+
+    /**
+     * 错误信息
+     */
+    private String errorMessage;
+
+    /**
+     * 请求体是否被截断
+     */
+    private boolean requestBodyTruncated;
+
+    /**
+     * 响应体是否被截断
+     */
+    private boolean responseBodyTruncated;
+
+    private byte[] requestBodyBytes;
+
+    private Charset requestBodyCharset;
+
+    private byte[] responseBodyBytes;
+
+    private Charset responseBodyCharset;
+
+    /**
+     * 是否为错误请求（状态码 >= 500 或存在异常）
+     *
+     * @return 是否为错误请求
+     */
+    public boolean isError() {
+        return status >= 500 || null != errorMessage;
+    }
+
+    /**
+     * 获取请求体（截断后的内容）
+     *
+     * @return 请求体
+     */
+    public String getRequestBody() {
+        return decode(requestBodyBytes, requestBodyCharset);
+    }
+
+    /**
+     * 设置请求体
+     *
+     * @param bytes     截断后的字节
+     * @param charset   字符集
+     * @param truncated 是否被截断
+     */
+    public void setRequestBody(byte[] bytes, Charset charset, boolean truncated) {
+        this.requestBodyBytes = bytes;
+        this.requestBodyCharset = charset;
+        this.requestBodyTruncated = truncated;
+    }
+
+    /**
+     * 获取响应体（截断后的内容）
+     *
+     * @return 响应体
+     */
+    public String getResponseBody() {
+        return decode(responseBodyBytes, responseBodyCharset);
+    }
+
+    /**
+     * 设置响应体
+     *
+     * @param bytes     截断后的字节
+     * @param charset   字符集
+     * @param truncated 是否被截断
+     */
+    public void setResponseBody(byte[] bytes, Charset charset, boolean truncated) {
+        this.responseBodyBytes = bytes;
+        this.responseBodyCharset = charset;
+        this.responseBodyTruncated = truncated;
+    }
+
+    private static String decode(byte[] bytes, Charset charset) {
+        if (null == bytes) {
+            return null;
+        }
+        return new String(bytes, null != charset ? charset : StandardCharsets.UTF_8);
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public void setDuration(long duration) {
+        this.duration = duration;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public void setModule(String module) {
+        this.module = module;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public void setClientIp(String clientIp) {
+        this.clientIp = clientIp;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isRequestBodyTruncated() {
+        return requestBodyTruncated;
+    }
+
+    public boolean isResponseBodyTruncated() {
+        return responseBodyTruncated;
+    }
+}
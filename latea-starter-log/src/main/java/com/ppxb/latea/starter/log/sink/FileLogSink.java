@@ -0,0 +1,93 @@
+package com.ppxb.latea.starter.log.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.log.core.LogSink;
+import com.ppxb.latea.starter.log.model.LogRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 文件日志输出
+ *
+ * <p>每条日志序列化为一行 JSON，按天写入 {@code access-yyyy-MM-dd.log}。一个批次先序列化到复用的缓冲区，
+ * 再以一次 {@link FileChannel#write(ByteBuffer)} 追加到文件。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class FileLogSink implements LogSink, Closeable {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path directory;
+
+    private final ObjectMapper objectMapper;
+
+    private final BatchBuffer buffer = new BatchBuffer();
+
+    private FileChannel channel;
+
+    private LocalDate currentDate;
+
+    public FileLogSink(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void write(List<LogRecord> records) throws IOException {
+        buffer.reset();
+        for (LogRecord record : records) {
+            objectMapper.writeValue(buffer, record);
+            buffer.write(LINE_SEPARATOR);
+        }
+        ByteBuffer byteBuffer = buffer.asByteBuffer();
+        FileChannel fileChannel = this.getChannel();
+        while (byteBuffer.hasRemaining()) {
+            fileChannel.write(byteBuffer);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (null != channel) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private FileChannel getChannel() throws IOException {
+        LocalDate today = LocalDate.now();
+        if (null != channel && today.equals(currentDate)) {
+            return channel;
+        }
+        this.close();
+        Files.createDirectories(directory);
+        channel = FileChannel.open(directory.resolve("access-" + today + ".log"), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentDate = today;
+        return channel;
+    }
+
+    /**
+     * 可直接包装内部数组的字节缓冲区，避免输出时再复制一次
+     */
+    private static class BatchBuffer extends ByteArrayOutputStream {
+
+        private BatchBuffer() {
+            super(64 * 1024);
+        }
+
+        private ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
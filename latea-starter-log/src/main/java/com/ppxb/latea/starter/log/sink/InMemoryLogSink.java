@@ -0,0 +1,54 @@
+package com.ppxb.latea.starter.log.sink;
+
+import com.ppxb.latea.starter.log.core.LogSink;
+import com.ppxb.latea.starter.log.model.LogRecord;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 内存日志输出
+ *
+ * <p>保留最近的 {@code capacity} 条日志，适用于测试或在管理端查看最近请求。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InMemoryLogSink implements LogSink {
+
+    private final int capacity;
+
+    private final ArrayDeque<LogRecord> records;
+
+    public InMemoryLogSink(int capacity) {
+        this.capacity = capacity;
+        this.records = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void write(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            if (records.size() == capacity) {
+                records.pollFirst();
+            }
+            records.addLast(record);
+        }
+    }
+
+    /**
+     * 获取最近的日志
+     *
+     * @return 日志记录（按时间先后排列）
+     */
+    public synchronized List<LogRecord> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    /**
+     * 清空日志
+     */
+    public synchronized void clear() {
+        records.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ppxb.latea.starter.log.sink;
+
+import com.ppxb.latea.starter.log.core.LogSink;
+import com.ppxb.latea.starter.log.model.LogRecord;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 数据库日志输出
+ *
+ * <p>每个批次通过一次 JDBC 批量插入写入。表结构参考（MySQL）：
+ * <blockquote><pre>
+ * CREATE TABLE sys_log (
+ *   id             BIGINT       NOT NULL AUTO_INCREMENT,
+ *   trace_id       VARCHAR(64)  DEFAULT NULL,
+ *   description    VARCHAR(255) DEFAULT NULL,
+ *   module         VARCHAR(100) DEFAULT NULL,
+ *   request_method VARCHAR(10)  NOT NULL,
+ *   request_uri    VARCHAR(512) NOT NULL,
+ *   query_string   TEXT         DEFAULT NULL,
+ *   request_body   TEXT         DEFAULT NULL,
+ *   response_body  TEXT         DEFAULT NULL,
+ *   status_code    INT          NOT NULL,
+ *   client_ip      VARCHAR(100) DEFAULT NULL,
+ *   user_agent     VARCHAR(512) DEFAULT NULL,
+ *   error_msg      TEXT         DEFAULT NULL,
+ *   time_taken     BIGINT       NOT NULL,
+ *   create_time    DATETIME     NOT NULL,
+ *   PRIMARY KEY (id)
+ * );
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class JdbcLogSink implements LogSink {
+
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_.]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    public JdbcLogSink(JdbcTemplate jdbcTemplate, String tableName) {
+        if (!TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("Illegal log table name: " + tableName);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = "INSERT INTO " + tableName + " (trace_id, description, module, request_method, request_uri, query_string, request_body, response_body, status_code, client_ip, user_agent, error_msg, time_taken, create_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    public void write(List<LogRecord> records) {
+        jdbcTemplate.batchUpdate(insertSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LogRecord record = records.get(i);
+                ps.setString(1, record.getTraceId());
+                ps.setString(2, record.getDescription());
+                ps.setString(3, record.getModule());
+                ps.setString(4, record.getMethod());
+                ps.setString(5, record.getUri());
+                ps.setString(6, record.getQuery());
+                ps.setString(7, record.getRequestBody());
+                ps.setString(8, record.getResponseBody());
+                ps.setInt(9, record.getStatus());
+                ps.setString(10, record.getClientIp());
+                ps.setString(11, record.getUserAgent());
+                ps.setString(12, record.getErrorMessage());
+                ps.setLong(13, record.getDuration());
+                ps.setTimestamp(14, new Timestamp(record.getTimestamp()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+}
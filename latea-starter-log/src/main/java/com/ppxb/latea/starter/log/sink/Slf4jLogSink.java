@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.log.sink;
+
+import com.ppxb.latea.starter.log.core.LogSink;
+import com.ppxb.latea.starter.log.model.LogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * SLF4J 日志输出
+ *
+ * <p>未配置其他输出时使用，输出到名为 {@code latea-starter.log.access} 的日志器，可在日志框架中为其单独配置 Appender。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class Slf4jLogSink implements LogSink {
+
+    private static final Logger log = LoggerFactory.getLogger("latea-starter.log.access");
+
+    @Override
+    public void write(List<LogRecord> records) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        for (LogRecord record : records) {
+            log.info("[{}] {} {} {} {}ms {}", record.getTraceId(), record.getMethod(), record.getUri(), record
+                .getStatus(), record.getDuration(), record.getClientIp());
+        }
+    }
+}
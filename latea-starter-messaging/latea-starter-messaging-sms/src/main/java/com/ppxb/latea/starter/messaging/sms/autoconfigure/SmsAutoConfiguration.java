@@ -0,0 +1,87 @@
+package com.ppxb.latea.starter.messaging.sms.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.messaging.sms.core.SmsProviderRouter;
+import com.ppxb.latea.starter.messaging.sms.core.SmsRateLimiter;
+import com.ppxb.latea.starter.messaging.sms.core.SmsTemplate;
+import jakarta.annotation.PostConstruct;
+import org.dromara.sms4j.core.factory.SmsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * 短信自动配置
+ *
+ * <p>服务商沿用 SMS4J 的 {@code sms.blends} 配置。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   messaging:
+ *     sms:
+ *       queue-capacity: 10000
+ *       concurrency: 64
+ *       providers: [aliyun, tencent]
+ *       templates:
+ *         login-code:
+ *           aliyun: SMS_123456789
+ *           tencent: "1234567"
+ *       rate-limiter:
+ *         rules:
+ *           - limit: 1
+ *             interval: 1m
+ *           - limit: 10
+ *             interval: 1d
+ * </pre></blockquote>
+ *
+ * <p>测试环境可通过 {@code SmsFactory.register(new FakeSmsBlend("fake"))} 注册模拟服务商。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SmsProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.MESSAGING_SMS, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class SmsAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SmsAutoConfiguration.class);
+
+    /**
+     * 短信服务商路由
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SmsProviderRouter smsProviderRouter(SmsProperties properties) {
+        SmsProperties.Failover failover = properties.getFailover();
+        return new SmsProviderRouter(SmsFactory::getAll, properties.getProviders(), failover
+            .getFailureThreshold(), failover.getCooldown(), failover.getFailurePenalty());
+    }
+
+    /**
+     * 短信发送模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SmsTemplate smsTemplate(SmsProviderRouter smsProviderRouter, SmsProperties properties) {
+        SmsProperties.RateLimiter rateLimiter = properties.getRateLimiter();
+        List<SmsRateLimiter> rateLimiters = rateLimiter.isEnabled()
+            ? rateLimiter.getRules()
+                .stream()
+                .map(rule -> new SmsRateLimiter(rule.getLimit(), rule.getInterval(), rateLimiter
+                    .getWidth(), rateLimiter.getDepth()))
+                .toList()
+            : List.of();
+        return new SmsTemplate(smsProviderRouter, rateLimiters, properties.getTemplates(), properties
+            .getQueueCapacity(), properties.getConcurrency(), properties.getMaxBatchSize());
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Messaging-SMS' completed initialization.");
+    }
+}
@@ -0,0 +1,271 @@
+package com.ppxb.latea.starter.messaging.sms.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 短信配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.MESSAGING_SMS)
+public class SmsProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 发送队列容量（队列已满时拒绝发送）
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 最大同时进行中的发送数
+     */
+    private int concurrency = 64;
+
+    /**
+     * 单次群发的最大手机号数（模板与参数相同的消息合并群发，1 表示不合并）
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * 参与路由的 SMS4J 配置 ID（为空时使用全部服务商）
+     */
+    private List<String> providers = new ArrayList<>();
+
+    /**
+     * 模板映射（模板名称 → 配置 ID → 该服务商的模板 ID）
+     *
+     * <p>各服务商的模板 ID 互不相同，发送时指定的模板名称在此映射后才能切换服务商；未映射的模板 ID 只发送给首选服务商。</p>
+     */
+    private Map<String, Map<String, String>> templates = new HashMap<>();
+
+    /**
+     * 故障切换配置
+     */
+    private Failover failover = new Failover();
+
+    /**
+     * 手机号限流配置
+     */
+    private RateLimiter rateLimiter = new RateLimiter();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<String> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(List<String> providers) {
+        this.providers = providers;
+    }
+
+    public Map<String, Map<String, String>> getTemplates() {
+        return templates;
+    }
+
+    public void setTemplates(Map<String, Map<String, String>> templates) {
+        this.templates = templates;
+    }
+
+    public Failover getFailover() {
+        return failover;
+    }
+
+    public void setFailover(Failover failover) {
+        this.failover = failover;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * 故障切换配置
+     */
+    public static class Failover {
+
+        /**
+         * 连续失败多少次后进入冷却期
+         */
+        private int failureThreshold = 3;
+
+        /**
+         * 冷却时长（冷却期内排在健康服务商之后）
+         */
+        private Duration cooldown = Duration.ofSeconds(30);
+
+        /**
+         * 失败调用计入的最小延迟
+         */
+        private Duration failurePenalty = Duration.ofSeconds(5);
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getCooldown() {
+            return cooldown;
+        }
+
+        public void setCooldown(Duration cooldown) {
+            this.cooldown = cooldown;
+        }
+
+        public Duration getFailurePenalty() {
+            return failurePenalty;
+        }
+
+        public void setFailurePenalty(Duration failurePenalty) {
+            this.failurePenalty = failurePenalty;
+        }
+    }
+
+    /**
+     * 手机号限流配置
+     *
+     * <p>每条规则对应一个固定大小的 Count-Min Sketch（{@code width × depth} 个 {@code long}）。</p>
+     */
+    public static class RateLimiter {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+
+        /**
+         * 每行槽位数
+         */
+        private int width = 65536;
+
+        /**
+         * 行数
+         */
+        private int depth = 2;
+
+        /**
+         * 限流规则（默认每分钟 1 条、每天 10 条）
+         */
+        private List<Rule> rules = new ArrayList<>(List.of(new Rule(1, Duration.ofMinutes(1)), new Rule(10, Duration.ofDays(1))));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public void setWidth(int width) {
+            this.width = width;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public void setDepth(int depth) {
+            this.depth = depth;
+        }
+
+        public List<Rule> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<Rule> rules) {
+            this.rules = rules;
+        }
+    }
+
+    /**
+     * 限流规则
+     */
+    public static class Rule {
+
+        /**
+         * 窗口内允许发送的次数
+         */
+        private int limit;
+
+        /**
+         * 窗口时长
+         */
+        private Duration interval;
+
+        public Rule() {
+        }
+
+        public Rule(int limit, Duration interval) {
+            this.limit = limit;
+            this.interval = interval;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.ppxb.latea.starter.messaging.sms.core;
+
+import org.dromara.sms4j.api.SmsBlend;
+import org.dromara.sms4j.api.callback.CallBack;
+import org.dromara.sms4j.api.entity.SmsResponse;
+import org.dromara.sms4j.api.utils.SmsRespUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 模拟短信服务商
+ *
+ * <p>用于测试环境代替真实的短信服务商：不发起网络请求，按配置的延迟与失败率返回结果，并记录收到的手机号与调用次数。
+ * 通过 {@code SmsFactory.register(new FakeSmsBlend(...))} 注册，或直接传给 {@link SmsProviderRouter}。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class FakeSmsBlend implements SmsBlend {
+
+    /**
+     * 服务商标识
+     */
+    public static final String SUPPLIER = "fake";
+
+    private final String configId;
+
+    private volatile Duration latency;
+
+    private volatile double failureRate;
+
+    private final Queue<String> recipients = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder callCount = new LongAdder();
+
+    public FakeSmsBlend(String configId) {
+        this(configId, Duration.ZERO, 0);
+    }
+
+    /**
+     * @param configId    配置 ID
+     * @param latency     每次调用的延迟
+     * @param failureRate 失败率（0~1）
+     */
+    public FakeSmsBlend(String configId, Duration latency, double failureRate) {
+        this.configId = configId;
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public String getConfigId() {
+        return configId;
+    }
+
+    @Override
+    public String getSupplier() {
+        return SUPPLIER;
+    }
+
+    @Override
+    public SmsResponse sendMessage(String phone, String message) {
+        return this.call(List.of(phone));
+    }
+
+    @Override
+    public SmsResponse sendMessage(String phone, LinkedHashMap<String, String> messages) {
+        return this.call(List.of(phone));
+    }
+
+    @Override
+    public SmsResponse sendMessage(String phone, String templateId, LinkedHashMap<String, String> messages) {
+        return this.call(List.of(phone));
+    }
+
+    @Override
+    public SmsResponse massTexting(List<String> phones, String message) {
+        return this.call(phones);
+    }
+
+    @Override
+    public SmsResponse massTexting(List<String> phones, String templateId, LinkedHashMap<String, String> messages) {
+        return this.call(phones);
+    }
+
+    @Override
+    public void sendMessageAsync(String phone, String message, CallBack callBack) {
+        Thread.ofVirtual().start(() -> callBack.callBack(this.sendMessage(phone, message)));
+    }
+
+    @Override
+    public void sendMessageAsync(String phone, String message) {
+        Thread.ofVirtual().start(() -> this.sendMessage(phone, message));
+    }
+
+    @Override
+    public void sendMessageAsync(String phone,
+                                 String templateId,
+                                 LinkedHashMap<String, String> messages,
+                                 CallBack callBack) {
+        Thread.ofVirtual().start(() -> callBack.callBack(this.sendMessage(phone, templateId, messages)));
+    }
+
+    @Override
+    public void sendMessageAsync(String phone, String templateId, LinkedHashMap<String, String> messages) {
+        Thread.ofVirtual().start(() -> this.sendMessage(phone, templateId, messages));
+    }
+
+    @Override
+    public void delayedMessage(String phone, String message, Long delayedTime) {
+        this.sendMessageAsync(phone, message);
+    }
+
+    @Override
+    public void delayedMessage(String phone,
+                               String templateId,
+                               LinkedHashMap<String, String> messages,
+                               Long delayedTime) {
+        this.sendMessageAsync(phone, templateId, messages);
+    }
+
+    @Override
+    public void delayMassTexting(List<String> phones, String message, Long delayedTime) {
+        Thread.ofVirtual().start(() -> this.massTexting(phones, message));
+    }
+
+    @Override
+    public void delayMassTexting(List<String> phones,
+                                 String templateId,
+                                 LinkedHashMap<String, String> messages,
+                                 Long delayedTime) {
+        Thread.ofVirtual().start(() -> this.massTexting(phones, templateId, messages));
+    }
+
+    /**
+     * 设置延迟
+     *
+     * @param latency 每次调用的延迟
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * 设置失败率
+     *
+     * @param failureRate 失败率（0~1）
+     */
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    /**
+     * 获取调用次数（群发计为一次）
+     *
+     * @return 调用次数
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * 获取成功发送的手机号
+     *
+     * @return 手机号
+     */
+    public Queue<String> getRecipients() {
+        return recipients;
+    }
+
+    private SmsResponse call(List<String> phones) {
+        callCount.increment();
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SmsRespUtils.error("interrupted", configId);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return SmsRespUtils.error("fake failure", configId);
+        }
+        recipients.addAll(phones);
+        return SmsRespUtils.success(phones, configId);
+    }
+}
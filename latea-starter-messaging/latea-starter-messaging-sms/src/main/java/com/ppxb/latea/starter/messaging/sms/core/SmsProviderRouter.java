@@ -0,0 +1,101 @@
+package com.ppxb.latea.starter.messaging.sms.core;
+
+import org.dromara.sms4j.api.SmsBlend;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 短信服务商路由
+ *
+ * <p>每次发送按实测延迟排序候选服务商：健康的服务商在前，其中平均延迟低的在前（尚无调用记录的服务商视为 0，优先试探）；
+ * 发送失败时按顺序切换到下一个服务商。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SmsProviderRouter {
+
+    private final Supplier<Collection<SmsBlend>> blendSupplier;
+
+    private final Set<String> configIds;
+
+    private final int failureThreshold;
+
+    private final long cooldownMillis;
+
+    private final long penaltyNanos;
+
+    private final Map<String, SmsProviderStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param blendSupplier    短信服务商来源（SMS4J 在应用启动完成后才注册服务商，因此每次发送时获取）
+     * @param configIds        参与路由的配置 ID（为空时使用全部服务商）
+     * @param failureThreshold 连续失败多少次后进入冷却期
+     * @param cooldown         冷却时长
+     * @param failurePenalty   失败调用计入的最小延迟
+     */
+    public SmsProviderRouter(Supplier<Collection<SmsBlend>> blendSupplier,
+                             Collection<String> configIds,
+                             int failureThreshold,
+                             Duration cooldown,
+                             Duration failurePenalty) {
+        this.blendSupplier = blendSupplier;
+        this.configIds = Set.copyOf(configIds);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.cooldownMillis = cooldown.toMillis();
+        this.penaltyNanos = failurePenalty.toNanos();
+    }
+
+    /**
+     * 获取排序后的候选服务商
+     *
+     * @return 候选服务商
+     */
+    public List<SmsBlend> candidates() {
+        long now = System.currentTimeMillis();
+        List<Candidate> candidates = new ArrayList<>();
+        for (SmsBlend blend : blendSupplier.get()) {
+            if (configIds.isEmpty() || configIds.contains(blend.getConfigId())) {
+                SmsProviderStats providerStats = this.stats(blend.getConfigId());
+                candidates.add(new Candidate(blend, providerStats.isHealthy(now), providerStats.getLatencyMillis()));
+            }
+        }
+        candidates.sort(Comparator.comparing((Candidate c) -> !c.healthy()).thenComparingDouble(Candidate::latency));
+        return candidates.stream().map(Candidate::blend).toList();
+    }
+
+    /**
+     * 记录发送结果
+     *
+     * @param configId 配置 ID
+     * @param success  是否成功
+     * @param nanos    耗时（纳秒）
+     */
+    public void record(String configId, boolean success, long nanos) {
+        SmsProviderStats providerStats = this.stats(configId);
+        if (success) {
+            providerStats.recordSuccess(nanos);
+        } else {
+            providerStats.recordFailure(nanos, penaltyNanos, failureThreshold, cooldownMillis);
+        }
+    }
+
+    /**
+     * 获取全部服务商统计
+     *
+     * @return 服务商统计
+     */
+    public Collection<SmsProviderStats> getStats() {
+        return Collections.unmodifiableCollection(stats.values());
+    }
+
+    private SmsProviderStats stats(String configId) {
+        return stats.computeIfAbsent(configId, SmsProviderStats::new);
+    }
+
+    private record Candidate(SmsBlend blend, boolean healthy, double latency) {
+    }
+}
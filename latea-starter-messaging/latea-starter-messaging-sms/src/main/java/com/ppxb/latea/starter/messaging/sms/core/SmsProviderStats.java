@@ -0,0 +1,85 @@
+package com.ppxb.latea.starter.messaging.sms.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 短信服务商统计
+ *
+ * <p>延迟使用指数加权移动平均（EWMA），失败的调用按耗时与惩罚延迟中的较大值计入；
+ * 连续失败达到阈值后进入冷却期，冷却期内排在健康服务商之后。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SmsProviderStats {
+
+    private static final double ALPHA = 0.2;
+
+    private final String configId;
+
+    private final LongAdder successCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private double latencyNanos;
+
+    private int consecutiveFailures;
+
+    private long cooldownUntil;
+
+    public SmsProviderStats(String configId) {
+        this.configId = configId;
+    }
+
+    synchronized void recordSuccess(long nanos) {
+        successCount.increment();
+        consecutiveFailures = 0;
+        cooldownUntil = 0;
+        this.updateLatency(nanos);
+    }
+
+    synchronized void recordFailure(long nanos, long penaltyNanos, int failureThreshold, long cooldownMillis) {
+        failureCount.increment();
+        this.updateLatency(Math.max(nanos, penaltyNanos));
+        if (++consecutiveFailures >= failureThreshold) {
+            cooldownUntil = System.currentTimeMillis() + cooldownMillis;
+        }
+    }
+
+    synchronized boolean isHealthy(long now) {
+        return now >= cooldownUntil;
+    }
+
+    private void updateLatency(long nanos) {
+        latencyNanos = 0 == latencyNanos ? nanos : latencyNanos + ALPHA * (nanos - latencyNanos);
+    }
+
+    /**
+     * 配置 ID
+     */
+    public String getConfigId() {
+        return configId;
+    }
+
+    /**
+     * 发送成功次数
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 发送失败次数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 平均延迟（毫秒，EWMA；尚无调用时为 0）
+     */
+    public synchronized double getLatencyMillis() {
+        return latencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
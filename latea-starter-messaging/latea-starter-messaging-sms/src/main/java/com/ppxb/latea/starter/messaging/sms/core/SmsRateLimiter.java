@@ -0,0 +1,97 @@
+package com.ppxb.latea.starter.messaging.sms.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 手机号固定窗口限流器
+ *
+ * <p>不为每个手机号保存计数对象，而是使用固定大小的 Count-Min Sketch：{@code depth} 行、每行 {@code width} 个 {@code long}，
+ * 每个槽位高位保存窗口序号、低 20 位保存计数，窗口切换时由 CAS 就地重置。内存占用与手机号数量无关
+ * （默认 2 × 65536 个槽位，共 1 MB），哈希冲突只会使估计值偏大（偶尔多限流），不会漏限。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SmsRateLimiter {
+
+    private static final int COUNT_BITS = 20;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int limit;
+
+    private final long intervalMillis;
+
+    private final int depth;
+
+    private final int mask;
+
+    private final AtomicLongArray slots;
+
+    /**
+     * @param limit    窗口内允许发送的次数
+     * @param interval 窗口时长
+     * @param width    每行槽位数（向上取整为 2 的幂）
+     * @param depth    行数（1~4）
+     */
+    public SmsRateLimiter(int limit, Duration interval, int width, int depth) {
+        this.limit = limit;
+        this.intervalMillis = interval.toMillis();
+        this.depth = Math.max(1, Math.min(depth, SEEDS.length));
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicLongArray(size * this.depth);
+    }
+
+    /**
+     * 尝试占用一次发送次数
+     *
+     * @param phone 手机号
+     * @return 是否允许发送
+     */
+    public boolean tryAcquire(String phone) {
+        long window = System.currentTimeMillis() / intervalMillis;
+        int hash = phone.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + (mix(hash, SEEDS[row]) & mask);
+            estimate = Math.min(estimate, this.increment(index, window));
+        }
+        return estimate <= limit;
+    }
+
+    /**
+     * 槽位计数加一
+     *
+     * <p>先计数后判断，并发请求同一手机号时不会同时通过；被拒绝的请求同样计数。</p>
+     *
+     * @return 计数后的值
+     */
+    private long increment(int index, long window) {
+        while (true) {
+            long current = slots.get(index);
+            long count = count(current, window);
+            if (count == COUNT_MASK) {
+                return count;
+            }
+            long next = 0 == count ? window << COUNT_BITS | 1 : current + 1;
+            if (slots.compareAndSet(index, current, next)) {
+                return count + 1;
+            }
+        }
+    }
+
+    private static long count(long slot, long window) {
+        return slot >>> COUNT_BITS == window ? slot & COUNT_MASK : 0;
+    }
+
+    private static int mix(int hash, int seed) {
+        int h = hash * seed;
+        h ^= h >>> 16;
+        h *= 0x7FEB352D;
+        return h ^ h >>> 15;
+    }
+}
@@ -0,0 +1,336 @@
+package com.ppxb.latea.starter.messaging.sms.core;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.messaging.sms.exception.SmsException;
+import com.ppxb.latea.starter.messaging.sms.model.SmsMessage;
+import org.dromara.sms4j.api.SmsBlend;
+import org.dromara.sms4j.api.entity.SmsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 短信发送模板
+ *
+ * <p>{@link #send} 只做手机号限流与入队，不在调用线程上访问短信服务商：队列已满或触发限流时立即抛出 {@link SmsException}，
+ * 发送结果通过返回的 {@link CompletableFuture} 获取。</p>
+ *
+ * <p>后台调度线程从有界队列中批量取出消息，模板与参数相同的消息合并为一次群发（{@code massTexting}），
+ * 其余逐条发送；每次发送在虚拟线程上执行，同时进行中的发送数受 {@code concurrency} 限制，超出时调度线程阻塞，队列随之积压直至拒绝。
+ * 服务商按 {@link SmsProviderRouter} 的实测延迟排序，发送失败时切换到下一个服务商。</p>
+ *
+ * <p>模板 ID 只在所属服务商有效：指定的模板名称在模板映射中存在时，按服务商替换为各自的模板 ID，只在配置了该模板的服务商之间切换；
+ * 未映射的模板 ID 只发送给首选服务商，不做故障切换。未指定模板时各服务商使用各自的默认模板。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SmsTemplate implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SmsTemplate.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<Task> queue;
+
+    private final List<SmsRateLimiter> rateLimiters;
+
+    private final SmsProviderRouter router;
+
+    private final Map<String, Map<String, String>> templates;
+
+    private final int maxBatchSize;
+
+    private final Semaphore inFlight;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Thread dispatcher;
+
+    private final LongAdder rateLimitedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param router        服务商路由
+     * @param rateLimiters  手机号限流器
+     * @param templates     模板映射（模板名称 → 配置 ID → 该服务商的模板 ID）
+     * @param queueCapacity 队列容量
+     * @param concurrency   最大同时进行中的发送数
+     * @param maxBatchSize  单次群发的最大手机号数（1 表示不合并）
+     */
+    public SmsTemplate(SmsProviderRouter router,
+                       List<SmsRateLimiter> rateLimiters,
+                       Map<String, Map<String, String>> templates,
+                       int queueCapacity,
+                       int concurrency,
+                       int maxBatchSize) {
+        this.router = router;
+        this.rateLimiters = List.copyOf(rateLimiters);
+        this.templates = Map.copyOf(templates);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(concurrency);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.dispatcher = Thread.ofPlatform().name("latea-sms-dispatcher").daemon().start(this::dispatchLoop);
+    }
+
+    /**
+     * 发送短信（使用默认模板）
+     *
+     * @param phone  手机号
+     * @param params 模板参数
+     * @return 发送结果
+     */
+    public CompletableFuture<SmsResponse> send(String phone, LinkedHashMap<String, String> params) {
+        return this.send(new SmsMessage(phone, null, params));
+    }
+
+    /**
+     * 发送短信
+     *
+     * @param phone      手机号
+     * @param templateId 模板名称或模板 ID
+     * @param params     模板参数
+     * @return 发送结果
+     */
+    public CompletableFuture<SmsResponse> send(String phone, String templateId, LinkedHashMap<String, String> params) {
+        return this.send(new SmsMessage(phone, templateId, params));
+    }
+
+    /**
+     * 发送短信
+     *
+     * @param message 短信消息
+     * @return 发送结果（所有服务商均失败时，返回最后一次失败的响应，或以 {@link SmsException} 异常完成）
+     * @throws SmsException 触发手机号限流或队列已满时
+     */
+    public CompletableFuture<SmsResponse> send(SmsMessage message) {
+        // 先检查容量再限流，队列已满时不消耗该手机号的配额
+        if (!running || 0 == queue.remainingCapacity()) {
+            throw this.rejected();
+        }
+        for (SmsRateLimiter rateLimiter : rateLimiters) {
+            if (!rateLimiter.tryAcquire(message.phone())) {
+                rateLimitedCount.increment();
+                throw new SmsException("短信发送过于频繁，请稍后再试", HttpStatus.HTTP_TOO_MANY_REQUESTS);
+            }
+        }
+        Task task = new Task(message, new CompletableFuture<>());
+        if (!queue.offer(task)) {
+            throw this.rejected();
+        }
+        // 入队时恰好关闭：调度线程可能已退出，取回消息并拒绝；取回失败说明消息已由调度线程或 close 处理
+        if (!running && queue.remove(task)) {
+            throw this.rejected();
+        }
+        return task.future();
+    }
+
+    /**
+     * 获取服务商路由
+     *
+     * @return 服务商路由
+     */
+    public SmsProviderRouter getRouter() {
+        return router;
+    }
+
+    /**
+     * 队列中等待发送的消息数
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 因手机号限流被拒绝的次数
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount.sum();
+    }
+
+    /**
+     * 因队列已满被拒绝的次数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 停止接收新消息，发送完队列中的消息后关闭
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 调度线程退出后才入队的消息不会再被发送
+        this.failQueued(new SmsException("SMS template closed"));
+        executor.close();
+    }
+
+    private void dispatchLoop() {
+        List<Task> drained = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            List<List<Task>> batches = List.of();
+            int submitted = 0;
+            try {
+                Task first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (null == first) {
+                    continue;
+                }
+                drained.add(first);
+                queue.drainTo(drained, maxBatchSize * 10 - 1);
+                batches = this.batch(drained);
+                for (; submitted < batches.size(); submitted++) {
+                    List<Task> batch = batches.get(submitted);
+                    inFlight.acquire();
+                    executor.execute(() -> {
+                        try {
+                            this.deliver(batch);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 已提交的批次仍在发送（可能已送达），只让尚未提交的与仍在队列中的消息失败，并停止接收新消息
+                running = false;
+                SmsException exception = new SmsException("SMS dispatcher interrupted");
+                failPending(drained, batches, submitted, exception);
+                this.failQueued(exception);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to dispatch SMS messages.", e);
+                failPending(drained, batches, submitted, e);
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    private SmsException rejected() {
+        rejectedCount.increment();
+        return new SmsException("短信发送繁忙，请稍后再试", HttpStatus.HTTP_UNAVAILABLE);
+    }
+
+    /**
+     * 让仍在队列中的消息以异常完成
+     */
+    private void failQueued(Exception exception) {
+        List<Task> queued = new ArrayList<>();
+        queue.drainTo(queued);
+        queued.forEach(task -> task.future().completeExceptionally(exception));
+    }
+
+    /**
+     * 让尚未提交发送的消息以异常完成
+     */
+    private static void failPending(List<Task> drained, List<List<Task>> batches, int submitted, Exception exception) {
+        List<Task> pending = batches.isEmpty()
+            ? drained
+            : batches.subList(submitted, batches.size()).stream().flatMap(List::stream).toList();
+        pending.forEach(task -> task.future().completeExceptionally(exception));
+    }
+
+    /**
+     * 按模板与参数分组
+     *
+     * <p>未指定模板 ID 的消息无法群发，单独成组。</p>
+     */
+    private List<List<Task>> batch(List<Task> tasks) {
+        List<List<Task>> batches = new ArrayList<>();
+        Map<BatchKey, List<Task>> groups = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            SmsMessage message = task.message();
+            if (1 == maxBatchSize || null == message.templateId()) {
+                batches.add(List.of(task));
+                continue;
+            }
+            List<Task> group = groups.computeIfAbsent(new BatchKey(message.templateId(), message
+                .params()), k -> new ArrayList<>());
+            group.add(task);
+            if (group.size() == maxBatchSize) {
+                batches.add(List.copyOf(group));
+                group.clear();
+            }
+        }
+        groups.values().stream().filter(group -> !group.isEmpty()).map(List::copyOf).forEach(batches::add);
+        return batches;
+    }
+
+    private void deliver(List<Task> batch) {
+        SmsMessage message = batch.get(0).message();
+        List<SmsBlend> candidates = router.candidates();
+        Map<String, String> providerTemplates = null == message.templateId()
+            ? null
+            : templates.get(message.templateId());
+        if (null != message.templateId() && null == providerTemplates && candidates.size() > 1) {
+            candidates = candidates.subList(0, 1);
+        }
+        SmsResponse lastResponse = null;
+        Exception lastException = null;
+        for (SmsBlend blend : candidates) {
+            String templateId = null == providerTemplates
+                ? message.templateId()
+                : providerTemplates.get(blend.getConfigId());
+            if (null != providerTemplates && null == templateId) {
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                SmsResponse response = send(blend, batch, templateId, message.params());
+                boolean success = null != response && response.isSuccess();
+                router.record(blend.getConfigId(), success, System.nanoTime() - start);
+                if (success) {
+                    batch.forEach(task -> task.future().complete(response));
+                    return;
+                }
+                lastResponse = response;
+            } catch (Exception e) {
+                router.record(blend.getConfigId(), false, System.nanoTime() - start);
+                lastException = e;
+                log.warn("Failed to send SMS via provider [{}], trying next.", blend.getConfigId(), e);
+            }
+        }
+        if (null != lastResponse) {
+            SmsResponse response = lastResponse;
+            batch.forEach(task -> task.future().complete(response));
+            return;
+        }
+        SmsException exception = null == lastException
+            ? new SmsException("No SMS provider available")
+            : new SmsException("All SMS providers failed", lastException);
+        batch.forEach(task -> task.future().completeExceptionally(exception));
+    }
+
+    private static SmsResponse send(SmsBlend blend,
+                                    List<Task> batch,
+                                    String templateId,
+                                    LinkedHashMap<String, String> params) {
+        if (batch.size() > 1) {
+            List<String> phones = batch.stream().map(task -> task.message().phone()).toList();
+            return blend.massTexting(phones, templateId, params);
+        }
+        String phone = batch.get(0).message().phone();
+        if (null == templateId) {
+            return blend.sendMessage(phone, params);
+        }
+        return blend.sendMessage(phone, templateId, params);
+    }
+
+    private record Task(SmsMessage message, CompletableFuture<SmsResponse> future) {
+    }
+
+    private record BatchKey(String templateId, Map<String, String> params) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.ppxb.latea.starter.messaging.sms.exception;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 短信异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SmsException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public SmsException() {
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public SmsException(String message) {
+        super(message);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public SmsException(Throwable cause) {
+        super(cause);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    public SmsException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = HttpStatus.HTTP_INTERNAL_ERROR;
+    }
+
+    /**
+     * @param message 提示信息
+     * @param status  HTTP 状态码
+     */
+    public SmsException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ppxb.latea.starter.messaging.sms.model;
+
+import java.util.LinkedHashMap;
+
+/**
+ * 短信消息
+ *
+ * @param phone      手机号
+ * @param templateId 模板名称或模板 ID（为空时使用短信服务配置的默认模板）
+ * @param params     模板参数
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record SmsMessage(String phone, String templateId, LinkedHashMap<String, String> params) {
+}
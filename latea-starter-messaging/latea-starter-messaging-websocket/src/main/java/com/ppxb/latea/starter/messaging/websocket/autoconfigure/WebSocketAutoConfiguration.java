@@ -0,0 +1,150 @@
+package com.ppxb.latea.starter.messaging.websocket.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.messaging.websocket.bus.InProcessWebSocketMessageBus;
+import com.ppxb.latea.starter.messaging.websocket.bus.WebSocketMessageBus;
+import com.ppxb.latea.starter.messaging.websocket.core.WebSocketMessagingTemplate;
+import com.ppxb.latea.starter.messaging.websocket.core.WebSocketMeterBinder;
+import com.ppxb.latea.starter.messaging.websocket.core.WebSocketSessionRegistry;
+import com.ppxb.latea.starter.messaging.websocket.handler.RegistryWebSocketHandler;
+import com.ppxb.latea.starter.messaging.websocket.handler.WebSocketInboundHandler;
+import com.ppxb.latea.starter.messaging.websocket.handler.WebSocketUserResolver;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.security.Principal;
+import java.util.concurrent.Executors;
+
+/**
+ * WebSocket 自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   messaging:
+ *     websocket:
+ *       path: /websocket
+ *       allowed-origin-patterns: https://*.example.com
+ *       queue-capacity: 1024
+ *       send-time-limit: 10s
+ * </pre></blockquote>
+ *
+ * <p>未配置 {@code allowed-origin-patterns} 时只接受同源连接，防止跨站 WebSocket 劫持。</p>
+ *
+ * <p>集群部署时注册自定义 {@link WebSocketMessageBus}（例如基于 Redis Pub/Sub）即可跨节点推送。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(WebSocketProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.MESSAGING_WEBSOCKET, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class WebSocketAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketAutoConfiguration.class);
+
+    /**
+     * 会话注册表（在虚拟线程上发送消息，容器关闭时关闭发送执行器）
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public WebSocketSessionRegistry webSocketSessionRegistry(WebSocketProperties properties) {
+        return new WebSocketSessionRegistry(properties.getQueueCapacity(), properties.getSendTimeLimit(), Executors
+            .newThreadPerTaskExecutor(Thread.ofVirtual().name("websocket-send-", 0).factory()));
+    }
+
+    /**
+     * 消息总线（默认进程内）
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WebSocketMessageBus webSocketMessageBus() {
+        return new InProcessWebSocketMessageBus();
+    }
+
+    /**
+     * 消息发送模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WebSocketMessagingTemplate webSocketMessagingTemplate(WebSocketSessionRegistry webSocketSessionRegistry,
+                                                                 WebSocketMessageBus webSocketMessageBus,
+                                                                 ObjectMapper objectMapper) {
+        return new WebSocketMessagingTemplate(webSocketSessionRegistry, webSocketMessageBus, objectMapper);
+    }
+
+    /**
+     * 用户解析器（默认取认证主体名称）
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WebSocketUserResolver webSocketUserResolver() {
+        return session -> {
+            Principal principal = session.getPrincipal();
+            return null == principal ? null : principal.getName();
+        };
+    }
+
+    /**
+     * 处理器注册配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableWebSocket
+    public static class WebSocketHandlerConfiguration implements WebSocketConfigurer {
+
+        private final WebSocketProperties properties;
+
+        private final RegistryWebSocketHandler handler;
+
+        public WebSocketHandlerConfiguration(WebSocketProperties properties,
+                                             WebSocketSessionRegistry webSocketSessionRegistry,
+                                             WebSocketUserResolver webSocketUserResolver,
+                                             ObjectProvider<WebSocketInboundHandler> inboundHandler) {
+            this.properties = properties;
+            this.handler = new RegistryWebSocketHandler(webSocketSessionRegistry, webSocketUserResolver, inboundHandler
+                .getIfAvailable());
+        }
+
+        @Override
+        public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+            registry.addHandler(handler, properties.getPath())
+                .setAllowedOriginPatterns(properties.getAllowedOriginPatterns().toArray(String[]::new));
+        }
+    }
+
+    /**
+     * WebSocket 指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class WebSocketMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public WebSocketMeterBinder webSocketMeterBinder(WebSocketSessionRegistry webSocketSessionRegistry) {
+            return new WebSocketMeterBinder(webSocketSessionRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Messaging-WebSocket' completed initialization.");
+    }
+}
@@ -0,0 +1,83 @@
+package com.ppxb.latea.starter.messaging.websocket.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WebSocket 配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.MESSAGING_WEBSOCKET)
+public class WebSocketProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 连接路径
+     */
+    private String path = "/websocket";
+
+    /**
+     * 允许的来源（支持通配符；默认为空，即只允许同源连接，跨域来源需显式配置）
+     */
+    private List<String> allowedOriginPatterns = new ArrayList<>();
+
+    /**
+     * 每个会话的出站队列容量（超出时断开该会话）
+     */
+    private int queueCapacity = 1024;
+
+    /**
+     * 单条消息发送时间上限（超出时断开该会话）
+     */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public List<String> getAllowedOriginPatterns() {
+        return allowedOriginPatterns;
+    }
+
+    public void setAllowedOriginPatterns(List<String> allowedOriginPatterns) {
+        this.allowedOriginPatterns = allowedOriginPatterns;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    public void setSendTimeLimit(Duration sendTimeLimit) {
+        this.sendTimeLimit = sendTimeLimit;
+    }
+}
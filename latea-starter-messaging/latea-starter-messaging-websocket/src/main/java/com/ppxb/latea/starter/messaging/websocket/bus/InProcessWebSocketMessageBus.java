@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.messaging.websocket.bus;
+
+import com.ppxb.latea.starter.messaging.websocket.model.WebSocketEnvelope;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 进程内 WebSocket 消息总线（单节点部署）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InProcessWebSocketMessageBus implements WebSocketMessageBus {
+
+    private final List<Consumer<WebSocketEnvelope>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(WebSocketEnvelope envelope) {
+        for (Consumer<WebSocketEnvelope> listener : listeners) {
+            listener.accept(envelope);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<WebSocketEnvelope> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ppxb.latea.starter.messaging.websocket.bus;
+
+import com.ppxb.latea.starter.messaging.websocket.model.WebSocketEnvelope;
+
+import java.util.function.Consumer;
+
+/**
+ * WebSocket 消息总线
+ *
+ * <p>集群部署时，会话分布在不同节点上：消息先发布到总线，由各节点投递给本地会话。
+ * 基于 Redis Pub/Sub、MQ 等实现此接口并注册为 Bean 即可替换默认的进程内实现。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface WebSocketMessageBus {
+
+    /**
+     * 发布消息
+     *
+     * @param envelope 消息信封
+     */
+    void publish(WebSocketEnvelope envelope);
+
+    /**
+     * 订阅消息
+     *
+     * @param listener 监听器（投递到本地会话）
+     */
+    void subscribe(Consumer<WebSocketEnvelope> listener);
+}
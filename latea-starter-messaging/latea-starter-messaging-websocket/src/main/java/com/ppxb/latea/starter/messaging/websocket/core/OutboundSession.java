@@ -0,0 +1,209 @@
+package com.ppxb.latea.starter.messaging.websocket.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 带出站队列的 WebSocket 会话
+ *
+ * <p>{@link WebSocketSession#sendMessage} 不支持并发调用且可能因客户端接收慢而阻塞。
+ * 发送方只把消息放入有界队列后立即返回，同一时刻至多一个任务（在虚拟线程上）按序发送；
+ * 队列已满或单条消息发送超时的会话视为慢消费者，直接断开，避免拖慢其他会话或占满内存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class OutboundSession {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundSession.class);
+
+    private final WebSocketSession session;
+
+    private final String userId;
+
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
+    private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final int queueCapacity;
+
+    private final long sendTimeLimitNanos;
+
+    private final Executor executor;
+
+    private final WebSocketSessionRegistry registry;
+
+    private final WebSocketMetrics metrics;
+
+    private volatile long sendStartNanos;
+
+    OutboundSession(WebSocketSession session,
+                    String userId,
+                    int queueCapacity,
+                    long sendTimeLimitNanos,
+                    Executor executor,
+                    WebSocketSessionRegistry registry,
+                    WebSocketMetrics metrics) {
+        this.session = session;
+        this.userId = userId;
+        this.queueCapacity = queueCapacity;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+        this.executor = executor;
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 发送消息（异步）
+     *
+     * @param message 消息（可在多个会话间共享）
+     * @return 是否放入队列；会话已关闭或因消费过慢被断开时返回 {@code false}
+     */
+    public boolean send(WebSocketMessage<?> message) {
+        if (closed.get()) {
+            return false;
+        }
+        long start = sendStartNanos;
+        if (queuedCount.incrementAndGet() > queueCapacity || (0 != start && System
+            .nanoTime() - start > sendTimeLimitNanos)) {
+            queuedCount.decrementAndGet();
+            this.evict();
+            return false;
+        }
+        queue.offer(message);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * 关闭会话
+     *
+     * @param status 关闭状态
+     */
+    public void close(CloseStatus status) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        registry.remove(this);
+        this.discard();
+        executor.execute(() -> {
+            try {
+                session.close(status);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to close WebSocket session [{}].", session.getId(), e);
+            }
+        });
+    }
+
+    /**
+     * 会话 ID
+     */
+    public String getId() {
+        return session.getId();
+    }
+
+    /**
+     * 用户 ID（匿名会话为 {@code null}）
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * 已订阅的主题
+     */
+    public Set<String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * 原始会话
+     */
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * 待发送的消息数
+     */
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * 是否已关闭
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 标记为已关闭（连接已由对端或容器关闭）
+     */
+    void markClosed() {
+        if (closed.compareAndSet(false, true)) {
+            this.discard();
+        }
+    }
+
+    private void evict() {
+        if (!closed.get()) {
+            metrics.recordEvicted();
+            log.debug("Evicting slow WebSocket session [{}], queued: {}.", session.getId(), queuedCount.get());
+            this.close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    /**
+     * 丢弃待发送的消息
+     *
+     * <p>每移除一条消息计数减一，与 {@link #drain()} 的并发出队互不覆盖，计数不会变为负数。</p>
+     */
+    private void discard() {
+        while (null != queue.poll()) {
+            queuedCount.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        do {
+            WebSocketMessage<?> message;
+            while (!closed.get() && null != (message = queue.poll())) {
+                queuedCount.decrementAndGet();
+                sendStartNanos = System.nanoTime();
+                try {
+                    session.sendMessage(message);
+                    metrics.recordSent();
+                } catch (IOException | RuntimeException e) {
+                    metrics.recordFailed();
+                    log.debug("Failed to send WebSocket message to session [{}].", session.getId(), e);
+                    this.close(CloseStatus.SERVER_ERROR);
+                } finally {
+                    sendStartNanos = 0;
+                }
+            }
+            draining.set(false);
+            // 释放标记后再次检查，避免与并发放入的消息错过
+        } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+}
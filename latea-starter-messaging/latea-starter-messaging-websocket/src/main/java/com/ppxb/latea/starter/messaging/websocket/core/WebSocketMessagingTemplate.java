@@ -0,0 +1,116 @@
+package com.ppxb.latea.starter.messaging.websocket.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.messaging.websocket.bus.WebSocketMessageBus;
+import com.ppxb.latea.starter.messaging.websocket.model.WebSocketEnvelope;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * WebSocket 消息发送模板
+ *
+ * <p>消息在发布时序列化一次，投递时创建一个 {@link TextMessage} 供全部目标会话共享，
+ * 投递只把消息放入各会话的出站队列，不在调用线程上执行网络写入。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class WebSocketMessagingTemplate {
+
+    private final WebSocketSessionRegistry registry;
+
+    private final WebSocketMessageBus messageBus;
+
+    private final ObjectMapper objectMapper;
+
+    public WebSocketMessagingTemplate(WebSocketSessionRegistry registry,
+                                      WebSocketMessageBus messageBus,
+                                      ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.messageBus = messageBus;
+        this.objectMapper = objectMapper;
+        messageBus.subscribe(this::deliver);
+    }
+
+    /**
+     * 发送给指定用户的全部会话
+     *
+     * @param userId  用户 ID
+     * @param payload 消息（字符串原样发送，其他对象序列化为 JSON）
+     */
+    public void sendToUser(String userId, Object payload) {
+        this.publish(WebSocketEnvelope.TargetType.USER, userId, payload);
+    }
+
+    /**
+     * 发送给订阅了指定主题的会话
+     *
+     * @param topic   主题
+     * @param payload 消息
+     */
+    public void sendToTopic(String topic, Object payload) {
+        this.publish(WebSocketEnvelope.TargetType.TOPIC, topic, payload);
+    }
+
+    /**
+     * 发送给指定会话
+     *
+     * @param sessionId 会话 ID
+     * @param payload   消息
+     */
+    public void sendToSession(String sessionId, Object payload) {
+        this.publish(WebSocketEnvelope.TargetType.SESSION, sessionId, payload);
+    }
+
+    /**
+     * 发送给全部会话
+     *
+     * @param payload 消息
+     */
+    public void broadcast(Object payload) {
+        this.publish(WebSocketEnvelope.TargetType.BROADCAST, null, payload);
+    }
+
+    /**
+     * 投递到本地会话（由消息总线回调）
+     *
+     * @param envelope 消息信封
+     */
+    public void deliver(WebSocketEnvelope envelope) {
+        Collection<OutboundSession> targets = switch (envelope.targetType()) {
+            case USER -> registry.getUserSessions(envelope.target());
+            case TOPIC -> registry.getTopicSessions(envelope.target());
+            case BROADCAST -> registry.getSessions();
+            case SESSION -> {
+                OutboundSession session = registry.getSession(envelope.target());
+                yield null == session ? List.of() : List.of(session);
+            }
+        };
+        if (targets.isEmpty()) {
+            return;
+        }
+        TextMessage message = new TextMessage(envelope.payload());
+        for (OutboundSession session : targets) {
+            session.send(message);
+        }
+    }
+
+    private void publish(WebSocketEnvelope.TargetType targetType, String target, Object payload) {
+        String text;
+        if (payload instanceof String string) {
+            text = string;
+        } else {
+            try {
+                text = objectMapper.writeValueAsString(payload);
+            } catch (JsonProcessingException e) {
+                throw new BaseException("Failed to serialize WebSocket message.", e);
+            }
+        }
+        registry.getMetrics().recordPublished();
+        messageBus.publish(new WebSocketEnvelope(targetType, target, text));
+    }
+}
@@ -0,0 +1,46 @@
+package com.ppxb.latea.starter.messaging.websocket.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * WebSocket 指标绑定器（Micrometer）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class WebSocketMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.websocket";
+
+    private final WebSocketSessionRegistry registry;
+
+    public WebSocketMeterBinder(WebSocketSessionRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        WebSocketMetrics metrics = registry.getMetrics();
+        Gauge.builder(PREFIX + ".sessions", registry, WebSocketSessionRegistry::getSessionCount)
+            .description("当前会话数")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".users", registry, WebSocketSessionRegistry::getUserCount)
+            .description("当前在线用户数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".published", metrics, WebSocketMetrics::getPublishedCount)
+            .description("已发布的消息数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".sent", metrics, WebSocketMetrics::getSentCount)
+            .description("已发送到会话的消息数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".failed", metrics, WebSocketMetrics::getFailedCount)
+            .description("发送失败的消息数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".evicted", metrics, WebSocketMetrics::getEvictedCount)
+            .description("因消费过慢被断开的会话数")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ppxb.latea.starter.messaging.websocket.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class WebSocketMetrics {
+
+    private final LongAdder sentCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder evictedCount = new LongAdder();
+
+    private final LongAdder publishedCount = new LongAdder();
+
+    void recordSent() {
+        sentCount.increment();
+    }
+
+    void recordFailed() {
+        failedCount.increment();
+    }
+
+    void recordEvicted() {
+        evictedCount.increment();
+    }
+
+    void recordPublished() {
+        publishedCount.increment();
+    }
+
+    /**
+     * 已发送到会话的消息数
+     */
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    /**
+     * 发送失败的消息数
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 因消费过慢被断开的会话数
+     */
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    /**
+     * 已发布的消息数（每次发布只计一次，与接收会话数无关）
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+}
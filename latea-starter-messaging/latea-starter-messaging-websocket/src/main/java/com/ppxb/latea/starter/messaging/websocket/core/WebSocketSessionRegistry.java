@@ -0,0 +1,220 @@
+package com.ppxb.latea.starter.messaging.websocket.core;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * WebSocket 会话注册表
+ *
+ * <p>按会话 ID、用户 ID、主题建立并发索引，按用户或主题推送时只遍历目标会话。</p>
+ *
+ * <p>发送执行器归注册表所有，关闭注册表时一并关闭（中断仍在进行的发送）。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class WebSocketSessionRegistry implements AutoCloseable {
+
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<OutboundSession>> userSessions = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<OutboundSession>> topicSessions = new ConcurrentHashMap<>();
+
+    private final int queueCapacity;
+
+    private final long sendTimeLimitNanos;
+
+    private final Executor executor;
+
+    private final WebSocketMetrics metrics = new WebSocketMetrics();
+
+    /**
+     * @param queueCapacity 每个会话的出站队列容量
+     * @param sendTimeLimit 单条消息发送时间上限
+     * @param executor      发送执行器（建议使用虚拟线程）
+     */
+    public WebSocketSessionRegistry(int queueCapacity, Duration sendTimeLimit, Executor executor) {
+        this.queueCapacity = queueCapacity;
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+        this.executor = executor;
+    }
+
+    /**
+     * 注册会话
+     *
+     * @param session 会话
+     * @param userId  用户 ID（匿名会话为 {@code null}）
+     * @return 带出站队列的会话
+     */
+    public OutboundSession register(WebSocketSession session, String userId) {
+        OutboundSession outbound = new OutboundSession(session, userId, queueCapacity, sendTimeLimitNanos, executor, this, metrics);
+        sessions.put(session.getId(), outbound);
+        if (null != userId) {
+            addToIndex(userSessions, userId, outbound);
+        }
+        return outbound;
+    }
+
+    /**
+     * 注销会话
+     *
+     * @param sessionId 会话 ID
+     */
+    public void unregister(String sessionId) {
+        OutboundSession outbound = sessions.get(sessionId);
+        if (null != outbound) {
+            outbound.markClosed();
+            this.remove(outbound);
+        }
+    }
+
+    /**
+     * 订阅主题
+     *
+     * @param sessionId 会话 ID
+     * @param topic     主题
+     * @return 是否订阅成功（会话不存在时返回 {@code false}）
+     */
+    public boolean subscribe(String sessionId, String topic) {
+        OutboundSession outbound = sessions.get(sessionId);
+        if (null == outbound || outbound.isClosed()) {
+            return false;
+        }
+        outbound.getTopics().add(topic);
+        addToIndex(topicSessions, topic, outbound);
+        // 与并发的注销竞争时，以注销为准
+        if (outbound.isClosed()) {
+            removeFromIndex(topicSessions, topic, outbound);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 取消订阅主题
+     *
+     * @param sessionId 会话 ID
+     * @param topic     主题
+     */
+    public void unsubscribe(String sessionId, String topic) {
+        OutboundSession outbound = sessions.get(sessionId);
+        if (null != outbound) {
+            outbound.getTopics().remove(topic);
+            removeFromIndex(topicSessions, topic, outbound);
+        }
+    }
+
+    /**
+     * 获取会话
+     *
+     * @param sessionId 会话 ID
+     * @return 会话（不存在时为 {@code null}）
+     */
+    public OutboundSession getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * 获取用户的全部会话
+     *
+     * @param userId 用户 ID
+     * @return 会话
+     */
+    public Collection<OutboundSession> getUserSessions(String userId) {
+        return userSessions.getOrDefault(userId, Collections.emptySet());
+    }
+
+    /**
+     * 获取订阅了主题的会话
+     *
+     * @param topic 主题
+     * @return 会话
+     */
+    public Collection<OutboundSession> getTopicSessions(String topic) {
+        return topicSessions.getOrDefault(topic, Collections.emptySet());
+    }
+
+    /**
+     * 获取全部会话
+     *
+     * @return 会话
+     */
+    public Collection<OutboundSession> getSessions() {
+        return sessions.values();
+    }
+
+    /**
+     * 用户是否在线
+     *
+     * @param userId 用户 ID
+     * @return 是否在线
+     */
+    public boolean isOnline(String userId) {
+        return !this.getUserSessions(userId).isEmpty();
+    }
+
+    /**
+     * 会话数
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 在线用户数
+     */
+    public int getUserCount() {
+        return userSessions.size();
+    }
+
+    /**
+     * 获取指标
+     */
+    public WebSocketMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    void remove(OutboundSession outbound) {
+        if (!sessions.remove(outbound.getId(), outbound)) {
+            return;
+        }
+        if (null != outbound.getUserId()) {
+            removeFromIndex(userSessions, outbound.getUserId(), outbound);
+        }
+        for (String topic : outbound.getTopics()) {
+            removeFromIndex(topicSessions, topic, outbound);
+        }
+    }
+
+    private static void addToIndex(Map<String, Set<OutboundSession>> index, String key, OutboundSession outbound) {
+        // 在 compute 中添加，避免与移除空集合的操作竞争导致添加丢失
+        index.compute(key, (k, set) -> {
+            Set<OutboundSession> target = null == set ? ConcurrentHashMap.newKeySet() : set;
+            target.add(outbound);
+            return target;
+        });
+    }
+
+    private static void removeFromIndex(Map<String, Set<OutboundSession>> index, String key, OutboundSession outbound) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(outbound);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.ppxb.latea.starter.messaging.websocket.handler;
+
+import com.ppxb.latea.starter.messaging.websocket.core.OutboundSession;
+import com.ppxb.latea.starter.messaging.websocket.core.WebSocketSessionRegistry;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * WebSocket 处理器
+ *
+ * <p>连接建立时注册会话，关闭时注销；客户端消息交给 {@link WebSocketInboundHandler}（未配置时忽略）。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RegistryWebSocketHandler extends TextWebSocketHandler {
+
+    private final WebSocketSessionRegistry registry;
+
+    private final WebSocketUserResolver userResolver;
+
+    private final WebSocketInboundHandler inboundHandler;
+
+    public RegistryWebSocketHandler(WebSocketSessionRegistry registry,
+                                    WebSocketUserResolver userResolver,
+                                    WebSocketInboundHandler inboundHandler) {
+        this.registry = registry;
+        this.userResolver = userResolver;
+        this.inboundHandler = inboundHandler;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        registry.register(session, userResolver.resolve(session));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        OutboundSession outbound = registry.getSession(session.getId());
+        if (null != inboundHandler && null != outbound) {
+            inboundHandler.handle(outbound, message);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        registry.unregister(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        registry.unregister(session.getId());
+    }
+}
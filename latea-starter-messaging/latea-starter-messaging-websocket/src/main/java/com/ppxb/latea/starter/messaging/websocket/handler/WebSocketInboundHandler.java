@@ -0,0 +1,25 @@
+package com.ppxb.latea.starter.messaging.websocket.handler;
+
+import com.ppxb.latea.starter.messaging.websocket.core.OutboundSession;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * WebSocket 入站消息处理器
+ *
+ * <p>例如根据客户端消息调用 {@code WebSocketSessionRegistry#subscribe} 订阅主题。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface WebSocketInboundHandler {
+
+    /**
+     * 处理客户端消息
+     *
+     * @param session 会话
+     * @param message 消息
+     * @throws Exception 处理失败
+     */
+    void handle(OutboundSession session, TextMessage message) throws Exception;
+}
@@ -0,0 +1,21 @@
+package com.ppxb.latea.starter.messaging.websocket.handler;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * WebSocket 用户解析器
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface WebSocketUserResolver {
+
+    /**
+     * 解析会话所属用户
+     *
+     * @param session 会话
+     * @return 用户 ID（匿名会话返回 {@code null}）
+     */
+    String resolve(WebSocketSession session);
+}
@@ -0,0 +1,41 @@
+package com.ppxb.latea.starter.messaging.websocket.model;
+
+/**
+ * WebSocket 消息信封
+ *
+ * <p>消息在发布前已序列化为文本，集群中各节点及各会话直接复用同一份内容。</p>
+ *
+ * @param targetType 目标类型
+ * @param target     目标（用户 ID、主题或会话 ID；广播时为 {@code null}）
+ * @param payload    已序列化的消息内容
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record WebSocketEnvelope(TargetType targetType, String target, String payload) {
+
+    /**
+     * 目标类型
+     */
+    public enum TargetType {
+
+        /**
+         * 指定用户的全部会话
+         */
+        USER,
+
+        /**
+         * 订阅了指定主题的会话
+         */
+        TOPIC,
+
+        /**
+         * 指定会话
+         */
+        SESSION,
+
+        /**
+         * 全部会话
+         */
+        BROADCAST
+    }
+}
@@ -0,0 +1,30 @@
+package com.ppxb.latea.starter.security.crypto.annotation;
+
+import com.ppxb.latea.starter.security.crypto.enums.Algorithm;
+
+import java.lang.annotation.*;
+
+/**
+ * 字段加/解密注解
+ *
+ * <p>标注在 {@link String} 类型的字段上，由 {@link com.ppxb.latea.starter.security.crypto.core.FieldCryptoProcessor}
+ * 统一处理。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldEncrypt {
+
+    /**
+     * 加密算法
+     */
+    Algorithm value() default Algorithm.AES_GCM;
+
+    /**
+     * 对称加密口令（为空时使用全局配置）
+     */
+    String password() default "";
+}
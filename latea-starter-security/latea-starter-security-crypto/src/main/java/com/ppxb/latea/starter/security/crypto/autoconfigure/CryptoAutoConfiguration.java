@@ -0,0 +1,76 @@
+package com.ppxb.latea.starter.security.crypto.autoconfigure;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.security.crypto.core.CipherPool;
+import com.ppxb.latea.starter.security.crypto.core.DerivedKeyCache;
+import com.ppxb.latea.starter.security.crypto.core.FieldCryptoProcessor;
+import com.ppxb.latea.starter.security.crypto.enums.Algorithm;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 加/解密自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   security:
+ *     crypto:
+ *       password: your-secret
+ *       salt: your-salt
+ * </pre></blockquote>
+ *
+ * <p>{@code salt} 没有默认值，未配置时启动失败，避免所有部署共用同一个公开的盐值。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CryptoProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.SECURITY_CRYPTO, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class CryptoAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(CryptoAutoConfiguration.class);
+
+    /**
+     * 派生密钥缓存
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DerivedKeyCache derivedKeyCache(CryptoProperties properties) {
+        if (CharSequenceUtil.isBlank(properties.getSalt())) {
+            throw new BaseException("Property '" + PropertiesConstants.SECURITY_CRYPTO + ".salt' must be configured.");
+        }
+        return new DerivedKeyCache(properties.getSalt().getBytes(StandardCharsets.UTF_8), properties.getIterations());
+    }
+
+    /**
+     * 字段加/解密处理器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FieldCryptoProcessor fieldCryptoProcessor(CryptoProperties properties, DerivedKeyCache derivedKeyCache) {
+        Map<Algorithm, CipherPool> cipherPools = new EnumMap<>(Algorithm.class);
+        for (Algorithm algorithm : Algorithm.values()) {
+            cipherPools.put(algorithm, new CipherPool(algorithm.getTransformation(), properties.getMaxIdleCiphers()));
+        }
+        return new FieldCryptoProcessor(properties.getPassword(), derivedKeyCache, cipherPools);
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Security-Crypto' completed initialization.");
+    }
+}
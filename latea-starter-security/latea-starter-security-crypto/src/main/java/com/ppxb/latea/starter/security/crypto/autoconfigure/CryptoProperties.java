@@ -0,0 +1,79 @@
+package com.ppxb.latea.starter.security.crypto.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 加/解密配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.SECURITY_CRYPTO)
+public class CryptoProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 默认对称加密口令
+     */
+    private String password;
+
+    /**
+     * 密钥派生盐值（必填，每个部署应使用各自的随机值）
+     */
+    private String salt;
+
+    /**
+     * 密钥派生迭代次数
+     */
+    private int iterations = 65536;
+
+    /**
+     * 每种算法共享空闲队列中保留的最大 Cipher 数量（平台线程另有线程私有实例）
+     */
+    private int maxIdleCiphers = 64;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getSalt() {
+        return salt;
+    }
+
+    public void setSalt(String salt) {
+        this.salt = salt;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getMaxIdleCiphers() {
+        return maxIdleCiphers;
+    }
+
+    public void setMaxIdleCiphers(int maxIdleCiphers) {
+        this.maxIdleCiphers = maxIdleCiphers;
+    }
+}
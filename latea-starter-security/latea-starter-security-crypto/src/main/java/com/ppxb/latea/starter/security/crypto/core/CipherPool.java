@@ -0,0 +1,89 @@
+package com.ppxb.latea.starter.security.crypto.core;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Cipher} 池
+ *
+ * <p>{@link Cipher#getInstance(String)} 需要遍历安全提供者并反射创建实现类，是逐次创建 Cipher 的主要开销。
+ * 本池分两级复用实例：
+ * <ul>
+ * <li>平台线程：优先复用线程私有的实例，无任何同步开销</li>
+ * <li>虚拟线程及线程私有实例被占用（重入）时：使用有界的共享空闲队列</li>
+ * </ul>
+ * Cipher 本身不是线程安全的，借出后必须通过 {@link #release(Cipher)} 归还，且归还前不能再使用。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CipherPool {
+
+    private final String transformation;
+
+    private final int maxIdle;
+
+    private final ThreadLocal<Cipher> threadLocal = new ThreadLocal<>();
+
+    private final ConcurrentLinkedQueue<Cipher> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public CipherPool(String transformation, int maxIdle) {
+        this.transformation = transformation;
+        this.maxIdle = maxIdle;
+        // 提前校验转换名称，避免首次请求时才暴露配置错误
+        this.release(this.create());
+    }
+
+    /**
+     * 借出 Cipher
+     *
+     * @return Cipher（未初始化模式与密钥，调用方需自行 {@code init}）
+     */
+    public Cipher borrow() {
+        if (!Thread.currentThread().isVirtual()) {
+            Cipher cipher = threadLocal.get();
+            if (null != cipher) {
+                threadLocal.set(null);
+                return cipher;
+            }
+        }
+        Cipher cipher = idle.poll();
+        if (null != cipher) {
+            idleCount.decrementAndGet();
+            return cipher;
+        }
+        return this.create();
+    }
+
+    /**
+     * 归还 Cipher
+     *
+     * @param cipher Cipher
+     */
+    public void release(Cipher cipher) {
+        if (!Thread.currentThread().isVirtual() && null == threadLocal.get()) {
+            threadLocal.set(cipher);
+            return;
+        }
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(cipher);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    private Cipher create() {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new BaseException("Unsupported cipher transformation: " + transformation, e);
+        }
+    }
+}
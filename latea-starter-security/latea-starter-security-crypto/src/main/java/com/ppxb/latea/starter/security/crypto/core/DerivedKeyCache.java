@@ -0,0 +1,63 @@
+package com.ppxb.latea.starter.security.crypto.core;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 派生密钥缓存
+ *
+ * <p>口令通过 PBKDF2WithHmacSHA256 派生 256 位 AES 密钥。派生过程刻意设计为高成本（多轮迭代），
+ * 因此每个口令只派生一次，结果按口令缓存。口令数量通常只有全局口令与少量字段级口令，缓存无需淘汰。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DerivedKeyCache {
+
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private static final int KEY_LENGTH = 256;
+
+    private final byte[] salt;
+
+    private final int iterations;
+
+    private final ConcurrentHashMap<String, SecretKey> keys = new ConcurrentHashMap<>();
+
+    public DerivedKeyCache(byte[] salt, int iterations) {
+        this.salt = salt.clone();
+        this.iterations = iterations;
+    }
+
+    /**
+     * 获取口令对应的 AES 密钥
+     *
+     * @param password 口令
+     * @return AES 密钥
+     */
+    public SecretKey get(String password) {
+        SecretKey key = keys.get(password);
+        if (null != key) {
+            return key;
+        }
+        return keys.computeIfAbsent(password, this::derive);
+    }
+
+    private SecretKey derive(String password) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            byte[] encoded = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(spec).getEncoded();
+            return new SecretKeySpec(encoded, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new BaseException("Failed to derive encryption key", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
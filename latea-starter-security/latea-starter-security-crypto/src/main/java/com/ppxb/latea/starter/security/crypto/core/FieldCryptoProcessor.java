@@ -0,0 +1,199 @@
+package com.ppxb.latea.starter.security.crypto.core;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.security.crypto.annotation.FieldEncrypt;
+import com.ppxb.latea.starter.security.crypto.encryptor.AesGcmEncryptor;
+import com.ppxb.latea.starter.security.crypto.encryptor.Encryptor;
+import com.ppxb.latea.starter.security.crypto.enums.Algorithm;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 字段加/解密处理器
+ *
+ * <p>每个类上标注了 {@link FieldEncrypt} 的字段只在首次处理时扫描一次，扫描结果（字段与对应的加密器）
+ * 通过 {@link ClassValue} 缓存。处理集合时按类分组、按字段汇总取值，每个字段只调用一次批量加/解密，
+ * 整个批次共用同一个 Cipher 实例。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class FieldCryptoProcessor {
+
+    private static final FieldBinding[] NONE = new FieldBinding[0];
+
+    private final String defaultPassword;
+
+    private final DerivedKeyCache keyCache;
+
+    private final Map<Algorithm, CipherPool> cipherPools;
+
+    private final ConcurrentHashMap<String, Encryptor> encryptors = new ConcurrentHashMap<>();
+
+    private final ClassValue<FieldBinding[]> bindings = new ClassValue<>() {
+        @Override
+        protected FieldBinding[] computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    public FieldCryptoProcessor(String defaultPassword, DerivedKeyCache keyCache, Map<Algorithm, CipherPool> cipherPools) {
+        this.defaultPassword = defaultPassword;
+        this.keyCache = keyCache;
+        this.cipherPools = new EnumMap<>(cipherPools);
+    }
+
+    /**
+     * 加密对象中标注了 {@link FieldEncrypt} 的字段
+     *
+     * @param obj 对象
+     * @param <T> 对象类型
+     * @return 原对象
+     */
+    public <T> T encrypt(T obj) {
+        return this.process(obj, Encryptor::encrypt);
+    }
+
+    /**
+     * 解密对象中标注了 {@link FieldEncrypt} 的字段
+     *
+     * @param obj 对象
+     * @param <T> 对象类型
+     * @return 原对象
+     */
+    public <T> T decrypt(T obj) {
+        return this.process(obj, Encryptor::decrypt);
+    }
+
+    /**
+     * 批量加密集合中各对象标注了 {@link FieldEncrypt} 的字段
+     *
+     * @param objs 对象集合
+     * @param <C>  集合类型
+     * @return 原集合
+     */
+    public <C extends Collection<?>> C encryptAll(C objs) {
+        return this.processAll(objs, Encryptor::encryptAll);
+    }
+
+    /**
+     * 批量解密集合中各对象标注了 {@link FieldEncrypt} 的字段
+     *
+     * @param objs 对象集合
+     * @param <C>  集合类型
+     * @return 原集合
+     */
+    public <C extends Collection<?>> C decryptAll(C objs) {
+        return this.processAll(objs, Encryptor::decryptAll);
+    }
+
+    /**
+     * 获取加密器
+     *
+     * @param algorithm 算法
+     * @param password  口令（为空时使用全局口令）
+     * @return 加密器
+     */
+    public Encryptor getEncryptor(Algorithm algorithm, String password) {
+        String actualPassword = CharSequenceUtil.blankToDefault(password, defaultPassword);
+        if (CharSequenceUtil.isBlank(actualPassword)) {
+            throw new BaseException("Encryption password must not be blank");
+        }
+        String cacheKey = algorithm.name() + actualPassword;
+        Encryptor encryptor = encryptors.get(cacheKey);
+        if (null != encryptor) {
+            return encryptor;
+        }
+        return encryptors.computeIfAbsent(cacheKey, k -> switch (algorithm) {
+            case AES_GCM -> new AesGcmEncryptor(keyCache.get(actualPassword), cipherPools.get(algorithm));
+        });
+    }
+
+    private <T> T process(T obj, BiFunction<Encryptor, String, String> operation) {
+        if (null == obj) {
+            return null;
+        }
+        for (FieldBinding binding : bindings.get(obj.getClass())) {
+            String value = binding.get(obj);
+            if (null != value) {
+                binding.set(obj, operation.apply(binding.encryptor(), value));
+            }
+        }
+        return obj;
+    }
+
+    private <C extends Collection<?>> C processAll(C objs,
+                                                   BiFunction<Encryptor, List<String>, List<String>> operation) {
+        if (null == objs || objs.isEmpty()) {
+            return objs;
+        }
+        Map<Class<?>, List<Object>> groups = new LinkedHashMap<>();
+        for (Object obj : objs) {
+            if (null != obj) {
+                groups.computeIfAbsent(obj.getClass(), k -> new ArrayList<>(objs.size())).add(obj);
+            }
+        }
+        groups.forEach((type, group) -> {
+            for (FieldBinding binding : bindings.get(type)) {
+                List<String> values = new ArrayList<>(group.size());
+                for (Object obj : group) {
+                    values.add(binding.get(obj));
+                }
+                List<String> processed = operation.apply(binding.encryptor(), values);
+                for (int i = 0; i < group.size(); i++) {
+                    binding.set(group.get(i), processed.get(i));
+                }
+            }
+        });
+        return objs;
+    }
+
+    private FieldBinding[] scan(Class<?> type) {
+        List<FieldBinding> result = new ArrayList<>();
+        for (Class<?> current = type; null != current && Object.class != current; current = current
+            .getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                FieldEncrypt annotation = field.getAnnotation(FieldEncrypt.class);
+                if (null == annotation || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (String.class != field.getType()) {
+                    throw new BaseException("@FieldEncrypt only supports String fields: " + field);
+                }
+                field.setAccessible(true);
+                result.add(new FieldBinding(field, this.getEncryptor(annotation.value(), annotation.password())));
+            }
+        }
+        return result.isEmpty() ? NONE : result.toArray(FieldBinding[]::new);
+    }
+
+    /**
+     * 字段与加密器的绑定
+     *
+     * @param field     字段
+     * @param encryptor 加密器
+     */
+    private record FieldBinding(Field field, Encryptor encryptor) {
+
+        private String get(Object obj) {
+            try {
+                return (String)field.get(obj);
+            } catch (IllegalAccessException e) {
+                throw new BaseException(e);
+            }
+        }
+
+        private void set(Object obj, String value) {
+            try {
+                field.set(obj, value);
+            } catch (IllegalAccessException e) {
+                throw new BaseException(e);
+            }
+        }
+    }
+}
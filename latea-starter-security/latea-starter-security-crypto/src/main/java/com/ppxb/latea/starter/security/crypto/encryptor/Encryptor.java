@@ -0,0 +1,57 @@
+package com.ppxb.latea.starter.security.crypto.encryptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 加/解密处理器
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface Encryptor {
+
+    /**
+     * 加密
+     *
+     * @param plaintext 明文
+     * @return 密文
+     */
+    String encrypt(String plaintext);
+
+    /**
+     * 解密
+     *
+     * @param ciphertext 密文
+     * @return 明文
+     */
+    String decrypt(String ciphertext);
+
+    /**
+     * 批量加密（{@code null} 元素原样保留）
+     *
+     * @param plaintexts 明文列表
+     * @return 密文列表（与入参顺序一致）
+     */
+    default List<String> encryptAll(List<String> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (String plaintext : plaintexts) {
+            result.add(null == plaintext ? null : this.encrypt(plaintext));
+        }
+        return result;
+    }
+
+    /**
+     * 批量解密（{@code null} 元素原样保留）
+     *
+     * @param ciphertexts 密文列表
+     * @return 明文列表（与入参顺序一致）
+     */
+    default List<String> decryptAll(List<String> ciphertexts) {
+        List<String> result = new ArrayList<>(ciphertexts.size());
+        for (String ciphertext : ciphertexts) {
+            result.add(null == ciphertext ? null : this.decrypt(ciphertext));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ppxb.latea.starter.security.crypto.enums;
+
+/**
+ * 加密算法
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum Algorithm {
+
+    /**
+     * AES-GCM（256 位密钥，96 位随机 IV，128 位认证标签）
+     */
+    AES_GCM("AES/GCM/NoPadding");
+
+    /**
+     * 转换名称
+     */
+    private final String transformation;
+
+    Algorithm(String transformation) {
+        this.transformation = transformation;
+    }
+
+    public String getTransformation() {
+        return transformation;
+    }
+}
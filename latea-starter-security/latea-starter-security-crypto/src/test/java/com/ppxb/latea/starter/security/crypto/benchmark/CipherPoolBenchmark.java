@@ -0,0 +1,95 @@
+package com.ppxb.latea.starter.security.crypto.benchmark;
+
+import com.ppxb.latea.starter.security.crypto.core.CipherPool;
+import com.ppxb.latea.starter.security.crypto.core.DerivedKeyCache;
+import com.ppxb.latea.starter.security.crypto.encryptor.AesGcmEncryptor;
+import com.ppxb.latea.starter.security.crypto.enums.Algorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 逐次创建 Cipher 与 {@link CipherPool} 复用 Cipher 的加密开销对比
+ *
+ * <p>运行方式：{@code mvn -pl latea-starter-security/latea-starter-security-crypto -am test-compile}，
+ * 然后以测试类路径执行本类的 {@code main} 方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CipherPoolBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * 明文长度（手机号、身份证号等字段通常在 11 ~ 32 字节之间）
+     */
+    @Param({"16", "256"})
+    private int length;
+
+    private SecretKey key;
+
+    private AesGcmEncryptor encryptor;
+
+    private String plaintext;
+
+    private List<String> plaintexts;
+
+    @Setup
+    public void setup() {
+        key = new DerivedKeyCache("benchmark-salt".getBytes(StandardCharsets.UTF_8), 1000).get("benchmark");
+        encryptor = new AesGcmEncryptor(key, new CipherPool(Algorithm.AES_GCM.getTransformation(), 64));
+        plaintext = "x".repeat(length);
+        plaintexts = Collections.nCopies(BATCH_SIZE, plaintext);
+    }
+
+    @Benchmark
+    public String perCallCipher() throws GeneralSecurityException {
+        byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[12];
+        RANDOM.get().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(Algorithm.AES_GCM.getTransformation());
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        byte[] output = new byte[iv.length + cipher.getOutputSize(input.length)];
+        System.arraycopy(iv, 0, output, 0, iv.length);
+        cipher.doFinal(input, 0, input.length, output, iv.length);
+        return Base64.getEncoder().encodeToString(output);
+    }
+
+    @Benchmark
+    public String pooledCipher() {
+        return encryptor.encrypt(plaintext);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> pooledCipherBulk() {
+        return encryptor.encryptAll(plaintexts);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CipherPoolBenchmark.class.getSimpleName())
+            .threads(Math.max(1, Runtime.getRuntime().availableProcessors()))
+            .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ppxb.latea.starter.security.limiter.annotation;
+
+import com.ppxb.latea.starter.security.limiter.enums.LimitAlgorithm;
+import com.ppxb.latea.starter.security.limiter.enums.LimitType;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流注解
+ *
+ * <p>使用示例：
+ * <blockquote><pre>
+ * &#64;RateLimiter(type = LimitType.IP, rate = 10, interval = 1, unit = TimeUnit.SECONDS)
+ * public void login() {}
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimiters.class)
+public @interface RateLimiter {
+
+    /**
+     * 名称（为空时使用类名与方法名）
+     */
+    String name() default "";
+
+    /**
+     * 键（支持 SpEL 表达式，例如：{@code #user.id}）
+     */
+    String key() default "";
+
+    /**
+     * 限流类型
+     */
+    LimitType type() default LimitType.DEFAULT;
+
+    /**
+     * 限流算法
+     */
+    LimitAlgorithm algorithm() default LimitAlgorithm.TOKEN_BUCKET;
+
+    /**
+     * 速率（指定时间间隔内允许通过的请求数）
+     */
+    int rate() default Integer.MAX_VALUE;
+
+    /**
+     * 速率间隔（必须大于 0）
+     */
+    long interval() default 1;
+
+    /**
+     * 速率间隔时间单位
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 提示信息
+     */
+    String message() default "操作过于频繁，请稍后再试";
+}
@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.security.limiter.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 限流组注解
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimiters {
+
+    /**
+     * 限流组
+     */
+    RateLimiter[] value();
+}
@@ -0,0 +1,90 @@
+package com.ppxb.latea.starter.security.limiter.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.security.limiter.core.*;
+import com.ppxb.latea.starter.security.limiter.enums.RateLimiterMode;
+import jakarta.annotation.PostConstruct;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 限流器自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   security:
+ *     limiter:
+ *       mode: REDIS
+ *       max-keys: 100000
+ *       redis:
+ *         batch-size: 10
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(afterName = "org.redisson.spring.starter.RedissonAutoConfigurationV2")
+@EnableConfigurationProperties(RateLimiterProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.SECURITY_LIMITER, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class RateLimiterAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterAutoConfiguration.class);
+
+    /**
+     * 限流处理器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimiterHandler rateLimiterHandler(RateLimiterProperties properties,
+                                                 ObjectProvider<RateLimiterPermitStore> permitStore) {
+        if (RateLimiterMode.REDIS == properties.getMode()) {
+            return new DistributedRateLimiterHandler(permitStore.getObject(), properties.getMaxKeys(), properties
+                .getRedis()
+                .getBatchSize());
+        }
+        return new LocalRateLimiterHandler(properties.getMaxKeys(), properties.getSlidingWindowSlots());
+    }
+
+    /**
+     * 限流切面
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimiterAspect rateLimiterAspect(RateLimiterHandler rateLimiterHandler,
+                                               ObjectProvider<RateLimiterUserProvider> userProvider,
+                                               RateLimiterProperties properties) {
+        return new RateLimiterAspect(rateLimiterHandler, userProvider.getIfAvailable(), properties.getKeyPrefix());
+    }
+
+    /**
+     * Redisson 限流许可存储配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedissonClient.class)
+    @ConditionalOnProperty(prefix = PropertiesConstants.SECURITY_LIMITER, name = "mode", havingValue = "redis")
+    public static class RedissonPermitStoreConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RateLimiterPermitStore rateLimiterPermitStore(RedissonClient redissonClient,
+                                                             RateLimiterProperties properties) {
+            return new RedissonRateLimiterPermitStore(redissonClient, properties.getMaxKeys(), properties.getRedis()
+                .getKeyTtl());
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Security-RateLimiter' completed initialization.");
+    }
+}
@@ -0,0 +1,127 @@
+package com.ppxb.latea.starter.security.limiter.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.security.limiter.enums.RateLimiterMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 限流器配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.SECURITY_LIMITER)
+public class RateLimiterProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 限流模式
+     */
+    private RateLimiterMode mode = RateLimiterMode.LOCAL;
+
+    /**
+     * 键前缀
+     */
+    private String keyPrefix = "RateLimiter";
+
+    /**
+     * 最大限流键数量（超出后淘汰空闲的限流键）
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * 滑动窗口分片数（分片越多越精确，占用内存与统计开销越大）
+     */
+    private int slidingWindowSlots = 10;
+
+    /**
+     * Redis 模式配置
+     */
+    private Redis redis = new Redis();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public RateLimiterMode getMode() {
+        return mode;
+    }
+
+    public void setMode(RateLimiterMode mode) {
+        this.mode = mode;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public int getSlidingWindowSlots() {
+        return slidingWindowSlots;
+    }
+
+    public void setSlidingWindowSlots(int slidingWindowSlots) {
+        this.slidingWindowSlots = slidingWindowSlots;
+    }
+
+    public Redis getRedis() {
+        return redis;
+    }
+
+    public void setRedis(Redis redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * Redis 模式配置属性
+     */
+    public static class Redis {
+
+        /**
+         * 批量获取许可数（每次访问 Redis 预取的许可数，为 1 时每次请求都访问 Redis）
+         */
+        private int batchSize = 10;
+
+        /**
+         * 限流键在 Redis 中的存活时间（至少为速率间隔的 2 倍）
+         */
+        private Duration keyTtl = Duration.ofHours(1);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getKeyTtl() {
+            return keyTtl;
+        }
+
+        public void setKeyTtl(Duration keyTtl) {
+            this.keyTtl = keyTtl;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 有界限流键缓存
+ *
+ * <p>基于 {@link ConcurrentHashMap}（内部按桶分段，读无锁），当键数量达到上限时由单个线程执行清理：
+ * 优先淘汰空闲的条目，仍超出上限时再淘汰最久未访问的条目。每个条目记录最近访问时间，
+ * 访问时间按 {@value #TOUCH_GRANULARITY_MILLIS} 毫秒粒度更新，热点键不会在每次命中时写共享内存。
+ * 命中路径上只有一次 {@code get}，不会产生对象分配。</p>
+ *
+ * @param <V> 缓存值类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BoundedKeyCache<V> {
+
+    private static final long TOUCH_GRANULARITY_MILLIS = 1;
+
+    private static final long TOUCH_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(TOUCH_GRANULARITY_MILLIS);
+
+    private final ConcurrentHashMap<String, Node<V>> map;
+
+    private final int maxSize;
+
+    private final IdlePredicate<V> idlePredicate;
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public BoundedKeyCache(int maxSize, IdlePredicate<V> idlePredicate) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be greater than 0");
+        }
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.maxSize = maxSize;
+        this.idlePredicate = idlePredicate;
+    }
+
+    /**
+     * 获取缓存值
+     *
+     * @param key 键
+     * @return 缓存值（不存在时返回 {@code null}）
+     */
+    public V get(String key) {
+        Node<V> node = map.get(key);
+        if (null == node) {
+            return null;
+        }
+        node.touch(System.nanoTime());
+        return node.value;
+    }
+
+    /**
+     * 获取缓存值，不存在时创建
+     *
+     * <p>调用方应先通过 {@link #get(String)} 判断，未命中时再调用本方法，以免在命中路径上创建捕获型 Lambda。</p>
+     *
+     * @param key     键
+     * @param factory 缓存值工厂
+     * @return 缓存值
+     */
+    public V computeIfAbsent(String key, Function<String, V> factory) {
+        if (map.size() >= maxSize) {
+            sweep();
+        }
+        return map.computeIfAbsent(key, k -> new Node<>(factory.apply(k), System.nanoTime())).value;
+    }
+
+    /**
+     * 当前缓存的键数量
+     *
+     * @return 键数量
+     */
+    public int size() {
+        return map.size();
+    }
+
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            map.values().removeIf(node -> idlePredicate.isIdle(node.value, now));
+            // 清理空闲条目后仍然超限，淘汰最久未访问的条目为新键腾出空间（被淘汰的键将以全新状态重新开始计数）
+            int overflow = map.size() - (maxSize - (maxSize >> 3));
+            if (overflow > 0) {
+                long[] ages = map.values().stream().mapToLong(node -> now - node.lastAccess).toArray();
+                Arrays.sort(ages);
+                long minAge = ages[Math.max(0, ages.length - overflow)];
+                map.values().removeIf(node -> now - node.lastAccess >= minAge);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * 缓存节点
+     */
+    private static final class Node<V> {
+
+        private final V value;
+
+        private volatile long lastAccess;
+
+        private Node(V value, long now) {
+            this.value = value;
+            this.lastAccess = now;
+        }
+
+        private void touch(long now) {
+            if (now - lastAccess > TOUCH_GRANULARITY_NANOS) {
+                lastAccess = now;
+            }
+        }
+    }
+
+    /**
+     * 空闲判断
+     *
+     * @param <V> 缓存值类型
+     */
+    @FunctionalInterface
+    public interface IdlePredicate<V> {
+
+        /**
+         * 是否空闲
+         *
+         * @param value 缓存值
+         * @param now   当前时间（{@link System#nanoTime()}）
+         * @return 是否空闲
+         */
+        boolean isIdle(V value, long now);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分布式限流处理器
+ *
+ * <p>为减少与共享存储（Redis）的往返次数，每个节点按批次预取许可并在本地租用：
+ * 本地租约内仍有许可时直接扣减，不访问 Redis；租约耗尽或过期后才再次预取。
+ * 未在一个速率间隔内用完的许可会随租约过期而作废，因此单个节点最多会“浪费”一个批次的许可，
+ * 批次大小建议不超过 {@code 速率 / 节点数}。批次大小为 1 时退化为每次请求访问一次 Redis 的精确模式。</p>
+ *
+ * <p>共享许可耗尽后，在一个令牌生成间隔（{@code 速率间隔 / 速率}）内本地直接拒绝，避免被限流的请求继续冲击 Redis。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DistributedRateLimiterHandler implements RateLimiterHandler {
+
+    private final RateLimiterPermitStore permitStore;
+
+    private final BoundedKeyCache<Lease> leases;
+
+    private final int batchSize;
+
+    public DistributedRateLimiterHandler(RateLimiterPermitStore permitStore, int maxKeys, int batchSize) {
+        this.permitStore = permitStore;
+        this.leases = new BoundedKeyCache<>(maxKeys, Lease::isExpired);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitRule rule, int permits) {
+        int batch = Math.min(batchSize, rule.getRate());
+        if (batch <= permits) {
+            return permitStore.tryAcquire(key, rule, permits);
+        }
+        long now = System.nanoTime();
+        Lease lease = leases.get(key);
+        if (null == lease) {
+            lease = leases.computeIfAbsent(key, k -> new Lease());
+        }
+        if (lease.tryTake(permits, now)) {
+            return true;
+        }
+        if (lease.isDenied(now)) {
+            return false;
+        }
+        if (permitStore.tryAcquire(key, rule, batch)) {
+            lease.deposit(batch - permits, now + rule.getIntervalNanos(), now);
+            return true;
+        }
+        // 剩余许可不足一个批次时，仅按本次所需数量获取
+        if (permitStore.tryAcquire(key, rule, permits)) {
+            return true;
+        }
+        lease.deniedUntil = now + Math.max(1L, rule.getIntervalNanos() / rule.getRate());
+        return false;
+    }
+
+    /**
+     * 本地许可租约
+     */
+    private static final class Lease {
+
+        private final AtomicLong remaining = new AtomicLong();
+
+        private volatile long expiresAt = System.nanoTime();
+
+        private volatile long deniedUntil = expiresAt;
+
+        private boolean tryTake(int permits, long now) {
+            if (isExpired(this, now)) {
+                return false;
+            }
+            for (;;) {
+                long current = remaining.get();
+                if (current < permits) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - permits)) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean isDenied(long now) {
+            return deniedUntil - now > 0;
+        }
+
+        private void deposit(long permits, long expiresAt, long now) {
+            if (isExpired(this, now)) {
+                remaining.set(permits);
+            } else {
+                remaining.addAndGet(permits);
+            }
+            this.expiresAt = expiresAt;
+        }
+
+        private static boolean isExpired(Lease lease, long now) {
+            return lease.expiresAt - now <= 0;
+        }
+    }
+}
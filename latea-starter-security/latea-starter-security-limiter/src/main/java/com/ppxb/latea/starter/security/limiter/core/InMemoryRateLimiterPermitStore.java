@@ -0,0 +1,42 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 进程内限流许可存储
+ *
+ * <p>用于测试环境代替 Redis：多个 {@link DistributedRateLimiterHandler} 共享同一个实例即可模拟多节点共享许可，
+ * 并可通过 {@link #getRequestCount()} 断言实际的“远程”调用次数。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class InMemoryRateLimiterPermitStore implements RateLimiterPermitStore {
+
+    private final LocalRateLimiterHandler delegate;
+
+    private final LongAdder requestCount = new LongAdder();
+
+    public InMemoryRateLimiterPermitStore() {
+        this(100_000, 10);
+    }
+
+    public InMemoryRateLimiterPermitStore(int maxKeys, int slidingWindowSlots) {
+        this.delegate = new LocalRateLimiterHandler(maxKeys, slidingWindowSlots);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitRule rule, int permits) {
+        requestCount.increment();
+        return delegate.tryAcquire(key, rule, permits);
+    }
+
+    /**
+     * 获取请求次数（相当于 Redis 往返次数）
+     *
+     * @return 请求次数
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+/**
+ * 本地限流器
+ *
+ * <p>实现必须是无锁的：状态只允许通过 CAS 更新，获取许可时不允许创建对象。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface LocalLimiter {
+
+    /**
+     * 尝试获取许可
+     *
+     * @param permits 许可数
+     * @param now     当前时间（{@link System#nanoTime()}）
+     * @return 是否获取成功
+     */
+    boolean tryAcquire(int permits, long now);
+
+    /**
+     * 是否空闲
+     *
+     * <p>空闲的限流器与新建的限流器状态等价，可以安全地从缓存中淘汰。</p>
+     *
+     * @param now 当前时间（{@link System#nanoTime()}）
+     * @return 是否空闲
+     */
+    boolean isIdle(long now);
+
+    /**
+     * 创建本地限流器
+     *
+     * @param rule  限流规则
+     * @param slots 滑动窗口分片数
+     * @param now   当前时间（{@link System#nanoTime()}）
+     * @return 本地限流器
+     */
+    static LocalLimiter create(RateLimitRule rule, int slots, long now) {
+        return switch (rule.getAlgorithm()) {
+            case TOKEN_BUCKET -> new TokenBucketLimiter(rule, now);
+            case SLIDING_WINDOW -> new SlidingWindowLimiter(rule, slots);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+/**
+ * 本地限流处理器
+ *
+ * <p>每个限流键对应一个无锁的 {@link LocalLimiter}，存放在 {@link BoundedKeyCache} 中。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LocalRateLimiterHandler implements RateLimiterHandler {
+
+    private final BoundedKeyCache<LocalLimiter> limiters;
+
+    private final int slidingWindowSlots;
+
+    public LocalRateLimiterHandler(int maxKeys, int slidingWindowSlots) {
+        this.limiters = new BoundedKeyCache<>(maxKeys, LocalLimiter::isIdle);
+        this.slidingWindowSlots = slidingWindowSlots;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitRule rule, int permits) {
+        long now = System.nanoTime();
+        LocalLimiter limiter = limiters.get(key);
+        if (null == limiter) {
+            limiter = limiters.computeIfAbsent(key, k -> LocalLimiter.create(rule, slidingWindowSlots, now));
+        }
+        return limiter.tryAcquire(permits, now);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import com.ppxb.latea.starter.security.limiter.enums.LimitAlgorithm;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流规则
+ *
+ * <p>由 {@link com.ppxb.latea.starter.security.limiter.annotation.RateLimiter} 注解在首次调用时解析而来，
+ * 解析结果按方法缓存，请求路径上不再重复创建。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class RateLimitRule {
+
+    /**
+     * 限流算法
+     */
+    private final LimitAlgorithm algorithm;
+
+    /**
+     * 速率
+     */
+    private final int rate;
+
+    /**
+     * 速率间隔（纳秒）
+     */
+    private final long intervalNanos;
+
+    public RateLimitRule(LimitAlgorithm algorithm, int rate, long interval, TimeUnit unit) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be greater than 0");
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be greater than 0");
+        }
+        this.algorithm = algorithm;
+        this.rate = rate;
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitRule{algorithm=%s, rate=%d, intervalNanos=%d}".formatted(algorithm, rate, intervalNanos);
+    }
+}
@@ -0,0 +1,176 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.extra.servlet.JakartaServletUtil;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.security.limiter.annotation.RateLimiter;
+import com.ppxb.latea.starter.security.limiter.annotation.RateLimiters;
+import com.ppxb.latea.starter.security.limiter.enums.LimitType;
+import com.ppxb.latea.starter.security.limiter.exception.RateLimiterException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 限流切面
+ *
+ * <p>方法上的限流注解在首次调用时解析为 {@link RateLimitRule} 与键前缀（SpEL 表达式同时预编译），
+ * 之后的调用只需拼接动态部分的键并调用 {@link RateLimiterHandler}。同一方法上有多个限流注解时，
+ * 键中追加规则（算法、速率、间隔），各规则使用各自的限流器。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Aspect
+public class RateLimiterAspect {
+
+    private static final boolean SERVLET_PRESENT = ClassUtils
+        .isPresent("jakarta.servlet.http.HttpServletRequest", RateLimiterAspect.class.getClassLoader()) && ClassUtils
+            .isPresent("org.springframework.web.context.request.RequestContextHolder", RateLimiterAspect.class
+                .getClassLoader());
+
+    private static final CompiledRateLimiter[] NONE = new CompiledRateLimiter[0];
+
+    private final ConcurrentHashMap<Method, CompiledRateLimiter[]> compiledCache = new ConcurrentHashMap<>();
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final RateLimiterHandler rateLimiterHandler;
+
+    private final RateLimiterUserProvider userProvider;
+
+    private final String keyPrefix;
+
+    public RateLimiterAspect(RateLimiterHandler rateLimiterHandler,
+                             RateLimiterUserProvider userProvider,
+                             String keyPrefix) {
+        this.rateLimiterHandler = rateLimiterHandler;
+        this.userProvider = userProvider;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Around("@annotation(com.ppxb.latea.starter.security.limiter.annotation.RateLimiter) || @annotation(com.ppxb.latea.starter.security.limiter.annotation.RateLimiters)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+        CompiledRateLimiter[] limiters = compiledCache.get(method);
+        if (null == limiters) {
+            limiters = compiledCache.computeIfAbsent(method, this::compile);
+        }
+        for (CompiledRateLimiter limiter : limiters) {
+            String key = this.buildKey(limiter, method, joinPoint.getArgs());
+            if (!rateLimiterHandler.tryAcquire(key, limiter.rule(), 1)) {
+                throw new RateLimiterException(limiter.message());
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * 解析方法上的限流注解
+     *
+     * @param method 方法
+     * @return 解析结果
+     */
+    private CompiledRateLimiter[] compile(Method method) {
+        Set<RateLimiter> annotations = AnnotatedElementUtils
+            .getMergedRepeatableAnnotations(method, RateLimiter.class, RateLimiters.class);
+        if (annotations.isEmpty()) {
+            return NONE;
+        }
+        boolean multiple = annotations.size() > 1;
+        return annotations.stream().map(annotation -> {
+            String name = CharSequenceUtil.isNotBlank(annotation.name())
+                ? annotation.name()
+                : method.getDeclaringClass().getName() + StringConstants.DOT + method.getName();
+            Expression expression = CharSequenceUtil.isNotBlank(annotation.key())
+                ? parser.parseExpression(annotation.key())
+                : null;
+            RateLimitRule rule;
+            try {
+                rule = new RateLimitRule(annotation.algorithm(), annotation.rate(), annotation.interval(), annotation
+                    .unit());
+            } catch (IllegalArgumentException e) {
+                throw new BaseException("Invalid @RateLimiter on method '%s': %s".formatted(method, e.getMessage()), e);
+            }
+            String prefix = keyPrefix + StringConstants.COLON + name;
+            if (multiple) {
+                // 多个规则共用名称时按规则区分，避免互相消耗许可或在 Redis 中反复覆盖速率配置
+                prefix += StringConstants.COLON + rule.getAlgorithm() + StringConstants.DASHED + rule
+                    .getRate() + StringConstants.DASHED + rule.getIntervalNanos();
+            }
+            return new CompiledRateLimiter(prefix, annotation.type(), expression, rule, annotation.message());
+        }).toArray(CompiledRateLimiter[]::new);
+    }
+
+    /**
+     * 构建限流键
+     *
+     * <p>格式：{@code 前缀:名称[:IP|用户标识][:SpEL 值]}</p>
+     */
+    private String buildKey(CompiledRateLimiter limiter, Method method, Object[] args) {
+        String dimension = switch (limiter.type()) {
+            case DEFAULT -> null;
+            case IP -> SERVLET_PRESENT ? ClientIpResolver.resolve() : null;
+            case USER -> null != userProvider ? userProvider.getUserId() : null;
+        };
+        Expression expression = limiter.keyExpression();
+        if (null == dimension && null == expression) {
+            return limiter.keyPrefix();
+        }
+        StringBuilder builder = new StringBuilder(limiter.keyPrefix());
+        if (null != dimension) {
+            builder.append(StringConstants.C_COLON).append(dimension);
+        } else if (LimitType.DEFAULT != limiter.type()) {
+            builder.append(StringConstants.C_COLON).append(StringConstants.DASHED);
+        }
+        if (null != expression) {
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer);
+            builder.append(StringConstants.C_COLON).append(expression.getValue(context, String.class));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 解析后的限流注解
+     *
+     * @param keyPrefix     键前缀
+     * @param type          限流类型
+     * @param keyExpression 键表达式
+     * @param rule          限流规则
+     * @param message       提示信息
+     */
+    private record CompiledRateLimiter(String keyPrefix, LimitType type, Expression keyExpression, RateLimitRule rule, String message) {
+    }
+
+    /**
+     * 客户端 IP 解析（仅在 Servlet 环境下加载）
+     */
+    private static final class ClientIpResolver {
+
+        private static String resolve() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+                return JakartaServletUtil.getClientIP(servletRequestAttributes.getRequest());
+            }
+            return null;
+        }
+    }
+}
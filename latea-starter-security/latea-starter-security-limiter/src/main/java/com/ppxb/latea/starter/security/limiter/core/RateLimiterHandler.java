@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+/**
+ * 限流处理器
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface RateLimiterHandler {
+
+    /**
+     * 尝试获取许可
+     *
+     * @param key     限流键
+     * @param rule    限流规则
+     * @param permits 许可数
+     * @return 是否获取成功（{@code false} 表示被限流）
+     */
+    boolean tryAcquire(String key, RateLimitRule rule, int permits);
+}
@@ -0,0 +1,23 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+/**
+ * 分布式限流许可存储
+ *
+ * <p>抽象出共享许可的获取动作，生产环境使用 {@link RedissonRateLimiterPermitStore}，
+ * 测试环境可以使用进程内的 {@link InMemoryRateLimiterPermitStore} 代替 Redis。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public interface RateLimiterPermitStore {
+
+    /**
+     * 尝试从共享存储中获取许可
+     *
+     * @param key     限流键
+     * @param rule    限流规则
+     * @param permits 许可数
+     * @return 是否获取成功
+     */
+    boolean tryAcquire(String key, RateLimitRule rule, int permits);
+}
@@ -0,0 +1,21 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+/**
+ * 限流用户标识提供者
+ *
+ * <p>{@link com.ppxb.latea.starter.security.limiter.enums.LimitType#USER} 类型的限流通过该接口获取当前用户标识，
+ * 由使用方结合自身的认证框架实现并注册为 Bean。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface RateLimiterUserProvider {
+
+    /**
+     * 获取当前用户标识
+     *
+     * @return 当前用户标识（未登录时返回 {@code null}）
+     */
+    String getUserId();
+}
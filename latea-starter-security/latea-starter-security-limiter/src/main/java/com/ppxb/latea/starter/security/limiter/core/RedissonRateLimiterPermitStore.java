@@ -0,0 +1,162 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import com.ppxb.latea.starter.security.limiter.enums.LimitAlgorithm;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RScript;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redisson 的限流许可存储
+ *
+ * <p>令牌桶使用 {@link RRateLimiter}。速率的初始化与过期时间的续期每个键只在本地缓存创建时、规则变化时，
+ * 以及距上次初始化超过一半存活时间时执行；初始化时会比对 Redis 中已有的速率配置，不一致（注解的速率或间隔被修改过）时覆盖。
+ * 常规请求只有一次 {@code tryAcquire} 往返。</p>
+ *
+ * <p>滑动窗口使用 Lua 脚本实现的滑动窗口计数：每个键一个 Hash，保存当前与上一个固定窗口的计数，
+ * 按当前窗口已过去的比例对上一个窗口加权估算滑动窗口内的请求数，时间取自 Redis 服务端，与节点时钟无关。
+ * 脚本通过 {@code EVALSHA} 调用，每次请求同样只有一次往返。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RedissonRateLimiterPermitStore implements RateLimiterPermitStore {
+
+    private static final String SLIDING_WINDOW_SUFFIX = ":sw";
+
+    private static final String SLIDING_WINDOW_SCRIPT = """
+        local rate = tonumber(ARGV[1])
+        local interval = tonumber(ARGV[2])
+        local permits = tonumber(ARGV[3])
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local window = math.floor(now / interval)
+        local state = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+        local w = tonumber(state[1])
+        local current = tonumber(state[2]) or 0
+        local previous = tonumber(state[3]) or 0
+        if w ~= window then
+            if w == window - 1 then
+                previous = current
+            else
+                previous = 0
+            end
+            current = 0
+        end
+        local weight = 1 - (now % interval) / interval
+        local allowed = previous * weight + current + permits <= rate
+        if allowed then
+            current = current + permits
+        end
+        redis.call('HSET', KEYS[1], 'w', window, 'c', current, 'p', previous)
+        redis.call('PEXPIRE', KEYS[1], interval * 2)
+        if allowed then
+            return 1
+        end
+        return 0
+        """;
+
+    private final RedissonClient redissonClient;
+
+    private final BoundedKeyCache<Entry> limiters;
+
+    private final long keyTtlNanos;
+
+    private final RScript script;
+
+    private volatile String slidingWindowSha;
+
+    public RedissonRateLimiterPermitStore(RedissonClient redissonClient, int maxKeys, Duration keyTtl) {
+        this.redissonClient = redissonClient;
+        this.keyTtlNanos = keyTtl.toNanos();
+        this.limiters = new BoundedKeyCache<>(maxKeys, (entry, now) -> now - entry.initializedAt > keyTtlNanos);
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitRule rule, int permits) {
+        if (LimitAlgorithm.SLIDING_WINDOW == rule.getAlgorithm()) {
+            return this.tryAcquireSlidingWindow(key + SLIDING_WINDOW_SUFFIX, rule, permits);
+        }
+        long now = System.nanoTime();
+        Entry entry = limiters.get(key);
+        if (null == entry) {
+            entry = limiters.computeIfAbsent(key, k -> new Entry(redissonClient.getRateLimiter(k)));
+        }
+        long ttlNanos = Math.max(keyTtlNanos, rule.getIntervalNanos() * 2);
+        if (!entry.matches(rule) || now - entry.initializedAt > ttlNanos / 2) {
+            entry.initialize(rule, ttlNanos, now);
+        }
+        return entry.limiter.tryAcquire(permits);
+    }
+
+    private boolean tryAcquireSlidingWindow(String key, RateLimitRule rule, int permits) {
+        List<Object> keys = List.of(key);
+        Object[] args = {rule.getRate(), Math.max(1L, TimeUnit.NANOSECONDS.toMillis(rule
+            .getIntervalNanos())), permits};
+        String sha = slidingWindowSha;
+        if (null == sha) {
+            sha = this.loadSlidingWindowScript();
+        }
+        Long allowed;
+        try {
+            allowed = script.evalSha(key, RScript.Mode.READ_WRITE, sha, RScript.ReturnType.INTEGER, keys, args);
+        } catch (RedisException e) {
+            if (null == e.getMessage() || !e.getMessage().contains("NOSCRIPT")) {
+                throw e;
+            }
+            // 脚本缓存被清空（例如 Redis 重启或执行了 SCRIPT FLUSH），重新加载后重试
+            allowed = script.evalSha(key, RScript.Mode.READ_WRITE, this
+                .loadSlidingWindowScript(), RScript.ReturnType.INTEGER, keys, args);
+        }
+        return null != allowed && 1L == allowed;
+    }
+
+    private String loadSlidingWindowScript() {
+        String sha = script.scriptLoad(SLIDING_WINDOW_SCRIPT);
+        slidingWindowSha = sha;
+        return sha;
+    }
+
+    private static final class Entry {
+
+        private final RRateLimiter limiter;
+
+        private volatile int rate;
+
+        private volatile long intervalNanos;
+
+        private volatile long initializedAt;
+
+        private Entry(RRateLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        private void initialize(RateLimitRule rule, long ttlNanos, long now) {
+            long intervalMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(rule.getIntervalNanos()));
+            if (!limiter.trySetRate(RateType.OVERALL, rule.getRate(), intervalMillis, RateIntervalUnit.MILLISECONDS)) {
+                RateLimiterConfig config = limiter.getConfig();
+                if (RateType.OVERALL != config.getRateType() || rule.getRate() != config
+                    .getRate() || intervalMillis != config.getRateInterval()) {
+                    limiter.setRate(RateType.OVERALL, rule.getRate(), intervalMillis, RateIntervalUnit.MILLISECONDS);
+                }
+            }
+            limiter.expire(Duration.ofNanos(ttlNanos));
+            this.rate = rule.getRate();
+            this.intervalNanos = rule.getIntervalNanos();
+            this.initializedAt = now;
+        }
+
+        private boolean matches(RateLimitRule rule) {
+            return rate == rule.getRate() && intervalNanos == rule.getIntervalNanos();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 滑动窗口限流器
+ *
+ * <p>将速率间隔拆分为若干分片，每个分片用一个 long 同时存放分片序号（高 32 位）与计数（低 32 位），
+ * 因此分片的滚动与计数可以在一次 CAS 中完成。获取许可时先乐观地累加当前分片，再统计窗口内总数，
+ * 超出速率则回滚，保证任何时刻窗口内通过的请求数都不会超过速率。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+final class SlidingWindowLimiter implements LocalLimiter {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final int rate;
+
+    private final int slots;
+
+    private final long slotNanos;
+
+    private final AtomicLongArray cells;
+
+    SlidingWindowLimiter(RateLimitRule rule, int slots) {
+        this.rate = rule.getRate();
+        this.slots = slots;
+        this.slotNanos = Math.max(1L, rule.getIntervalNanos() / slots);
+        this.cells = new AtomicLongArray(slots);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, long now) {
+        if (permits > rate) {
+            return false;
+        }
+        long window = Math.floorDiv(now, slotNanos);
+        int epoch = (int)window;
+        int index = (int)Math.floorMod(window, (long)slots);
+        add(index, epoch, permits);
+        if (count(epoch) <= rate) {
+            return true;
+        }
+        add(index, epoch, -permits);
+        return false;
+    }
+
+    @Override
+    public boolean isIdle(long now) {
+        return count((int)Math.floorDiv(now, slotNanos)) == 0;
+    }
+
+    private void add(int index, int epoch, int delta) {
+        for (;;) {
+            long current = cells.get(index);
+            long next;
+            if ((int)(current >>> 32) == epoch) {
+                next = current + delta;
+            } else if (delta > 0) {
+                next = ((long)epoch << 32) | delta;
+            } else {
+                // 分片已滚动，旧计数已失效，无需回滚
+                return;
+            }
+            if (cells.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private long count(int epoch) {
+        long total = 0;
+        for (int i = 0; i < slots; i++) {
+            long cell = cells.get(i);
+            int age = epoch - (int)(cell >>> 32);
+            if (age >= 0 && age < slots) {
+                total += cell & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
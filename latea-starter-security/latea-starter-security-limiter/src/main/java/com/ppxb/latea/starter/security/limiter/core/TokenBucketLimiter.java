@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.security.limiter.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶限流器
+ *
+ * <p>采用 GCRA（Generic Cell Rate Algorithm）实现，与令牌桶等价：整个桶的状态只是一个“理论到达时间”（TAT），
+ * 通过单个 {@link AtomicLong} 的 CAS 完成补充与扣减，无锁且不产生任何对象分配。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+final class TokenBucketLimiter implements LocalLimiter {
+
+    /**
+     * 生成一个令牌所需的时间（纳秒）
+     */
+    private final long emissionNanos;
+
+    /**
+     * 允许的突发容忍度（纳秒），即桶满时可一次性消耗的时间额度
+     */
+    private final long toleranceNanos;
+
+    /**
+     * 理论到达时间
+     */
+    private final AtomicLong tat;
+
+    TokenBucketLimiter(RateLimitRule rule, long now) {
+        this.emissionNanos = Math.max(1L, rule.getIntervalNanos() / rule.getRate());
+        this.toleranceNanos = emissionNanos * rule.getRate();
+        this.tat = new AtomicLong(now);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, long now) {
+        long increment = emissionNanos * permits;
+        for (;;) {
+            long current = tat.get();
+            // nanoTime 可能溢出，只能通过差值比较先后
+            long base = current - now > 0 ? current : now;
+            long next = base + increment;
+            if (next - now > toleranceNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long now) {
+        return tat.get() - now <= 0;
+    }
+}
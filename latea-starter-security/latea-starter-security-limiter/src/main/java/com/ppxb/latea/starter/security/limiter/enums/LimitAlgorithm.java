@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.security.limiter.enums;
+
+/**
+ * 限流算法
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum LimitAlgorithm {
+
+    /**
+     * 令牌桶（允许突发，突发上限为速率）
+     */
+    TOKEN_BUCKET,
+
+    /**
+     * 滑动窗口（任意一个速率间隔内的请求数不超过速率）
+     */
+    SLIDING_WINDOW
+}
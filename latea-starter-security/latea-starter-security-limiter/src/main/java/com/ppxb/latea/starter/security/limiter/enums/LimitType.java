@@ -0,0 +1,25 @@
+package com.ppxb.latea.starter.security.limiter.enums;
+
+/**
+ * 限流类型
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum LimitType {
+
+    /**
+     * 全局限流（按方法）
+     */
+    DEFAULT,
+
+    /**
+     * 根据请求者 IP 限流
+     */
+    IP,
+
+    /**
+     * 根据当前用户限流
+     */
+    USER
+}
@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.security.limiter.enums;
+
+/**
+ * 限流模式
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum RateLimiterMode {
+
+    /**
+     * 本地（单节点内存）
+     */
+    LOCAL,
+
+    /**
+     * Redis（分布式，基于 Redisson）
+     */
+    REDIS
+}
@@ -0,0 +1,38 @@
+package com.ppxb.latea.starter.security.limiter.exception;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 限流异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class RateLimiterException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public RateLimiterException() {
+    }
+
+    public RateLimiterException(String message) {
+        super(message);
+    }
+
+    public RateLimiterException(Throwable cause) {
+        super(cause);
+    }
+
+    public RateLimiterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public int getStatus() {
+        return HttpStatus.HTTP_TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ppxb.latea.starter.security.password.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.security.password.core.BoundedPasswordEncoder;
+import com.ppxb.latea.starter.security.password.core.PasswordEncoderMeterBinder;
+import com.ppxb.latea.starter.security.password.enums.PasswordEncoderAlgorithm;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 密码编码器自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   security:
+ *     password:
+ *       algorithm: BCRYPT
+ *       bcrypt-strength: 12
+ *       threads: 4
+ *       queue-capacity: 256
+ *       timeout: 5s
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(PasswordEncoderProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.SECURITY_PASSWORD, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class PasswordEncoderAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderAutoConfiguration.class);
+
+    private static final String BOUNCY_CASTLE_ARGON2 = "org.bouncycastle.crypto.params.Argon2Parameters";
+
+    /**
+     * 密码编码器
+     *
+     * <p>使用 {@link DelegatingPasswordEncoder}，密文带有算法前缀（例如：{@code {bcrypt}}），
+     * 不带前缀的旧密文按 BCrypt 校验，并在登录成功时升级为带前缀的密文。</p>
+     *
+     * <p>所有可用算法都会注册用于校验（Argon2 在类路径存在 BouncyCastle 时注册），切换默认算法后已有密文仍可校验；
+     * {@code algorithm} 只决定新密码使用的编码 ID。</p>
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public BoundedPasswordEncoder passwordEncoder(PasswordEncoderProperties properties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        encoders.put(PasswordEncoderAlgorithm.BCRYPT.getId(), bcrypt);
+        encoders.put(PasswordEncoderAlgorithm.PBKDF2.getId(), Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (ClassUtils.isPresent(BOUNCY_CASTLE_ARGON2, PasswordEncoderAutoConfiguration.class.getClassLoader())) {
+            encoders.put(PasswordEncoderAlgorithm.ARGON2.getId(), Argon2PasswordEncoder
+                .defaultsForSpringSecurity_v5_8());
+        }
+        if (!encoders.containsKey(properties.getAlgorithm().getId())) {
+            throw new BaseException("Password encoder algorithm '" + properties
+                .getAlgorithm() + "' requires org.bouncycastle:bcprov-jdk18on on the classpath.");
+        }
+        DelegatingPasswordEncoder delegate = new DelegatingPasswordEncoder(properties.getAlgorithm()
+            .getId(), encoders);
+        delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegate, properties.getThreads(), properties.getQueueCapacity(), properties
+            .getTimeout());
+    }
+
+    /**
+     * 密码编码指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class PasswordEncoderMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public PasswordEncoderMeterBinder passwordEncoderMeterBinder(BoundedPasswordEncoder passwordEncoder) {
+            return new PasswordEncoderMeterBinder(passwordEncoder.getMetrics());
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Security-PasswordEncoder' completed initialization.");
+    }
+}
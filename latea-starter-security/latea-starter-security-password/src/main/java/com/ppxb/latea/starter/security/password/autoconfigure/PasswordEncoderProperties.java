@@ -0,0 +1,95 @@
+package com.ppxb.latea.starter.security.password.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.security.password.enums.PasswordEncoderAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 密码编码器配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.SECURITY_PASSWORD)
+public class PasswordEncoderProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 默认编码算法（新密码使用该算法编码，旧算法的密文在登录成功时升级）
+     */
+    private PasswordEncoderAlgorithm algorithm = PasswordEncoderAlgorithm.BCRYPT;
+
+    /**
+     * BCrypt 成本因子（4~31，提高后旧密文会在登录成功时升级）
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 哈希线程数（默认为 CPU 核数的一半，至少为 1，为其他请求保留 CPU）
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 最大排队数（超出后立即拒绝）
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * 最长等待时间（含排队与计算）
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public PasswordEncoderAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(PasswordEncoderAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
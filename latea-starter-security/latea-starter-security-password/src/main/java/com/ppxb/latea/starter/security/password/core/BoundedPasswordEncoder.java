@@ -0,0 +1,150 @@
+package com.ppxb.latea.starter.security.password.core;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.security.password.exception.PasswordEncoderRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 并发受限的密码编码器
+ *
+ * <p>BCrypt/Argon2 等算法刻意设计为高 CPU（或内存）成本，若直接在请求线程上计算，登录高峰期会占满所有请求线程，
+ * 连带拖垮与登录无关的接口。本编码器将所有哈希计算放到独立的有界线程池中执行：
+ * <ul>
+ * <li>线程数限制了同时进行的哈希计算数量</li>
+ * <li>队列长度限制了排队等待的请求数量，队列已满时立即拒绝（{@link PasswordEncoderRejectedException}），不阻塞调用方</li>
+ * <li>等待超过超时时间的任务会被取消并拒绝</li>
+ * </ul>
+ * 校验时通过 {@link #verify(CharSequence, String)} 同时判断密文是否需要升级（算法变更或成本因子提高），
+ * 升级所需的重新哈希在同一个任务中完成，调用方只需持久化返回的新密文。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutNanos;
+
+    private final PasswordEncoderMetrics metrics;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), Thread
+            .ofPlatform()
+            .name("password-encoder-", 0)
+            .daemon()
+            .factory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+        this.metrics = new PasswordEncoderMetrics(executor);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.await(this.encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return this.await(this.submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 仅解析密文前缀与成本因子，无需进入线程池
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 校验密码，并在需要时生成升级后的密文
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 存储的密文
+     * @return 校验结果
+     */
+    public PasswordMatchResult verify(CharSequence rawPassword, String encodedPassword) {
+        return this.await(this.verifyAsync(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 异步编码密码
+     *
+     * @param rawPassword 明文密码
+     * @return 密文
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return this.submit(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * 异步校验密码，并在需要时生成升级后的密文
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 存储的密文
+     * @return 校验结果
+     */
+    public CompletableFuture<PasswordMatchResult> verifyAsync(CharSequence rawPassword, String encodedPassword) {
+        return this.submit(() -> {
+            if (!delegate.matches(rawPassword, encodedPassword)) {
+                return PasswordMatchResult.MISMATCH;
+            }
+            String upgraded = delegate.upgradeEncoding(encodedPassword) ? delegate.encode(rawPassword) : null;
+            return new PasswordMatchResult(true, upgraded);
+        });
+    }
+
+    /**
+     * 获取指标
+     *
+     * @return 指标
+     */
+    public PasswordEncoderMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    metrics.recordCompleted(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw new PasswordEncoderRejectedException("系统繁忙，请稍后再试", e);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            metrics.recordTimeout();
+            throw new PasswordEncoderRejectedException("系统繁忙，请稍后再试", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BaseException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ppxb.latea.starter.security.password.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 密码编码指标绑定器（Micrometer）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class PasswordEncoderMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.password.encoder";
+
+    private final PasswordEncoderMetrics metrics;
+
+    public PasswordEncoderMeterBinder(PasswordEncoderMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".queue.depth", metrics, PasswordEncoderMetrics::getQueueDepth)
+            .description("排队中的密码哈希任务数")
+            .register(registry);
+        Gauge.builder(PREFIX + ".active", metrics, PasswordEncoderMetrics::getActiveCount)
+            .description("正在计算的密码哈希任务数")
+            .register(registry);
+        Gauge.builder(PREFIX + ".hash.avg", metrics, PasswordEncoderMetrics::getAverageHashMillis)
+            .description("平均哈希耗时")
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder(PREFIX + ".hash.max", metrics, PasswordEncoderMetrics::getMaxHashMillis)
+            .description("最大哈希耗时")
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder(PREFIX + ".wait.avg", metrics, PasswordEncoderMetrics::getAverageWaitMillis)
+            .description("平均排队耗时")
+            .baseUnit("milliseconds")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".completed", metrics, PasswordEncoderMetrics::getCompletedCount)
+            .description("已完成的密码哈希任务数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".rejected", metrics, PasswordEncoderMetrics::getRejectedCount)
+            .description("因队列已满被拒绝的密码哈希任务数")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".timeout", metrics, PasswordEncoderMetrics::getTimeoutCount)
+            .description("等待超时的密码哈希任务数")
+            .register(registry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ppxb.latea.starter.security.password.core;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 密码编码指标
+ *
+ * <p>计数器均基于 {@link LongAdder}，在登录高峰期的并发写入下不会成为争用点。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class PasswordEncoderMetrics {
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private final LongAdder hashNanos = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    PasswordEncoderMetrics(ThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+
+    void recordCompleted(long waitNanos, long hashNanos) {
+        this.completedCount.increment();
+        this.waitNanos.add(waitNanos);
+        this.hashNanos.add(hashNanos);
+        this.maxHashNanos.accumulate(hashNanos);
+    }
+
+    void recordRejected() {
+        rejectedCount.increment();
+    }
+
+    void recordTimeout() {
+        timeoutCount.increment();
+    }
+
+    /**
+     * 当前排队中的任务数
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 正在计算的任务数
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 已完成的任务数
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * 因队列已满被拒绝的任务数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 等待超时的任务数
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * 累计哈希耗时（毫秒）
+     */
+    public double getTotalHashMillis() {
+        return hashNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 平均哈希耗时（毫秒）
+     */
+    public double getAverageHashMillis() {
+        long count = completedCount.sum();
+        return 0 == count ? 0 : this.getTotalHashMillis() / count;
+    }
+
+    /**
+     * 最大哈希耗时（毫秒）
+     */
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 平均排队耗时（毫秒）
+     */
+    public double getAverageWaitMillis() {
+        long count = completedCount.sum();
+        return 0 == count ? 0 : waitNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1) / count;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ppxb.latea.starter.security.password.core;
+
+/**
+ * 密码校验结果
+ *
+ * @param matched          是否匹配
+ * @param upgradedPassword 升级后的密文（仅在匹配且原密文的算法或成本已过时时有值，调用方应将其持久化以替换原密文）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record PasswordMatchResult(boolean matched, String upgradedPassword) {
+
+    /**
+     * 不匹配
+     */
+    public static final PasswordMatchResult MISMATCH = new PasswordMatchResult(false, null);
+
+    /**
+     * 是否需要更新存储的密文
+     *
+     * @return 是否需要更新
+     */
+    public boolean isUpgraded() {
+        return null != upgradedPassword;
+    }
+}
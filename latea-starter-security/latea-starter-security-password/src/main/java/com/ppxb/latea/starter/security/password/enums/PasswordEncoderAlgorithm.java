@@ -0,0 +1,38 @@
+package com.ppxb.latea.starter.security.password.enums;
+
+/**
+ * 密码编码算法
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum PasswordEncoderAlgorithm {
+
+    /**
+     * BCrypt
+     */
+    BCRYPT("bcrypt"),
+
+    /**
+     * Argon2（需要额外引入 {@code org.bouncycastle:bcprov-jdk18on}）
+     */
+    ARGON2("argon2"),
+
+    /**
+     * PBKDF2
+     */
+    PBKDF2("pbkdf2");
+
+    /**
+     * 编码 ID（存储为密文前缀，例如：{@code {bcrypt}$2a$10$...}）
+     */
+    private final String id;
+
+    PasswordEncoderAlgorithm(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
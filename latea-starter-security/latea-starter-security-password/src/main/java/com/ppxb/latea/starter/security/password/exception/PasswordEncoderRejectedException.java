@@ -0,0 +1,40 @@
+package com.ppxb.latea.starter.security.password.exception;
+
+import cn.hutool.http.HttpStatus;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 密码编码拒绝异常
+ *
+ * <p>密码编码线程池队列已满或等待超时时抛出，调用方应尽快向客户端返回“系统繁忙”，而不是重试。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class PasswordEncoderRejectedException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PasswordEncoderRejectedException() {
+    }
+
+    public PasswordEncoderRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordEncoderRejectedException(Throwable cause) {
+        super(cause);
+    }
+
+    public PasswordEncoderRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public int getStatus() {
+        return HttpStatus.HTTP_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,154 @@
+package com.ppxb.latea.starter.sqlmonitor.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.sqlmonitor.core.*;
+import com.ppxb.latea.starter.sqlmonitor.filter.SqlMonitorFilter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.*;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.List;
+
+/**
+ * SQL 监控自动配置
+ *
+ * <p>{@code data-sources} 中指定的数据源会被包装为 {@link SqlMonitorDataSource}，需要原始连接池时通过 {@code DataSource#unwrap} 获取；
+ * 未指定时不监控任何数据源，过滤器、日志线程等组件也不会创建。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   sql-monitor:
+ *     data-sources: [dataSource]
+ *     slow-threshold: 500ms
+ *     sample-rate: 1000
+ *     include-parameters: false
+ *     max-statements: 500
+ *     repeat-threshold: 10
+ * </pre></blockquote>
+ *
+ * <p>SQL 日志输出到名为 {@code latea.sql} 的 Logger。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SqlMonitorProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.SQL_MONITOR, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+@Conditional(SqlMonitorAutoConfiguration.OnDataSourcesCondition.class)
+public class SqlMonitorAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMonitorAutoConfiguration.class);
+
+    /**
+     * SQL 监控数据源后置处理器
+     */
+    @Bean
+    public static SqlMonitorDataSourcePostProcessor sqlMonitorDataSourcePostProcessor(ObjectProvider<SqlMonitor> sqlMonitor,
+                                                                                       Environment environment) {
+        return new SqlMonitorDataSourcePostProcessor(sqlMonitor::getObject, bindDataSources(environment));
+    }
+
+    /**
+     * SQL 日志分发器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlLogDispatcher sqlLogDispatcher(SqlMonitorProperties properties) {
+        return new SqlLogDispatcher(properties.getLogQueueCapacity());
+    }
+
+    /**
+     * SQL 语句统计注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlMonitorRegistry sqlMonitorRegistry(SqlMonitorProperties properties) {
+        return new SqlMonitorRegistry(properties.getMaxStatements());
+    }
+
+    /**
+     * SQL 监控
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlMonitor sqlMonitor(SqlMonitorRegistry sqlMonitorRegistry,
+                                 SqlLogDispatcher sqlLogDispatcher,
+                                 SqlMonitorProperties properties) {
+        return new SqlMonitor(new SqlFingerprinter(properties.getFingerprintCacheSize()), sqlMonitorRegistry, sqlLogDispatcher, properties
+            .getSlowThreshold(), properties.getSampleRate(), properties.isIncludeParameters(), properties
+                .getRepeatThreshold(), properties.getTraceMdcKey());
+    }
+
+    /**
+     * SQL 监控过滤器配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public static class SqlMonitorFilterConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<SqlMonitorFilter> sqlMonitorFilter(SqlMonitor sqlMonitor) {
+            FilterRegistrationBean<SqlMonitorFilter> registrationBean = new FilterRegistrationBean<>(new SqlMonitorFilter(sqlMonitor));
+            registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 210);
+            return registrationBean;
+        }
+    }
+
+    /**
+     * SQL 监控指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class SqlMonitorMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SqlMonitorMeterBinder sqlMonitorMeterBinder(SqlMonitorRegistry sqlMonitorRegistry,
+                                                           SqlLogDispatcher sqlLogDispatcher) {
+            return new SqlMonitorMeterBinder(sqlMonitorRegistry, sqlLogDispatcher);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'SQL Monitor' completed initialization.");
+    }
+
+    /**
+     * 获取需要监控的数据源名称（后置处理器与条件判断先于配置属性 Bean 创建，直接从环境中绑定）
+     */
+    private static List<String> bindDataSources(Environment environment) {
+        return Binder.get(environment)
+            .bind(PropertiesConstants.SQL_MONITOR + ".data-sources", Bindable.listOf(String.class))
+            .orElse(List.of());
+    }
+
+    /**
+     * 指定了需要监控的数据源
+     */
+    static class OnDataSourcesCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            ConditionMessage.Builder message = ConditionMessage.forCondition("SQL monitor data sources");
+            List<String> dataSources = bindDataSources(context.getEnvironment());
+            return dataSources.isEmpty()
+                ? ConditionOutcome.noMatch(message.because("no data sources configured"))
+                : ConditionOutcome.match(message.found("data source", "data sources").items(dataSources));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ppxb.latea.starter.sqlmonitor.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 监控配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.SQL_MONITOR)
+public class SqlMonitorProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 需要监控的数据源 Bean 名称（{@code *} 表示全部；为空时不包装任何数据源，也不创建 SQL 监控的其他组件）
+     *
+     * <p>被监控的数据源会被包装为 {@code SqlMonitorDataSource}，按具体连接池类型（例如 {@code HikariDataSource}）注入的地方将无法注入，
+     * 因此需要显式指定。</p>
+     */
+    private List<String> dataSources = new ArrayList<>();
+
+    /**
+     * 慢查询阈值（达到阈值的语句全部记录日志）
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 采样率（每 N 条语句采样 1 条记录日志，0 表示只记录慢查询与出错的语句）
+     */
+    private int sampleRate = 0;
+
+    /**
+     * 日志是否包含参数值（只对需要记录日志的语句拼接参数）
+     */
+    private boolean includeParameters = false;
+
+    /**
+     * 最大统计指纹数（超出后统一计入 {@code <other>}）
+     */
+    private int maxStatements = 500;
+
+    /**
+     * 指纹缓存容量
+     */
+    private int fingerprintCacheSize = 4096;
+
+    /**
+     * 日志队列容量（队列已满时丢弃）
+     */
+    private int logQueueCapacity = 8192;
+
+    /**
+     * 一次请求内同一查询执行多少次判定为 N+1 查询
+     */
+    private int repeatThreshold = 10;
+
+    /**
+     * 链路 ID 在 MDC 中的键名
+     */
+    private String traceMdcKey = "traceId";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getDataSources() {
+        return dataSources;
+    }
+
+    public void setDataSources(List<String> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean isIncludeParameters() {
+        return includeParameters;
+    }
+
+    public void setIncludeParameters(boolean includeParameters) {
+        this.includeParameters = includeParameters;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public int getFingerprintCacheSize() {
+        return fingerprintCacheSize;
+    }
+
+    public void setFingerprintCacheSize(int fingerprintCacheSize) {
+        this.fingerprintCacheSize = fingerprintCacheSize;
+    }
+
+    public int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    public void setLogQueueCapacity(int logQueueCapacity) {
+        this.logQueueCapacity = logQueueCapacity;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void setRepeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public String getTraceMdcKey() {
+        return traceMdcKey;
+    }
+
+    public void setTraceMdcKey(String traceMdcKey) {
+        this.traceMdcKey = traceMdcKey;
+    }
+}
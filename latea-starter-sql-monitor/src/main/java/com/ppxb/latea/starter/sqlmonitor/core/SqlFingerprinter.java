@@ -0,0 +1,199 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 指纹生成器
+ *
+ * <p>把 SQL 归一化为指纹：去掉注释，合并空白，字符串与数字字面量替换为 {@code ?}，{@code IN (?, ?, ?)} 合并为 {@code IN (?...)}，
+ * 多行 {@code VALUES} 合并为一组，使参数不同的同一条语句落到同一个指纹上。</p>
+ *
+ * <p>预编译语句的 SQL 文本数量有限，指纹按 SQL 文本缓存；拼接字面量的语句变体没有上限，因此与数据权限 SQL 模板缓存一样按分代方式限制容量，读取不加锁。</p>
+ *
+ * <p>字符串字面量中的反斜杠是否为转义符取决于数据库：标准 SQL（PostgreSQL、Oracle、SQL Server、H2 等）只用两个单引号转义单引号，
+ * 反斜杠是普通字符；MySQL、MariaDB 默认把反斜杠当作转义符。两种规则下同一 SQL 文本的指纹可能不同，因此分别缓存。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlFingerprinter {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:, ?\\?)+\\)");
+
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\((?:\\?|\\?\\.\\.\\.)\\))(?:, ?\\((?:\\?|\\?\\.\\.\\.)\\))+");
+
+    private final Generations standard;
+
+    private final Generations backslashEscapes;
+
+    /**
+     * @param maximumSize 最大缓存数（两种转义规则各自的上限）
+     */
+    public SqlFingerprinter(int maximumSize) {
+        int generationSize = Math.max(1, maximumSize / 2);
+        this.standard = new Generations(generationSize, false);
+        this.backslashEscapes = new Generations(generationSize, true);
+    }
+
+    /**
+     * 获取指纹（标准 SQL 转义规则）
+     *
+     * @param sql SQL
+     * @return 指纹
+     */
+    public String fingerprint(String sql) {
+        return standard.fingerprint(sql);
+    }
+
+    /**
+     * 获取指纹
+     *
+     * @param sql              SQL
+     * @param backslashEscapes 字符串字面量中的反斜杠是否为转义符
+     * @return 指纹
+     */
+    public String fingerprint(String sql, boolean backslashEscapes) {
+        return (backslashEscapes ? this.backslashEscapes : standard).fingerprint(sql);
+    }
+
+    /**
+     * 当前缓存的指纹数（近似值）
+     */
+    public int size() {
+        return standard.size() + backslashEscapes.size();
+    }
+
+    /**
+     * 归一化 SQL
+     *
+     * @param sql              SQL
+     * @param backslashEscapes 字符串字面量中的反斜杠是否为转义符
+     * @return 指纹
+     */
+    static String normalize(String sql, boolean backslashEscapes) {
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean space = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space = true;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+                space = true;
+            } else if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+            } else {
+                if (space && !sb.isEmpty() && c != ')' && c != ',' && sb.charAt(sb.length() - 1) != '(') {
+                    sb.append(' ');
+                }
+                space = false;
+                if (c == '\'') {
+                    i = skipString(sql, i + 1, backslashEscapes);
+                    sb.append('?');
+                } else if (isDigit(c) && (sb.isEmpty() || !isIdentifierPart(sb.charAt(sb.length() - 1)))) {
+                    i = skipNumber(sql, i + 1);
+                    sb.append('?');
+                } else {
+                    sb.append(c);
+                    i++;
+                }
+            }
+        }
+        String normalized = sb.toString();
+        if (normalized.indexOf('?') < 0) {
+            return normalized;
+        }
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        return VALUES_ROWS.matcher(normalized).replaceAll("$1, ...");
+    }
+
+    private static int skipString(String sql, int i, boolean backslashEscapes) {
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i++);
+            if (c == '\\' && backslashEscapes) {
+                i++;
+            } else if (c == '\'') {
+                if (i < length && sql.charAt(i) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return length;
+    }
+
+    private static int skipNumber(String sql, int i) {
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (!isDigit(c) && c != '.' && c != 'e' && c != 'E' && c != 'x' && c != 'X' && !(c >= 'a' && c <= 'f') && !(c >= 'A' && c <= 'F')) {
+                return i;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '`' || c == '"' || c == '.';
+    }
+
+    /**
+     * 分代指纹缓存
+     */
+    private static final class Generations {
+
+        private final int generationSize;
+
+        private final boolean backslashEscapes;
+
+        private volatile Map<String, String> current = new ConcurrentHashMap<>();
+
+        private volatile Map<String, String> previous = Map.of();
+
+        private Generations(int generationSize, boolean backslashEscapes) {
+            this.generationSize = generationSize;
+            this.backslashEscapes = backslashEscapes;
+        }
+
+        private String fingerprint(String sql) {
+            String fingerprint = current.get(sql);
+            if (null != fingerprint) {
+                return fingerprint;
+            }
+            fingerprint = previous.get(sql);
+            if (null == fingerprint) {
+                fingerprint = normalize(sql, backslashEscapes);
+            }
+            Map<String, String> generation = current;
+            generation.put(sql, fingerprint);
+            if (generation.size() >= generationSize) {
+                synchronized (this) {
+                    if (generation == current) {
+                        previous = generation;
+                        current = new ConcurrentHashMap<>();
+                    }
+                }
+            }
+            return fingerprint;
+        }
+
+        private int size() {
+            return current.size() + previous.size();
+        }
+    }
+}
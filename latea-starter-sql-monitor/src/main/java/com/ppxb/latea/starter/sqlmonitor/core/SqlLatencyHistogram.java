@@ -0,0 +1,123 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 耗时直方图
+ *
+ * <p>以微秒为单位的对数分桶：每个 2 的幂区间再等分为 4 个子桶，相对误差不超过 25%，覆盖 1 微秒到约 18 分钟，
+ * 每个直方图固定占用 {@value #BUCKET_COUNT} 个 {@code long}。记录一次只做一次原子自增，分位数在读取时由桶计数推算（取桶上界）。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_EXPONENT = 30;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    public void record(long nanos) {
+        buckets.incrementAndGet(indexOf(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 记录次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 总耗时（毫秒）
+     */
+    public double getTotalMillis() {
+        return (double)totalNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 最长耗时（毫秒）
+     */
+    public double getMaxMillis() {
+        return (double)maxNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 平均耗时（毫秒）
+     */
+    public double getMeanMillis() {
+        long n = count.sum();
+        return 0 == n ? 0 : this.getTotalMillis() / n;
+    }
+
+    /**
+     * 分位数耗时（毫秒）
+     *
+     * @param quantile 分位（0 ~ 1）
+     * @return 耗时（桶上界，不超过最长耗时）
+     */
+    public double getPercentileMillis(double quantile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (0 == total) {
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(total * Math.min(1, Math.max(0, quantile))));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i) / 1000.0, this.getMaxMillis());
+            }
+        }
+        return this.getMaxMillis();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int)Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int)(micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundMicros(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1L;
+        }
+        int exponent = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        return (long)(SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import com.ppxb.latea.starter.sqlmonitor.model.SqlLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 日志分发器
+ *
+ * <p>执行线程只把慢查询、出错、采样与 N+1 记录放入有界队列，格式化与输出由后台线程完成；队列已满时丢弃并计数。
+ * 日志输出到名为 {@value #LOGGER_NAME} 的 Logger，可通过日志配置单独路由。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlLogDispatcher implements AutoCloseable {
+
+    /**
+     * SQL 日志的 Logger 名称
+     */
+    public static final String LOGGER_NAME = "latea.sql";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlLogDispatcher.class);
+
+    private static final Logger sqlLog = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private static final int BATCH_SIZE = 256;
+
+    private final BlockingQueue<SqlLogEntry> queue;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param queueCapacity 队列容量
+     */
+    public SqlLogDispatcher(int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.worker = Thread.ofPlatform().name("latea-sql-logger").daemon().start(this::run);
+    }
+
+    /**
+     * 提交日志
+     *
+     * @param entry 日志记录
+     * @return 是否进入队列
+     */
+    public boolean submit(SqlLogEntry entry) {
+        if (queue.offer(entry)) {
+            return true;
+        }
+        droppedCount.increment();
+        return false;
+    }
+
+    /**
+     * 待输出的日志数
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 队列已满被丢弃的日志数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<SqlLogEntry> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            batch.forEach(SqlLogDispatcher::write);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<SqlLogEntry> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                batch.forEach(SqlLogDispatcher::write);
+                batch.clear();
+            } catch (InterruptedException e) {
+                batch.forEach(queue::offer);
+                return;
+            } catch (RuntimeException e) {
+                batch.clear();
+                log.warn("Failed to write SQL log.", e);
+            }
+        }
+    }
+
+    private static void write(SqlLogEntry entry) {
+        switch (entry.type()) {
+            case SLOW -> sqlLog.warn("[{}] Slow SQL ({} ms): {}", entry.traceId(), millis(entry
+                .elapsedNanos()), entry.sql());
+            case ERROR -> sqlLog.warn("[{}] SQL failed ({} ms): {}, error: {}", entry.traceId(), millis(entry
+                .elapsedNanos()), entry.sql(), entry.error());
+            case SAMPLED -> sqlLog.info("[{}] SQL ({} ms): {}", entry.traceId(), millis(entry.elapsedNanos()), entry
+                .sql());
+            case REPEATED -> sqlLog.warn("[{}] Possible N+1 query, executed {} times ({} ms) in one request: {}", entry
+                .traceId(), entry.count(), millis(entry.elapsedNanos()), entry.fingerprint());
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+}
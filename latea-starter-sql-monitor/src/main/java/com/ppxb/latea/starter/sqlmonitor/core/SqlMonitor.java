@@ -0,0 +1,129 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.ppxb.latea.starter.sqlmonitor.model.SqlLogEntry;
+import org.slf4j.MDC;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SQL 监控
+ *
+ * <p>作为 P6Spy 的执行事件监听，每条语句执行后：
+ * <ul>
+ * <li>按指纹记录耗时直方图（指纹按 SQL 文本缓存，命中时只有一次哈希查找和几次原子自增）；</li>
+ * <li>慢查询、出错的语句以及按采样率抽中的语句交给 {@link SqlLogDispatcher} 异步输出，只有这些语句才会拼接参数值；</li>
+ * <li>当前线程打开了 {@link SqlRequestScope} 时，统计查询指纹的执行次数，用于识别 N+1 查询。</li>
+ * </ul>
+ * 不经过 P6Spy 的日志模块与 {@code spy.properties}，未命中日志条件的语句不产生任何字符串拼接或 I/O。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitor extends SimpleJdbcEventListener {
+
+    private final SqlFingerprinter fingerprinter;
+
+    private final SqlMonitorRegistry registry;
+
+    private final SqlLogDispatcher dispatcher;
+
+    private final long slowThresholdNanos;
+
+    private final int sampleRate;
+
+    private final boolean includeParameters;
+
+    private final int repeatThreshold;
+
+    private final String traceMdcKey;
+
+    /**
+     * @param fingerprinter     指纹生成器
+     * @param registry          语句统计注册表
+     * @param dispatcher        日志分发器
+     * @param slowThreshold     慢查询阈值
+     * @param sampleRate        采样率（每 N 条采样 1 条，0 表示不采样）
+     * @param includeParameters 日志是否包含参数值
+     * @param repeatThreshold   一次请求内同一查询执行多少次判定为 N+1 查询
+     * @param traceMdcKey       链路 ID 在 MDC 中的键名
+     */
+    public SqlMonitor(SqlFingerprinter fingerprinter,
+                      SqlMonitorRegistry registry,
+                      SqlLogDispatcher dispatcher,
+                      Duration slowThreshold,
+                      int sampleRate,
+                      boolean includeParameters,
+                      int repeatThreshold,
+                      String traceMdcKey) {
+        this.fingerprinter = fingerprinter;
+        this.registry = registry;
+        this.dispatcher = dispatcher;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = Math.max(0, sampleRate);
+        this.includeParameters = includeParameters;
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+        this.traceMdcKey = traceMdcKey;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String sql = statementInformation.getSql();
+        if (null == sql || sql.isEmpty()) {
+            return;
+        }
+        String fingerprint = fingerprinter.fingerprint(sql, statementInformation.getConnectionInformation()
+            .getDataSource() instanceof SqlMonitorDataSource dataSource && dataSource.isBackslashEscapes());
+        boolean slow = timeElapsedNanos >= slowThresholdNanos;
+        registry.get(fingerprint).record(timeElapsedNanos, null != e, slow);
+        SqlRequestScope scope = SqlRequestScope.current();
+        if (null != scope && isQuery(fingerprint)) {
+            scope.record(fingerprint, timeElapsedNanos);
+        }
+        SqlLogEntry.Type type;
+        if (null != e) {
+            type = SqlLogEntry.Type.ERROR;
+        } else if (slow) {
+            type = SqlLogEntry.Type.SLOW;
+        } else if (sampleRate > 0 && 0 == ThreadLocalRandom.current().nextInt(sampleRate)) {
+            type = SqlLogEntry.Type.SAMPLED;
+        } else {
+            return;
+        }
+        dispatcher.submit(new SqlLogEntry(type, fingerprint, includeParameters
+            ? statementInformation.getSqlWithValues()
+            : sql, timeElapsedNanos, 1, null == e ? null : e.getMessage(), MDC.get(traceMdcKey), System
+                .currentTimeMillis()));
+    }
+
+    /**
+     * 打开请求范围（用于 Web 请求以外的场景，例如定时任务、消息消费）
+     *
+     * @return 请求范围
+     */
+    public SqlRequestScope openScope() {
+        return SqlRequestScope.open(repeatThreshold, this::reportRepeated);
+    }
+
+    /**
+     * 获取语句统计注册表
+     *
+     * @return 语句统计注册表
+     */
+    public SqlMonitorRegistry getRegistry() {
+        return registry;
+    }
+
+    private void reportRepeated(String fingerprint, SqlRequestScope.Usage usage) {
+        registry.get(fingerprint).recordRepeated();
+        dispatcher.submit(new SqlLogEntry(SqlLogEntry.Type.REPEATED, fingerprint, fingerprint, usage.nanos, usage.count, null, MDC
+            .get(traceMdcKey), System.currentTimeMillis()));
+    }
+
+    private static boolean isQuery(String fingerprint) {
+        return fingerprint.regionMatches(true, 0, "select", 0, 6) || fingerprint.regionMatches(true, 0, "with", 0, 4);
+    }
+}
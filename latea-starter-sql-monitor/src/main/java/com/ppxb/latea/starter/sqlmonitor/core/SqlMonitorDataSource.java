@@ -0,0 +1,84 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import com.p6spy.engine.wrapper.ConnectionWrapper;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * SQL 监控数据源
+ *
+ * <p>用 P6Spy 的 {@link ConnectionWrapper} 直接包装连接并挂上监听，不经过 {@code P6DataSource} 的驱动注册与全局配置加载。
+ * 监听延迟到第一次获取连接时解析，数据源可以先于监听创建。</p>
+ *
+ * <p>第一次获取连接时按数据库产品名判断字符串字面量中的反斜杠是否为转义符（MySQL、MariaDB），供生成 SQL 指纹时使用。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitorDataSource extends DelegatingDataSource {
+
+    private final Supplier<? extends JdbcEventListener> listener;
+
+    private volatile Boolean backslashEscapes;
+
+    /**
+     * @param targetDataSource 目标数据源
+     * @param listener         执行事件监听
+     */
+    public SqlMonitorDataSource(DataSource targetDataSource, Supplier<? extends JdbcEventListener> listener) {
+        super(targetDataSource);
+        this.listener = listener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return this.wrap(connection, System.nanoTime() - start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return this.wrap(connection, System.nanoTime() - start);
+    }
+
+    /**
+     * 字符串字面量中的反斜杠是否为转义符
+     *
+     * @return 是否为转义符（尚未获取过连接时为 {@code false}）
+     */
+    public boolean isBackslashEscapes() {
+        return Boolean.TRUE.equals(backslashEscapes);
+    }
+
+    private Connection wrap(Connection connection, long timeToGetConnectionNanos) {
+        if (null == backslashEscapes) {
+            backslashEscapes = detectBackslashEscapes(connection);
+        }
+        // 连接信息中记录的是当前数据源，监听据此读取转义规则
+        return ConnectionWrapper.wrap(connection, listener.get(), ConnectionInformation
+            .fromDataSource(this, connection, timeToGetConnectionNanos));
+    }
+
+    private static boolean detectBackslashEscapes(Connection connection) {
+        try {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (null == product) {
+                return false;
+            }
+            String lowerCase = product.toLowerCase(Locale.ROOT);
+            return lowerCase.contains("mysql") || lowerCase.contains("mariadb");
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import com.p6spy.engine.event.JdbcEventListener;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * SQL 监控数据源后置处理器
+ *
+ * <p>把名称匹配的 {@link DataSource} Bean 包装为 {@link SqlMonitorDataSource}，已包装的数据源和作用域代理的目标 Bean 不重复包装。
+ * 包装后 Bean 的类型随之改变，因此只包装显式指定的数据源。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitorDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String ALL = "*";
+
+    private final Supplier<JdbcEventListener> listener;
+
+    private final Set<String> beanNames;
+
+    /**
+     * @param listener  执行事件监听（第一次获取连接时解析）
+     * @param beanNames 需要包装的数据源 Bean 名称（{@code *} 表示全部）
+     */
+    public SqlMonitorDataSourcePostProcessor(Supplier<? extends JdbcEventListener> listener,
+                                             Collection<String> beanNames) {
+        this.listener = SingletonSupplier.of(listener::get);
+        this.beanNames = Set.copyOf(beanNames);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlMonitorDataSource) && (beanNames
+            .contains(ALL) || beanNames.contains(beanName)) && !ScopedProxyUtils.isScopedTarget(beanName)) {
+            return new SqlMonitorDataSource(dataSource, listener);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 监控指标绑定器（Micrometer）
+ *
+ * <p>语句指标带 {@code sql}（语句指纹）标签，标签数量受最大指纹数限制。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitorMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.sql";
+
+    private final SqlMonitorRegistry registry;
+
+    private final SqlLogDispatcher dispatcher;
+
+    public SqlMonitorMeterBinder(SqlMonitorRegistry registry, SqlLogDispatcher dispatcher) {
+        this.registry = registry;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(PREFIX + ".log.pending", dispatcher, SqlLogDispatcher::getPendingCount)
+            .description("待输出的 SQL 日志数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".log.dropped", dispatcher, SqlLogDispatcher::getDroppedCount)
+            .description("队列已满被丢弃的 SQL 日志数")
+            .register(meterRegistry);
+        registry.addListener(stats -> register(meterRegistry, stats));
+    }
+
+    private static void register(MeterRegistry meterRegistry, SqlStatementStats stats) {
+        String sql = stats.getFingerprint();
+        SqlLatencyHistogram histogram = stats.getHistogram();
+        FunctionTimer.builder(PREFIX + ".statements", histogram, SqlLatencyHistogram::getCount, SqlLatencyHistogram::getTotalMillis, TimeUnit.MILLISECONDS)
+            .tag("sql", sql)
+            .description("语句执行次数与耗时")
+            .register(meterRegistry);
+        Gauge.builder(PREFIX + ".statements.max", histogram, SqlLatencyHistogram::getMaxMillis)
+            .tag("sql", sql)
+            .baseUnit("milliseconds")
+            .description("语句最长执行耗时")
+            .register(meterRegistry);
+        for (double quantile : new double[] {0.5, 0.95, 0.99}) {
+            Gauge.builder(PREFIX + ".statements.percentile", histogram, h -> h.getPercentileMillis(quantile))
+                .tag("sql", sql)
+                .tag("quantile", String.valueOf(quantile))
+                .baseUnit("milliseconds")
+                .description("语句执行耗时分位数")
+                .register(meterRegistry);
+        }
+        FunctionCounter.builder(PREFIX + ".statements.errors", stats, SqlStatementStats::getErrorCount)
+            .tag("sql", sql)
+            .description("语句执行出错次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".statements.slow", stats, SqlStatementStats::getSlowCount)
+            .tag("sql", sql)
+            .description("慢查询次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".statements.repeated", stats, SqlStatementStats::getRepeatedCount)
+            .tag("sql", sql)
+            .description("被判定为 N+1 查询的请求数")
+            .register(meterRegistry);
+    }
+}
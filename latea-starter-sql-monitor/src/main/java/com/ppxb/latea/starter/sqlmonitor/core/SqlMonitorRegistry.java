@@ -0,0 +1,99 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * SQL 语句统计注册表
+ *
+ * <p>每个指纹一份 {@link SqlStatementStats}，内存占用固定。指纹数达到上限后，新出现的指纹统一计入 {@value #OTHER}，
+ * 避免拼接字面量的 SQL 或指标标签无限增长。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitorRegistry {
+
+    /**
+     * 超出上限的指纹统一计入的名称
+     */
+    public static final String OTHER = "<other>";
+
+    private final int maxStatements;
+
+    private final Map<String, SqlStatementStats> statements = new ConcurrentHashMap<>();
+
+    private final List<Consumer<SqlStatementStats>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile SqlStatementStats other;
+
+    /**
+     * @param maxStatements 最大指纹数
+     */
+    public SqlMonitorRegistry(int maxStatements) {
+        this.maxStatements = Math.max(1, maxStatements);
+    }
+
+    /**
+     * 获取语句统计（不存在时创建，超出上限时返回 {@value #OTHER}）
+     *
+     * @param fingerprint 指纹
+     * @return 语句统计
+     */
+    public SqlStatementStats get(String fingerprint) {
+        SqlStatementStats existing = statements.get(fingerprint);
+        if (null != existing) {
+            return existing;
+        }
+        if (statements.size() >= maxStatements) {
+            return this.other();
+        }
+        SqlStatementStats created = new SqlStatementStats(fingerprint);
+        existing = statements.putIfAbsent(fingerprint, created);
+        if (null != existing) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 添加语句统计监听（立即回调已有统计，之后每创建一个统计回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addListener(Consumer<SqlStatementStats> listener) {
+        listeners.add(listener);
+        statements.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部语句统计
+     *
+     * @return 语句统计
+     */
+    public Collection<SqlStatementStats> getStatements() {
+        return Collections.unmodifiableCollection(statements.values());
+    }
+
+    private SqlStatementStats other() {
+        SqlStatementStats stats = other;
+        if (null == stats) {
+            synchronized (this) {
+                stats = other;
+                if (null == stats) {
+                    stats = statements.computeIfAbsent(OTHER, SqlStatementStats::new);
+                    other = stats;
+                    SqlStatementStats created = stats;
+                    listeners.forEach(listener -> listener.accept(created));
+                }
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * SQL 请求范围
+ *
+ * <p>在当前线程上统计一次请求（或一次任务）内每个查询指纹的执行次数与耗时，关闭时把执行次数达到阈值的指纹判定为 N+1 查询。
+ * 统计只在所属线程上读写，不加锁；每个范围最多跟踪 {@value #MAX_FINGERPRINTS} 个指纹。嵌套打开时复用外层范围。</p>
+ *
+ * <blockquote><pre>
+ * try (SqlRequestScope scope = sqlMonitor.openScope()) {
+ *     ...
+ * }
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlRequestScope implements AutoCloseable {
+
+    private static final int MAX_FINGERPRINTS = 256;
+
+    private static final ThreadLocal<SqlRequestScope> CURRENT = new ThreadLocal<>();
+
+    private static final SqlRequestScope NESTED = new SqlRequestScope(0, null);
+
+    private final int threshold;
+
+    private final BiConsumer<String, Usage> reporter;
+
+    private final Map<String, Usage> usages = new HashMap<>();
+
+    private SqlRequestScope(int threshold, BiConsumer<String, Usage> reporter) {
+        this.threshold = threshold;
+        this.reporter = reporter;
+    }
+
+    /**
+     * 打开范围（当前线程已有范围时返回空操作的范围）
+     *
+     * @param threshold 判定为 N+1 查询的执行次数
+     * @param reporter  N+1 查询回调
+     * @return 范围
+     */
+    static SqlRequestScope open(int threshold, BiConsumer<String, Usage> reporter) {
+        if (null != CURRENT.get()) {
+            return NESTED;
+        }
+        SqlRequestScope scope = new SqlRequestScope(threshold, reporter);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 获取当前线程的范围
+     *
+     * @return 范围（未打开时为 {@code null}）
+     */
+    static SqlRequestScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 记录一次查询
+     *
+     * @param fingerprint 指纹
+     * @param nanos       耗时（纳秒）
+     */
+    void record(String fingerprint, long nanos) {
+        Usage usage = usages.get(fingerprint);
+        if (null == usage) {
+            if (usages.size() >= MAX_FINGERPRINTS) {
+                return;
+            }
+            usage = new Usage();
+            usages.put(fingerprint, usage);
+        }
+        usage.count++;
+        usage.nanos += nanos;
+    }
+
+    @Override
+    public void close() {
+        if (this == NESTED) {
+            return;
+        }
+        CURRENT.remove();
+        usages.forEach((fingerprint, usage) -> {
+            if (usage.count >= threshold) {
+                reporter.accept(fingerprint, usage);
+            }
+        });
+    }
+
+    /**
+     * 指纹在范围内的执行情况
+     */
+    static final class Usage {
+
+        int count;
+
+        long nanos;
+    }
+}
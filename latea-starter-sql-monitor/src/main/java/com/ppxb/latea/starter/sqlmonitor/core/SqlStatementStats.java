@@ -0,0 +1,82 @@
+package com.ppxb.latea.starter.sqlmonitor.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 语句统计（按指纹统计）
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlStatementStats {
+
+    private final String fingerprint;
+
+    private final SqlLatencyHistogram histogram = new SqlLatencyHistogram();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    private final LongAdder slowCount = new LongAdder();
+
+    private final LongAdder repeatedCount = new LongAdder();
+
+    public SqlStatementStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    void record(long nanos, boolean error, boolean slow) {
+        histogram.record(nanos);
+        if (error) {
+            errorCount.increment();
+        }
+        if (slow) {
+            slowCount.increment();
+        }
+    }
+
+    void recordRepeated() {
+        repeatedCount.increment();
+    }
+
+    /**
+     * 语句指纹
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 耗时直方图
+     */
+    public SqlLatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 执行次数
+     */
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * 执行出错的次数
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * 慢查询次数
+     */
+    public long getSlowCount() {
+        return slowCount.sum();
+    }
+
+    /**
+     * 被判定为 N+1 查询的请求数
+     */
+    public long getRepeatedCount() {
+        return repeatedCount.sum();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ppxb.latea.starter.sqlmonitor.filter;
+
+import com.ppxb.latea.starter.sqlmonitor.core.SqlMonitor;
+import com.ppxb.latea.starter.sqlmonitor.core.SqlRequestScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * SQL 监控过滤器
+ *
+ * <p>为每个请求打开一个 {@link SqlRequestScope}，请求结束时检测 N+1 查询。只统计请求线程上执行的语句。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class SqlMonitorFilter extends OncePerRequestFilter {
+
+    private final SqlMonitor sqlMonitor;
+
+    public SqlMonitorFilter(SqlMonitor sqlMonitor) {
+        this.sqlMonitor = sqlMonitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlRequestScope ignored = sqlMonitor.openScope()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
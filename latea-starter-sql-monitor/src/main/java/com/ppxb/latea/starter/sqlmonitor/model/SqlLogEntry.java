@@ -0,0 +1,45 @@
+package com.ppxb.latea.starter.sqlmonitor.model;
+
+/**
+ * SQL 日志记录
+ *
+ * @param type         记录类型
+ * @param fingerprint  语句指纹
+ * @param sql          SQL（开启参数记录时为带参数值的 SQL）
+ * @param elapsedNanos 耗时（纳秒；N+1 记录为请求内该指纹的累计耗时）
+ * @param count        执行次数（N+1 记录为请求内该指纹的执行次数，其他记录为 1）
+ * @param error        错误信息（执行成功时为 {@code null}）
+ * @param traceId      链路 ID
+ * @param timestamp    时间戳（毫秒）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record SqlLogEntry(Type type, String fingerprint, String sql, long elapsedNanos, int count, String error,
+                          String traceId, long timestamp) {
+
+    /**
+     * 记录类型
+     */
+    public enum Type {
+
+        /**
+         * 慢查询
+         */
+        SLOW,
+
+        /**
+         * 执行出错
+         */
+        ERROR,
+
+        /**
+         * 采样
+         */
+        SAMPLED,
+
+        /**
+         * N+1 查询
+         */
+        REPEATED
+    }
+}
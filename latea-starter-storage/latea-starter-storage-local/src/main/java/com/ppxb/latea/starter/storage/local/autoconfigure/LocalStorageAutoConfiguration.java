@@ -0,0 +1,103 @@
+package com.ppxb.latea.starter.storage.local.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.storage.local.core.ChunkedUploadManager;
+import com.ppxb.latea.starter.storage.local.core.DirectBufferPool;
+import com.ppxb.latea.starter.storage.local.core.LocalStorageClient;
+import com.ppxb.latea.starter.storage.local.web.LocalFileRequestHandler;
+import com.ppxb.latea.starter.storage.local.web.LocalFileResponder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 本地存储自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   storage:
+ *     local:
+ *       base-path: /data/storage
+ *       mapping: /file/**
+ *       checksum-algorithm: SHA-256
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(LocalStorageProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.STORAGE_LOCAL, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class LocalStorageAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalStorageAutoConfiguration.class);
+
+    /**
+     * 本地存储客户端
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LocalStorageClient localStorageClient(LocalStorageProperties properties) {
+        DirectBufferPool bufferPool = new DirectBufferPool((int)properties.getBufferSize().toBytes(), properties
+            .getMaxIdleBuffers());
+        return new LocalStorageClient(Path.of(properties.getBasePath()), properties.getChecksumAlgorithm(), properties
+            .isFsync(), bufferPool);
+    }
+
+    /**
+     * 分片上传管理器
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ChunkedUploadManager chunkedUploadManager(LocalStorageClient localStorageClient,
+                                                     LocalStorageProperties properties) {
+        return new ChunkedUploadManager(localStorageClient, properties.getUploadExpiry(), properties
+            .getUploadCleanupInterval(), properties.getMinChunkSize().toBytes(), properties.getMaxPartCount());
+    }
+
+    /**
+     * 文件下载映射配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SimpleUrlHandlerMapping.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = PropertiesConstants.STORAGE_LOCAL, name = "mapping")
+    public static class LocalFileMappingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public LocalFileResponder localFileResponder() {
+            return new LocalFileResponder();
+        }
+
+        /**
+         * 优先级低于控制器映射，高于默认的静态资源映射
+         */
+        @Bean
+        public SimpleUrlHandlerMapping localFileHandlerMapping(LocalStorageClient localStorageClient,
+                                                               LocalFileResponder localFileResponder,
+                                                               LocalStorageProperties properties) {
+            LocalFileRequestHandler handler = new LocalFileRequestHandler(localStorageClient, localFileResponder);
+            return new SimpleUrlHandlerMapping(Map.of(properties.getMapping(), handler), Ordered.LOWEST_PRECEDENCE - 2);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Storage-Local' completed initialization.");
+    }
+}
@@ -0,0 +1,160 @@
+package com.ppxb.latea.starter.storage.local.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 本地存储配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.STORAGE_LOCAL)
+public class LocalStorageProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 存储根目录
+     */
+    private String basePath = "./data/storage";
+
+    /**
+     * 访问路径映射（例如：{@code /file/**}，为空时不提供下载映射）
+     */
+    private String mapping;
+
+    /**
+     * 校验和算法（为空时不计算校验和）
+     */
+    private String checksumAlgorithm = "SHA-256";
+
+    /**
+     * 是否在写入完成时强制刷盘
+     */
+    private boolean fsync = false;
+
+    /**
+     * 读写缓冲区大小（直接内存）
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 最大空闲缓冲区数量
+     */
+    private int maxIdleBuffers = 64;
+
+    /**
+     * 分片上传会话有效期
+     */
+    private Duration uploadExpiry = Duration.ofHours(24);
+
+    /**
+     * 分片上传过期会话清理间隔
+     */
+    private Duration uploadCleanupInterval = Duration.ofHours(1);
+
+    /**
+     * 分片上传最小分片大小（文件小于该值时可整体作为一个分片）
+     */
+    private DataSize minChunkSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 分片上传最大分片数
+     */
+    private int maxPartCount = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBasePath() {
+        return basePath;
+    }
+
+    public void setBasePath(String basePath) {
+        this.basePath = basePath;
+    }
+
+    public String getMapping() {
+        return mapping;
+    }
+
+    public void setMapping(String mapping) {
+        this.mapping = mapping;
+    }
+
+    public String getChecksumAlgorithm() {
+        return checksumAlgorithm;
+    }
+
+    public void setChecksumAlgorithm(String checksumAlgorithm) {
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxIdleBuffers() {
+        return maxIdleBuffers;
+    }
+
+    public void setMaxIdleBuffers(int maxIdleBuffers) {
+        this.maxIdleBuffers = maxIdleBuffers;
+    }
+
+    public Duration getUploadExpiry() {
+        return uploadExpiry;
+    }
+
+    public void setUploadExpiry(Duration uploadExpiry) {
+        this.uploadExpiry = uploadExpiry;
+    }
+
+    public Duration getUploadCleanupInterval() {
+        return uploadCleanupInterval;
+    }
+
+    public void setUploadCleanupInterval(Duration uploadCleanupInterval) {
+        this.uploadCleanupInterval = uploadCleanupInterval;
+    }
+
+    public DataSize getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(DataSize minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public int getMaxPartCount() {
+        return maxPartCount;
+    }
+
+    public void setMaxPartCount(int maxPartCount) {
+        this.maxPartCount = maxPartCount;
+    }
+}
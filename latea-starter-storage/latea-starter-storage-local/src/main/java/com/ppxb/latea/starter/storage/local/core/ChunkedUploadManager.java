@@ -0,0 +1,479 @@
+package com.ppxb.latea.starter.storage.local.core;
+
+import com.ppxb.latea.starter.storage.local.exception.StorageException;
+import com.ppxb.latea.starter.storage.local.model.StoredFile;
+import com.ppxb.latea.starter.storage.local.model.UploadPart;
+import com.ppxb.latea.starter.storage.local.model.UploadStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 分片上传管理器
+ *
+ * <p>每个上传会话在存储根目录下的 {@code .uploads/<uploadId>/} 中保存三个文件：
+ * <ul>
+ * <li>{@code meta}：目标路径、文件大小、分片大小</li>
+ * <li>{@code data}：目标文件的临时内容，各分片按 {@code (分片序号 - 1) * 分片大小} 定位写入，多个分片可并发写入</li>
+ * <li>{@code parts}：每个分片一条定长记录（完成标记 + 分片校验和），分片写入完成后落盘，用于断点续传</li>
+ * </ul>
+ * 分片校验和在写入过程中增量计算；完成时整体校验和为各分片校验和拼接后的摘要（形如 {@code <hex>-<分片数>}），
+ * 无需再读取一遍完整文件。合并时 {@code data} 原子移动到目标路径，不发生数据复制。</p>
+ *
+ * <p>会话的文件通道按需打开并缓存，空闲一段时间后关闭；进程重启后可从磁盘恢复会话继续上传。超过有效期的会话会被定期清理。
+ * 会话在写锁内被标记为已退役（空闲回收、完成或取消）并移出缓存，各操作加锁后检查标记，遇到已退役的会话时重新获取，
+ * 因此同一上传 ID 同时只有一个可用会话，已关闭的通道也不会被重新打开。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ChunkedUploadManager implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedUploadManager.class);
+
+    /**
+     * 分片上传临时目录（相对存储根目录）
+     */
+    public static final String UPLOAD_DIRECTORY = ".uploads";
+
+    private static final String META_FILE = "meta";
+
+    private static final String DATA_FILE = "data";
+
+    private static final String PARTS_FILE = "parts";
+
+    private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[0-9a-f]{32}");
+
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final LocalStorageClient client;
+
+    private final Path uploadPath;
+
+    private final Duration expiry;
+
+    private final int digestLength;
+
+    private final long minChunkSize;
+
+    private final int maxPartCount;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService cleaner;
+
+    /**
+     * @param client          本地存储客户端
+     * @param expiry          上传会话有效期
+     * @param cleanupInterval 清理间隔
+     * @param minChunkSize    最小分片大小（字节）
+     * @param maxPartCount    最大分片数
+     */
+    public ChunkedUploadManager(LocalStorageClient client,
+                                Duration expiry,
+                                Duration cleanupInterval,
+                                long minChunkSize,
+                                int maxPartCount) {
+        this.client = client;
+        this.minChunkSize = minChunkSize;
+        this.maxPartCount = maxPartCount;
+        this.uploadPath = client.getBasePath().resolve(UPLOAD_DIRECTORY);
+        this.expiry = expiry;
+        MessageDigest digest = client.newDigest();
+        this.digestLength = null == digest ? 0 : digest.getDigestLength();
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("latea-storage-upload-cleaner")
+            .daemon()
+            .factory());
+        long interval = cleanupInterval.toMillis();
+        cleaner.scheduleWithFixedDelay(this::cleanup, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 初始化分片上传
+     *
+     * @param path      目标路径（相对存储根目录）
+     * @param totalSize 文件总大小（字节）
+     * @param chunkSize 分片大小（字节）
+     * @return 上传状态
+     */
+    public UploadStatus initiate(String path, long totalSize, int chunkSize) {
+        if (totalSize <= 0 || chunkSize <= 0) {
+            throw new StorageException("Total size and chunk size must be positive.");
+        }
+        if (chunkSize < Math.min(minChunkSize, totalSize)) {
+            throw new StorageException("Chunk size must be at least " + minChunkSize + " bytes: " + chunkSize);
+        }
+        long partCount = (totalSize + chunkSize - 1) / chunkSize;
+        if (partCount > maxPartCount) {
+            throw new StorageException("Too many parts: " + partCount + " (max " + maxPartCount + ")");
+        }
+        // 提前校验目标路径
+        client.resolve(path);
+        String uploadId = UUID.randomUUID().toString().replace("-", "");
+        Path directory = uploadPath.resolve(uploadId);
+        try {
+            Files.createDirectories(directory);
+            Properties meta = new Properties();
+            meta.setProperty("path", path);
+            meta.setProperty("totalSize", String.valueOf(totalSize));
+            meta.setProperty("chunkSize", String.valueOf(chunkSize));
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(META_FILE), StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to initiate upload: " + path, e);
+        }
+        return new UploadStatus(uploadId, path, totalSize, chunkSize, (int)partCount, List.of());
+    }
+
+    /**
+     * 上传分片（同一会话的不同分片可并发上传）
+     *
+     * @param uploadId    上传 ID
+     * @param partNumber  分片序号（从 1 开始）
+     * @param inputStream 分片内容（不会被关闭）
+     * @return 分片信息
+     */
+    public UploadPart uploadPart(String uploadId, int partNumber, InputStream inputStream) {
+        Session session = this.acquire(uploadId, false);
+        try {
+            if (partNumber < 1 || partNumber > session.partCount) {
+                throw new StorageException("Part number out of range: " + partNumber);
+            }
+            long offset = (long)(partNumber - 1) * session.chunkSize;
+            long expectedSize = Math.min(session.chunkSize, session.totalSize - offset);
+            MessageDigest digest = client.newDigest();
+            session.ensureOpen();
+            long written = client.copy(Channels.newChannel(inputStream), session.data, offset, expectedSize, digest);
+            if (written != expectedSize) {
+                throw new StorageException("Part " + partNumber + " expected " + expectedSize + " bytes but got " + written + ".");
+            }
+            byte[] checksum = null == digest ? new byte[0] : digest.digest();
+            ByteBuffer record = ByteBuffer.allocate(1 + digestLength).put((byte)1).put(checksum).flip();
+            long recordOffset = Math.multiplyExact(partNumber - 1L, 1 + digestLength);
+            while (record.hasRemaining()) {
+                recordOffset += session.parts.write(record, recordOffset);
+            }
+            return new UploadPart(partNumber, written, 0 == checksum.length ? null : HexFormat.of().formatHex(checksum));
+        } catch (IOException e) {
+            throw new StorageException("Failed to write part " + partNumber + " of upload " + uploadId, e);
+        } finally {
+            session.touch();
+            session.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 查询上传状态（断点续传时获取已完成的分片）
+     *
+     * @param uploadId 上传 ID
+     * @return 上传状态
+     */
+    public UploadStatus status(String uploadId) {
+        Session session = this.acquire(uploadId, false);
+        try {
+            session.ensureOpen();
+            List<Integer> completed = new ArrayList<>();
+            ByteBuffer records = session.readRecords();
+            for (int i = 0; i < session.partCount; i++) {
+                if (1 == records.get(session.recordPosition(i))) {
+                    completed.add(i + 1);
+                }
+            }
+            return new UploadStatus(uploadId, session.path, session.totalSize, session.chunkSize, session.partCount, completed);
+        } catch (IOException e) {
+            throw new StorageException("Failed to read upload status: " + uploadId, e);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 完成上传（合并分片）
+     *
+     * @param uploadId 上传 ID
+     * @return 文件信息
+     */
+    public StoredFile complete(String uploadId) {
+        Session session = this.acquire(uploadId, true);
+        try {
+            session.ensureOpen();
+            ByteBuffer records = session.readRecords();
+            MessageDigest composite = client.newDigest();
+            int missing = 0;
+            for (int i = 0; i < session.partCount; i++) {
+                int position = session.recordPosition(i);
+                if (1 != records.get(position)) {
+                    missing++;
+                } else if (null != composite) {
+                    composite.update(records.slice(position + 1, digestLength));
+                }
+            }
+            if (missing > 0) {
+                throw new StorageException("Upload " + uploadId + " is missing " + missing + " parts.");
+            }
+            if (client.isFsync()) {
+                session.data.force(true);
+            }
+            session.close();
+            Path target = client.resolve(session.path);
+            Files.createDirectories(target.getParent());
+            LocalStorageClient.move(session.directory.resolve(DATA_FILE), target);
+            this.retire(uploadId, session);
+            deleteDirectory(session.directory);
+            String checksum = null == composite
+                ? null
+                : HexFormat.of().formatHex(composite.digest()) + "-" + session.partCount;
+            return new StoredFile(session.path, session.totalSize, checksum);
+        } catch (IOException e) {
+            throw new StorageException("Failed to complete upload: " + uploadId, e);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 取消上传
+     *
+     * @param uploadId 上传 ID
+     */
+    public void abort(String uploadId) {
+        Session session = this.acquire(uploadId, true);
+        try {
+            this.retire(uploadId, session);
+            deleteDirectory(session.directory);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        cleaner.shutdownNow();
+        sessions.values().forEach(Session::close);
+        sessions.clear();
+    }
+
+    /**
+     * 清理过期会话，并关闭空闲会话的文件通道
+     */
+    void cleanup() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            if (now - session.lastAccess < SESSION_IDLE_TIMEOUT.toMillis() || !session.lock.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (!session.retired) {
+                    this.retire(entry.getKey(), session);
+                }
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+        if (!Files.isDirectory(uploadPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(uploadPath)) {
+            for (Path directory : directories) {
+                Path marker = Files.exists(directory.resolve(PARTS_FILE))
+                    ? directory.resolve(PARTS_FILE)
+                    : directory.resolve(META_FILE);
+                if (Files.exists(marker) && now - Files.getLastModifiedTime(marker).toMillis() < expiry.toMillis()) {
+                    continue;
+                }
+                // 在映射的同一个槽位内删除，与 getSession 的加载互斥：正在加载或已加载的会话不会被删除目录
+                sessions.compute(directory.getFileName().toString(), (uploadId, session) -> {
+                    if (null == session) {
+                        deleteDirectory(directory);
+                        log.debug("[Latea Starter] - Expired upload '{}' removed.", uploadId);
+                    }
+                    return session;
+                });
+            }
+        } catch (IOException e) {
+            log.warn("[Latea Starter] - Failed to clean expired uploads.", e);
+        }
+    }
+
+    /**
+     * 获取会话并加锁（调用方负责解锁），会话已退役时重新获取
+     *
+     * @param uploadId  上传 ID
+     * @param exclusive 是否加写锁
+     * @return 已加锁且未退役的会话
+     */
+    private Session acquire(String uploadId, boolean exclusive) {
+        while (true) {
+            Session session = this.getSession(uploadId);
+            Lock lock = exclusive ? session.lock.writeLock() : session.lock.readLock();
+            lock.lock();
+            if (!session.retired) {
+                return session;
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 退役会话：关闭文件通道并移出缓存（调用方需持有写锁）
+     */
+    private void retire(String uploadId, Session session) {
+        session.retired = true;
+        session.close();
+        sessions.remove(uploadId, session);
+    }
+
+    private Session getSession(String uploadId) {
+        if (null == uploadId || !UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+            throw new StorageException("Illegal upload id: " + uploadId);
+        }
+        return sessions.computeIfAbsent(uploadId, this::loadSession);
+    }
+
+    private Session loadSession(String uploadId) {
+        Path directory = uploadPath.resolve(uploadId);
+        Path metaFile = directory.resolve(META_FILE);
+        if (!Files.exists(metaFile)) {
+            throw new StorageException("Upload not found: " + uploadId);
+        }
+        Properties meta = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            meta.load(reader);
+        } catch (IOException e) {
+            throw new StorageException("Failed to load upload: " + uploadId, e);
+        }
+        return new Session(directory, meta.getProperty("path"), Long.parseLong(meta.getProperty("totalSize")), Integer
+            .parseInt(meta.getProperty("chunkSize")));
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                LocalStorageClient.deleteQuietly(file);
+            }
+        } catch (IOException ignored) {
+            // 目录不存在或已被删除
+        }
+        LocalStorageClient.deleteQuietly(directory);
+    }
+
+    /**
+     * 上传会话
+     */
+    private class Session {
+
+        private final Path directory;
+
+        private final String path;
+
+        private final long totalSize;
+
+        private final int chunkSize;
+
+        private final int partCount;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private volatile FileChannel data;
+
+        private volatile FileChannel parts;
+
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        /**
+         * 是否已退役（在写锁内设置）
+         */
+        private volatile boolean retired;
+
+        private Session(Path directory, String path, long totalSize, int chunkSize) {
+            this.directory = directory;
+            this.path = path;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.partCount = (int)((totalSize + chunkSize - 1) / chunkSize);
+        }
+
+        private void ensureOpen() throws IOException {
+            if (null != parts) {
+                return;
+            }
+            synchronized (this) {
+                if (null != parts) {
+                    return;
+                }
+                data = FileChannel.open(directory
+                    .resolve(DATA_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                parts = FileChannel.open(directory
+                    .resolve(PARTS_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        }
+
+        private ByteBuffer readRecords() throws IOException {
+            ByteBuffer records = ByteBuffer.allocate(this.recordPosition(partCount));
+            long position = 0;
+            while (records.hasRemaining()) {
+                int read = parts.read(records, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+            return records.clear();
+        }
+
+        /**
+         * 分片记录在 {@code parts} 文件中的位置（分片数在初始化时已受 {@code maxPartCount} 限制，溢出说明会话元数据异常）
+         */
+        private int recordPosition(int index) {
+            return Math.multiplyExact(index, 1 + digestLength);
+        }
+
+        private void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+
+        private synchronized void close() {
+            closeQuietly(data);
+            closeQuietly(parts);
+            data = null;
+            parts = null;
+        }
+
+        private static void closeQuietly(FileChannel channel) {
+            if (null == channel) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 关闭失败不影响主流程
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ppxb.latea.starter.storage.local.core;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 直接内存缓冲区池
+ *
+ * <p>直接缓冲区分配与回收代价较高，文件读写使用的缓冲区在此复用；空闲数量有上限，超出的缓冲区交由 GC 回收。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DirectBufferPool {
+
+    private final int bufferSize;
+
+    private final int maxIdle;
+
+    private final ConcurrentLinkedQueue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public DirectBufferPool(int bufferSize, int maxIdle) {
+        this.bufferSize = bufferSize;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * 借出缓冲区
+     *
+     * @return 已清空的缓冲区
+     */
+    public ByteBuffer borrow() {
+        ByteBuffer buffer = idle.poll();
+        if (null == buffer) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        idleCount.decrementAndGet();
+        return buffer.clear();
+    }
+
+    /**
+     * 归还缓冲区
+     *
+     * @param buffer 缓冲区
+     */
+    public void release(ByteBuffer buffer) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(buffer);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
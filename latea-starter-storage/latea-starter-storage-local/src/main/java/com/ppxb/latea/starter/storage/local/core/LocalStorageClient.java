@@ -0,0 +1,247 @@
+package com.ppxb.latea.starter.storage.local.core;
+
+import com.ppxb.latea.starter.storage.local.exception.StorageException;
+import com.ppxb.latea.starter.storage.local.model.StoredFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 本地存储客户端
+ *
+ * <p>写入时从来源通道读入池化的直接缓冲区，同一缓冲区先更新校验和再通过 {@link FileChannel} 写入临时文件，
+ * 完成后原子移动到目标路径：内存占用与文件大小无关，校验和无需二次读取文件，读者也不会看到写了一半的文件。
+ * 未启用校验且来源为本地文件时，直接使用 {@link FileChannel#transferTo} 由内核完成复制。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LocalStorageClient {
+
+    private static final String TEMP_SUFFIX = ".uploading";
+
+    private final Path basePath;
+
+    private final String checksumAlgorithm;
+
+    private final boolean fsync;
+
+    private final DirectBufferPool bufferPool;
+
+    /**
+     * @param basePath          存储根目录
+     * @param checksumAlgorithm 校验和算法（为空时不计算校验和）
+     * @param fsync             是否在写入完成时强制刷盘
+     * @param bufferPool        直接内存缓冲区池
+     */
+    public LocalStorageClient(Path basePath, String checksumAlgorithm, boolean fsync, DirectBufferPool bufferPool) {
+        this.basePath = basePath.toAbsolutePath().normalize();
+        this.checksumAlgorithm = null == checksumAlgorithm || checksumAlgorithm.isBlank() ? null : checksumAlgorithm;
+        this.fsync = fsync;
+        this.bufferPool = bufferPool;
+        // 提前校验算法名称，避免首次上传时才暴露配置错误
+        this.newDigest();
+    }
+
+    /**
+     * 存储文件
+     *
+     * @param path        相对存储根目录的路径
+     * @param inputStream 输入流（不会被关闭）
+     * @return 文件信息
+     */
+    public StoredFile store(String path, InputStream inputStream) {
+        return this.store(path, Channels.newChannel(inputStream));
+    }
+
+    /**
+     * 存储文件
+     *
+     * @param path   相对存储根目录的路径
+     * @param source 本地来源文件（例如 Multipart 临时文件）
+     * @return 文件信息
+     */
+    public StoredFile store(String path, Path source) {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            return this.store(path, channel);
+        } catch (IOException e) {
+            throw new StorageException("Failed to read file: " + source, e);
+        }
+    }
+
+    /**
+     * 存储文件
+     *
+     * @param path   相对存储根目录的路径
+     * @param source 来源通道（不会被关闭）
+     * @return 文件信息
+     */
+    public StoredFile store(String path, ReadableByteChannel source) {
+        Path target = this.resolve(path);
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        MessageDigest digest = this.newDigest();
+        long size;
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel
+                .open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                size = null == digest && source instanceof FileChannel fileChannel
+                    ? transfer(fileChannel, channel)
+                    : this.copy(source, channel, 0, Long.MAX_VALUE, digest);
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+            move(temp, target);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new StorageException("Failed to store file: " + path, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        return new StoredFile(path, size, null == digest ? null : HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * 删除文件
+     *
+     * @param path 相对存储根目录的路径
+     * @return 是否删除成功（文件不存在时返回 {@code false}）
+     */
+    public boolean delete(String path) {
+        try {
+            return Files.deleteIfExists(this.resolve(path));
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete file: " + path, e);
+        }
+    }
+
+    /**
+     * 文件是否存在
+     *
+     * @param path 相对存储根目录的路径
+     * @return 是否存在
+     */
+    public boolean exists(String path) {
+        return Files.isRegularFile(this.resolve(path));
+    }
+
+    /**
+     * 解析为存储根目录下的绝对路径
+     *
+     * @param path 相对存储根目录的路径
+     * @return 绝对路径
+     * @throws StorageException 路径越出存储根目录时
+     */
+    public Path resolve(String path) {
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        Path resolved = basePath.resolve(relative).normalize();
+        if (!resolved.startsWith(basePath) || resolved.equals(basePath)) {
+            throw new StorageException("Illegal storage path: " + path);
+        }
+        return resolved;
+    }
+
+    /**
+     * 获取存储根目录
+     *
+     * @return 存储根目录
+     */
+    public Path getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * 从来源通道复制到文件通道的指定位置，同时更新校验和
+     *
+     * @param source   来源通道
+     * @param target   目标文件通道
+     * @param position 写入起始位置
+     * @param maxBytes 最大字节数（超出时抛出异常）
+     * @param digest   校验和（可为 {@code null}）
+     * @return 复制的字节数
+     */
+    long copy(ReadableByteChannel source,
+              FileChannel target,
+              long position,
+              long maxBytes,
+              MessageDigest digest) throws IOException {
+        ByteBuffer buffer = bufferPool.borrow();
+        long written = 0;
+        try {
+            while (source.read(buffer) >= 0) {
+                if (0 == buffer.position()) {
+                    continue;
+                }
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > maxBytes) {
+                    throw new StorageException("Content exceeds expected size of " + maxBytes + " bytes.");
+                }
+                if (null != digest) {
+                    digest.update(buffer);
+                    buffer.flip();
+                }
+                long offset = position + written - buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    offset += target.write(buffer, offset);
+                }
+                buffer.clear();
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+        return written;
+    }
+
+    MessageDigest newDigest() {
+        if (null == checksumAlgorithm) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance(checksumAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new StorageException("Unsupported checksum algorithm: " + checksumAlgorithm, e);
+        }
+    }
+
+    boolean isFsync() {
+        return fsync;
+    }
+
+    static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 清理失败不影响主流程
+        }
+    }
+
+    private static long transfer(FileChannel source, FileChannel target) throws IOException {
+        long start = source.position();
+        long size = source.size();
+        long position = start;
+        while (position < size) {
+            position += source.transferTo(position, size - position, target);
+        }
+        return size - start;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ppxb.latea.starter.storage.local.exception;
+
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 存储异常
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class StorageException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StorageException() {
+    }
+
+    public StorageException(String message) {
+        super(message);
+    }
+
+    public StorageException(Throwable cause) {
+        super(cause);
+    }
+
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
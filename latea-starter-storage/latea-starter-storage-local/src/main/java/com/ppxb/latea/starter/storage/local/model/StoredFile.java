@@ -0,0 +1,13 @@
+package com.ppxb.latea.starter.storage.local.model;
+
+/**
+ * 已存储文件信息
+ *
+ * @param path     相对存储根目录的路径
+ * @param size     文件大小（字节）
+ * @param checksum 校验和（十六进制；分片上传为各分片校验和的组合值，形如 {@code <hex>-<分片数>}；未启用校验时为 {@code null}）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record StoredFile(String path, long size, String checksum) {
+}
@@ -0,0 +1,13 @@
+package com.ppxb.latea.starter.storage.local.model;
+
+/**
+ * 已上传分片信息
+ *
+ * @param partNumber 分片序号（从 1 开始）
+ * @param size       分片大小（字节）
+ * @param checksum   分片校验和（十六进制；未启用校验时为 {@code null}）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record UploadPart(int partNumber, long size, String checksum) {
+}
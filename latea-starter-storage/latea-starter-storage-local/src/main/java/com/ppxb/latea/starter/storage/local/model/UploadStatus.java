@@ -0,0 +1,23 @@
+package com.ppxb.latea.starter.storage.local.model;
+
+import java.util.List;
+
+/**
+ * 分片上传状态
+ *
+ * @param uploadId       上传 ID
+ * @param path           目标路径
+ * @param totalSize      文件总大小（字节）
+ * @param chunkSize      分片大小（字节）
+ * @param partCount      分片总数
+ * @param completedParts 已完成的分片序号（断点续传时只需上传其余分片）
+ * @author ppxb
+ * @since 1.0.0
+ */
+public record UploadStatus(String uploadId,
+                           String path,
+                           long totalSize,
+                           int chunkSize,
+                           int partCount,
+                           List<Integer> completedParts) {
+}
@@ -0,0 +1,57 @@
+package com.ppxb.latea.starter.storage.local.web;
+
+import com.ppxb.latea.starter.storage.local.core.ChunkedUploadManager;
+import com.ppxb.latea.starter.storage.local.core.LocalStorageClient;
+import com.ppxb.latea.starter.storage.local.exception.StorageException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 本地文件下载处理器
+ *
+ * <p>替代基于 {@code ResourceHttpRequestHandler} 的静态资源映射，由 {@link LocalFileResponder} 零拷贝输出文件。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class LocalFileRequestHandler implements HttpRequestHandler {
+
+    private final LocalStorageClient client;
+
+    private final LocalFileResponder responder;
+
+    public LocalFileRequestHandler(LocalStorageClient client, LocalFileResponder responder) {
+        this.client = client;
+        this.responder = responder;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        Object pathWithinMapping = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        Path file;
+        try {
+            file = client.resolve(String.valueOf(pathWithinMapping));
+        } catch (StorageException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // 分片上传的临时目录不对外提供
+        if (file.startsWith(client.getBasePath().resolve(ChunkedUploadManager.UPLOAD_DIRECTORY))) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        responder.write(request, response, file);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ppxb.latea.starter.storage.oss.autoconfigure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.storage.oss.core.ObjectStorageTemplate;
+import com.ppxb.latea.starter.storage.oss.core.StorageMeterBinder;
+import com.ppxb.latea.starter.storage.oss.core.StorageMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.dromara.x.file.storage.core.FileStorageService;
+import org.dromara.x.file.storage.spring.EnableFileStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 对象存储自动配置
+ *
+ * <p>存储平台沿用 X File Storage 的 {@code dromara.x-file-storage} 配置，无需再添加 {@code @EnableFileStorage}。配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   storage:
+ *     oss:
+ *       multipart:
+ *         threshold: 16MB
+ *         part-size: 8MB
+ *         parallelism: 4
+ *       cache:
+ *         max-object-size: 256KB
+ *         max-size: 64MB
+ * </pre></blockquote>
+ *
+ * <p>测试环境可使用 {@code local-plus} 平台（本地文件系统，支持分片上传）或 MinIO 等兼容 S3 协议的服务。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@EnableFileStorage
+@EnableConfigurationProperties(ObjectStorageProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.STORAGE_OSS, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class ObjectStorageAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ObjectStorageAutoConfiguration.class);
+
+    /**
+     * 对象存储指标
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StorageMetrics storageMetrics() {
+        return new StorageMetrics();
+    }
+
+    /**
+     * 对象存储模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ObjectStorageTemplate objectStorageTemplate(FileStorageService fileStorageService,
+                                                       StorageMetrics storageMetrics,
+                                                       ObjectStorageProperties properties) {
+        ObjectStorageProperties.Multipart multipart = properties.getMultipart();
+        ObjectStorageProperties.Cache cacheProperties = properties.getCache();
+        Cache<String, byte[]> cache = cacheProperties.isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumWeight(cacheProperties.getMaxSize().toBytes())
+                .weigher((String key, byte[] value) -> value.length)
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .build()
+            : null;
+        return new ObjectStorageTemplate(fileStorageService, storageMetrics, cache, cacheProperties.getMaxObjectSize()
+            .toBytes(), multipart.getThreshold().toBytes(), (int)multipart.getPartSize().toBytes(), multipart
+                .getParallelism());
+    }
+
+    /**
+     * 对象存储指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    public static class StorageMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public StorageMeterBinder storageMeterBinder(StorageMetrics storageMetrics) {
+            return new StorageMeterBinder(storageMetrics);
+        }
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Storage-OSS' completed initialization.");
+    }
+}
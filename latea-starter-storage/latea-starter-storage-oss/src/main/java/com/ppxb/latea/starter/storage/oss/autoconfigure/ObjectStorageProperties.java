@@ -0,0 +1,159 @@
+package com.ppxb.latea.starter.storage.oss.autoconfigure;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 对象存储配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.STORAGE_OSS)
+public class ObjectStorageProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 分片上传配置
+     */
+    private Multipart multipart = new Multipart();
+
+    /**
+     * 热点文件缓存配置
+     */
+    private Cache cache = new Cache();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Multipart getMultipart() {
+        return multipart;
+    }
+
+    public void setMultipart(Multipart multipart) {
+        this.multipart = multipart;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 分片上传配置属性
+     */
+    public static class Multipart {
+
+        /**
+         * 分片上传阈值（不小于该大小且存储平台支持分片上传时使用分片上传）
+         */
+        private DataSize threshold = DataSize.ofMegabytes(16);
+
+        /**
+         * 分片大小（S3 等平台要求除最后一个分片外不小于 5MB）
+         */
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        /**
+         * 同时上传的最大分片数
+         */
+        private int parallelism = 4;
+
+        public DataSize getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(DataSize threshold) {
+            this.threshold = threshold;
+        }
+
+        public DataSize getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(DataSize partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * 热点文件缓存配置属性
+     */
+    public static class Cache {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+
+        /**
+         * 可缓存的最大文件大小
+         */
+        private DataSize maxObjectSize = DataSize.ofKilobytes(256);
+
+        /**
+         * 缓存总大小
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 写入后过期时间
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getMaxObjectSize() {
+            return maxObjectSize;
+        }
+
+        public void setMaxObjectSize(DataSize maxObjectSize) {
+            this.maxObjectSize = maxObjectSize;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.ppxb.latea.starter.storage.oss.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ppxb.latea.starter.storage.oss.exception.StorageException;
+import org.dromara.x.file.storage.core.FileInfo;
+import org.dromara.x.file.storage.core.FileStorageService;
+import org.dromara.x.file.storage.core.upload.FilePartInfo;
+import org.dromara.x.file.storage.core.upload.MultipartUploadSupportInfo;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 对象存储模板
+ *
+ * <p>在 X File Storage 之上提供：
+ * <ul>
+ * <li>大文件分片并行上传：超过阈值且存储平台支持分片上传时，按分片顺序读取来源，每个分片在虚拟线程上上传，
+ * 同时上传的分片数受 {@code parallelism} 限制，内存占用约为 {@code (parallelism + 1) × partSize}；任一分片失败时取消整个上传。</li>
+ * <li>流式下载：直接把存储平台的输入流复制到目标输出流，不在内存中缓冲整个文件。</li>
+ * <li>热点小文件缓存：{@link #getBytes} 读取不超过 {@code maxObjectSize} 的文件时使用按字节数限制容量的本地缓存，
+ * 上传（覆盖同名文件）与删除时移除对应的缓存。</li>
+ * <li>按存储平台统计上传、下载的字节数与耗时（吞吐量）。</li>
+ * </ul>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class ObjectStorageTemplate {
+
+    private final FileStorageService fileStorageService;
+
+    private final StorageMetrics metrics;
+
+    private final Cache<String, byte[]> cache;
+
+    private final long cacheMaxObjectSize;
+
+    private final long multipartThreshold;
+
+    private final int partSize;
+
+    private final int parallelism;
+
+    /**
+     * @param fileStorageService X File Storage 服务
+     * @param metrics            指标
+     * @param cache              热点文件缓存（为 {@code null} 时不缓存）
+     * @param cacheMaxObjectSize 可缓存的最大文件大小（字节）
+     * @param multipartThreshold 分片上传阈值（字节）
+     * @param partSize           分片大小（字节）
+     * @param parallelism        同时上传的最大分片数
+     */
+    public ObjectStorageTemplate(FileStorageService fileStorageService,
+                                 StorageMetrics metrics,
+                                 Cache<String, byte[]> cache,
+                                 long cacheMaxObjectSize,
+                                 long multipartThreshold,
+                                 int partSize,
+                                 int parallelism) {
+        this.fileStorageService = fileStorageService;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.cacheMaxObjectSize = cacheMaxObjectSize;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 上传文件到默认存储平台
+     *
+     * @param file 本地文件
+     * @param path 存储路径（例如：{@code avatar/}）
+     * @return 文件信息
+     */
+    public FileInfo upload(Path file, String path) {
+        return this.upload(null, file, path, file.getFileName().toString());
+    }
+
+    /**
+     * 上传文件
+     *
+     * @param platform 存储平台（为空时使用默认存储平台）
+     * @param file     本地文件
+     * @param path     存储路径
+     * @param filename 保存的文件名
+     * @return 文件信息
+     */
+    public FileInfo upload(String platform, Path file, String path, String filename) {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            return this.upload(platform, inputStream, Files.size(file), path, filename);
+        } catch (IOException e) {
+            throw new StorageException("Failed to read file: " + file, e);
+        }
+    }
+
+    /**
+     * 上传文件（同时移除缓存）
+     *
+     * @param platform    存储平台（为空时使用默认存储平台）
+     * @param inputStream 输入流（不会被关闭）
+     * @param size        文件大小
+     * @param path        存储路径
+     * @param filename    保存的文件名
+     * @return 文件信息
+     */
+    public FileInfo upload(String platform, InputStream inputStream, long size, String path, String filename) {
+        String actualPlatform = null == platform ? fileStorageService.getProperties().getDefaultPlatform() : platform;
+        StoragePlatformMetrics platformMetrics = metrics.platform(actualPlatform);
+        long start = System.nanoTime();
+        try {
+            FileInfo fileInfo;
+            int parts = 0;
+            if (size >= multipartThreshold && this.isSupportMultipart(actualPlatform)) {
+                parts = (int)((size + partSize - 1) / partSize);
+                fileInfo = this.multipartUpload(actualPlatform, inputStream, size, parts, path, filename);
+            } else {
+                fileInfo = fileStorageService.of(inputStream, filename, null, size)
+                    .setPlatform(actualPlatform)
+                    .setPath(path)
+                    .setSaveFilename(filename)
+                    .upload();
+            }
+            platformMetrics.recordUpload(size, parts, System.nanoTime() - start);
+            if (null != cache) {
+                // 上传完成后再移除，期间读取到旧内容的缓存也会被清掉
+                cache.invalidate(cacheKey(fileInfo));
+            }
+            return fileInfo;
+        } catch (RuntimeException e) {
+            platformMetrics.recordFailure();
+            throw e instanceof StorageException ? e : new StorageException("Failed to upload file: " + path + filename, e);
+        }
+    }
+
+    /**
+     * 流式下载文件
+     *
+     * @param fileInfo     文件信息
+     * @param outputStream 输出流（不会被关闭）
+     */
+    public void download(FileInfo fileInfo, OutputStream outputStream) {
+        this.download(fileInfo, inputStream -> {
+            try {
+                inputStream.transferTo(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 流式下载文件
+     *
+     * @param fileInfo 文件信息
+     * @param consumer 输入流消费者（输入流在返回后关闭）
+     */
+    public void download(FileInfo fileInfo, Consumer<InputStream> consumer) {
+        StoragePlatformMetrics platformMetrics = metrics.platform(fileInfo.getPlatform());
+        long start = System.nanoTime();
+        long[] bytes = new long[1];
+        try {
+            fileStorageService.download(fileInfo)
+                .inputStream(inputStream -> consumer.accept(new CountingInputStream(inputStream, bytes)));
+            platformMetrics.recordDownload(bytes[0], System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            platformMetrics.recordFailure();
+            throw new StorageException("Failed to download file: " + fileInfo.getUrl(), e);
+        }
+    }
+
+    /**
+     * 读取文件内容
+     *
+     * <p>不超过可缓存大小的文件从本地缓存读取，缓存未命中时下载并放入缓存；返回的数组为缓存共享，不要修改。</p>
+     *
+     * @param fileInfo 文件信息
+     * @return 文件内容
+     */
+    public byte[] getBytes(FileInfo fileInfo) {
+        if (null == cache || null == fileInfo.getSize() || fileInfo.getSize() > cacheMaxObjectSize) {
+            return this.downloadBytes(fileInfo);
+        }
+        String key = cacheKey(fileInfo);
+        byte[] cached = cache.getIfPresent(key);
+        if (null != cached) {
+            metrics.recordCacheHit();
+            return cached;
+        }
+        metrics.recordCacheMiss();
+        return cache.get(key, k -> this.downloadBytes(fileInfo));
+    }
+
+    /**
+     * 删除文件（同时移除缓存）
+     *
+     * @param fileInfo 文件信息
+     * @return 是否删除成功
+     */
+    public boolean delete(FileInfo fileInfo) {
+        if (null != cache) {
+            cache.invalidate(cacheKey(fileInfo));
+        }
+        return fileStorageService.delete(fileInfo);
+    }
+
+    /**
+     * 获取 X File Storage 服务
+     *
+     * @return X File Storage 服务
+     */
+    public FileStorageService getFileStorageService() {
+        return fileStorageService;
+    }
+
+    private byte[] downloadBytes(FileInfo fileInfo) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(null == fileInfo.getSize()
+            ? 8192
+            : (int)Math.min(fileInfo.getSize(), Integer.MAX_VALUE - 8));
+        this.download(fileInfo, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private boolean isSupportMultipart(String platform) {
+        MultipartUploadSupportInfo supportInfo = fileStorageService.isSupportMultipartUpload(platform);
+        return null != supportInfo && Boolean.TRUE.equals(supportInfo.getIsSupport());
+    }
+
+    private FileInfo multipartUpload(String platform,
+                                     InputStream inputStream,
+                                     long size,
+                                     int partCount,
+                                     String path,
+                                     String filename) {
+        FileInfo fileInfo = fileStorageService.initiateMultipartUpload()
+            .setPlatform(platform)
+            .setPath(path)
+            .setOriginalFilename(filename)
+            .setSaveFilename(filename)
+            .setSize(size)
+            .init();
+        FilePartInfo[] parts = new FilePartInfo[partCount];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < partCount && null == failure.get(); i++) {
+                int partNumber = i + 1;
+                byte[] data = inputStream.readNBytes((int)Math.min(partSize, size - (long)i * partSize));
+                if (0 == data.length) {
+                    throw new EOFException("Unexpected end of stream at part " + partNumber + " of " + partCount);
+                }
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (null == failure.get()) {
+                            parts[partNumber - 1] = fileStorageService
+                                .uploadPart(fileInfo, partNumber, data, (long)data.length)
+                                .upload();
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+        if (null != failure.get()) {
+            this.abortQuietly(fileInfo);
+            throw new StorageException("Failed to upload file parts: " + path + filename, failure.get());
+        }
+        return fileStorageService.completeMultipartUpload(fileInfo).setPartInfoList(Arrays.asList(parts)).complete();
+    }
+
+    private void abortQuietly(FileInfo fileInfo) {
+        try {
+            MultipartUploadSupportInfo supportInfo = fileStorageService.isSupportMultipartUpload(fileInfo
+                .getPlatform());
+            if (null != supportInfo && Boolean.TRUE.equals(supportInfo.getIsSupportAbort())) {
+                fileStorageService.abortMultipartUpload(fileInfo).abort();
+            }
+        } catch (RuntimeException ignored) {
+            // 取消失败不影响原异常，残留的分片由存储平台的生命周期规则清理
+        }
+    }
+
+    private static String cacheKey(FileInfo fileInfo) {
+        return fileInfo.getPlatform() + ':' + fileInfo.getBasePath() + fileInfo.getPath() + fileInfo.getFilename();
+    }
+
+    /**
+     * 统计读取字节数的输入流
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final long[] counter;
+
+        private CountingInputStream(InputStream in, long[] counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter[0]++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                counter[0] += n;
+            }
+            return n;
+        }
+    }
+}
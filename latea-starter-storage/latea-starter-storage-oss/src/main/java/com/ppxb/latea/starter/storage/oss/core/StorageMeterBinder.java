@@ -0,0 +1,75 @@
+package com.ppxb.latea.starter.storage.oss.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象存储指标绑定器（Micrometer）
+ *
+ * <p>传输指标带 {@code platform}（存储平台）、{@code direction}（{@code upload}/{@code download}）标签，
+ * 吞吐量由 {@code latea.storage.bytes} 与 {@code latea.storage.transfers} 的总耗时相除得到。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class StorageMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "latea.storage";
+
+    private final StorageMetrics metrics;
+
+    public StorageMeterBinder(StorageMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder(PREFIX + ".cache.gets", metrics, StorageMetrics::getCacheHitCount)
+            .tag("result", "hit")
+            .description("热点文件缓存读取次数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".cache.gets", metrics, StorageMetrics::getCacheMissCount)
+            .tag("result", "miss")
+            .description("热点文件缓存读取次数")
+            .register(meterRegistry);
+        metrics.addListener(platformMetrics -> register(meterRegistry, platformMetrics));
+    }
+
+    private static void register(MeterRegistry meterRegistry, StoragePlatformMetrics metrics) {
+        String platform = metrics.getPlatform();
+        FunctionCounter.builder(PREFIX + ".bytes", metrics, StoragePlatformMetrics::getUploadBytes)
+            .tag("platform", platform)
+            .tag("direction", "upload")
+            .baseUnit("bytes")
+            .description("传输字节数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".bytes", metrics, StoragePlatformMetrics::getDownloadBytes)
+            .tag("platform", platform)
+            .tag("direction", "download")
+            .baseUnit("bytes")
+            .description("传输字节数")
+            .register(meterRegistry);
+        FunctionTimer.builder(PREFIX + ".transfers", metrics, StoragePlatformMetrics::getUploadCount, StoragePlatformMetrics::getUploadMillis, TimeUnit.MILLISECONDS)
+            .tag("platform", platform)
+            .tag("direction", "upload")
+            .description("传输次数与耗时")
+            .register(meterRegistry);
+        FunctionTimer.builder(PREFIX + ".transfers", metrics, StoragePlatformMetrics::getDownloadCount, StoragePlatformMetrics::getDownloadMillis, TimeUnit.MILLISECONDS)
+            .tag("platform", platform)
+            .tag("direction", "download")
+            .description("传输次数与耗时")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".parts", metrics, StoragePlatformMetrics::getUploadPartCount)
+            .tag("platform", platform)
+            .description("分片上传的分片数")
+            .register(meterRegistry);
+        FunctionCounter.builder(PREFIX + ".failures", metrics, StoragePlatformMetrics::getFailureCount)
+            .tag("platform", platform)
+            .description("传输失败次数")
+            .register(meterRegistry);
+    }
+}
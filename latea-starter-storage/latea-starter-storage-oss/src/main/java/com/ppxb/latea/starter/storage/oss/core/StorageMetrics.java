@@ -0,0 +1,88 @@
+package com.ppxb.latea.starter.storage.oss.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 对象存储指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class StorageMetrics {
+
+    private final Map<String, StoragePlatformMetrics> platforms = new ConcurrentHashMap<>();
+
+    private final List<Consumer<StoragePlatformMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder cacheHitCount = new LongAdder();
+
+    private final LongAdder cacheMissCount = new LongAdder();
+
+    /**
+     * 获取存储平台指标（不存在时创建）
+     *
+     * @param platform 存储平台
+     * @return 存储平台指标
+     */
+    public StoragePlatformMetrics platform(String platform) {
+        StoragePlatformMetrics existing = platforms.get(platform);
+        if (null != existing) {
+            return existing;
+        }
+        StoragePlatformMetrics created = new StoragePlatformMetrics(platform);
+        existing = platforms.putIfAbsent(platform, created);
+        if (null != existing) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * 添加指标监听（立即回调已有平台，之后每出现一个新平台回调一次）
+     *
+     * @param listener 监听
+     */
+    public void addListener(Consumer<StoragePlatformMetrics> listener) {
+        listeners.add(listener);
+        platforms.values().forEach(listener);
+    }
+
+    /**
+     * 获取全部存储平台指标
+     *
+     * @return 存储平台指标
+     */
+    public Collection<StoragePlatformMetrics> getPlatforms() {
+        return Collections.unmodifiableCollection(platforms.values());
+    }
+
+    void recordCacheHit() {
+        cacheHitCount.increment();
+    }
+
+    void recordCacheMiss() {
+        cacheMissCount.increment();
+    }
+
+    /**
+     * 热点文件缓存命中次数
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    /**
+     * 热点文件缓存未命中次数（仅统计可缓存的小文件）
+     */
+    public long getCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+}
@@ -0,0 +1,131 @@
+package com.ppxb.latea.starter.storage.oss.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 存储平台指标
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class StoragePlatformMetrics {
+
+    private final String platform;
+
+    private final LongAdder uploadCount = new LongAdder();
+
+    private final LongAdder uploadBytes = new LongAdder();
+
+    private final LongAdder uploadNanos = new LongAdder();
+
+    private final LongAdder uploadPartCount = new LongAdder();
+
+    private final LongAdder downloadCount = new LongAdder();
+
+    private final LongAdder downloadBytes = new LongAdder();
+
+    private final LongAdder downloadNanos = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    public StoragePlatformMetrics(String platform) {
+        this.platform = platform;
+    }
+
+    void recordUpload(long bytes, int parts, long nanos) {
+        uploadCount.increment();
+        uploadBytes.add(bytes);
+        uploadPartCount.add(parts);
+        uploadNanos.add(nanos);
+    }
+
+    void recordDownload(long bytes, long nanos) {
+        downloadCount.increment();
+        downloadBytes.add(bytes);
+        downloadNanos.add(nanos);
+    }
+
+    void recordFailure() {
+        failureCount.increment();
+    }
+
+    /**
+     * 存储平台
+     */
+    public String getPlatform() {
+        return platform;
+    }
+
+    /**
+     * 上传次数
+     */
+    public long getUploadCount() {
+        return uploadCount.sum();
+    }
+
+    /**
+     * 上传字节数
+     */
+    public long getUploadBytes() {
+        return uploadBytes.sum();
+    }
+
+    /**
+     * 上传总耗时（毫秒）
+     */
+    public double getUploadMillis() {
+        return uploadNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 分片上传的分片数（普通上传不计）
+     */
+    public long getUploadPartCount() {
+        return uploadPartCount.sum();
+    }
+
+    /**
+     * 下载次数（不含缓存命中）
+     */
+    public long getDownloadCount() {
+        return downloadCount.sum();
+    }
+
+    /**
+     * 下载字节数（不含缓存命中）
+     */
+    public long getDownloadBytes() {
+        return downloadBytes.sum();
+    }
+
+    /**
+     * 下载总耗时（毫秒）
+     */
+    public double getDownloadMillis() {
+        return downloadNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 上传、下载失败次数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 平均上传吞吐量（字节/秒）
+     */
+    public double getUploadThroughput() {
+        long nanos = uploadNanos.sum();
+        return 0 == nanos ? 0 : uploadBytes.sum() * (double)TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    /**
+     * 平均下载吞吐量（字节/秒）
+     */
+    public double getDownloadThroughput() {
+        long nanos = downloadNanos.sum();
+        return 0 == nanos ? 0 : downloadBytes.sum() * (double)TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+}
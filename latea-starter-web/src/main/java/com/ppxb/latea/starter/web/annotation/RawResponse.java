@@ -0,0 +1,17 @@
+package com.ppxb.latea.starter.web.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 原样响应注解
+ *
+ * <p>标注在控制器类或方法上时，返回值不再包装为统一响应信息。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RawResponse {
+}
@@ -0,0 +1,55 @@
+package com.ppxb.latea.starter.web.autoconfigure.cors;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * 跨域自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   web:
+ *     cors:
+ *       enabled: true
+ *       allowed-origins:
+ *         - https://*.example.com
+ *       allow-credentials: true
+ *       max-age: 2h
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(CorsProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.WEB_CORS, name = PropertiesConstants.ENABLED, havingValue = "true")
+public class CorsAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(CorsAutoConfiguration.class);
+
+    /**
+     * 跨域过滤器
+     */
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter(CorsProperties properties) {
+        FilterRegistrationBean<CorsFilter> registrationBean = new FilterRegistrationBean<>(new CorsFilter(new CorsPolicy(properties)));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registrationBean;
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Web-Cors' completed initialization.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.ppxb.latea.starter.web.autoconfigure.cors;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 跨域过滤器
+ *
+ * <p>预检请求在过滤器中直接应答，不进入 DispatcherServlet；所有响应头取值均来自 {@link CorsPolicy} 的预渲染结果。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CorsFilter extends OncePerRequestFilter {
+
+    private static final String VARY_VALUE = String.join(", ", HttpHeaders.ORIGIN, HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+    private final CorsPolicy policy;
+
+    public CorsFilter(CorsPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (null == origin) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CorsPolicy.Decision decision = policy.decide(origin);
+        if (!decision.allowed() && this.isSameOrigin(request, origin)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.addHeader(HttpHeaders.VARY, VARY_VALUE);
+        String requestMethod = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+        boolean preflight = null != requestMethod && HttpMethod.OPTIONS.matches(request.getMethod());
+        if (!decision.allowed()) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        if (preflight) {
+            String requestHeaders = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+            if (!policy.isMethodAllowed(requestMethod) || !policy.areHeadersAllowed(requestHeaders)) {
+                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                return;
+            }
+            this.writeCommonHeaders(response, decision);
+            String allowMethods = policy.getAllowMethodsHeader();
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, null != allowMethods
+                ? allowMethods
+                : requestMethod);
+            String allowHeaders = policy.getAllowHeadersHeader();
+            if (null != requestHeaders) {
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, null != allowHeaders
+                    ? allowHeaders
+                    : requestHeaders);
+            }
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, policy.getMaxAgeHeader());
+            response.setStatus(HttpServletResponse.SC_OK);
+            return;
+        }
+        this.writeCommonHeaders(response, decision);
+        String exposeHeaders = policy.getExposeHeadersHeader();
+        if (null != exposeHeaders) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, exposeHeaders);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeCommonHeaders(HttpServletResponse response, CorsPolicy.Decision decision) {
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, decision.allowOrigin());
+        if (policy.isAllowCredentials()) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, Boolean.TRUE.toString());
+        }
+    }
+
+    /**
+     * 是否同源请求（仅在源被拒绝时调用，避免每次请求都解析）
+     */
+    private boolean isSameOrigin(HttpServletRequest request, String origin) {
+        String scheme = request.getScheme();
+        int port = request.getServerPort();
+        boolean defaultPort = ("http".equals(scheme) && 80 == port) || ("https".equals(scheme) && 443 == port);
+        String self = scheme + "://" + request.getServerName() + (defaultPort ? "" : ":" + port);
+        return self.equalsIgnoreCase(origin);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ppxb.latea.starter.web.autoconfigure.cors;
+
+import com.ppxb.latea.starter.core.constant.StringConstants;
+
+import java.util.*;
+
+/**
+ * 跨域源匹配器
+ *
+ * <p>启动时将配置的源编译为两部分：不含通配符的源放入哈希集合，含通配符的源拆分为固定片段，
+ * 匹配时依次用 {@code startsWith}/{@code indexOf}/{@code endsWith} 判断，不使用正则表达式。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CorsOriginMatcher {
+
+    private final boolean allowAll;
+
+    private final Set<String> exactOrigins;
+
+    private final String[][] wildcardOrigins;
+
+    public CorsOriginMatcher(Collection<String> origins) {
+        boolean all = false;
+        Set<String> exact = new HashSet<>();
+        List<String[]> wildcards = new ArrayList<>();
+        for (String origin : origins) {
+            String normalized = trimTrailingSlash(origin.trim().toLowerCase(Locale.ROOT));
+            if (StringConstants.ASTERISK.equals(normalized)) {
+                all = true;
+            } else if (normalized.indexOf(StringConstants.C_ASTERISK) < 0) {
+                exact.add(normalized);
+            } else {
+                wildcards.add(normalized.split("\\*", -1));
+            }
+        }
+        this.allowAll = all;
+        this.exactOrigins = Set.copyOf(exact);
+        this.wildcardOrigins = wildcards.toArray(String[][]::new);
+    }
+
+    /**
+     * 是否允许所有源
+     *
+     * @return 是否允许所有源
+     */
+    public boolean isAllowAll() {
+        return allowAll;
+    }
+
+    /**
+     * 是否匹配
+     *
+     * @param origin 请求源
+     * @return 是否匹配
+     */
+    public boolean matches(String origin) {
+        if (allowAll) {
+            return true;
+        }
+        String normalized = trimTrailingSlash(origin.toLowerCase(Locale.ROOT));
+        if (exactOrigins.contains(normalized)) {
+            return true;
+        }
+        for (String[] segments : wildcardOrigins) {
+            if (matches(normalized, segments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String origin, String[] segments) {
+        String first = segments[0];
+        String last = segments[segments.length - 1];
+        if (!origin.startsWith(first) || origin.length() < first.length() + last.length()) {
+            return false;
+        }
+        int position = first.length();
+        int end = origin.length() - last.length();
+        for (int i = 1; i < segments.length - 1; i++) {
+            int index = origin.indexOf(segments[i], position);
+            if (index < 0 || index + segments[i].length() > end) {
+                return false;
+            }
+            position = index + segments[i].length();
+        }
+        return origin.startsWith(last, end) && position <= end;
+    }
+
+    private static String trimTrailingSlash(String origin) {
+        return origin.endsWith(StringConstants.SLASH) ? origin.substring(0, origin.length() - 1) : origin;
+    }
+}
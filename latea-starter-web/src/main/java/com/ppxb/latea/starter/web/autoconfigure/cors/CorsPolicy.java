@@ -0,0 +1,185 @@
+package com.ppxb.latea.starter.web.autoconfigure.cors;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import com.ppxb.latea.starter.core.exception.BaseException;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 跨域策略
+ *
+ * <p>在启动时将配置预先渲染为响应头取值（逗号拼接的方法、请求头、暴露头，以及 max-age），
+ * 并按请求源缓存判定结果，同一个源的后续请求（尤其是大量的 OPTIONS 预检请求）只需一次哈希查找即可得到完整的响应头。
+ * 请求头列表的判定结果同样按原始取值缓存。为防止伪造的随机源撑爆内存，两个缓存都有数量上限，超出后不再缓存新的取值。</p>
+ *
+ * <p>{@code *} 源与允许携带凭证不能同时配置，否则启动失败。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CorsPolicy {
+
+    private static final Decision DENIED = new Decision(false, null);
+
+    private final CorsOriginMatcher originMatcher;
+
+    private final boolean allowCredentials;
+
+    private final boolean allowAllMethods;
+
+    private final Set<String> allowedMethods;
+
+    private final String allowMethodsHeader;
+
+    private final boolean allowAllHeaders;
+
+    private final Set<String> allowedHeaders;
+
+    private final String allowHeadersHeader;
+
+    private final String exposeHeadersHeader;
+
+    private final String maxAgeHeader;
+
+    private final int maxCacheSize;
+
+    private final ConcurrentHashMap<String, Decision> decisions = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Boolean> requestHeadersDecisions = new ConcurrentHashMap<>();
+
+    public CorsPolicy(CorsProperties properties) {
+        this.originMatcher = new CorsOriginMatcher(properties.getAllowedOrigins());
+        this.allowCredentials = properties.isAllowCredentials();
+        if (allowCredentials && originMatcher.isAllowAll()) {
+            // 回显任意源并允许携带凭证等同于关闭同源策略，任何站点都能以用户身份读取接口
+            throw new BaseException("Property '" + PropertiesConstants.WEB_CORS + ".allowed-origins' must not contain '*' when allow-credentials is true, list the trusted origins or origin patterns instead.");
+        }
+        this.allowAllMethods = properties.getAllowedMethods().contains(StringConstants.ASTERISK);
+        this.allowedMethods = normalize(properties.getAllowedMethods(), true);
+        this.allowMethodsHeader = String.join(StringConstants.COMMA, allowedMethods);
+        this.allowAllHeaders = properties.getAllowedHeaders().contains(StringConstants.ASTERISK);
+        this.allowedHeaders = normalize(properties.getAllowedHeaders(), false);
+        this.allowHeadersHeader = String.join(StringConstants.COMMA, properties.getAllowedHeaders());
+        this.exposeHeadersHeader = properties.getExposedHeaders().isEmpty()
+            ? null
+            : String.join(StringConstants.COMMA, properties.getExposedHeaders());
+        this.maxAgeHeader = String.valueOf(properties.getMaxAge().toSeconds());
+        this.maxCacheSize = properties.getMaxCachedOrigins();
+    }
+
+    /**
+     * 判定请求源
+     *
+     * @param origin 请求源
+     * @return 判定结果
+     */
+    public Decision decide(String origin) {
+        Decision decision = decisions.get(origin);
+        if (null != decision) {
+            return decision;
+        }
+        decision = originMatcher.matches(origin) ? new Decision(true, this.renderAllowOrigin(origin)) : DENIED;
+        if (decisions.size() < maxCacheSize) {
+            decisions.putIfAbsent(origin, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * 预检请求的方法是否允许
+     *
+     * @param method 请求方法（{@code Access-Control-Request-Method}）
+     * @return 是否允许
+     */
+    public boolean isMethodAllowed(String method) {
+        return allowAllMethods || allowedMethods.contains(method);
+    }
+
+    /**
+     * 预检请求的请求头是否全部允许
+     *
+     * @param requestHeaders 请求头列表（{@code Access-Control-Request-Headers}）
+     * @return 是否允许
+     */
+    public boolean areHeadersAllowed(String requestHeaders) {
+        if (allowAllHeaders || null == requestHeaders || requestHeaders.isBlank()) {
+            return true;
+        }
+        Boolean allowed = requestHeadersDecisions.get(requestHeaders);
+        if (null != allowed) {
+            return allowed;
+        }
+        allowed = true;
+        for (String header : requestHeaders.split(StringConstants.COMMA)) {
+            String normalized = header.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty() && !allowedHeaders.contains(normalized)) {
+                allowed = false;
+                break;
+            }
+        }
+        if (requestHeadersDecisions.size() < maxCacheSize) {
+            requestHeadersDecisions.putIfAbsent(requestHeaders, allowed);
+        }
+        return allowed;
+    }
+
+    public boolean isAllowCredentials() {
+        return allowCredentials;
+    }
+
+    /**
+     * 预渲染的 {@code Access-Control-Allow-Methods} 取值（允许全部方法时返回 {@code null}，由调用方回显请求的方法）
+     */
+    public String getAllowMethodsHeader() {
+        return allowAllMethods ? null : allowMethodsHeader;
+    }
+
+    /**
+     * 预渲染的 {@code Access-Control-Allow-Headers} 取值（允许全部请求头时返回 {@code null}，由调用方回显请求的请求头）
+     */
+    public String getAllowHeadersHeader() {
+        return allowAllHeaders ? null : allowHeadersHeader;
+    }
+
+    /**
+     * 预渲染的 {@code Access-Control-Expose-Headers} 取值
+     */
+    public String getExposeHeadersHeader() {
+        return exposeHeadersHeader;
+    }
+
+    /**
+     * 预渲染的 {@code Access-Control-Max-Age} 取值
+     */
+    public String getMaxAgeHeader() {
+        return maxAgeHeader;
+    }
+
+    private String renderAllowOrigin(String origin) {
+        return originMatcher.isAllowAll() && !allowCredentials ? StringConstants.ASTERISK : origin;
+    }
+
+    private static Set<String> normalize(Collection<String> values, boolean upperCase) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            if (!StringConstants.ASTERISK.equals(value)) {
+                result.add(upperCase ? value.trim().toUpperCase(Locale.ROOT) : value.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(result);
+    }
+
+    /**
+     * 判定结果
+     *
+     * @param allowed     是否允许
+     * @param allowOrigin 预渲染的 {@code Access-Control-Allow-Origin} 取值
+     */
+    public record Decision(boolean allowed, String allowOrigin) {
+    }
+}
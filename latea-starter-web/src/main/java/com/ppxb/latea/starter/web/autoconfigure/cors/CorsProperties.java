@@ -0,0 +1,123 @@
+package com.ppxb.latea.starter.web.autoconfigure.cors;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import com.ppxb.latea.starter.core.constant.StringConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 跨域配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.WEB_CORS)
+public class CorsProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = false;
+
+    /**
+     * 允许跨域的源（支持 {@code *} 以及 {@code https://*.example.com} 形式的通配符；默认为空，即只允许同源请求，需显式配置）
+     */
+    private List<String> allowedOrigins = new ArrayList<>();
+
+    /**
+     * 允许跨域的请求方法（{@code *} 表示全部）
+     */
+    private List<String> allowedMethods = new ArrayList<>(List.of(StringConstants.ASTERISK));
+
+    /**
+     * 允许跨域的请求头（{@code *} 表示全部）
+     */
+    private List<String> allowedHeaders = new ArrayList<>(List.of(StringConstants.ASTERISK));
+
+    /**
+     * 允许跨域访问的响应头
+     */
+    private List<String> exposedHeaders = new ArrayList<>();
+
+    /**
+     * 是否允许携带凭证（为 {@code true} 时响应回显具体的源，且不能与 {@code *} 源同时使用）
+     */
+    private boolean allowCredentials = false;
+
+    /**
+     * 预检结果缓存时间（浏览器在该时间内不再发送预检请求，主流浏览器上限为 2 小时）
+     */
+    private Duration maxAge = Duration.ofHours(2);
+
+    /**
+     * 最大缓存的源数量
+     */
+    private int maxCachedOrigins = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getAllowedOrigins() {
+        return allowedOrigins;
+    }
+
+    public void setAllowedOrigins(List<String> allowedOrigins) {
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    public List<String> getAllowedMethods() {
+        return allowedMethods;
+    }
+
+    public void setAllowedMethods(List<String> allowedMethods) {
+        this.allowedMethods = allowedMethods;
+    }
+
+    public List<String> getAllowedHeaders() {
+        return allowedHeaders;
+    }
+
+    public void setAllowedHeaders(List<String> allowedHeaders) {
+        this.allowedHeaders = allowedHeaders;
+    }
+
+    public List<String> getExposedHeaders() {
+        return exposedHeaders;
+    }
+
+    public void setExposedHeaders(List<String> exposedHeaders) {
+        this.exposedHeaders = exposedHeaders;
+    }
+
+    public boolean isAllowCredentials() {
+        return allowCredentials;
+    }
+
+    public void setAllowCredentials(boolean allowCredentials) {
+        this.allowCredentials = allowCredentials;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public int getMaxCachedOrigins() {
+        return maxCachedOrigins;
+    }
+
+    public void setMaxCachedOrigins(int maxCachedOrigins) {
+        this.maxCachedOrigins = maxCachedOrigins;
+    }
+}
@@ -0,0 +1,256 @@
+package com.ppxb.latea.starter.web.autoconfigure.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.core.exception.BadRequestException;
+import com.ppxb.latea.starter.core.exception.BaseException;
+import com.ppxb.latea.starter.core.exception.BusinessException;
+import com.ppxb.latea.starter.web.model.R;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.util.List;
+
+/**
+ * 全局异常处理
+ *
+ * <p>状态码与 HTTP 状态保持一致：参数错误为 400，自定义异常按 {@link BaseException#getStatus()}（错误请求 400、业务异常 422、限流 429 等），
+ * 自带状态码的框架异常沿用其状态码，其余为 500。4xx 只记录提示信息，5xx 记录堆栈。
+ * 提示信息固定的错误响应（资源不存在、请求方式不支持、服务器内部错误等）在启动时使用应用的 {@link ObjectMapper} 预先序列化为字节，处理时直接写出；携带异常信息的响应将 {@link R} 交给 Jackson 一次序列化。</p>
+ *
+ * <p>优先级最低，业务自定义的异常处理优先生效。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final byte[] badRequestBody;
+
+    private final byte[] notFoundBody;
+
+    private final byte[] methodNotAllowedBody;
+
+    private final byte[] payloadTooLargeBody;
+
+    private final byte[] unsupportedMediaTypeBody;
+
+    private final byte[] internalServerErrorBody;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this.badRequestBody = render(objectMapper, HttpStatus.BAD_REQUEST, "请求体格式错误");
+        this.notFoundBody = render(objectMapper, HttpStatus.NOT_FOUND, "请求的资源不存在");
+        this.methodNotAllowedBody = render(objectMapper, HttpStatus.METHOD_NOT_ALLOWED, "请求方式不支持");
+        this.payloadTooLargeBody = render(objectMapper, HttpStatus.PAYLOAD_TOO_LARGE, "上传文件大小超出限制");
+        this.unsupportedMediaTypeBody = render(objectMapper, HttpStatus.UNSUPPORTED_MEDIA_TYPE, "不支持的请求内容类型");
+        this.internalServerErrorBody = render(objectMapper, HttpStatus.INTERNAL_SERVER_ERROR, "服务器内部错误，请联系管理员");
+    }
+
+    /**
+     * 拦截自定义异常（包括错误请求异常 {@link BadRequestException} 与业务异常 {@link BusinessException}）
+     *
+     * <p>按异常自带的状态码响应：业务规则不满足、限流等属于预期内的失败，只记录提示信息，不输出堆栈。</p>
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<R<Void>> handleBaseException(BaseException e, HttpServletRequest request) {
+        HttpStatusCode status = HttpStatusCode.valueOf(e.getStatus());
+        if (status.is5xxServerError()) {
+            log.error("[{}] {}", request.getRequestURI(), e.getMessage(), e);
+        } else {
+            log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        }
+        return fail(status, e.getMessage());
+    }
+
+    /**
+     * 拦截参数校验异常
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<R<Void>> handleBindException(BindException e, HttpServletRequest request) {
+        FieldError fieldError = e.getFieldError();
+        String message = null != fieldError ? fieldError.getDefaultMessage() : e.getAllErrors().get(0).getDefaultMessage();
+        log.warn("[{}] {}", request.getRequestURI(), message);
+        return fail(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * 拦截方法参数校验异常
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<R<Void>> handleHandlerMethodValidationException(HandlerMethodValidationException e,
+                                                                         HttpServletRequest request) {
+        List<? extends MessageSourceResolvable> errors = e.getAllErrors();
+        String message = errors.isEmpty() ? e.getReason() : errors.get(0).getDefaultMessage();
+        log.warn("[{}] {}", request.getRequestURI(), message);
+        return fail(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * 拦截缺少请求参数异常
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<R<Void>> handleMissingServletRequestParameterException(MissingServletRequestParameterException e,
+                                                                                HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return fail(HttpStatus.BAD_REQUEST, "缺少必要参数：" + e.getParameterName());
+    }
+
+    /**
+     * 拦截请求参数类型不匹配异常
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<R<Void>> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e,
+                                                                            HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return fail(HttpStatus.BAD_REQUEST, "参数类型不匹配：" + e.getName());
+    }
+
+    /**
+     * 拦截请求体解析异常
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleHttpMessageNotReadableException(HttpMessageNotReadableException e,
+                                                                        HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return prerendered(HttpStatus.BAD_REQUEST, badRequestBody);
+    }
+
+    /**
+     * 拦截资源不存在异常
+     */
+    @ExceptionHandler({NoHandlerFoundException.class, NoResourceFoundException.class})
+    public ResponseEntity<byte[]> handleNotFoundException(Exception e, HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return prerendered(HttpStatus.NOT_FOUND, notFoundBody);
+    }
+
+    /**
+     * 拦截请求方式不支持异常
+     */
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<byte[]> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e,
+                                                                               HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return prerendered(HttpStatus.METHOD_NOT_ALLOWED, e.getHeaders(), methodNotAllowedBody);
+    }
+
+    /**
+     * 拦截上传文件大小超出限制异常
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<byte[]> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e,
+                                                                       HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return prerendered(HttpStatus.PAYLOAD_TOO_LARGE, payloadTooLargeBody);
+    }
+
+    /**
+     * 拦截请求内容类型不支持异常
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<byte[]> handleHttpMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException e,
+                                                                           HttpServletRequest request) {
+        log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        return prerendered(HttpStatus.UNSUPPORTED_MEDIA_TYPE, e.getHeaders(), unsupportedMediaTypeBody);
+    }
+
+    /**
+     * 拦截未知异常
+     *
+     * <p>自带状态码的异常（{@link ErrorResponse}，例如 {@link ResponseStatusException}，以及标注了 {@link ResponseStatus} 的异常）
+     * 按其状态码响应，其余异常按服务器内部错误处理。</p>
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<?> handleException(Exception e, HttpServletRequest request) {
+        if (e instanceof ErrorResponse errorResponse) {
+            String reason = e instanceof ResponseStatusException responseStatusException
+                ? responseStatusException.getReason()
+                : null;
+            return this.handleStatusException(e, errorResponse.getStatusCode(), reason, errorResponse
+                .getHeaders(), request);
+        }
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+        if (null != responseStatus) {
+            return this.handleStatusException(e, responseStatus.code(), responseStatus.reason(), HttpHeaders.EMPTY, request);
+        }
+        log.error("[{}] {}", request.getRequestURI(), e.getMessage(), e);
+        return prerendered(HttpStatus.INTERNAL_SERVER_ERROR, internalServerErrorBody);
+    }
+
+    private ResponseEntity<R<Void>> handleStatusException(Exception e,
+                                                          HttpStatusCode status,
+                                                          String reason,
+                                                          HttpHeaders headers,
+                                                          HttpServletRequest request) {
+        if (status.is5xxServerError()) {
+            log.error("[{}] {}", request.getRequestURI(), e.getMessage(), e);
+        } else {
+            log.warn("[{}] {}", request.getRequestURI(), e.getMessage());
+        }
+        String message = reason;
+        if (null == message || message.isBlank()) {
+            HttpStatus httpStatus = HttpStatus.resolve(status.value());
+            message = null != httpStatus ? httpStatus.getReasonPhrase() : String.valueOf(status.value());
+        }
+        return ResponseEntity.status(status)
+            .headers(headers)
+            .body(R.fail(String.valueOf(status.value()), message));
+    }
+
+    private static ResponseEntity<R<Void>> fail(HttpStatusCode status, String message) {
+        return ResponseEntity.status(status).body(R.fail(String.valueOf(status.value()), message));
+    }
+
+    private static ResponseEntity<byte[]> prerendered(HttpStatus status, byte[] body) {
+        return prerendered(status, HttpHeaders.EMPTY, body);
+    }
+
+    /**
+     * 预先序列化的响应（保留异常携带的响应头，例如 405 的 {@code Allow}、415 的 {@code Accept}）
+     */
+    private static ResponseEntity<byte[]> prerendered(HttpStatus status, HttpHeaders headers, byte[] body) {
+        return ResponseEntity.status(status)
+            .headers(headers)
+            .contentType(MediaType.APPLICATION_JSON)
+            .contentLength(body.length)
+            .body(body);
+    }
+
+    private static byte[] render(ObjectMapper objectMapper, HttpStatus status, String message) {
+        try {
+            return objectMapper.writeValueAsBytes(R.fail(String.valueOf(status.value()), message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to pre-render response body.", e);
+        }
+    }
+}
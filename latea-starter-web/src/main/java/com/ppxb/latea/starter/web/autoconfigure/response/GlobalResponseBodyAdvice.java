@@ -0,0 +1,130 @@
+package com.ppxb.latea.starter.web.autoconfigure.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.web.annotation.RawResponse;
+import com.ppxb.latea.starter.web.model.R;
+import com.ppxb.latea.starter.web.util.CompiledPathMatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 全局响应包装
+ *
+ * <p>返回值直接包装为 {@link R} 交给 Jackson 消息转换器，整个信封只经过一次序列化并直接写入响应流；
+ * 返回类型为 {@link String} 时（由 {@link StringHttpMessageConverter} 输出），将信封一次性序列化为 JSON 字符串，
+ * 避免先序列化业务数据再包装后二次序列化。</p>
+ *
+ * <p>流式返回值（{@link StreamingResponseBody}、{@link ResponseBodyEmitter}、{@link Resource}、{@link InputStream}、
+ * {@code byte[]}）及 {@link HttpEntity} 原样输出，不做缓冲。是否包装的判断结果按返回值参数缓存，请求时只剩路径排除检查。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+public class GlobalResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    private final CompiledPathMatcher excludeMatcher;
+
+    private final String[] excludePackages;
+
+    private final Map<MethodParameter, Boolean> wrapCache = new ConcurrentHashMap<>();
+
+    public GlobalResponseBodyAdvice(ObjectMapper objectMapper, ResponseProperties properties) {
+        this.objectMapper = objectMapper;
+        this.excludeMatcher = new CompiledPathMatcher(properties.getExcludePatterns());
+        this.excludePackages = properties.getExcludePackages().toArray(String[]::new);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (!MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType) && !StringHttpMessageConverter.class
+            .isAssignableFrom(converterType)) {
+            return false;
+        }
+        return wrapCache.computeIfAbsent(returnType, this::shouldWrap);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (body instanceof R || isExcludedPath(request)) {
+            return body;
+        }
+        R<Object> result = R.ok(body);
+        if (!StringHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            return result;
+        }
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body.", e);
+        }
+    }
+
+    /**
+     * 是否需要包装
+     *
+     * @param returnType 返回值参数
+     * @return 是否需要包装
+     */
+    private boolean shouldWrap(MethodParameter returnType) {
+        Class<?> type = returnType.getParameterType();
+        if (R.class.isAssignableFrom(type) || HttpEntity.class.isAssignableFrom(type) || StreamingResponseBody.class
+            .isAssignableFrom(type) || ResponseBodyEmitter.class.isAssignableFrom(type) || Resource.class
+                .isAssignableFrom(type) || InputStream.class.isAssignableFrom(type) || byte[].class == type) {
+            return false;
+        }
+        Class<?> containingClass = returnType.getContainingClass();
+        if (returnType.hasMethodAnnotation(RawResponse.class) || containingClass
+            .isAnnotationPresent(RawResponse.class)) {
+            return false;
+        }
+        String className = containingClass.getName();
+        for (String excludePackage : excludePackages) {
+            if (className.startsWith(excludePackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否为排除的路径
+     *
+     * @param request 请求
+     * @return 是否排除
+     */
+    private boolean isExcludedPath(ServerHttpRequest request) {
+        if (excludeMatcher.isEmpty() || !(request instanceof ServletServerHttpRequest servletServerHttpRequest)) {
+            return false;
+        }
+        HttpServletRequest servletRequest = servletServerHttpRequest.getServletRequest();
+        String path = servletRequest.getRequestURI().substring(servletRequest.getContextPath().length());
+        return excludeMatcher.matches(path);
+    }
+}
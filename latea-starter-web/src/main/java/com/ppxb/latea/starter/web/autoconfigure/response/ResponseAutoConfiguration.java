@@ -0,0 +1,62 @@
+package com.ppxb.latea.starter.web.autoconfigure.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 全局响应自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   web:
+ *     response:
+ *       exclude-patterns:
+ *         - /v3/api-docs/**
+ *         - /callback/**
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(ResponseProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.WEB_RESPONSE, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class ResponseAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseAutoConfiguration.class);
+
+    /**
+     * 全局响应包装
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public GlobalResponseBodyAdvice globalResponseBodyAdvice(ObjectMapper objectMapper, ResponseProperties properties) {
+        return new GlobalResponseBodyAdvice(objectMapper, properties);
+    }
+
+    /**
+     * 全局异常处理
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public GlobalExceptionHandler globalExceptionHandler(ObjectMapper objectMapper) {
+        return new GlobalExceptionHandler(objectMapper);
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Web-Response' completed initialization.");
+    }
+}
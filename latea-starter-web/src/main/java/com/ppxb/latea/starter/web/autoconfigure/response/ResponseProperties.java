@@ -0,0 +1,58 @@
+package com.ppxb.latea.starter.web.autoconfigure.response;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 全局响应配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.WEB_RESPONSE)
+public class ResponseProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 不包装响应的路径（支持 {@code /api/**} 形式的模式）
+     */
+    private List<String> excludePatterns = new ArrayList<>(List
+        .of("/v3/api-docs", "/v3/api-docs/**", "/swagger-ui/**", "/doc.html", "/webjars/**", "/actuator/**"));
+
+    /**
+     * 不包装响应的控制器包名前缀
+     */
+    private List<String> excludePackages = new ArrayList<>(List
+        .of("org.springdoc", "org.springframework.boot.actuate"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public void setExcludePatterns(List<String> excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+
+    public List<String> getExcludePackages() {
+        return excludePackages;
+    }
+
+    public void setExcludePackages(List<String> excludePackages) {
+        this.excludePackages = excludePackages;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 默认链路 ID 生成器
+ *
+ * <p>生成 32 位十六进制字符串（128 位，与 W3C Trace Context 的 trace-id 长度一致）：
+ * 高 48 位为毫秒时间戳（便于按时间排序与排查），其余 80 位为随机数。</p>
+ *
+ * <p>{@link java.util.UUID#randomUUID()} 在所有线程间共享同一个 {@link java.security.SecureRandom}，高并发下会产生明显争用；
+ * 链路 ID 只要求唯一而不要求不可预测，因此这里使用无锁、线程私有的 {@link ThreadLocalRandom}，
+ * 生成过程只分配输出字符串本身。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class DefaultTraceIdGenerator implements TraceIdGenerator {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    private static final int LENGTH = 32;
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = (System.currentTimeMillis() << 16) | (random.nextInt() & 0xFFFF);
+        long low = random.nextLong();
+        byte[] buffer = new byte[LENGTH];
+        writeHex(buffer, 0, high);
+        writeHex(buffer, 16, low);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(byte[] buffer, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            buffer[i] = HEX_DIGITS[(int)(value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
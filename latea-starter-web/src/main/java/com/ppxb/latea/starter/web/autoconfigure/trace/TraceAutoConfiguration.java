@@ -0,0 +1,74 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * 链路自动配置
+ *
+ * <p>除请求线程外，链路 ID 还会通过 {@link TraceTaskDecorator} 传递到 Starter 的异步任务线程池，
+ * 并为定时任务线程池中的每次执行生成链路 ID。</p>
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   web:
+ *     trace:
+ *       header-name: X-Trace-Id
+ *       mdc-key: traceId
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(TraceProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.WEB_TRACE, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class TraceAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceAutoConfiguration.class);
+
+    /**
+     * 链路 ID 生成器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TraceIdGenerator traceIdGenerator() {
+        return new DefaultTraceIdGenerator();
+    }
+
+    /**
+     * 链路过滤器
+     */
+    @Bean
+    public FilterRegistrationBean<TraceFilter> traceFilter(TraceProperties properties,
+                                                           TraceIdGenerator traceIdGenerator) {
+        FilterRegistrationBean<TraceFilter> registrationBean = new FilterRegistrationBean<>(new TraceFilter(properties, traceIdGenerator));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    /**
+     * 链路任务装饰器（由线程池自动配置组合到异步任务与定时任务线程池中）
+     */
+    @Bean
+    public TraceTaskDecorator traceTaskDecorator(TraceProperties properties, TraceIdGenerator traceIdGenerator) {
+        return new TraceTaskDecorator(properties.getMdcKey(), traceIdGenerator);
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Web-Trace' completed initialization.");
+    }
+}
@@ -0,0 +1,68 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 链路过滤器
+ *
+ * <p>优先沿用上游传入的链路 ID（仅接受长度受限的字母、数字、{@code -} 与 {@code _}，防止日志注入），
+ * 否则生成新的链路 ID；链路 ID 放入 MDC 并写入响应头，请求结束后清理。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TraceFilter extends OncePerRequestFilter {
+
+    private final TraceProperties properties;
+
+    private final TraceIdGenerator traceIdGenerator;
+
+    public TraceFilter(TraceProperties properties, TraceIdGenerator traceIdGenerator) {
+        this.properties = properties;
+        this.traceIdGenerator = traceIdGenerator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String headerName = properties.getHeaderName();
+        String traceId = properties.isAcceptIncoming() ? request.getHeader(headerName) : null;
+        if (!this.isValid(traceId)) {
+            traceId = traceIdGenerator.generate();
+        }
+        String mdcKey = properties.getMdcKey();
+        MDC.put(mdcKey, traceId);
+        response.setHeader(headerName, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(mdcKey);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private boolean isValid(String traceId) {
+        if (null == traceId || traceId.isEmpty() || traceId.length() > properties.getMaxIncomingLength()) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+/**
+ * 链路 ID 生成器
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+    /**
+     * 生成链路 ID
+     *
+     * @return 链路 ID
+     */
+    String generate();
+}
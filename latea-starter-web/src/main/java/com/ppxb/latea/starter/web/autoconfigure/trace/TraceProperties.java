@@ -0,0 +1,79 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 链路配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.WEB_TRACE)
+public class TraceProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 请求/响应头名称
+     */
+    private String headerName = "X-Trace-Id";
+
+    /**
+     * MDC 键名（日志格式中通过 {@code %X{traceId}} 输出）
+     */
+    private String mdcKey = "traceId";
+
+    /**
+     * 是否沿用上游传入的链路 ID
+     */
+    private boolean acceptIncoming = true;
+
+    /**
+     * 上游传入链路 ID 的最大长度（超出则重新生成）
+     */
+    private int maxIncomingLength = 64;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
+
+    public String getMdcKey() {
+        return mdcKey;
+    }
+
+    public void setMdcKey(String mdcKey) {
+        this.mdcKey = mdcKey;
+    }
+
+    public boolean isAcceptIncoming() {
+        return acceptIncoming;
+    }
+
+    public void setAcceptIncoming(boolean acceptIncoming) {
+        this.acceptIncoming = acceptIncoming;
+    }
+
+    public int getMaxIncomingLength() {
+        return maxIncomingLength;
+    }
+
+    public void setMaxIncomingLength(int maxIncomingLength) {
+        this.maxIncomingLength = maxIncomingLength;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ppxb.latea.starter.web.autoconfigure.trace;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 链路任务装饰器
+ *
+ * <p>提交任务时只捕获链路 ID 本身（而不是复制整个 MDC 上下文），在执行线程中设置并在结束后恢复原值；
+ * 提交时没有链路 ID（例如由定时任务或启动流程提交）则在执行时生成新的链路 ID。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class TraceTaskDecorator implements TaskDecorator {
+
+    private final String mdcKey;
+
+    private final TraceIdGenerator traceIdGenerator;
+
+    public TraceTaskDecorator(String mdcKey, TraceIdGenerator traceIdGenerator) {
+        this.mdcKey = mdcKey;
+        this.traceIdGenerator = traceIdGenerator;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String traceId = MDC.get(mdcKey);
+        return () -> {
+            String previous = MDC.get(mdcKey);
+            MDC.put(mdcKey, null != traceId ? traceId : traceIdGenerator.generate());
+            try {
+                runnable.run();
+            } finally {
+                if (null != previous) {
+                    MDC.put(mdcKey, previous);
+                } else {
+                    MDC.remove(mdcKey);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * XSS 过滤自动配置
+ *
+ * <p>配置示例：
+ * <blockquote><pre>
+ * latea-starter:
+ *   web:
+ *     xss:
+ *       mode: CLEAN
+ *       include-patterns:
+ *         - /api/**
+ *       exclude-patterns:
+ *         - /api/article/**
+ * </pre></blockquote>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(XssProperties.class)
+@ConditionalOnProperty(prefix = PropertiesConstants.WEB_XSS, name = PropertiesConstants.ENABLED, havingValue = "true", matchIfMissing = true)
+public class XssAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(XssAutoConfiguration.class);
+
+    /**
+     * XSS 过滤器
+     */
+    @Bean
+    public FilterRegistrationBean<XssFilter> xssFilter(XssProperties properties) {
+        FilterRegistrationBean<XssFilter> registrationBean = new FilterRegistrationBean<>(new XssFilter(properties));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registrationBean;
+    }
+
+    /**
+     * JSON 请求体净化
+     *
+     * <p>只在 Spring MVC 的消息转换器列表中原位替换 JSON 转换器（不注册为 Bean，避免被 {@code HttpMessageConverters} 收集到 HTTP 客户端等其他场景）。</p>
+     */
+    @Bean
+    public WebMvcConfigurer xssWebMvcConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next() instanceof MappingJackson2HttpMessageConverter converter
+                        && !(converter instanceof XssJackson2HttpMessageConverter)) {
+                        iterator.set(new XssJackson2HttpMessageConverter(converter));
+                    }
+                }
+            }
+        };
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        log.debug("[Latea Starter] - Auto Configuration 'Web-XssFilter' completed initialization.");
+    }
+}
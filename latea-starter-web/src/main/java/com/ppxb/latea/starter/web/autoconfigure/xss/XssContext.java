@@ -0,0 +1,35 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+/**
+ * XSS 上下文
+ *
+ * <p>由 {@link XssFilter} 在请求线程上标记当前请求是否需要过滤，
+ * 控制器请求体反序列化时据此决定是否净化字符串，无需再次匹配请求路径。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class XssContext {
+
+    private static final ThreadLocal<XssMode> MODE = new ThreadLocal<>();
+
+    private XssContext() {
+    }
+
+    /**
+     * 获取当前请求的过滤模式
+     *
+     * @return 过滤模式（当前请求无需过滤时返回 {@code null}）
+     */
+    public static XssMode getMode() {
+        return MODE.get();
+    }
+
+    static void setMode(XssMode mode) {
+        MODE.set(mode);
+    }
+
+    static void clear() {
+        MODE.remove();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.ppxb.latea.starter.web.util.CompiledPathMatcher;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * XSS 过滤器
+ *
+ * <p>请求路径只匹配一次：排除的路径直接放行；需要过滤的请求包装参数读取方法，
+ * 并在请求线程上标记过滤模式供 JSON 反序列化使用。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class XssFilter extends OncePerRequestFilter {
+
+    private final XssProperties properties;
+
+    private final CompiledPathMatcher includeMatcher;
+
+    private final CompiledPathMatcher excludeMatcher;
+
+    public XssFilter(XssProperties properties) {
+        this.properties = properties;
+        this.includeMatcher = new CompiledPathMatcher(properties.getIncludePatterns());
+        this.excludeMatcher = new CompiledPathMatcher(properties.getExcludePatterns());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (excludeMatcher.matches(path)) {
+            return true;
+        }
+        return !includeMatcher.isEmpty() && !includeMatcher.matches(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        XssMode mode = properties.getMode();
+        XssContext.setMode(mode);
+        try {
+            filterChain.doFilter(new XssServletRequestWrapper(request, mode), response);
+        } finally {
+            XssContext.clear();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * XSS JSON 消息转换器
+ *
+ * <p>在 Spring MVC 的转换器列表中原位替换默认的 JSON 转换器，转换器顺序不变（字符串、字节数组等转换器仍排在前面）。
+ * 响应写出与未被 {@link XssFilter} 标记的请求沿用原转换器的 {@link ObjectMapper}；被标记的请求体改用其副本读取，
+ * 副本注册了 {@link XssStringJsonDeserializer}，共享的 {@link ObjectMapper} 不受影响，
+ * 因此 {@code RestTemplate}/{@code RestClient} 响应、缓存与消息等其他反序列化不会被净化。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class XssJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final MappingJackson2HttpMessageConverter xssReader;
+
+    /**
+     * @param converter 被替换的 JSON 转换器
+     */
+    public XssJackson2HttpMessageConverter(MappingJackson2HttpMessageConverter converter) {
+        super(converter.getObjectMapper());
+        this.setSupportedMediaTypes(converter.getSupportedMediaTypes());
+        this.setDefaultCharset(converter.getDefaultCharset());
+        this.xssReader = new MappingJackson2HttpMessageConverter(converter.getObjectMapper()
+            .copy()
+            .registerModule(new SimpleModule("LateaXss").addDeserializer(String.class, new XssStringJsonDeserializer())));
+        this.xssReader.setSupportedMediaTypes(converter.getSupportedMediaTypes());
+        this.xssReader.setDefaultCharset(converter.getDefaultCharset());
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return null == XssContext.getMode()
+            ? super.read(type, contextClass, inputMessage)
+            : xssReader.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return null == XssContext.getMode()
+            ? super.readInternal(clazz, inputMessage)
+            : xssReader.read(clazz, null, inputMessage);
+    }
+}
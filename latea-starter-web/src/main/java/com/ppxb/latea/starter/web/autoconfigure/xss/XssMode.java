@@ -0,0 +1,20 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+/**
+ * XSS 过滤模式
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public enum XssMode {
+
+    /**
+     * 清理（移除 HTML 标签）
+     */
+    CLEAN,
+
+    /**
+     * 转义（将 HTML 特殊字符转义为实体）
+     */
+    ESCAPE
+}
@@ -0,0 +1,69 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.ppxb.latea.starter.core.constant.PropertiesConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XSS 配置属性
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@ConfigurationProperties(PropertiesConstants.WEB_XSS)
+public class XssProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = true;
+
+    /**
+     * 过滤模式
+     */
+    private XssMode mode = XssMode.CLEAN;
+
+    /**
+     * 需要过滤的路径（为空时过滤所有路径，支持 {@code /api/**} 形式的模式）
+     */
+    private List<String> includePatterns = new ArrayList<>();
+
+    /**
+     * 排除的路径（优先级高于需要过滤的路径）
+     */
+    private List<String> excludePatterns = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public XssMode getMode() {
+        return mode;
+    }
+
+    public void setMode(XssMode mode) {
+        this.mode = mode;
+    }
+
+    public List<String> getIncludePatterns() {
+        return includePatterns;
+    }
+
+    public void setIncludePatterns(List<String> includePatterns) {
+        this.includePatterns = includePatterns;
+    }
+
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public void setExcludePatterns(List<String> excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+}
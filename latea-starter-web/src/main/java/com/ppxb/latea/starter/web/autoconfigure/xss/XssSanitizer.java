@@ -0,0 +1,97 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.ppxb.latea.starter.core.constant.StringConstants;
+
+/**
+ * XSS 净化器
+ *
+ * <p>单次线性扫描：先定位第一个需要处理的字符，不存在时直接返回原字符串（绝大多数取值都属于这种情况，不产生任何分配），
+ * 存在时才创建 {@link StringBuilder}，复制此前的安全片段后继续处理。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public final class XssSanitizer {
+
+    private XssSanitizer() {
+    }
+
+    /**
+     * 净化
+     *
+     * @param value 原始值
+     * @param mode  过滤模式
+     * @return 净化后的值（无需处理时返回原对象）
+     */
+    public static String sanitize(String value, XssMode mode) {
+        if (null == value || value.isEmpty()) {
+            return value;
+        }
+        return switch (mode) {
+            case CLEAN -> clean(value);
+            case ESCAPE -> escape(value);
+        };
+    }
+
+    /**
+     * 移除 HTML 标签（{@code <} 与其后第一个 {@code >} 之间的内容），其后没有 {@code >} 的 {@code <} 转义为 {@code &lt;}
+     */
+    private static String clean(String value) {
+        int start = value.indexOf('<');
+        if (start < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        int from = 0;
+        while (start >= 0) {
+            builder.append(value, from, start);
+            int end = value.indexOf('>', start + 1);
+            if (end < 0) {
+                // 其后没有 '>'，不构成标签：转义剩余的 '<' 并保留文本（例如 "price<100"）
+                builder.append(value.substring(start).replace("<", StringConstants.HTML_LT));
+                return builder.toString();
+            }
+            from = end + 1;
+            start = value.indexOf('<', from);
+        }
+        builder.append(value, from, value.length());
+        return builder.toString();
+    }
+
+    /**
+     * 转义 HTML 特殊字符
+     */
+    private static String escape(String value) {
+        int length = value.length();
+        int index = 0;
+        while (index < length && null == replacement(value.charAt(index))) {
+            index++;
+        }
+        if (index == length) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(length + 16);
+        builder.append(value, 0, index);
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            String replacement = replacement(c);
+            if (null == replacement) {
+                builder.append(c);
+            } else {
+                builder.append(replacement);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String replacement(char c) {
+        return switch (c) {
+            case '<' -> StringConstants.HTML_LT;
+            case '>' -> StringConstants.HTML_GT;
+            case '&' -> StringConstants.HTML_AMP;
+            case '"' -> StringConstants.HTML_QUOTE;
+            case '\'' -> "&#39;";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * XSS 请求包装器
+ *
+ * <p>只净化请求参数，不读取、不缓存请求体（JSON 请求体由 {@link XssJackson2HttpMessageConverter} 在反序列化时逐个字符串净化）。
+ * 参数值只在被读取时处理，且仅在确实包含危险字符时才创建新的字符串或数组。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class XssServletRequestWrapper extends HttpServletRequestWrapper {
+
+    private final XssMode mode;
+
+    private Map<String, String[]> sanitizedParameterMap;
+
+    public XssServletRequestWrapper(HttpServletRequest request, XssMode mode) {
+        super(request);
+        this.mode = mode;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        return XssSanitizer.sanitize(super.getParameter(name), mode);
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return this.sanitize(super.getParameterValues(name));
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        if (null != sanitizedParameterMap) {
+            return sanitizedParameterMap;
+        }
+        Map<String, String[]> original = super.getParameterMap();
+        Map<String, String[]> result = original;
+        for (Map.Entry<String, String[]> entry : original.entrySet()) {
+            String[] values = entry.getValue();
+            String[] sanitized = this.sanitize(values);
+            if (sanitized != values) {
+                if (result == original) {
+                    result = new LinkedHashMap<>(original);
+                }
+                result.put(entry.getKey(), sanitized);
+            }
+        }
+        sanitizedParameterMap = result == original ? original : Collections.unmodifiableMap(result);
+        return sanitizedParameterMap;
+    }
+
+    /**
+     * 净化参数值数组（无需处理时返回原数组）
+     */
+    private String[] sanitize(String[] values) {
+        if (null == values) {
+            return null;
+        }
+        String[] result = values;
+        for (int i = 0; i < values.length; i++) {
+            String sanitized = XssSanitizer.sanitize(values[i], mode);
+            if (sanitized != values[i]) {
+                if (result == values) {
+                    result = values.clone();
+                }
+                result[i] = sanitized;
+            }
+        }
+        return result;
+    }
+}
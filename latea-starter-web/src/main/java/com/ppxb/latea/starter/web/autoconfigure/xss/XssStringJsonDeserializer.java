@@ -0,0 +1,36 @@
+package com.ppxb.latea.starter.web.autoconfigure.xss;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * XSS 字符串反序列化器
+ *
+ * <p>在 Jackson 逐个读取 JSON 字符串 token 时净化取值，请求体始终以流的方式交给 Jackson 解析，
+ * 不会被整体读入内存再次扫描。只注册在 {@link XssJackson2HttpMessageConverter} 使用的 {@code ObjectMapper} 副本上，
+ * 且只有当前请求被 {@link XssFilter} 标记为需要过滤时才生效。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class XssStringJsonDeserializer extends StdScalarDeserializer<String> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public XssStringJsonDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String value = StringDeserializer.instance.deserialize(p, ctxt);
+        XssMode mode = XssContext.getMode();
+        return null == mode ? value : XssSanitizer.sanitize(value, mode);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ppxb.latea.starter.web.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 统一响应信息
+ *
+ * <p>不包含时间戳等随请求变化的字段，使固定内容的错误响应可以在启动时预先序列化为字节。</p>
+ *
+ * @param <T> 响应数据类型
+ * @author ppxb
+ * @since 1.0.0
+ */
+@JsonPropertyOrder({"code", "msg", "success", "data"})
+public class R<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 默认成功状态码
+     */
+    public static final String DEFAULT_SUCCESS_CODE = "0";
+
+    /**
+     * 默认成功提示信息
+     */
+    public static final String DEFAULT_SUCCESS_MSG = "ok";
+
+    /**
+     * 状态码
+     */
+    private String code;
+
+    /**
+     * 提示信息
+     */
+    private String msg;
+
+    /**
+     * 是否成功
+     */
+    private boolean success;
+
+    /**
+     * 响应数据
+     */
+    private T data;
+
+    public R() {
+    }
+
+    public R(String code, String msg, boolean success, T data) {
+        this.code = code;
+        this.msg = msg;
+        this.success = success;
+        this.data = data;
+    }
+
+    /**
+     * 操作成功
+     *
+     * @return 响应信息
+     */
+    public static <T> R<T> ok() {
+        return ok(null);
+    }
+
+    /**
+     * 操作成功
+     *
+     * @param data 响应数据
+     * @return 响应信息
+     */
+    public static <T> R<T> ok(T data) {
+        return new R<>(DEFAULT_SUCCESS_CODE, DEFAULT_SUCCESS_MSG, true, data);
+    }
+
+    /**
+     * 操作失败
+     *
+     * @param code 状态码
+     * @param msg  提示信息
+     * @return 响应信息
+     */
+    public static <T> R<T> fail(String code, String msg) {
+        return new R<>(code, msg, false, null);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMsg() {
+        return msg;
+    }
+
+    public void setMsg(String msg) {
+        this.msg = msg;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ppxb.latea.starter.web.util;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.*;
+
+/**
+ * 预编译的路径匹配器
+ *
+ * <p>启动时将配置的路径拆分为两类：不含通配符的路径放入哈希集合（O(1) 判断），
+ * 其余路径编译为 {@link PathPattern}。请求到来时先查集合，只有未命中且存在通配符模式时才解析请求路径。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+public class CompiledPathMatcher {
+
+    private final Set<String> exactPaths;
+
+    private final PathPattern[] patterns;
+
+    public CompiledPathMatcher(Collection<String> paths) {
+        Set<String> exact = new HashSet<>();
+        List<PathPattern> compiled = new ArrayList<>();
+        for (String path : paths) {
+            if (path.indexOf('*') < 0 && path.indexOf('{') < 0 && path.indexOf('?') < 0) {
+                exact.add(path);
+            } else {
+                compiled.add(PathPatternParser.defaultInstance.parse(path));
+            }
+        }
+        this.exactPaths = Set.copyOf(exact);
+        this.patterns = compiled.toArray(PathPattern[]::new);
+    }
+
+    /**
+     * 是否未配置任何路径
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return exactPaths.isEmpty() && 0 == patterns.length;
+    }
+
+    /**
+     * 是否匹配
+     *
+     * @param path 请求路径（不含上下文路径）
+     * @return 是否匹配
+     */
+    public boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (0 == patterns.length) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
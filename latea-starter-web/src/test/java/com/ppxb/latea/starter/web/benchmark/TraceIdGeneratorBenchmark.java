@@ -0,0 +1,47 @@
+package com.ppxb.latea.starter.web.benchmark;
+
+import com.ppxb.latea.starter.web.autoconfigure.trace.DefaultTraceIdGenerator;
+import com.ppxb.latea.starter.web.autoconfigure.trace.TraceIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 链路 ID 生成吞吐量对比（64 线程并发）
+ *
+ * <p>对比 {@link DefaultTraceIdGenerator} 与 {@link UUID#randomUUID()}（共享 {@code SecureRandom}）在高并发下每秒生成的 ID 数。</p>
+ *
+ * <p>运行方式：{@code mvn -pl latea-starter-web -am test-compile}，然后以测试类路径执行本类的 {@code main} 方法。</p>
+ *
+ * @author ppxb
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class TraceIdGeneratorBenchmark {
+
+    private final TraceIdGenerator generator = new DefaultTraceIdGenerator();
+
+    @Benchmark
+    public String defaultGenerator() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TraceIdGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}